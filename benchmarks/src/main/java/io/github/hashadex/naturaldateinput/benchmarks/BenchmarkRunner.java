@@ -0,0 +1,43 @@
+package io.github.hashadex.naturaldateinput.benchmarks;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. Accepts the same arguments as the
+ * JMH {@link Main}, but always adds the {@link GCProfiler}, so that every
+ * run reports the allocation rate and the allocated bytes per operation
+ * next to the time per operation.
+ *
+ * @author hashadex
+ * @since 2.2.0
+ */
+public final class BenchmarkRunner {
+    private BenchmarkRunner() {}
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+
+        if (
+            commandLine.shouldHelp() ||
+            commandLine.shouldList() ||
+            commandLine.shouldListWithParams() ||
+            commandLine.shouldListProfilers() ||
+            commandLine.shouldListResultFormats()
+        ) {
+            Main.main(args);
+            return;
+        }
+
+        Options options = new OptionsBuilder()
+            .parent(commandLine)
+            .addProfiler(GCProfiler.class)
+            .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.hashadex.naturaldateinput.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.hashadex.naturaldateinput.ParsingConfiguration;
+import io.github.hashadex.naturaldateinput.benchmarks.Inputs.Language;
+import io.github.hashadex.naturaldateinput.benchmarks.Inputs.Size;
+import io.github.hashadex.naturaldateinput.parsers.CandidateBuffer;
+import io.github.hashadex.naturaldateinput.parsers.ComponentSelector;
+import io.github.hashadex.naturaldateinput.parsers.Parser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENRelativeWordParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENTwelveHourTimeParser;
+
+/**
+ * Cost of collecting the candidates of a parsing call into a new
+ * {@link CandidateBuffer} against reusing one buffer for every call, like
+ * {@link ParsingConfiguration} does with its pool of buffers. The allocated bytes per
+ * operation reported by the GC profiler include the arrays of new buffers,
+ * which dominate the allocation of short inputs.
+ *
+ * @author hashadex
+ * @since 2.2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CandidateBufferBenchmark {
+    private static final LocalDateTime REFERENCE = LocalDateTime.of(2025, 7, 2, 12, 0, 0);
+
+    @Param({"SHORT", "MEDIUM"})
+    public Size size;
+
+    @Param({"false", "true"})
+    public boolean reused;
+
+    private List<Parser> parsers;
+    private String input;
+    private CandidateBuffer buffer;
+    private ComponentSelector selector;
+
+    @Setup
+    public void setup() {
+        parsers = List.of(new ENRelativeWordParser(), new ENTwelveHourTimeParser());
+        input = Inputs.build(Language.EN, Language.EN.phrase(), size, true);
+        buffer = new CandidateBuffer();
+        selector = new ComponentSelector();
+
+        // Make sure that the benchmark measures what it claims to
+        if (parse() != 2) {
+            throw new IllegalStateException("Parsers do not match both components of \"%s\"".formatted(input));
+        }
+    }
+
+    @Benchmark
+    public int parse() {
+        CandidateBuffer candidates = reused ? buffer : new CandidateBuffer();
+
+        for (Parser parser : parsers) {
+            parser.parseInto(input, REFERENCE, candidates);
+        }
+
+        selector.clear();
+        candidates.selectInto(REFERENCE, selector);
+        candidates.clear();
+
+        return selector.size();
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.hashadex.naturaldateinput.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.hashadex.naturaldateinput.ParsingConfiguration;
+import io.github.hashadex.naturaldateinput.ParsingConfiguration.OptionsBuilder;
+import io.github.hashadex.naturaldateinput.ParsingConfiguration.ParseResult;
+import io.github.hashadex.naturaldateinput.benchmarks.Inputs.Language;
+import io.github.hashadex.naturaldateinput.benchmarks.Inputs.Size;
+
+/**
+ * Throughput of {@link ParsingConfiguration#parse(String, LocalDateTime)}
+ * with and without case folding, on lowercase and uppercase inputs.
+ *
+ * @author hashadex
+ * @since 2.2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CaseFoldingBenchmark {
+    private static final LocalDateTime REFERENCE = LocalDateTime.of(2025, 7, 2, 12, 0, 0);
+
+    @Param
+    public Language language;
+
+    @Param
+    public Size size;
+
+    @Param({"false", "true"})
+    public boolean caseFolding;
+
+    @Param({"false", "true"})
+    public boolean upperCase;
+
+    private ParsingConfiguration configuration;
+    private String input;
+
+    @Setup
+    public void setup() {
+        configuration = language.configuration(new OptionsBuilder().caseFolding(caseFolding).build());
+        input = Inputs.build(language, language.phrase(), size, true);
+
+        if (upperCase) {
+            input = input.toUpperCase(Locale.ROOT);
+        }
+
+        if (configuration.parse(input, REFERENCE).components().isEmpty()) {
+            throw new IllegalStateException(
+                "%s configuration does not match the input \"%s\"".formatted(language, input)
+            );
+        }
+    }
+
+    @Benchmark
+    public ParseResult parse() {
+        return configuration.parse(input, REFERENCE);
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.hashadex.naturaldateinput.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.hashadex.naturaldateinput.ParsingConfiguration;
+import io.github.hashadex.naturaldateinput.ParsingConfiguration.OptionsBuilder;
+import io.github.hashadex.naturaldateinput.ParsingConfiguration.ParseResult;
+import io.github.hashadex.naturaldateinput.ParsingConfiguration.ScanMode;
+import io.github.hashadex.naturaldateinput.benchmarks.Inputs.Language;
+import io.github.hashadex.naturaldateinput.benchmarks.Inputs.Size;
+
+/**
+ * Throughput of {@link ParsingConfiguration#parse(String, LocalDateTime)}
+ * of the English and Russian configurations in every scan mode.
+ * <p>
+ * {@link #parseUtf8()} parses the UTF-8 bytes of the same input with
+ * {@link ParsingConfiguration#parseUtf8(byte[], LocalDateTime)}, and
+ * {@link #decodeAndParse()} decodes the bytes into a <code>String</code>
+ * first. The allocated bytes per operation reported by the GC profiler
+ * show the copies of the text that each of them makes.
+ *
+ * @author hashadex
+ * @since 2.2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigurationBenchmark {
+    private static final LocalDateTime REFERENCE = LocalDateTime.of(2025, 7, 2, 12, 0, 0);
+
+    @Param
+    public Language language;
+
+    @Param
+    public ScanMode scanMode;
+
+    @Param
+    public Size size;
+
+    @Param({"true", "false"})
+    public boolean matching;
+
+    private ParsingConfiguration configuration;
+    private String input;
+    private byte[] utf8;
+
+    @Setup
+    public void setup() {
+        configuration = language.configuration(new OptionsBuilder().scanMode(scanMode).build());
+        input = Inputs.build(language, language.phrase(), size, matching);
+        utf8 = input.getBytes(StandardCharsets.UTF_8);
+
+        ParseResult result = configuration.parse(input, REFERENCE);
+        if (result.components().isEmpty() == matching) {
+            throw new IllegalStateException(
+                "%s configuration %s the input \"%s\"".formatted(
+                    language, matching ? "does not match" : "matches", input
+                )
+            );
+        }
+    }
+
+    @Benchmark
+    public ParseResult parse() {
+        return configuration.parse(input, REFERENCE);
+    }
+
+    @Benchmark
+    public ParseResult parseUtf8() {
+        return configuration.parseUtf8(utf8, REFERENCE);
+    }
+
+    @Benchmark
+    public ParseResult decodeAndParse() {
+        return configuration.parse(new String(utf8, StandardCharsets.UTF_8), REFERENCE);
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.hashadex.naturaldateinput.benchmarks;
+
+import java.util.function.Function;
+
+import io.github.hashadex.naturaldateinput.ENParsingConfiguration;
+import io.github.hashadex.naturaldateinput.ParsingConfiguration;
+import io.github.hashadex.naturaldateinput.ParsingConfiguration.Options;
+import io.github.hashadex.naturaldateinput.RUParsingConfiguration;
+import io.github.hashadex.naturaldateinput.parsers.common.SlashDateFormatParser.DayMonthOrder;
+
+/**
+ * Inputs shared by the benchmarks.
+ * <p>
+ * Every input is built from a phrase that the benchmarked parser or
+ * configuration matches, and a filler text of the same language that none
+ * of the parsers match. Matching inputs end with the phrase, so that
+ * forward scans have to go through the whole filler before finding it.
+ * Non-matching inputs have the same length, with the phrase replaced by
+ * more filler.
+ *
+ * @author hashadex
+ * @since 2.2.0
+ */
+public final class Inputs {
+    private Inputs() {}
+
+    /**
+     * Language of an input, with its filler text and configuration.
+     */
+    public enum Language {
+        EN(
+            "lorem ipsum dolor sit amet consectetur adipiscing elit sed do eiusmod tempor incididunt ut labore ",
+            "tomorrow at 5 pm",
+            options -> new ENParsingConfiguration(DayMonthOrder.DAY_MONTH, options)
+        ),
+        RU(
+            "съешь же ещё этих мягких французских булок да выпей чаю широкая электрификация южных губерний ",
+            "завтра в 17:30",
+            options -> new RUParsingConfiguration(DayMonthOrder.DAY_MONTH, options)
+        );
+
+        private final String filler;
+        private final String phrase;
+        private final Function<Options, ParsingConfiguration> configuration;
+
+        Language(String filler, String phrase, Function<Options, ParsingConfiguration> configuration) {
+            this.filler = filler;
+            this.phrase = phrase;
+            this.configuration = configuration;
+        }
+
+        /**
+         * Returns the phrase that the configuration of the language parses
+         * into both a date and a time.
+         */
+        String phrase() {
+            return phrase;
+        }
+
+        ParsingConfiguration configuration(Options options) {
+            return configuration.apply(options);
+        }
+    }
+
+    /**
+     * Approximate length of an input.
+     */
+    public enum Size {
+        /**
+         * Only the phrase, like a form field.
+         */
+        SHORT(0),
+        /**
+         * A sentence of about a hundred characters, like a chat message.
+         */
+        MEDIUM(100),
+        /**
+         * About ten thousand characters, like a document.
+         */
+        LONG(10_000);
+
+        private final int length;
+
+        Size(int length) {
+            this.length = length;
+        }
+    }
+
+    /**
+     * Builds the input of the size from the phrase.
+     *
+     * @param language Language of the filler text
+     * @param phrase   Phrase to end the input with
+     * @param size     Size of the input
+     * @param matching Whether to include the phrase or to replace it with
+     *                 filler text
+     * @return Input
+     */
+    static String build(Language language, String phrase, Size size, boolean matching) {
+        int fillerLength = Math.max(0, size.length - phrase.length() - 1);
+
+        StringBuilder sb = new StringBuilder(fillerLength + language.filler.length() + phrase.length());
+        while (sb.length() < fillerLength) {
+            sb.append(language.filler);
+        }
+        sb.setLength(fillerLength);
+
+        // Do not cut a word of the filler in half
+        sb.setLength(sb.lastIndexOf(" ") + 1);
+
+        sb.append(matching ? phrase : language.filler.substring(0, phrase.length()).strip());
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.hashadex.naturaldateinput.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.hashadex.naturaldateinput.ParsingConfiguration;
+import io.github.hashadex.naturaldateinput.ParsingConfiguration.OptionsBuilder;
+import io.github.hashadex.naturaldateinput.ParsingConfiguration.ParseResult;
+import io.github.hashadex.naturaldateinput.benchmarks.Inputs.Language;
+
+/**
+ * Scaling of {@link ParsingConfiguration#parseAll(List, LocalDateTime, java.util.concurrent.Executor)}
+ * with the number of threads, compared to the sequential
+ * {@link ParsingConfiguration#parseAll(List, LocalDateTime)}.
+ * <p>
+ * The inputs are mostly distinct, so that the deduplication of equal inputs
+ * does not hide the cost of parsing.
+ *
+ * @author hashadex
+ * @since 2.2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseAllBenchmark {
+    private static final LocalDateTime REFERENCE = LocalDateTime.of(2025, 7, 2, 12, 0, 0);
+
+    private static final String[] MONTHS = {"January", "March", "May", "August", "October", "December"};
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    @Param({"100000"})
+    public int inputCount;
+
+    private ParsingConfiguration configuration;
+    private List<String> inputs;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setup() {
+        configuration = Language.EN.configuration(new OptionsBuilder().build());
+
+        Random random = new Random(42);
+        inputs = new ArrayList<>(inputCount);
+        for (int i = 0; i < inputCount; i++) {
+            inputs.add("row %d: meeting on %s %d at %d:%02d".formatted(
+                i,
+                MONTHS[random.nextInt(MONTHS.length)],
+                random.nextInt(28) + 1,
+                random.nextInt(24),
+                random.nextInt(60)
+            ));
+        }
+
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<ParseResult> parseAllSequential() {
+        return configuration.parseAll(inputs, REFERENCE);
+    }
+
+    @Benchmark
+    public List<ParseResult> parseAllParallel() {
+        return configuration.parseAll(inputs, REFERENCE, pool);
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.hashadex.naturaldateinput.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.github.hashadex.naturaldateinput.benchmarks.Inputs.Language;
+import io.github.hashadex.naturaldateinput.benchmarks.Inputs.Size;
+import io.github.hashadex.naturaldateinput.parsers.ComponentBuffer;
+import io.github.hashadex.naturaldateinput.parsers.Parser;
+import io.github.hashadex.naturaldateinput.parsers.common.ISODateParser;
+import io.github.hashadex.naturaldateinput.parsers.common.SlashDateFormatParser;
+import io.github.hashadex.naturaldateinput.parsers.common.SlashDateFormatParser.DayMonthOrder;
+import io.github.hashadex.naturaldateinput.parsers.common.TwentyFourHourTimeParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENChronoUnitLaterParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENDayMonthYearParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENMonthDayYearParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENRelativeWordParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENTimeOfDayWordParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENTwelveHourTimeParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENWeekdayParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENYearMonthDayParser;
+import io.github.hashadex.naturaldateinput.parsers.ru.RUChronoUnitLaterParser;
+import io.github.hashadex.naturaldateinput.parsers.ru.RUDayMonthYearParser;
+import io.github.hashadex.naturaldateinput.parsers.ru.RUMonthDayYearParser;
+import io.github.hashadex.naturaldateinput.parsers.ru.RURelativeWordParser;
+import io.github.hashadex.naturaldateinput.parsers.ru.RUTimeOfDayWordParser;
+import io.github.hashadex.naturaldateinput.parsers.ru.RUWeekdayParser;
+import io.github.hashadex.naturaldateinput.parsers.ru.RUYearMonthDayParser;
+
+/**
+ * Throughput of every concrete parser on its own, through the
+ * <code>Stream</code> API and through the allocation-free
+ * {@link Parser#parseInto(CharSequence, LocalDateTime, io.github.hashadex.naturaldateinput.parsers.ComponentSink) parseInto}.
+ *
+ * @author hashadex
+ * @since 2.2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+    private static final LocalDateTime REFERENCE = LocalDateTime.of(2025, 7, 2, 12, 0, 0);
+
+    /**
+     * Benchmarked parser with a phrase it matches.
+     */
+    public enum ParserCase {
+        ISO_DATE(ISODateParser::new, Language.EN, "2025-08-04"),
+        SLASH_DATE_FORMAT(() -> new SlashDateFormatParser(DayMonthOrder.DAY_MONTH), Language.EN, "04.08.2025"),
+        TWENTY_FOUR_HOUR_TIME(TwentyFourHourTimeParser::new, Language.EN, "17:30"),
+        EN_CHRONO_UNIT_LATER(ENChronoUnitLaterParser::new, Language.EN, "in ten days"),
+        EN_DAY_MONTH_YEAR(ENDayMonthYearParser::new, Language.EN, "4th of August, 2025"),
+        EN_MONTH_DAY_YEAR(ENMonthDayYearParser::new, Language.EN, "August 4th, 2025"),
+        EN_YEAR_MONTH_DAY(ENYearMonthDayParser::new, Language.EN, "2025 August 4"),
+        EN_RELATIVE_WORD(ENRelativeWordParser::new, Language.EN, "tomorrow"),
+        EN_TIME_OF_DAY_WORD(ENTimeOfDayWordParser::new, Language.EN, "noon"),
+        EN_TWELVE_HOUR_TIME(ENTwelveHourTimeParser::new, Language.EN, "5:30 pm"),
+        EN_WEEKDAY(ENWeekdayParser::new, Language.EN, "next friday"),
+        RU_CHRONO_UNIT_LATER(RUChronoUnitLaterParser::new, Language.RU, "через два часа"),
+        RU_DAY_MONTH_YEAR(RUDayMonthYearParser::new, Language.RU, "4 августа 2025"),
+        RU_MONTH_DAY_YEAR(RUMonthDayYearParser::new, Language.RU, "август 4"),
+        RU_YEAR_MONTH_DAY(RUYearMonthDayParser::new, Language.RU, "2025 август 4"),
+        RU_RELATIVE_WORD(RURelativeWordParser::new, Language.RU, "послезавтра"),
+        RU_TIME_OF_DAY_WORD(RUTimeOfDayWordParser::new, Language.RU, "вечером"),
+        RU_WEEKDAY(RUWeekdayParser::new, Language.RU, "в следующую пятницу");
+
+        private final Supplier<Parser> parser;
+        private final Language language;
+        private final String phrase;
+
+        ParserCase(Supplier<Parser> parser, Language language, String phrase) {
+            this.parser = parser;
+            this.language = language;
+            this.phrase = phrase;
+        }
+    }
+
+    @Param
+    public ParserCase parserCase;
+
+    @Param
+    public Size size;
+
+    @Param({"true", "false"})
+    public boolean matching;
+
+    private Parser parser;
+    private String input;
+    private ComponentBuffer buffer;
+
+    @Setup
+    public void setup() {
+        parser = parserCase.parser.get();
+        input = Inputs.build(parserCase.language, parserCase.phrase, size, matching);
+        buffer = new ComponentBuffer();
+
+        // Make sure that the benchmark measures what it claims to
+        if ((parser.parse(input, REFERENCE).count() > 0) != matching) {
+            throw new IllegalStateException(
+                "%s %s the input \"%s\"".formatted(parserCase, matching ? "does not match" : "matches", input)
+            );
+        }
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        parser.parse(input, REFERENCE).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public int parseInto() {
+        buffer.clear();
+        parser.parseInto(input, REFERENCE, buffer);
+
+        return buffer.size();
+    }
+}
@@ -49,6 +49,22 @@ public final class ENParsingConfiguration extends ParsingConfiguration {
      * @since 1.0.0
      */
     public ENParsingConfiguration(DayMonthOrder preferredDayMonthOrder) {
+        this(preferredDayMonthOrder, new OptionsBuilder().build());
+    }
+
+    /**
+     * Constructs the configuration, sets the preferred day-month order for the
+     * {@link io.github.hashadex.naturaldateinput.parsers.common.SlashDateFormatParser SlashDateFormatParser}
+     * and sets the {@link ParsingConfiguration.Options Options} the
+     * configuration parses strings with.
+     * 
+     * @param preferredDayMonthOrder Preferred day-month order for the <code>
+     *                               SlashDateFormatParser</code>
+     * @param options                Parsing options, not null
+     * @throws NullPointerException if <code>options</code> is null
+     * @since 2.2.0
+     */
+    public ENParsingConfiguration(DayMonthOrder preferredDayMonthOrder, Options options) {
         super(Set.of(
             // Common
             new ISODateParser(),
@@ -63,6 +79,6 @@ public final class ENParsingConfiguration extends ParsingConfiguration {
             new ENTwelveHourTimeParser(),
             new ENWeekdayParser(),
             new ENYearMonthDayParser()
-        ));
+        ), options);
     }
 }
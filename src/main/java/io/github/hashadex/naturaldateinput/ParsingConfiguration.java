@@ -1,17 +1,45 @@
 package io.github.hashadex.naturaldateinput;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
+import io.github.hashadex.naturaldateinput.parsers.AsciiCharSequence;
+import io.github.hashadex.naturaldateinput.parsers.BackwardScanner;
+import io.github.hashadex.naturaldateinput.parsers.CandidateBuffer;
+import io.github.hashadex.naturaldateinput.parsers.CaseFolding;
+import io.github.hashadex.naturaldateinput.parsers.CharacterProfile;
+import io.github.hashadex.naturaldateinput.parsers.ComponentSelector;
+import io.github.hashadex.naturaldateinput.parsers.ComponentSink;
+import io.github.hashadex.naturaldateinput.parsers.Expression;
+import io.github.hashadex.naturaldateinput.parsers.KeywordIndex;
+import io.github.hashadex.naturaldateinput.parsers.MentionSink;
+import io.github.hashadex.naturaldateinput.parsers.NumericScanner;
 import io.github.hashadex.naturaldateinput.parsers.Parser;
+import io.github.hashadex.naturaldateinput.parsers.ParserUnion;
+import io.github.hashadex.naturaldateinput.parsers.ReferenceContext;
+import io.github.hashadex.naturaldateinput.parsers.StreamingScanner;
+import io.github.hashadex.naturaldateinput.parsers.TokenStream;
 import io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent;
+import io.github.hashadex.naturaldateinput.parsers.Parser.ReferenceDependency;
 
 /**
  * Base abstract class for parsing configurations. A parsing configuration is a
@@ -20,338 +48,1842 @@ import io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent;
  * {@link io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent ParsedComponents}
  * returned by parsers during the parsing operation are combined into a single
  * {@link io.github.hashadex.naturaldateinput.ParsingConfiguration.ParseResult ParseResult}.
+ * <p>
+ * Parsing configurations are immutable and thread-safe, as long as their
+ * parsers are. All parsers included in this library are. A single
+ * configuration can be shared by any number of threads, including virtual
+ * threads, see {@link #parseAll(List, LocalDateTime, Executor)}.
  * 
  * @author hashadex
  * @since 1.0.0
  */
 public abstract class ParsingConfiguration {
-    private final Set<Parser> parsers;
+    /**
+     * Number of inputs parsed by a single task of
+     * {@link #parseAll(List, LocalDateTime, Executor)}.
+     */
+    private static final int PARALLEL_CHUNK_SIZE = 1024;
+
+    /**
+     * Number of characters read at a time by
+     * {@link #scan(Reader, LocalDateTime, MentionSink)}.
+     */
+    private static final int STREAM_CHUNK_SIZE = 8192;
+
+    /**
+     * Maximum number of candidates of a buffer that is kept for the next
+     * call, so that the pool does not keep the large buffer of a long input.
+     */
+    private static final int MAX_REUSED_CANDIDATES = 256;
+
+    /**
+     * Maximum number of candidate buffers kept for reuse, enough for every
+     * core to parse at once.
+     */
+    private static final int CANDIDATE_BUFFER_CAPACITY =
+        Math.max(2, Math.min(32, Runtime.getRuntime().availableProcessors()));
+
+    /**
+     * Candidate buffers reused by parsing calls instead of creating a buffer
+     * for every call, shared by all threads. A call takes a buffer out of its
+     * slot with compare-and-set while it uses it, and creates a new buffer if
+     * every slot is empty, so a nested call never shares the buffer of the
+     * call it is nested in. The pool takes no locks and keeps no buffers per
+     * thread, so virtual threads reuse buffers the same way as platform
+     * threads.
+     */
+    private static final AtomicReferenceArray<CandidateBuffer> CANDIDATE_BUFFERS =
+        new AtomicReferenceArray<>(CANDIDATE_BUFFER_CAPACITY);
+
+    private final Options options;
+
+    /**
+     * Parsers of the configuration.
+     */
+    private final List<Parser> parsers;
+
+    /**
+     * Parsers that walk the input together, if the configuration uses the
+     * {@link ScanMode#UNION UNION} scan mode. <code>null</code> otherwise.
+     */
+    private final ParserUnion union;
+
+    /**
+     * Index in the {@link #union} of the parser at the same index in
+     * {@link #parsers}, or -1 if the parser scans the input on its own.
+     */
+    private final int[] unionIndexes;
+
+    /**
+     * Index of the keywords of {@link #parsers}, used to skip
+     * parsers that can not match the input. <code>null</code> if none of the
+     * parsers have keywords.
+     */
+    private final KeywordIndex keywordIndex;
+
+    /**
+     * Scanner that finds the matches of the numeric
+     * {@link #parsers} without their regexes, see
+     * {@link NumericScanner#canScan(Parser)}. <code>null</code> if there are
+     * no such parsers.
+     */
+    private final NumericScanner numericScanner;
+
+    /**
+     * Whether the parser at the same index in {@link #parsers} is
+     * scanned by the {@link #numericScanner}.
+     */
+    private final boolean[] numericallyScanned;
+
+    /**
+     * Index of the first parser scanned by the {@link #numericScanner}, in
+     * place of which the scanner runs, or -1.
+     */
+    private final int numericScanIndex;
+
+    /**
+     * Whether the parser at the same index in {@link #parsers}
+     * parses the case-folded input. All <code>false</code> if case folding
+     * is disabled.
+     */
+    private final boolean[] parsesFolded;
+
+    /**
+     * Whether any of the {@link #parsesFolded} flags is set, in which case
+     * the input is folded before parsing.
+     */
+    private final boolean foldsInput;
+
+    /**
+     * Scanner that runs {@link #parsers} from the end of the
+     * input, if the configuration uses the
+     * {@link ScanDirection#BACKWARD BACKWARD} scan direction.
+     * <code>null</code> otherwise.
+     */
+    private final BackwardScanner backwardScanner;
+
+    /**
+     * Scanner that runs all parsers over a <code>Reader</code>: the
+     * {@link #union} together, if there is one, and every other parser on
+     * its own. Parsers that can not be streamed match by match parse the
+     * text of every chunk instead, see {@link StreamingScanner}.
+     */
+    private final StreamingScanner streamingScanner;
+
+    /**
+     * Greatest reference dependency of all parsers.
+     */
+    private final ReferenceDependency maxDependency;
+
+    /**
+     * Cache of the results of {@link #parse(String, LocalDateTime)}.
+     * <code>null</code> if caching is disabled.
+     */
+    private final ResultCache<CacheKey, ParseResult> cache;
+
+    /**
+     * Constructs a ParsingConfiguration containing the specified
+     * <code>Set</code> of {@link io.github.hashadex.naturaldateinput.parsers.Parser Parsers}.
+     * Parser set must not contain null elements.
+     * 
+     * @param parsers <code>Parser</code> set, not null
+     * @throws NullPointerException if <code>parsers</code> is null or contains
+     *                              null elements
+     * @since 1.0.0
+     */
+    public ParsingConfiguration(Set<Parser> parsers) {
+        this(parsers, new OptionsBuilder().build());
+    }
+
+    /**
+     * Constructs a ParsingConfiguration containing the specified
+     * <code>Set</code> of {@link io.github.hashadex.naturaldateinput.parsers.Parser Parsers}
+     * that parses strings according to the specified {@link Options}.
+     * Parser set must not contain null elements.
+     * 
+     * @param parsers <code>Parser</code> set, not null
+     * @param options Parsing options, not null
+     * @throws NullPointerException if any of the parameters are null or
+     *                              <code>parsers</code> contains null elements
+     * @since 2.2.0
+     */
+    public ParsingConfiguration(Set<Parser> parsers, Options options) {
+        Objects.requireNonNull(parsers, "parsers must not be null");
+        Objects.requireNonNull(options, "options must not be null");
+
+        for (Parser parser : parsers) {
+            if (parser == null) {
+                throw new NullPointerException("Parser set must not contain null elements");
+            }
+        }
+
+        this.options = options;
+
+        this.parsers = List.copyOf(parsers);
+        this.maxDependency = maxDependency(parsers);
+
+        this.keywordIndex = this.parsers.stream().anyMatch(parser -> !parser.keywords().isEmpty())
+            ? new KeywordIndex(this.parsers)
+            : null;
+
+        this.numericallyScanned = new boolean[this.parsers.size()];
+        List<Parser> numeric = new ArrayList<>();
+        int numericScanIndex = -1;
+
+        for (int i = 0; i < this.parsers.size(); i++) {
+            if (NumericScanner.canScan(this.parsers.get(i))) {
+                numericallyScanned[i] = true;
+                numeric.add(this.parsers.get(i));
+
+                if (numericScanIndex == -1) {
+                    numericScanIndex = i;
+                }
+            }
+        }
+
+        this.numericScanner = numeric.isEmpty() ? null : new NumericScanner(numeric);
+        this.numericScanIndex = numericScanIndex;
+
+        this.parsesFolded = new boolean[this.parsers.size()];
+        boolean foldsInput = false;
+
+        for (int i = 0; i < this.parsers.size(); i++) {
+            parsesFolded[i] = options.caseFolding() && this.parsers.get(i).canParseFolded();
+            foldsInput |= parsesFolded[i];
+        }
+
+        this.foldsInput = foldsInput;
+
+        this.backwardScanner = (options.scanDirection() == ScanDirection.BACKWARD)
+            ? new BackwardScanner(this.parsers, options.windowSize(), options.maxComponentLength())
+            : null;
+
+        // The numeric scanner is faster than the union, so numeric parsers
+        // are not combined
+        this.unionIndexes = new int[this.parsers.size()];
+        List<Parser> combined = new ArrayList<>();
+        List<Parser> independent = new ArrayList<>();
+
+        for (int i = 0; i < this.parsers.size(); i++) {
+            Parser parser = this.parsers.get(i);
+
+            if (options.scanMode() == ScanMode.UNION && !numericallyScanned[i] && ParserUnion.canCombine(parser)) {
+                unionIndexes[i] = combined.size();
+                combined.add(parser);
+            } else {
+                unionIndexes[i] = -1;
+                independent.add(parser);
+            }
+        }
+
+        this.union = (options.scanMode() == ScanMode.UNION) ? new ParserUnion(combined) : null;
+
+        this.streamingScanner = new StreamingScanner(
+            union,
+            independent,
+            STREAM_CHUNK_SIZE,
+            options.maxComponentLength()
+        );
+
+        this.cache = (options.cacheSize() > 0) ? new ResultCache<>(options.cacheSize()) : null;
+    }
+
+    private static ReferenceDependency maxDependency(Iterable<? extends Parser> parsers) {
+        ReferenceDependency max = ReferenceDependency.NONE;
+
+        for (Parser parser : parsers) {
+            ReferenceDependency dependency = parser.referenceDependency();
+
+            if (dependency.compareTo(max) > 0) {
+                max = dependency;
+            }
+        }
+
+        return max;
+    }
+
+    /**
+     * Strategy of running the parsers of a configuration over the input.
+     * 
+     * @see Options#scanMode()
+     * @since 2.2.0
+     */
+    public static enum ScanMode {
+        /**
+         * Every parser scans the input with its own regex. This is the
+         * default scan mode.
+         */
+        INDEPENDENT,
+
+        /**
+         * The parsers walk the start of the input and the positions after
+         * whitespace once, together, and only the parsers that can start
+         * with the character at a position try their regexes there. The
+         * results are the same as with the {@link #INDEPENDENT} scan mode,
+         * but the input is not scanned once for every parser.
+         * <p>
+         * Parsers are still skipped by their keywords and character
+         * profiles. Numeric parsers are still found without their regexes,
+         * and parsers that can not be combined (see
+         * {@link io.github.hashadex.naturaldateinput.parsers.ParserUnion#canCombine(Parser) ParserUnion.canCombine})
+         * still scan the input on their own.
+         * 
+         * @see io.github.hashadex.naturaldateinput.parsers.ParserUnion ParserUnion
+         */
+        UNION,
+
+        /**
+         * The input is split into tokens once, and the resulting
+         * {@link io.github.hashadex.naturaldateinput.parsers.TokenStream TokenStream}
+         * is shared by all parsers. Parsers only try their regexes at the
+         * start of the input and after whitespace, instead of at every
+         * character of the input. The results are the same as with the
+         * {@link #INDEPENDENT} scan mode.
+         * <p>
+         * This scan mode is most useful for long inputs, such as notes or
+         * email bodies.
+         * 
+         * @see io.github.hashadex.naturaldateinput.parsers.Parser#parse(TokenStream, LocalDateTime)
+         */
+        TOKENIZED
+    }
+
+    /**
+     * Direction in which the parsers of a configuration scan the input.
+     * 
+     * @see Options#scanDirection()
+     * @since 2.2.0
+     */
+    public static enum ScanDirection {
+        /**
+         * Parsers scan the whole input from its start to its end. This is the
+         * default scan direction.
+         */
+        FORWARD,
+
+        /**
+         * Parsers scan the input in windows, starting from the end of the
+         * input, and scanning stops as soon as the date and time of the
+         * {@link ParseResult} can no longer change. As the latest components
+         * in the input are used for the <code>ParseResult</code>, inputs that
+         * end with a date and time, such as long notes or message threads,
+         * are only scanned near their end.
+         * <p>
+         * The results are the same as with the {@link #FORWARD} scan
+         * direction, as long as no match of any parser is longer than
+         * {@link Options#maxComponentLength()} characters. The keyword and
+         * character profile prefilters are not used, as they would have to
+         * look at the whole input. Only the
+         * {@link ScanMode#INDEPENDENT INDEPENDENT} scan mode supports this
+         * scan direction.
+         * 
+         * @see io.github.hashadex.naturaldateinput.parsers.BackwardScanner BackwardScanner
+         */
+        BACKWARD
+    }
+
+    /**
+     * Immutable set of options that change how a parsing configuration
+     * parses strings. Use {@link OptionsBuilder} to create options.
+     * 
+     * @author hashadex
+     * @since 2.2.0
+     */
+    public static final class Options {
+        private final ScanMode scanMode;
+        private final ScanDirection scanDirection;
+        private final int windowSize;
+        private final int maxComponentLength;
+        private final int cacheSize;
+        private final boolean caseFolding;
+
+        private Options(OptionsBuilder builder) {
+            this.scanMode = builder.scanMode;
+            this.scanDirection = builder.scanDirection;
+            this.windowSize = builder.windowSize;
+            this.maxComponentLength = builder.maxComponentLength;
+            this.cacheSize = builder.cacheSize;
+            this.caseFolding = builder.caseFolding;
+        }
+
+        /**
+         * Returns the strategy of running the parsers of the configuration
+         * over the input.
+         * 
+         * @return Scan mode, {@link ScanMode#INDEPENDENT} by default
+         * @since 2.2.0
+         */
+        public ScanMode scanMode() {
+            return scanMode;
+        }
+
+        /**
+         * Returns the direction in which the parsers of the configuration
+         * scan the input.
+         * 
+         * @return Scan direction, {@link ScanDirection#FORWARD} by default
+         * @since 2.2.0
+         */
+        public ScanDirection scanDirection() {
+            return scanDirection;
+        }
+
+        /**
+         * Returns the number of characters scanned at a time with the
+         * {@link ScanDirection#BACKWARD BACKWARD} scan direction.
+         * 
+         * @return Window size, 256 by default
+         * @since 2.2.0
+         */
+        public int windowSize() {
+            return windowSize;
+        }
+
+        /**
+         * Returns the maximum length of a match of any parser, assumed by the
+         * {@link ScanDirection#BACKWARD BACKWARD} scan direction.
+         * 
+         * @return Maximum component length, 64 by default
+         * @since 2.2.0
+         */
+        public int maxComponentLength() {
+            return maxComponentLength;
+        }
+
+        /**
+         * Returns the maximum number of results cached by
+         * {@link ParsingConfiguration#parse(String, LocalDateTime)}.
+         * 
+         * @return Cache size, 0 (caching disabled) by default
+         * @see OptionsBuilder#cacheSize(int)
+         * @since 2.2.0
+         */
+        public int cacheSize() {
+            return cacheSize;
+        }
+
+        /**
+         * Returns whether the input is case-folded once before parsing.
+         * 
+         * @return <code>true</code> if case folding is enabled,
+         *         <code>false</code> by default
+         * @see OptionsBuilder#caseFolding(boolean)
+         * @since 2.2.0
+         */
+        public boolean caseFolding() {
+            return caseFolding;
+        }
+    }
+
+    /**
+     * Builder for {@link Options}. All options that are not set explicitly
+     * keep their default values.
+     * 
+     * @author hashadex
+     * @since 2.2.0
+     */
+    public static final class OptionsBuilder {
+        private ScanMode scanMode = ScanMode.INDEPENDENT;
+        private ScanDirection scanDirection = ScanDirection.FORWARD;
+        private int windowSize = 256;
+        private int maxComponentLength = 64;
+        private int cacheSize = 0;
+        private boolean caseFolding = false;
+
+        /**
+         * Constructs the builder with default values for all options.
+         * 
+         * @since 2.2.0
+         */
+        public OptionsBuilder() {}
+
+        /**
+         * Sets the strategy of running the parsers over the input.
+         * 
+         * @param scanMode Scan mode, not null
+         * @return This instance of <code>OptionsBuilder</code>
+         * @throws NullPointerException if <code>scanMode</code> is null
+         * @since 2.2.0
+         */
+        public OptionsBuilder scanMode(ScanMode scanMode) {
+            this.scanMode = Objects.requireNonNull(scanMode, "scanMode must not be null");
+
+            return this;
+        }
+
+        /**
+         * Sets the direction in which the parsers scan the input.
+         * 
+         * @param scanDirection Scan direction, not null
+         * @return This instance of <code>OptionsBuilder</code>
+         * @throws NullPointerException if <code>scanDirection</code> is null
+         * @since 2.2.0
+         */
+        public OptionsBuilder scanDirection(ScanDirection scanDirection) {
+            this.scanDirection = Objects.requireNonNull(scanDirection, "scanDirection must not be null");
+
+            return this;
+        }
+
+        /**
+         * Sets the number of characters scanned at a time with the
+         * {@link ScanDirection#BACKWARD BACKWARD} scan direction.
+         * 
+         * @param windowSize Window size, must be positive
+         * @return This instance of <code>OptionsBuilder</code>
+         * @throws IllegalArgumentException if <code>windowSize</code> is not
+         *                                  positive
+         * @since 2.2.0
+         */
+        public OptionsBuilder windowSize(int windowSize) {
+            if (windowSize <= 0) {
+                throw new IllegalArgumentException("windowSize must be positive");
+            }
+
+            this.windowSize = windowSize;
+
+            return this;
+        }
+
+        /**
+         * Sets the maximum length of a match of any parser, assumed by the
+         * {@link ScanDirection#BACKWARD BACKWARD} scan direction.
+         * 
+         * @param maxComponentLength Maximum component length, must be
+         *                           positive
+         * @return This instance of <code>OptionsBuilder</code>
+         * @throws IllegalArgumentException if <code>maxComponentLength</code>
+         *                                  is not positive
+         * @since 2.2.0
+         */
+        public OptionsBuilder maxComponentLength(int maxComponentLength) {
+            if (maxComponentLength <= 0) {
+                throw new IllegalArgumentException("maxComponentLength must be positive");
+            }
+
+            this.maxComponentLength = maxComponentLength;
+
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of results cached by
+         * {@link ParsingConfiguration#parse(String, LocalDateTime)}, or
+         * disables caching if set to 0.
+         * <p>
+         * Results are cached by the input and only the part of the reference
+         * that the components of the parsers that can match the input depend
+         * on, see {@link Parser#referenceDependency()}. For example, the
+         * result of "tomorrow" is reused for every reference on the same day,
+         * and the result of "2025-08-04" is reused for every reference.
+         * Cached results are returned with the requested reference, so they
+         * are equal to the results of parsing the input again. When the cache
+         * is full, the least recently used results are evicted.
+         * 
+         * @param cacheSize Maximum number of cached results, must not be
+         *                  negative
+         * @return This instance of <code>OptionsBuilder</code>
+         * @throws IllegalArgumentException if <code>cacheSize</code> is
+         *                                  negative
+         * @see ParsingConfiguration#cacheStats()
+         * @since 2.2.0
+         */
+        public OptionsBuilder cacheSize(int cacheSize) {
+            if (cacheSize < 0) {
+                throw new IllegalArgumentException("cacheSize must not be negative");
+            }
+
+            this.cacheSize = cacheSize;
+
+            return this;
+        }
+
+        /**
+         * Enables or disables case folding. With case folding, the input is
+         * folded once with {@link io.github.hashadex.naturaldateinput.parsers.CaseFolding CaseFolding},
+         * and the parsers that support it match the folded input with
+         * case-sensitive regexes instead of matching the input with
+         * case-insensitive ones, see
+         * {@link Parser#canParseFolded()}. Other parsers parse the original
+         * input. The results are the same as without case folding.
+         * <p>
+         * Case folding is only supported with the
+         * {@link ScanDirection#FORWARD FORWARD} scan direction and the
+         * {@link ScanMode#INDEPENDENT INDEPENDENT} and
+         * {@link ScanMode#TOKENIZED TOKENIZED} scan modes.
+         * 
+         * @param caseFolding <code>true</code> to enable case folding
+         * @return This instance of <code>OptionsBuilder</code>
+         * @since 2.2.0
+         */
+        public OptionsBuilder caseFolding(boolean caseFolding) {
+            this.caseFolding = caseFolding;
+
+            return this;
+        }
+
+        /**
+         * Builds a new instance of <code>Options</code>.
+         * 
+         * @return New instance of <code>Options</code>
+         * @throws IllegalStateException if the
+         *                               {@link ScanDirection#BACKWARD BACKWARD}
+         *                               scan direction is combined with a
+         *                               scan mode other than
+         *                               {@link ScanMode#INDEPENDENT INDEPENDENT},
+         *                               or if case folding is combined with
+         *                               the <code>BACKWARD</code> scan
+         *                               direction or the
+         *                               {@link ScanMode#UNION UNION} scan
+         *                               mode
+         * @since 2.2.0
+         */
+        public Options build() {
+            if (scanDirection == ScanDirection.BACKWARD && scanMode != ScanMode.INDEPENDENT) {
+                throw new IllegalStateException("BACKWARD scan direction requires the INDEPENDENT scan mode");
+            }
+            if (caseFolding && (scanDirection == ScanDirection.BACKWARD || scanMode == ScanMode.UNION)) {
+                throw new IllegalStateException(
+                    "Case folding requires the FORWARD scan direction and the INDEPENDENT or TOKENIZED scan mode"
+                );
+            }
+
+            return new Options(this);
+        }
+    }
+
+    /**
+     * Returns the options this configuration parses strings with.
+     * 
+     * @return Options of this configuration
+     * @since 2.2.0
+     */
+    public Options options() {
+        return options;
+    }
+
+    /**
+     * Immutable snapshot of the statistics of the result cache of a parsing
+     * configuration.
+     * 
+     * @author hashadex
+     * @see ParsingConfiguration#cacheStats()
+     * @since 2.2.0
+     */
+    public static final class CacheStats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int size;
+
+        private CacheStats(long hits, long misses, long evictions, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+        }
+
+        /**
+         * Returns the number of parses that returned a cached result.
+         * 
+         * @return Number of cache hits
+         * @since 2.2.0
+         */
+        public long hits() {
+            return hits;
+        }
+
+        /**
+         * Returns the number of parses that did not find a cached result and
+         * ran the parsers.
+         * 
+         * @return Number of cache misses
+         * @since 2.2.0
+         */
+        public long misses() {
+            return misses;
+        }
+
+        /**
+         * Returns the number of results evicted from the cache because it
+         * was full.
+         * 
+         * @return Number of evictions
+         * @since 2.2.0
+         */
+        public long evictions() {
+            return evictions;
+        }
+
+        /**
+         * Returns the number of results in the cache.
+         * 
+         * @return Number of cached results
+         * @since 2.2.0
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns a string representation of this <code>CacheStats</code>.
+         * 
+         * @return String in the format
+         *         {@code "CacheStats[hits=<hits>, misses=<misses>, evictions=<evictions>, size=<size>]"}
+         */
+        @Override
+        public String toString() {
+            return "CacheStats[hits=%d, misses=%d, evictions=%d, size=%d]".formatted(hits, misses, evictions, size);
+        }
+    }
+
+    /**
+     * Returns the statistics of the result cache of this configuration.
+     * 
+     * @return <code>Optional</code> containing the statistics, or an empty
+     *         <code>Optional</code> if caching is disabled
+     * @see OptionsBuilder#cacheSize(int)
+     * @since 2.2.0
+     */
+    public final Optional<CacheStats> cacheStats() {
+        if (cache == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new CacheStats(cache.hits(), cache.misses(), cache.evictions(), cache.size()));
+    }
+
+    /**
+     * Immutable data class representing a final result of parsing using a
+     * parsing configuration, combined from multiple
+     * {@link io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent ParsedComponents}.
+     * <p>
+     * Unlike <code>ParsedComponent</code>, <code>ParseResult</code> may contain
+     * neither time or date. Use {@link #isEmpty()} and {@link #isPresent()} to
+     * check if a <code>ParseResult</code> is empty.
+     * 
+     * @author hashadex
+     * @since 1.0.0
+     */
+    public final class ParseResult {
+        private final List<ParsedComponent> components;
+
+        private final LocalDate date;
+        private final LocalTime time;
+
+        private final LocalDateTime reference;
+        private final String source;
+
+        private ParseResult(
+            List<ParsedComponent> components, LocalDate date, LocalTime time, LocalDateTime reference, String source
+        ) {
+            this.components = components;
+            
+            this.date = date;
+            this.time = time;
+
+            this.reference = reference;
+            this.source = source;
+        }
+
+        /**
+         * Returns a list of
+         * {@link io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent ParsedComponents}
+         * from which the date and time of this <code>ParseResult</code> were
+         * extracted.
+         * 
+         * @return <code>List</code> of <code>ParsedComponents</code>
+         * @see #date()
+         * @see #time()
+         * @since 1.0.0
+         */
+        public List<ParsedComponent> components() {
+            return components;
+        }
+
+        /**
+         * Returns the date extracted from the latest (by occurrence in source
+         * string) {@link io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent ParsedComponent}
+         * that contains a date.
+         * 
+         * @return <code>Optional</code> containing a <code>LocalDate</code> if
+         *         a date was able to be parsed from the source string
+         * @see io.github.hashadex.naturaldateinput.ParsingConfiguration#parse(String, LocalDateTime)
+         * @since 1.0.0
+         */ 
+        public Optional<LocalDate> date() {
+            return Optional.ofNullable(date);
+        }
+
+        /**
+         * Returns the time extracted from the latest (by occurrence in source
+         * string) {@link io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent ParsedComponent}
+         * that contains a time.
+         * 
+         * @return <code>Optional</code> containing a <code>LocalTime</code> if
+         *         a time was able to be parsed from the source string
+         * @see io.github.hashadex.naturaldateinput.ParsingConfiguration#parse(String, LocalDateTime)
+         * @since 1.0.0
+         */ 
+        public Optional<LocalTime> time() {
+            return Optional.ofNullable(time);
+        }
+
+        /**
+         * Returns the reference datetime used during the parsing operation.
+         * 
+         * The reference datetime serves as a reference point for some parsers
+         * that deal with relative date/time expressions, like
+         * {@link io.github.hashadex.naturaldateinput.parsers.en.ENRelativeWordParser ENRelativeWordParser}
+         * The reference datetime is typically the timestamp that is made when
+         * the parsing operation starts.
+         * 
+         * @return Reference datetime
+         * @since 1.0.0
+         */
+        public LocalDateTime reference() {
+            return reference;
+        }
+
+        /**
+         * Returns the source string used during the parsing operation.
+         * <p>
+         * If the source is a <code>CharSequence</code> that is not a
+         * <code>String</code>, see
+         * {@link ParsingConfiguration#parse(CharSequence, int, int, LocalDateTime)},
+         * the text is not copied and the source is the empty string. The
+         * components keep copies of their own texts.
+         * 
+         * @return Source string
+         * @since 1.0.0
+         */
+        public String source() {
+            return source;
+        }
+
+        /**
+         * Checks if this <code>ParseResult</code> contains neither time or date.
+         * 
+         * @return <code>true</code> if both date and time are <code>null</code>
+         * @since 1.0.0
+         */
+        public boolean isEmpty() {
+            return date == null && time == null;
+        }
+
+        /**
+         * Checks if this <code>ParseResult</code> contains a time or a date.
+         * 
+         * @return <code>true</code> if time or date is not <code>null</code>
+         * @since 1.0.0
+         */
+        public boolean isPresent() {
+            return date != null || time != null;
+        }
+
+        /**
+         * Returns the hash code for this <code>ParseResult</code>.
+         * 
+         * @return Hash code integer
+         * @since 1.0.0
+         */
+        @Override
+        public int hashCode() {
+            final int prime = 31;
+            int result = 1;
+            
+            result = prime * result + ((components == null) ? 0 : components.hashCode());
+            result = prime * result + ((date == null) ? 0 : date.hashCode());
+            result = prime * result + ((time == null) ? 0 : time.hashCode());
+            result = prime * result + ((reference == null) ? 0 : reference.hashCode());
+            result = prime * result + ((source == null) ? 0 : source.hashCode());
+            
+            return result;
+        }
+
+        /**
+         * Compares this <code>ParseResult</code> to the specified object.
+         * <p>
+         * Returns <code>true</code> if the specified object is a
+         * <code>ParseResult</code> and all fields (components, date, time,
+         * reference, source) are equal.
+         * 
+         * @param obj Object to compare, <code>null</code> returns
+         *            <code>false</code>
+         * @return <code>true</code> if this <code>ParseResult</code> is equal
+         *         to the specified object
+         * @since 1.0.0
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ParseResult)) {
+                return false;
+            }
+
+            ParseResult result = (ParseResult) obj;
+
+            return (
+                components.equals(result.components()) &&
+
+                date().equals(result.date()) &&
+                time().equals(result.time()) &&
+
+                reference.equals(result.reference()) &&
+                source.equals(result.source())
+            );
+        }
+
+        /**
+         * Returns a string representation of this <code>ParseResult</code>
+         * 
+         * @return String in the format 
+         *         {@code "ParseResult["<component text>", "<component text>" -> <date>T<time>]"}
+         */
+        @Override
+        public String toString() {
+            // Collect the texts of all components into a single string, e.g.
+            // ""tomorrow", "at 5 am"""
+            String componentTexts = components.stream()
+                .map(c -> '"' + c.text() + '"')
+                .collect(Collectors.joining(", "));
+            
+            StringBuilder sb = new StringBuilder();
+
+            sb.append('{' + componentTexts + '}');
+            sb.append(" -> ");
+
+            // Append date and time
+            if (date != null) {
+                sb.append(date);
+            }
+
+            if (date != null && time != null) {
+                sb.append('T');
+            }
+
+            if (time != null) {
+                sb.append(time);
+            }
+
+            // Wrap string in "ParseResult[...]"
+            sb.insert(0, this.getClass().getSimpleName() + '[');
+            sb.append(']');
+
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Runs all parsers that can match the input and pushes their results into
+     * the selector. Parsers are skipped if none of their
+     * {@link Parser#keywords() keywords} occur in the input, or if they rule
+     * the input out by its {@link CharacterProfile}. With case folding, the
+     * parsers that support it parse the folded input. Numeric parsers are
+     * found by the {@link #numericScanner}, which runs at the index of the
+     * first of them. With the union scan mode, the parsers of the
+     * {@link #union} that are not skipped walk the input together before
+     * the other parsers. With the backward scan direction, the scan stops
+     * once the selection can not change.
+     * <p>
+     * With the forward scan direction, the parsers push their matches into a
+     * {@link CandidateBuffer} without resolving them, and only the
+     * candidates that can still be selected are resolved against the
+     * reference. The calendar facts of the reference are computed once per
+     * call, see {@link ReferenceContext}. The candidate buffer is taken from
+     * a pool shared by all threads and reused by later calls.
+     * <p>
+     * Only the range of the input between <code>start</code> and
+     * <code>end</code> is parsed. If <code>matchers</code> is not null and
+     * the range covers the whole input, parsers outside of the union reuse the
+     * matcher at their index, creating it on first use.
+     */
+    private void parseInto(
+        CharSequence input,
+        int start,
+        int end,
+        LocalDateTime reference,
+        ComponentSelector selector,
+        Matcher[] matchers
+    ) {
+        if (backwardScanner != null) {
+            backwardScanner.scan(input, start, end, reference, selector);
+
+            return;
+        }
+
+        CandidateBuffer candidates = acquireCandidateBuffer();
+
+        try {
+            parseInto(input, start, end, reference, selector, matchers, candidates);
+        } finally {
+            if (candidates.size() <= MAX_REUSED_CANDIDATES) {
+                candidates.clear();
+                releaseCandidateBuffer(candidates);
+            }
+        }
+    }
+
+    /**
+     * Takes a candidate buffer out of {@link #CANDIDATE_BUFFERS}, starting at
+     * the slot of the current thread, or creates a new one if the pool is
+     * empty.
+     */
+    private static CandidateBuffer acquireCandidateBuffer() {
+        int first = firstCandidateBufferSlot();
+
+        for (int i = 0; i < CANDIDATE_BUFFER_CAPACITY; i++) {
+            int slot = (first + i) % CANDIDATE_BUFFER_CAPACITY;
+            CandidateBuffer buffer = CANDIDATE_BUFFERS.get(slot);
+
+            if (buffer != null && CANDIDATE_BUFFERS.compareAndSet(slot, buffer, null)) {
+                return buffer;
+            }
+        }
+
+        return new CandidateBuffer();
+    }
+
+    /**
+     * Returns the cleared candidate buffer to {@link #CANDIDATE_BUFFERS}, or
+     * drops it if the pool is full.
+     */
+    private static void releaseCandidateBuffer(CandidateBuffer buffer) {
+        int first = firstCandidateBufferSlot();
+
+        for (int i = 0; i < CANDIDATE_BUFFER_CAPACITY; i++) {
+            int slot = (first + i) % CANDIDATE_BUFFER_CAPACITY;
+
+            if (CANDIDATE_BUFFERS.get(slot) == null && CANDIDATE_BUFFERS.compareAndSet(slot, null, buffer)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the slot of {@link #CANDIDATE_BUFFERS} the current thread
+     * starts looking at, so that threads parsing at once mostly use
+     * different slots.
+     */
+    @SuppressWarnings("deprecation")
+    private static int firstCandidateBufferSlot() {
+        return (int) (Thread.currentThread().getId() % CANDIDATE_BUFFER_CAPACITY);
+    }
+
+    /**
+     * Runs the parsers and selects the candidates, see
+     * {@link #parseInto(CharSequence, int, int, LocalDateTime, ComponentSelector, Matcher[])}.
+     */
+    private void parseInto(
+        CharSequence input,
+        int start,
+        int end,
+        LocalDateTime reference,
+        ComponentSelector selector,
+        Matcher[] matchers,
+        CandidateBuffer candidates
+    ) {
+        boolean whole = start == 0 && end == input.length();
+
+        // Only whole strings are tokenized, ranges are parsed with regions,
+        // which returns the same results
+        TokenStream tokens = (options.scanMode() == ScanMode.TOKENIZED && whole && input instanceof String string)
+            ? TokenStream.tokenize(string)
+            : null;
+
+        // Folded input has the same indexes as the input, and is the input
+        // itself if folding does not change it
+        CharSequence folded = foldsInput ? CaseFolding.fold(input, start, end) : input;
+        TokenStream foldedTokens = (tokens != null && folded != input) ? TokenStream.tokenize(folded.toString()) : tokens;
+
+        CharacterProfile profile = CharacterProfile.of(input, start, end);
+        BitSet matching = (keywordIndex != null) ? keywordIndex.matchingParsers(input, start, end) : null;
+
+        if (union != null) {
+            // Parsers of the union that are not skipped, created on first use
+            BitSet selected = null;
+
+            for (int i = 0; i < parsers.size(); i++) {
+                if (unionIndexes[i] != -1 && (matching == null || matching.get(i)) && parsers.get(i).canMatch(profile)) {
+                    if (selected == null) {
+                        selected = new BitSet(union.parsers().size());
+                    }
+
+                    selected.set(unionIndexes[i]);
+                }
+            }
+
+            if (selected != null) {
+                union.parseInto(input, start, end, selected, reference, candidates);
+            }
+        }
+
+        for (int i = 0; i < parsers.size(); i++) {
+            Parser parser = parsers.get(i);
+
+            if (unionIndexes[i] != -1) {
+                continue;
+            }
+
+            if (numericallyScanned[i]) {
+                // All numeric parsers are scanned at once, without regexes
+                if (i == numericScanIndex && profile.hasDigit()) {
+                    numericScanner.scanInto(input, start, end, reference, candidates);
+                }
+
+                continue;
+            }
+
+            if ((matching != null && !matching.get(i)) || !parser.canMatch(profile)) {
+                continue;
+            }
+
+            if (parsesFolded[i]) {
+                if (foldedTokens != null) {
+                    parser.parseFoldedInto(foldedTokens, reference, candidates);
+                } else {
+                    parser.parseFoldedInto(folded, start, end, reference, candidates);
+                }
+            } else if (tokens != null) {
+                parser.parseInto(tokens, reference, candidates);
+            } else if (matchers != null && whole) {
+                if (matchers[i] == null) {
+                    matchers[i] = parser.newMatcher();
+                }
+
+                parser.parseInto(input, reference, candidates, matchers[i]);
+            } else {
+                parser.parseInto(input, start, end, reference, candidates);
+            }
+        }
+
+        candidates.selectInto(ReferenceContext.of(reference), selector);
+    }
+
+    /**
+     * Parses the provided string using all
+     * {@link io.github.hashadex.naturaldateinput.parsers.Parser Parsers} in the
+     * configuration and combines returned
+     * {@link io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent ParsedComponents}
+     * into a single {@link ParseResult}.
+     * <p>
+     * Parsers that declare {@link Parser#keywords() keywords} are only run if
+     * at least one of their keywords occurs in the input. All keywords are
+     * found in a single pass over the input, see
+     * {@link io.github.hashadex.naturaldateinput.parsers.KeywordIndex KeywordIndex}.
+     * Parsers are also skipped if they rule the input out by its
+     * {@link io.github.hashadex.naturaldateinput.parsers.CharacterProfile CharacterProfile},
+     * see {@link Parser#canMatch(CharacterProfile)}.
+     * <p>
+     * If the configuration caches results, see
+     * {@link OptionsBuilder#cacheSize(int)}, a cached result for the input is
+     * returned instead of running the parsers whenever the reference allows
+     * it.
+     * <p>
+     * Only up to last (by occurrence in text) two <code>ParsedComponents</code>
+     * are used for the <code>ParseResult</code> {@link ParseResult#date() date}
+     * and {@link ParseResult#time() time} fields. Meaning, if there are
+     * multiple <code>ParsedComponents</code> containing a date returned by the
+     * parsers, then only the last component is used for the date field in the
+     * <code>ParseResult</code>.
+     * <p>
+     * Use the {@link #parse(String)} method to automatically use
+     * {@link java.time.LocalDateTime#now()} as reference datetime.
+     * 
+     * @param input     String to be parsed
+     * @param reference <code>LocalDateTime</code> that serves as a reference
+     *                  point for parsers that deal with relative date/time
+     *                  expressions, such as
+     *                  {@link io.github.hashadex.naturaldateinput.parsers.en.ENRelativeWordParser ENRelativeWordParser}
+     * @return <code>ParseResult</code> composed from all returned <code>
+     *         ParsedComponents</code>. Might be empty.
+     * @since 1.0.0
+     */
+    public final ParseResult parse(String input, LocalDateTime reference) {
+        Objects.requireNonNull(input, "input must not be null");
+        Objects.requireNonNull(reference, "reference must not be null");
+
+        if (cache != null) {
+            return parseCached(input, reference);
+        }
+
+        // Select the latest date and time in a single pass over the
+        // components, see ComponentSelector
+        ComponentSelector selector = new ComponentSelector();
+        parseInto(input, 0, input.length(), reference, selector, null);
+
+        return toParseResult(selector, input, reference);
+    }
+
+    /**
+     * Key of a cached result: the input and the part of the reference the
+     * result depends on.
+     */
+    private static final class CacheKey {
+        private final String input;
+
+        /**
+         * <code>null</code>, a <code>LocalDate</code> or a
+         * <code>LocalDateTime</code>, see {@link #referenceKey}.
+         */
+        private final Object reference;
+
+        private CacheKey(String input, Object reference) {
+            this.input = input;
+            this.reference = reference;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * input.hashCode() + Objects.hashCode(reference);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof CacheKey key && input.equals(key.input) && Objects.equals(reference, key.reference);
+        }
+    }
+
+    private static Object referenceKey(ReferenceDependency dependency, LocalDateTime reference) {
+        return switch (dependency) {
+            case NONE -> null;
+            case DATE -> reference.toLocalDate();
+            case DATE_TIME -> reference;
+        };
+    }
+
+    private ParseResult parseCached(String input, LocalDateTime reference) {
+        // The dependency of an input does not depend on the reference, so
+        // the input is cached under at most one of these keys
+        for (ReferenceDependency dependency : ReferenceDependency.values()) {
+            if (dependency.compareTo(maxDependency) > 0) {
+                break;
+            }
+
+            ParseResult cached = cache.get(new CacheKey(input, referenceKey(dependency, reference)));
+
+            if (cached != null) {
+                cache.recordHit();
+
+                return withReference(cached, input, reference);
+            }
+        }
+
+        cache.recordMiss();
+
+        ComponentSelector selector = new ComponentSelector();
+        parseInto(input, 0, input.length(), reference, selector, null);
+
+        ParseResult result = toParseResult(selector, input, reference);
+        cache.put(new CacheKey(input, referenceKey(referenceDependency(input), reference)), result);
+
+        return result;
+    }
+
+    /**
+     * Returns the greatest reference dependency of the parsers that can
+     * match the input, judging by the same prefilters as
+     * {@link #parseInto(CharSequence, int, int, LocalDateTime, ComponentSelector, Matcher[])}.
+     */
+    private ReferenceDependency referenceDependency(String input) {
+        ReferenceDependency max = ReferenceDependency.NONE;
+
+        CharacterProfile profile = CharacterProfile.of(input);
+        BitSet matching = (keywordIndex != null) ? keywordIndex.matchingParsers(input) : null;
+
+        for (int i = 0; i < parsers.size(); i++) {
+            Parser parser = parsers.get(i);
+
+            if ((matching != null && !matching.get(i)) || !parser.canMatch(profile)) {
+                continue;
+            }
+
+            if (parser.referenceDependency().compareTo(max) > 0) {
+                max = parser.referenceDependency();
+            }
+        }
+
+        return max;
+    }
+
+    /**
+     * Returns the cached result with the provided reference, rebuilding its
+     * components if the reference differs from the cached one.
+     */
+    private ParseResult withReference(ParseResult cached, String input, LocalDateTime reference) {
+        if (cached.reference.equals(reference)) {
+            return cached;
+        }
+
+        // Accepting the selected components again selects them in the same
+        // order
+        ComponentSelector selector = new ComponentSelector();
+
+        for (ParsedComponent component : cached.components) {
+            selector.accept(
+                component.startIndex(),
+                component.endIndex(),
+                component.date().map(LocalDate::toEpochDay).orElse(ComponentSink.NO_DATE),
+                component.time().map(LocalTime::toNanoOfDay).orElse(ComponentSink.NO_TIME)
+            );
+        }
+
+        return toParseResult(selector, input, reference);
+    }
+
+    /**
+     * Parses the range of the provided text between <code>start</code>
+     * (inclusive) and <code>end</code> (exclusive) like
+     * {@link #parse(String, LocalDateTime)}.
+     * <p>
+     * Use this method to parse a <code>StringBuilder</code>, a
+     * <code>CharBuffer</code> or a part of a larger document. The range is
+     * parsed as if it was the whole input, and the indexes of the components
+     * are relative to the whole text.
+     * <p>
+     * A <code>String</code> is the source of the result and of its
+     * components. Other texts are not copied: only the text of every
+     * component is copied when the result is created, so the result does
+     * not change if the text is modified later, and the
+     * {@link ParseResult#source() source} of the result is the empty string.
+     * 
+     * @param input     Text to be parsed, not null
+     * @param start     Start index of the range, inclusive
+     * @param end       End index of the range, exclusive
+     * @param reference <code>LocalDateTime</code> that serves as a reference
+     *                  point for parsers that deal with relative date/time
+     *                  expressions, not null
+     * @return <code>ParseResult</code> composed from all returned <code>
+     *         ParsedComponents</code>. Might be empty.
+     * @throws NullPointerException      if any of the parameters are null
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of
+     *                                   the text
+     * @since 2.2.0
+     */
+    public final ParseResult parse(CharSequence input, int start, int end, LocalDateTime reference) {
+        Objects.requireNonNull(input, "input must not be null");
+        Objects.requireNonNull(reference, "reference must not be null");
+        Objects.checkFromToIndex(start, end, input.length());
+
+        ComponentSelector selector = new ComponentSelector();
+        parseInto(input, start, end, reference, selector, null);
+
+        return toParseResult(selector, input, reference);
+    }
+
+    /**
+     * Parses UTF-8 encoded text like {@link #parse(String, LocalDateTime)}.
+     * Equivalent to calling {@link #parseUtf8(ByteBuffer, LocalDateTime)} with
+     * <code>ByteBuffer.wrap(utf8)</code>.
+     * 
+     * @param utf8      UTF-8 encoded text to be parsed, not null
+     * @param reference <code>LocalDateTime</code> that serves as a reference
+     *                  point for parsers that deal with relative date/time
+     *                  expressions, not null
+     * @return <code>ParseResult</code> composed from all returned <code>
+     *         ParsedComponents</code>. Might be empty.
+     * @throws NullPointerException if any of the parameters are null
+     * @since 2.2.0
+     */
+    public final ParseResult parseUtf8(byte[] utf8, LocalDateTime reference) {
+        Objects.requireNonNull(utf8, "utf8 must not be null");
+
+        return parseUtf8(ByteBuffer.wrap(utf8), reference);
+    }
+
+    /**
+     * Parses the remaining bytes of the buffer as UTF-8 encoded text like
+     * {@link #parse(String, LocalDateTime)}. The position of the buffer is
+     * not changed.
+     * <p>
+     * If the text is ASCII, which is checked eight bytes at a time, the
+     * parsers match directly on the bytes through an
+     * {@link AsciiCharSequence}, and the indexes of the components are byte
+     * offsets from the position of the buffer. Like with
+     * {@link #parse(CharSequence, int, int, LocalDateTime)}, the result
+     * keeps copies of the texts of its components, not the text or a
+     * reference to the bytes.
+     * Otherwise, for example for Cyrillic text, the bytes are decoded first
+     * and the indexes of the components are character offsets in the decoded
+     * text. Malformed input is replaced with U+FFFD.
+     * 
+     * @param utf8      UTF-8 encoded text to be parsed, not null
+     * @param reference <code>LocalDateTime</code> that serves as a reference
+     *                  point for parsers that deal with relative date/time
+     *                  expressions, not null
+     * @return <code>ParseResult</code> composed from all returned <code>
+     *         ParsedComponents</code>. Might be empty.
+     * @throws NullPointerException if any of the parameters are null
+     * @since 2.2.0
+     */
+    public final ParseResult parseUtf8(ByteBuffer utf8, LocalDateTime reference) {
+        Objects.requireNonNull(utf8, "utf8 must not be null");
+        Objects.requireNonNull(reference, "reference must not be null");
+
+        CharSequence input = AsciiCharSequence.isAscii(utf8)
+            ? new AsciiCharSequence(utf8)
+            : StandardCharsets.UTF_8.decode(utf8.duplicate());
+
+        return parse(input, 0, input.length(), reference);
+    }
+
+    /**
+     * Parses every string of the provided list like
+     * {@link #parse(String, LocalDateTime)} and returns the results in the
+     * order of the inputs.
+     * <p>
+     * The whole batch shares the same scratch state, such as the matchers of
+     * the parsers, instead of setting it up for every input. Equal inputs are
+     * only parsed once per batch: all of them get the same
+     * <code>ParseResult</code> instance. This makes the method much faster
+     * than calling <code>parse</code> in a loop when the inputs repeat a lot,
+     * e.g. when importing rows that mostly contain "today" or "tomorrow".
+     * <p>
+     * Inputs that are not <code>String</code>s are converted with
+     * {@link CharSequence#toString()}.
+     * 
+     * @param inputs    Strings to be parsed, not null
+     * @param reference <code>LocalDateTime</code> that serves as a reference
+     *                  point for parsers that deal with relative date/time
+     *                  expressions, not null
+     * @return <code>List</code> of <code>ParseResults</code>, one for every
+     *         input, in the same order
+     * @throws NullPointerException if any of the parameters are null or
+     *                              <code>inputs</code> contains null elements
+     * @see #parse(String, LocalDateTime)
+     * @since 2.2.0
+     */
+    public final List<ParseResult> parseAll(List<? extends CharSequence> inputs, LocalDateTime reference) {
+        Objects.requireNonNull(inputs, "inputs must not be null");
+        Objects.requireNonNull(reference, "reference must not be null");
+
+        ComponentSelector selector = new ComponentSelector();
+        Matcher[] matchers = new Matcher[parsers.size()];
+
+        // Results of the distinct inputs of the batch
+        Map<String, ParseResult> distinctResults = new HashMap<>();
+
+        List<ParseResult> results = new ArrayList<>(inputs.size());
+
+        for (CharSequence sequence : inputs) {
+            if (sequence == null) {
+                throw new NullPointerException("Input list must not contain null elements");
+            }
+
+            String input = sequence.toString();
+            ParseResult result = distinctResults.get(input);
+
+            if (result == null) {
+                selector.clear();
+                parseInto(input, 0, input.length(), reference, selector, matchers);
+
+                result = toParseResult(selector, input, reference);
+                distinctResults.put(input, result);
+            }
+
+            results.add(result);
+        }
+
+        return results;
+    }
 
     /**
-     * Constructs a ParsingConfiguration containing the specified
-     * <code>Set</code> of {@link io.github.hashadex.naturaldateinput.parsers.Parser Parsers}.
-     * Parser set must not contain null elements.
+     * Parses every string of the provided list like
+     * {@link #parseAll(List, LocalDateTime)}, in parallel on the provided
+     * executor, and returns the results in the order of the inputs.
+     * <p>
+     * The inputs are split into chunks of consecutive inputs, and every chunk
+     * is parsed by a separate task with its own scratch state. Equal inputs
+     * are only parsed once per chunk. The executor can be a
+     * {@link java.util.concurrent.ForkJoinPool ForkJoinPool}, a thread pool
+     * or a virtual thread executor: the tasks do not block and do not hold
+     * any locks. This method blocks until all chunks are parsed.
      * 
-     * @param parsers <code>Parser</code> set, not null
-     * @throws NullPointerException if <code>parsers</code> is null or contains
-     *                              null elements
-     * @since 1.0.0
+     * @param inputs    Strings to be parsed, not null
+     * @param reference <code>LocalDateTime</code> that serves as a reference
+     *                  point for parsers that deal with relative date/time
+     *                  expressions, not null
+     * @param executor  Executor to run the tasks on, not null
+     * @return <code>List</code> of <code>ParseResults</code>, one for every
+     *         input, in the same order
+     * @throws NullPointerException if any of the parameters are null or
+     *                              <code>inputs</code> contains null elements
+     * @see #parseAll(List, LocalDateTime)
+     * @since 2.2.0
      */
-    public ParsingConfiguration(Set<Parser> parsers) {
-        Objects.requireNonNull(parsers, "parsers must not be null");
+    public final List<ParseResult> parseAll(
+        List<? extends CharSequence> inputs, LocalDateTime reference, Executor executor
+    ) {
+        Objects.requireNonNull(inputs, "inputs must not be null");
+        Objects.requireNonNull(reference, "reference must not be null");
+        Objects.requireNonNull(executor, "executor must not be null");
 
-        for (Parser parser : parsers) {
-            if (parser == null) {
-                throw new NullPointerException("Parser set must not contain null elements");
+        // Check the inputs before any task runs, so that the exception is not
+        // wrapped into a CompletionException
+        for (CharSequence input : inputs) {
+            if (input == null) {
+                throw new NullPointerException("Input list must not contain null elements");
+            }
+        }
+
+        List<CompletableFuture<List<ParseResult>>> chunks = new ArrayList<>();
+
+        for (int start = 0; start < inputs.size(); start += PARALLEL_CHUNK_SIZE) {
+            List<? extends CharSequence> chunk = inputs.subList(
+                start, Math.min(inputs.size(), start + PARALLEL_CHUNK_SIZE)
+            );
+
+            chunks.add(CompletableFuture.supplyAsync(() -> parseAll(chunk, reference), executor));
+        }
+
+        List<ParseResult> results = new ArrayList<>(inputs.size());
+
+        try {
+            for (CompletableFuture<List<ParseResult>> chunk : chunks) {
+                results.addAll(chunk.join());
             }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            } else if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+
+            throw e;
         }
 
-        this.parsers = parsers;
+        return results;
     }
 
     /**
-     * Immutable data class representing a final result of parsing using a
-     * parsing configuration, combined from multiple
-     * {@link io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent ParsedComponents}.
+     * Runs the parsers of the configuration over the provided string once
+     * and returns the reference-free {@link Expression Expressions} of all
+     * of their matches, which can then be resolved against any number of
+     * references without matching the regexes again.
      * <p>
-     * Unlike <code>ParsedComponent</code>, <code>ParseResult</code> may contain
-     * neither time or date. Use {@link #isEmpty()} and {@link #isPresent()} to
-     * check if a <code>ParseResult</code> is empty.
+     * {@link CompiledInput#resolve(LocalDateTime) Resolving} the compiled
+     * input against a reference returns the same <code>ParseResult</code> as
+     * {@link #parse(String, LocalDateTime)} with that reference. Use this
+     * method when the same input is parsed against many references, e.g. to
+     * evaluate a recurring expression like "next friday at 5 pm" for every
+     * day of a calendar.
      * 
-     * @author hashadex
-     * @since 1.0.0
+     * @param input String to be compiled, not null
+     * @return Compiled input
+     * @throws NullPointerException          if <code>input</code> is null
+     * @throws UnsupportedOperationException if any of the parsers of the
+     *                                       configuration can not compile
+     *                                       inputs, see
+     *                                       {@link Parser#canCompile()}
+     * @since 2.2.0
      */
-    public final class ParseResult {
-        private final List<ParsedComponent> components;
+    public final CompiledInput compile(String input) {
+        Objects.requireNonNull(input, "input must not be null");
 
-        private final LocalDate date;
-        private final LocalTime time;
+        List<Expression> expressions = new ArrayList<>();
 
-        private final LocalDateTime reference;
-        private final String source;
+        // Same order as parseInto, so that components with equal positions
+        // are accepted in the same order
+        if (union != null) {
+            for (Parser parser : union.parsers()) {
+                expressions.addAll(compile(parser, input));
+            }
+        }
+        for (int i = 0; i < parsers.size(); i++) {
+            if (unionIndexes[i] == -1) {
+                expressions.addAll(compile(parsers.get(i), input));
+            }
+        }
 
-        private ParseResult(
-            List<ParsedComponent> components, LocalDate date, LocalTime time, LocalDateTime reference, String source
-        ) {
-            this.components = components;
-            
-            this.date = date;
-            this.time = time;
+        return new CompiledInput(input, expressions);
+    }
 
-            this.reference = reference;
-            this.source = source;
+    private static List<Expression> compile(Parser parser, String input) {
+        if (!parser.canCompile()) {
+            throw new UnsupportedOperationException(
+                "Configuration contains parser %s that can not compile inputs".formatted(parser.getClass().getName())
+            );
         }
 
+        return parser.compile(input);
+    }
+
+    /**
+     * Input compiled by {@link ParsingConfiguration#compile(String)}: the
+     * reference-free {@link Expression Expressions} of all matches of the
+     * parsers of the configuration.
+     * <p>
+     * All matches are kept, not only the ones that would be selected for a
+     * <code>ParseResult</code>, since which of them are selected can depend
+     * on the reference. For example, "29.02" does not resolve to a date in
+     * years that are not leap years.
+     * <p>
+     * Compiled inputs are immutable and thread-safe.
+     * 
+     * @author hashadex
+     * @since 2.2.0
+     */
+    public final class CompiledInput {
         /**
-         * Returns a list of
-         * {@link io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent ParsedComponents}
-         * from which the date and time of this <code>ParseResult</code> were
-         * extracted.
+         * Value of the resolved second-of-day when the result has no time,
+         * see {@link #resolveAll(long[], int[], long[], int[])}.
          * 
-         * @return <code>List</code> of <code>ParsedComponents</code>
-         * @see #date()
-         * @see #time()
-         * @since 1.0.0
+         * @since 2.2.0
          */
-        public List<ParsedComponent> components() {
-            return components;
-        }
+        public static final int NO_TIME = -1;
 
-        /**
-         * Returns the date extracted from the latest (by occurrence in source
-         * string) {@link io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent ParsedComponent}
-         * that contains a date.
-         * 
-         * @return <code>Optional</code> containing a <code>LocalDate</code> if
-         *         a date was able to be parsed from the source string
-         * @see io.github.hashadex.naturaldateinput.ParsingConfiguration#parse(String, LocalDateTime)
-         * @since 1.0.0
-         */ 
-        public Optional<LocalDate> date() {
-            return Optional.ofNullable(date);
-        }
+        private static final long NANOS_PER_SECOND = 1_000_000_000L;
+        private static final int SECONDS_PER_DAY = 86_400;
 
-        /**
-         * Returns the time extracted from the latest (by occurrence in source
-         * string) {@link io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent ParsedComponent}
-         * that contains a time.
-         * 
-         * @return <code>Optional</code> containing a <code>LocalTime</code> if
-         *         a time was able to be parsed from the source string
-         * @see io.github.hashadex.naturaldateinput.ParsingConfiguration#parse(String, LocalDateTime)
-         * @since 1.0.0
-         */ 
-        public Optional<LocalTime> time() {
-            return Optional.ofNullable(time);
-        }
+        private final String source;
+        private final List<Expression> expressions;
 
         /**
-         * Returns the reference datetime used during the parsing operation.
-         * 
-         * The reference datetime serves as a reference point for some parsers
-         * that deal with relative date/time expressions, like
-         * {@link io.github.hashadex.naturaldateinput.parsers.en.ENRelativeWordParser ENRelativeWordParser}
-         * The reference datetime is typically the timestamp that is made when
-         * the parsing operation starts.
-         * 
-         * @return Reference datetime
-         * @since 1.0.0
+         * Expressions as candidates, so that only the expressions that can be
+         * selected are resolved against each reference.
          */
-        public LocalDateTime reference() {
-            return reference;
+        private final CandidateBuffer candidates = new CandidateBuffer();
+
+        private CompiledInput(String source, List<Expression> expressions) {
+            this.source = source;
+            this.expressions = List.copyOf(expressions);
+
+            for (Expression expression : this.expressions) {
+                candidates.add(expression);
+            }
         }
 
         /**
-         * Returns the source string used during the parsing operation.
+         * Returns the compiled string.
          * 
-         * @return Source string
-         * @since 1.0.0
+         * @return Compiled string
+         * @since 2.2.0
          */
         public String source() {
             return source;
         }
 
         /**
-         * Checks if this <code>ParseResult</code> contains neither time or date.
+         * Returns the expressions of all matches of the parsers.
          * 
-         * @return <code>true</code> if both date and time are <code>null</code>
-         * @since 1.0.0
+         * @return Unmodifiable <code>List</code> of expressions
+         * @since 2.2.0
          */
-        public boolean isEmpty() {
-            return date == null && time == null;
+        public List<Expression> expressions() {
+            return expressions;
         }
 
         /**
-         * Checks if this <code>ParseResult</code> contains a time or a date.
+         * Resolves the expressions against the provided reference and
+         * combines the resulting components into a <code>ParseResult</code>,
+         * without running any regexes.
          * 
-         * @return <code>true</code> if time or date is not <code>null</code>
-         * @since 1.0.0
+         * @param reference <code>LocalDateTime</code> that serves as a
+         *                  reference point for relative date/time
+         *                  expressions, not null
+         * @return The same <code>ParseResult</code> as
+         *         {@link ParsingConfiguration#parse(String, LocalDateTime)}
+         *         with the compiled string and the reference
+         * @throws NullPointerException if <code>reference</code> is null
+         * @since 2.2.0
          */
-        public boolean isPresent() {
-            return date != null || time != null;
+        public ParseResult resolve(LocalDateTime reference) {
+            Objects.requireNonNull(reference, "reference must not be null");
+
+            ComponentSelector selector = new ComponentSelector();
+            candidates.selectInto(reference, selector);
+
+            return toParseResult(selector, source, reference);
         }
 
         /**
-         * Returns the hash code for this <code>ParseResult</code>.
+         * Resolves the expressions against every reference date at midnight,
+         * see {@link #resolveAll(long[], int[], long[], int[])}.
          * 
-         * @return Hash code integer
-         * @since 1.0.0
+         * @param referenceEpochDays Dates of the references, as returned by
+         *                           {@link LocalDate#toEpochDay()}, not null
+         * @param epochDays          Array to put the resolved dates into,
+         *                           not null
+         * @param secondsOfDay       Array to put the resolved times into,
+         *                           not null
+         * @throws NullPointerException      if any of the arrays are null
+         * @throws IllegalArgumentException  if a reference is out of range
+         * @throws IndexOutOfBoundsException if an output array is shorter
+         *                                   than <code>referenceEpochDays</code>
+         * @since 2.2.0
          */
-        @Override
-        public int hashCode() {
-            final int prime = 31;
-            int result = 1;
-            
-            result = prime * result + ((components == null) ? 0 : components.hashCode());
-            result = prime * result + ((date == null) ? 0 : date.hashCode());
-            result = prime * result + ((time == null) ? 0 : time.hashCode());
-            result = prime * result + ((reference == null) ? 0 : reference.hashCode());
-            result = prime * result + ((source == null) ? 0 : source.hashCode());
-            
-            return result;
+        public void resolveAll(long[] referenceEpochDays, long[] epochDays, int[] secondsOfDay) {
+            resolveAll(referenceEpochDays, null, epochDays, secondsOfDay);
         }
 
         /**
-         * Compares this <code>ParseResult</code> to the specified object.
+         * Resolves the expressions against every reference and puts the
+         * date and the time of each result into the output arrays, at the
+         * index of the reference.
          * <p>
-         * Returns <code>true</code> if the specified object is a
-         * <code>ParseResult</code> and all fields (components, date, time,
-         * reference, source) are equal.
+         * For every reference, the results are the same as the
+         * {@link ParseResult#date() date} and {@link ParseResult#time() time}
+         * of {@link #resolve(LocalDateTime)}, but the expressions are resolved
+         * on primitive values and no <code>ParseResult</code>,
+         * <code>ParsedComponent</code> or <code>java.time</code> objects are
+         * created, so resolving a phrase against millions of references only
+         * takes a few nanoseconds per reference and expression. A missing date
+         * is put as {@link ComponentSink#NO_DATE}, a missing time as
+         * {@link #NO_TIME}. Resolved times are truncated to seconds.
          * 
-         * @param obj Object to compare, <code>null</code> returns
-         *            <code>false</code>
-         * @return <code>true</code> if this <code>ParseResult</code> is equal
-         *         to the specified object
-         * @since 1.0.0
+         * @param referenceEpochDays    Dates of the references, as returned by
+         *                              {@link LocalDate#toEpochDay()}, not
+         *                              null
+         * @param referenceSecondsOfDay Times of the references, as returned by
+         *                              {@link LocalTime#toSecondOfDay()}, or
+         *                              null to use midnight
+         * @param epochDays             Array to put the resolved dates into,
+         *                              not null
+         * @param secondsOfDay          Array to put the resolved times into,
+         *                              not null
+         * @throws NullPointerException      if any of the arrays, except for
+         *                                   <code>referenceSecondsOfDay</code>,
+         *                                   are null
+         * @throws IllegalArgumentException  if a reference is out of the
+         *                                   range supported by
+         *                                   <code>LocalDateTime</code>
+         * @throws IndexOutOfBoundsException if any of the other arrays are
+         *                                   shorter than
+         *                                   <code>referenceEpochDays</code>
+         * @throws java.time.DateTimeException if a result is out of the range
+         *                                     supported by <code>LocalDate</code>,
+         *                                     like {@link #resolve(LocalDateTime)}
+         * @since 2.2.0
          */
-        @Override
-        public boolean equals(Object obj) {
-            if (!(obj instanceof ParseResult)) {
-                return false;
+        public void resolveAll(
+            long[] referenceEpochDays, int[] referenceSecondsOfDay, long[] epochDays, int[] secondsOfDay
+        ) {
+            Objects.requireNonNull(referenceEpochDays, "referenceEpochDays must not be null");
+            Objects.requireNonNull(epochDays, "epochDays must not be null");
+            Objects.requireNonNull(secondsOfDay, "secondsOfDay must not be null");
+
+            int count = referenceEpochDays.length;
+            if (referenceSecondsOfDay != null) {
+                Objects.checkFromIndexSize(0, count, referenceSecondsOfDay.length);
             }
+            Objects.checkFromIndexSize(0, count, epochDays.length);
+            Objects.checkFromIndexSize(0, count, secondsOfDay.length);
 
-            ParseResult result = (ParseResult) obj;
+            ComponentSelector selector = new ComponentSelector();
 
-            return (
-                components.equals(result.components()) &&
+            for (int i = 0; i < count; i++) {
+                long referenceEpochDay = referenceEpochDays[i];
+                int referenceSecondOfDay = (referenceSecondsOfDay != null) ? referenceSecondsOfDay[i] : 0;
 
-                date().equals(result.date()) &&
-                time().equals(result.time()) &&
+                if (!ReferenceContext.isSupported(referenceEpochDay)) {
+                    throw new IllegalArgumentException(
+                        "Reference epoch day %d is out of range".formatted(referenceEpochDay)
+                    );
+                }
+                if (referenceSecondOfDay < 0 || referenceSecondOfDay >= SECONDS_PER_DAY) {
+                    throw new IllegalArgumentException(
+                        "Reference second-of-day %d is out of range".formatted(referenceSecondOfDay)
+                    );
+                }
 
-                reference.equals(result.reference()) &&
-                source.equals(result.source())
-            );
+                selector.clear();
+                candidates.selectInto(referenceEpochDay, referenceSecondOfDay * NANOS_PER_SECOND, selector);
+
+                // Like toParseResult, the last selected component with a date
+                // or a time provides it
+                long epochDay = ComponentSink.NO_DATE;
+                long nanoOfDay = ComponentSink.NO_TIME;
+
+                for (int selected = 0; selected < selector.size(); selected++) {
+                    if (selector.epochDay(selected) != ComponentSink.NO_DATE) {
+                        epochDay = selector.epochDay(selected);
+                    }
+                    if (selector.nanoOfDay(selected) != ComponentSink.NO_TIME) {
+                        nanoOfDay = selector.nanoOfDay(selected);
+                    }
+                }
+
+                epochDays[i] = epochDay;
+                secondsOfDay[i] = (nanoOfDay != ComponentSink.NO_TIME) ? (int) (nanoOfDay / NANOS_PER_SECOND) : NO_TIME;
+            }
         }
 
         /**
-         * Returns a string representation of this <code>ParseResult</code>
+         * Returns a string representation of this <code>CompiledInput</code>.
          * 
-         * @return String in the format 
-         *         {@code "ParseResult["<component text>", "<component text>" -> <date>T<time>]"}
+         * @return String in the format
+         *         {@code "CompiledInput["<source>" -> [<expressions>]]"}
          */
         @Override
         public String toString() {
-            // Collect the texts of all components into a single string, e.g.
-            // ""tomorrow", "at 5 am"""
-            String componentTexts = components.stream()
-                .map(c -> '"' + c.text() + '"')
-                .collect(Collectors.joining(", "));
-            
-            StringBuilder sb = new StringBuilder();
-
-            sb.append('{' + componentTexts + '}');
-            sb.append(" -> ");
-
-            // Append date and time
-            if (date != null) {
-                sb.append(date);
-            }
-
-            if (date != null && time != null) {
-                sb.append('T');
-            }
-
-            if (time != null) {
-                sb.append(time);
-            }
-
-            // Wrap string in "ParseResult[...]"
-            sb.insert(0, this.getClass().getSimpleName() + '[');
-            sb.append(']');
-
-            return sb.toString();
+            return "CompiledInput[\"%s\" -> %s]".formatted(source, expressions);
         }
     }
 
     /**
-     * Parses the provided string using all
-     * {@link io.github.hashadex.naturaldateinput.parsers.Parser Parsers} in the
-     * configuration and combines returned
-     * {@link io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent ParsedComponents}
-     * into a single {@link ParseResult}.
+     * Reads the text of the reader until its end and pushes every date/time
+     * mention found by the parsers of the configuration into the sink, with
+     * offsets counted from the start of the stream.
      * <p>
-     * Only up to last (by occurrence in text) two <code>ParsedComponents</code>
-     * are used for the <code>ParseResult</code> {@link ParseResult#date() date}
-     * and {@link ParseResult#time() time} fields. Meaning, if there are
-     * multiple <code>ParsedComponents</code> containing a date returned by the
-     * parsers, then only the last component is used for the date field in the
-     * <code>ParseResult</code>.
+     * Unlike {@link #parse(String, LocalDateTime)}, this method does not
+     * combine the mentions into a <code>ParseResult</code>: every mention
+     * found by every parser is reported, so that arbitrarily large texts,
+     * such as multi-gigabyte exports, can be scanned in bounded memory. The
+     * mentions do not refer to the text.
      * <p>
-     * Use the {@link #parse(String)} method to automatically use
-     * {@link java.time.LocalDateTime#now()} as reference datetime.
+     * The text is scanned by the same parsers as in
+     * {@link #parse(String, LocalDateTime)}: with the {@link ScanMode#UNION}
+     * scan mode, the combined parsers walk the text once, and parsers are
+     * skipped for the parts of the text their keywords and character
+     * profiles rule out. The scan direction option does not apply, but the
+     * {@link Options#maxComponentLength() maximum component length} does:
+     * see {@link io.github.hashadex.naturaldateinput.parsers.StreamingScanner StreamingScanner}.
+     * Parsers that can not be streamed match by match parse every buffered
+     * chunk of the text instead.
      * 
-     * @param input     String to be parsed
+     * @param reader    Reader to read the text from, not null. The reader
+     *                  is not closed.
      * @param reference <code>LocalDateTime</code> that serves as a reference
      *                  point for parsers that deal with relative date/time
-     *                  expressions, such as
-     *                  {@link io.github.hashadex.naturaldateinput.parsers.en.ENRelativeWordParser ENRelativeWordParser}
-     * @return <code>ParseResult</code> composed from all returned <code>
-     *         ParsedComponents</code>. Might be empty.
-     * @since 1.0.0
+     *                  expressions, not null
+     * @param sink      Sink to push the mentions into, not null
+     * @throws IOException          if reading fails
+     * @throws NullPointerException if any of the parameters are null
+     * @since 2.2.0
      */
-    public final ParseResult parse(String input, LocalDateTime reference) {
-        Objects.requireNonNull(input, "input must not be null");
+    public final void scan(Reader reader, LocalDateTime reference, MentionSink sink) throws IOException {
+        Objects.requireNonNull(reader, "reader must not be null");
         Objects.requireNonNull(reference, "reference must not be null");
+        Objects.requireNonNull(sink, "sink must not be null");
+
+        streamingScanner.scan(reader, reference, sink);
+    }
+
+    /**
+     * Combines the selected components into a <code>ParseResult</code>.
+     */
+    private ParseResult toParseResult(ComponentSelector selector, CharSequence input, LocalDateTime reference) {
+        // Other texts are not kept, the components copy only their own texts
+        String source = (input instanceof String string) ? string : "";
 
-        List<ParsedComponent> components = parsers.stream()
-            .flatMap(parser -> parser.parse(input, reference))
-            .sorted(
-                // Sort components by their end index,
-                // so that components that appear later in the string
-                // would be first in the stream
-                (c1, c2) -> {
-                    if (c1.endIndex() > c2.endIndex()) {
-                        return -1;
-                    } else if (c1.endIndex() < c2.endIndex()) {
-                        return 1;
-                    } else { // end indexes are equal
-                        // If the end indexes of two components are equal,
-                        // put the component with the biggest length first.
-                        if (c1.length() > c2.length()) {
-                            return -1;
-                        } else if (c1.length() < c2.length()) {
-                            return 1;
-                        } else {
-                            return 0;
-                        }
-                    }
-                }
-            )
-            .toList();
-        
-        // Iterate through the sorted list and obtain date and time
-        // from the latest components
         List<ParsedComponent> usedComponents = new ArrayList<>(2); // Only up to two components are possible to be used at once
         
         LocalDate date = null;
         LocalTime time = null;
 
-        for (ParsedComponent component : components) {
-            if (component.date().isPresent() && component.time().isPresent()) {
-                // Use a component that has both time and date only if both
-                // time and date "slots" are null
-                if (time == null && date == null) {
-                    date = component.date().get();
-                    time = component.time().get();
+        for (int i = 0; i < selector.size(); i++) {
+            ParsedComponent component = selector.component(i, reference, input);
 
-                    usedComponents.add(component);
-                }
-            } else if (component.date().isPresent() && date == null) {
+            if (component.date().isPresent()) {
                 date = component.date().get();
-
-                usedComponents.add(component);
-            } else if (component.time().isPresent() && time == null) {
+            }
+            if (component.time().isPresent()) {
                 time = component.time().get();
-
-                usedComponents.add(component);
             }
 
-            if (date != null && time != null) {
-                break;
-            }
+            usedComponents.add(component);
         }
 
-        return new ParseResult(usedComponents, date, time, reference, input);
+        return new ParseResult(usedComponents, date, time, reference, source);
     }
 
     /**
@@ -47,6 +47,22 @@ public final class RUParsingConfiguration extends ParsingConfiguration {
      * @since 2.1.0
      */
     public RUParsingConfiguration(DayMonthOrder preferredDayMonthOrder) {
+        this(preferredDayMonthOrder, new OptionsBuilder().build());
+    }
+
+    /**
+     * Constructs the configuration, sets the preferred day-month order for the
+     * {@link io.github.hashadex.naturaldateinput.parsers.common.SlashDateFormatParser SlashDateFormatParser}
+     * and sets the {@link ParsingConfiguration.Options Options} the
+     * configuration parses strings with.
+     * 
+     * @param preferredDayMonthOrder Preferred day-month order for the <code>
+     *                               SlashDateFormatParser</code>
+     * @param options                Parsing options, not null
+     * @throws NullPointerException if <code>options</code> is null
+     * @since 2.2.0
+     */
+    public RUParsingConfiguration(DayMonthOrder preferredDayMonthOrder, Options options) {
         super(Set.of(
             // Common
             new ISODateParser(),
@@ -60,6 +76,6 @@ public final class RUParsingConfiguration extends ParsingConfiguration {
             new RUTimeOfDayWordParser(),
             new RUWeekdayParser(),
             new RUYearMonthDayParser()
-        ));
+        ), options);
     }
 }
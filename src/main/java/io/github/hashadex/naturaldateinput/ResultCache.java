@@ -0,0 +1,128 @@
+package io.github.hashadex.naturaldateinput;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe cache that evicts the least recently used entries.
+ * <p>
+ * The cache is split into segments by the hash of the key, every segment is
+ * an access-ordered <code>LinkedHashMap</code> guarded by its own lock, so
+ * threads that look up different keys rarely wait for each other. Entries
+ * are evicted from a segment once it is full, so the least recently used
+ * entry of the segment is evicted, not necessarily of the whole cache. The
+ * capacity is split between the segments, so the cache never holds more
+ * entries than its capacity.
+ *
+ * @author hashadex
+ * @since 2.2.0
+ */
+final class ResultCache<K, V> {
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment<K, V>[] segments;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    ResultCache(int capacity) {
+        // At most one segment per entry, so every segment holds at least one
+        int segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(capacity));
+
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            // The first capacity % segmentCount segments hold one more entry
+            // than the others, so the capacities add up to the capacity
+            int segmentCapacity = capacity / segmentCount + ((i < capacity % segmentCount) ? 1 : 0);
+
+            segments[i] = new Segment<>(segmentCapacity, evictions);
+        }
+    }
+
+    private Segment<K, V> segmentOf(Object key) {
+        int hash = key.hashCode();
+
+        // Spread the high bits, segmentCount is a power of two
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    /**
+     * Returns the value of the key without counting a hit or a miss.
+     *
+     * @return Value, or null if the key is not cached
+     */
+    V get(K key) {
+        Segment<K, V> segment = segmentOf(key);
+
+        synchronized (segment) {
+            return segment.get(key);
+        }
+    }
+
+    void put(K key, V value) {
+        Segment<K, V> segment = segmentOf(key);
+
+        synchronized (segment) {
+            segment.put(key, value);
+        }
+    }
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    long hits() {
+        return hits.sum();
+    }
+
+    long misses() {
+        return misses.sum();
+    }
+
+    long evictions() {
+        return evictions.sum();
+    }
+
+    int size() {
+        int size = 0;
+
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+
+        return size;
+    }
+
+    private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+        private final LongAdder evictions;
+
+        private Segment(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+
+            return false;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * <code>CharSequence</code> view of a byte buffer in which every byte is one
+ * character, without decoding or copying the bytes.
+ * <p>
+ * Bytes are read as ISO-8859-1 characters. ASCII text is encoded the same
+ * way in ISO-8859-1 and in UTF-8, so a UTF-8 encoded buffer can be viewed as
+ * a <code>CharSequence</code> if {@link #isAscii(ByteBuffer)} returns
+ * <code>true</code> for it, and the indexes of the characters are then the
+ * same as the offsets of the bytes. This makes it possible to run parsers
+ * directly on ASCII messages, such as English and numeric dates, that arrive
+ * as bytes.
+ * <p>
+ * The view refers to the bytes between the position and the limit of the
+ * buffer at the time it was created. Changing the position or the limit of
+ * the buffer later does not affect the view, but changing the bytes does.
+ *
+ * @author hashadex
+ * @since 2.2.0
+ */
+public final class AsciiCharSequence implements CharSequence {
+    private static final long NON_ASCII_MASK = 0x8080808080808080L;
+
+    /**
+     * View of byte arrays as arrays of longs, used to check eight bytes of
+     * an array at a time. The byte order does not matter for the check.
+     */
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final ByteBuffer bytes;
+
+    /**
+     * Constructs a view of the remaining bytes of the buffer.
+     *
+     * @param bytes Buffer to view, not null
+     * @throws NullPointerException if <code>bytes</code> is null
+     * @since 2.2.0
+     */
+    public AsciiCharSequence(ByteBuffer bytes) {
+        Objects.requireNonNull(bytes, "bytes must not be null");
+
+        this.bytes = bytes.slice();
+    }
+
+    /**
+     * Checks if all remaining bytes of the buffer are ASCII characters,
+     * eight bytes at a time. The position of the buffer is not changed.
+     *
+     * @param bytes Buffer to check, not null
+     * @return <code>true</code> if no remaining byte has its high bit set
+     * @throws NullPointerException if <code>bytes</code> is null
+     * @since 2.2.0
+     */
+    public static boolean isAscii(ByteBuffer bytes) {
+        Objects.requireNonNull(bytes, "bytes must not be null");
+
+        int index = bytes.position();
+        int limit = bytes.limit();
+
+        if (bytes.hasArray()) {
+            int offset = bytes.arrayOffset();
+
+            return isAscii(bytes.array(), offset + index, offset + limit);
+        }
+
+        // Check eight bytes at a time
+        for (; index + Long.BYTES <= limit; index += Long.BYTES) {
+            if ((bytes.getLong(index) & NON_ASCII_MASK) != 0) {
+                return false;
+            }
+        }
+
+        for (; index < limit; index++) {
+            if (bytes.get(index) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if all bytes of the array between <code>start</code>
+     * (inclusive) and <code>end</code> (exclusive) are ASCII characters,
+     * eight bytes at a time.
+     */
+    private static boolean isAscii(byte[] array, int start, int end) {
+        int index = start;
+
+        for (; index + Long.BYTES <= end; index += Long.BYTES) {
+            if (((long) LONGS.get(array, index) & NON_ASCII_MASK) != 0) {
+                return false;
+            }
+        }
+
+        for (; index < end; index++) {
+            if (array[index] < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int length() {
+        return bytes.limit();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (bytes.get(Objects.checkIndex(index, bytes.limit())) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, bytes.limit());
+
+        return new AsciiCharSequence(bytes.slice(start, end - start));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return bytes.limit() == 0;
+    }
+
+    @Override
+    public String toString() {
+        if (bytes.hasArray()) {
+            return new String(bytes.array(), bytes.arrayOffset(), bytes.limit(), StandardCharsets.ISO_8859_1);
+        }
+
+        byte[] copy = new byte[bytes.limit()];
+        bytes.get(0, copy);
+
+        return new String(copy, StandardCharsets.ISO_8859_1);
+    }
+}
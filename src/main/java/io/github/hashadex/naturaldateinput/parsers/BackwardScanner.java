@@ -0,0 +1,323 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import java.nio.CharBuffer;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+
+/**
+ * Runs {@link Parser Parsers} over the input from the end of the input
+ * towards its start, in windows, and stops as soon as the components
+ * selected by a {@link ComponentSelector} can no longer change.
+ * <p>
+ * A {@link io.github.hashadex.naturaldateinput.ParsingConfiguration ParsingConfiguration}
+ * only uses the components that end latest in the input, so if the date and
+ * time are near the end of a long input, most of the input does not have to
+ * be scanned at all.
+ * <p>
+ * Backward scanning relies on the <b>maximum component length</b>: no match
+ * of any parser may be longer than this number of characters. Under this
+ * assumption, the selected components are the same as if every parser
+ * scanned the whole input with {@link Parser#parseInto(CharSequence, LocalDateTime, ComponentSink)}.
+ * <p>
+ * For every window, each parser finds exactly the matches that start in the
+ * window and that it would find when scanning the whole input. As a parser's
+ * matches never overlap each other, whether a match is found depends on the
+ * matches before it. Because of that, every parser starts scanning at a
+ * position before the window which none of its possible matches cross: a
+ * position after which the parser's matches are the same as when scanning
+ * from the start of the input. After every window, the scan stops if the
+ * selected components end after any component that could still be found in
+ * the unscanned part of the input.
+ * <p>
+ * Parsers that extend {@link Parser} directly instead of {@link SinkParser}
+ * can not be scanned in windows. They parse the whole input once, before the first
+ * window.
+ *
+ * @author hashadex
+ * @since 2.2.0
+ */
+public final class BackwardScanner {
+    private final List<Parser> parsers;
+    private final int windowSize;
+    private final int maxComponentLength;
+
+    /**
+     * Constructs the scanner.
+     *
+     * @param parsers            Parsers to run, not null
+     * @param windowSize         Number of characters scanned at a time, must
+     *                           be positive
+     * @param maxComponentLength Maximum length of a match of any parser,
+     *                           must be positive
+     * @throws NullPointerException     if <code>parsers</code> is null or
+     *                                  contains null elements
+     * @throws IllegalArgumentException if <code>windowSize</code> or
+     *                                  <code>maxComponentLength</code> is
+     *                                  not positive
+     * @since 2.2.0
+     */
+    public BackwardScanner(List<? extends Parser> parsers, int windowSize, int maxComponentLength) {
+        Objects.requireNonNull(parsers, "parsers must not be null");
+
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be positive");
+        }
+        if (maxComponentLength <= 0) {
+            throw new IllegalArgumentException("maxComponentLength must be positive");
+        }
+
+        this.parsers = List.copyOf(parsers);
+        this.windowSize = windowSize;
+        this.maxComponentLength = maxComponentLength;
+    }
+
+    /**
+     * Scans the input backwards and pushes the found components into the
+     * selector, stopping as soon as the selection can not change.
+     *
+     * @param input     Text to be parsed, not null
+     * @param reference <code>LocalDateTime</code> that serves as a reference
+     *                  point for parsers that deal with relative date/time
+     *                  expressions, not null
+     * @param selector  Selector to push the components into, not null
+     * @throws NullPointerException if any of the parameters are null
+     * @since 2.2.0
+     */
+    public void scan(CharSequence input, LocalDateTime reference, ComponentSelector selector) {
+        Objects.requireNonNull(input, "input must not be null");
+
+        scan(input, 0, input.length(), reference, selector);
+    }
+
+    /**
+     * Scans the range of the input between <code>start</code> (inclusive)
+     * and <code>end</code> (exclusive) backwards, as if it was the whole
+     * input, and pushes the found components into the selector. Indexes of
+     * the components are relative to the whole input.
+     *
+     * @param input     Text to be parsed, not null
+     * @param start     Start index of the range, inclusive
+     * @param end       End index of the range, exclusive
+     * @param reference <code>LocalDateTime</code> that serves as a reference
+     *                  point for parsers that deal with relative date/time
+     *                  expressions, not null
+     * @param selector  Selector to push the components into, not null
+     * @throws NullPointerException      if any of the parameters are null
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of
+     *                                   the input
+     * @since 2.2.0
+     */
+    public void scan(CharSequence input, int start, int end, LocalDateTime reference, ComponentSelector selector) {
+        Objects.requireNonNull(input, "input must not be null");
+        Objects.requireNonNull(reference, "reference must not be null");
+        Objects.requireNonNull(selector, "selector must not be null");
+        Objects.checkFromToIndex(start, end, input.length());
+
+        if (start == 0 && end == input.length()) {
+            scan(input, 0, reference, selector, selector);
+        } else {
+            // Windows use transparent bounds, so a view of the range is
+            // scanned instead, and the indexes are shifted back
+            scan(
+                CharBuffer.wrap(input, start, end),
+                start,
+                reference,
+                (componentStart, componentEnd, epochDay, nanoOfDay) -> selector.accept(
+                    componentStart + start, componentEnd + start, epochDay, nanoOfDay
+                ),
+                selector
+            );
+        }
+    }
+
+    /**
+     * Scans the input and pushes the components into the sink, which pushes
+     * them into the selector with their indexes shifted by
+     * <code>offset</code>.
+     */
+    private void scan(
+        CharSequence input,
+        int offset,
+        LocalDateTime reference,
+        ComponentSink sink,
+        ComponentSelector selector
+    ) {
+        // Components of parsers that can not be scanned in windows
+        ComponentBuffer[] legacyComponents = new ComponentBuffer[parsers.size()];
+        Matcher[] matchers = new Matcher[parsers.size()];
+
+        for (int i = 0; i < parsers.size(); i++) {
+            Parser parser = parsers.get(i);
+
+            if (parser.delegatesToParse) {
+                legacyComponents[i] = new ComponentBuffer();
+                parser.parseInto(input, reference, legacyComponents[i]);
+            } else {
+                matchers[i] = parser.matchers.acquire(input);
+                // Let lookarounds see the text outside of the region, and
+                // don't let ^ and $ match at the bounds of the region
+                matchers[i].useTransparentBounds(true);
+                matchers[i].useAnchoringBounds(false);
+            }
+        }
+
+        try {
+            scanWindows(input, offset, reference, sink, selector, legacyComponents, matchers);
+        } finally {
+            for (int i = 0; i < parsers.size(); i++) {
+                if (matchers[i] != null) {
+                    parsers.get(i).matchers.release(matchers[i]);
+                }
+            }
+        }
+    }
+
+    private void scanWindows(
+        CharSequence input,
+        int offset,
+        LocalDateTime reference,
+        ComponentSink sink,
+        ComponentSelector selector,
+        ComponentBuffer[] legacyComponents,
+        Matcher[] matchers
+    ) {
+        // Window of match start indexes, [windowStart, windowEnd). The first
+        // window also contains the end of the input, where empty matches
+        // can start.
+        int windowEnd = input.length() + 1;
+
+        while (windowEnd > 0) {
+            int windowStart = Math.max(0, windowEnd - windowSize);
+
+            // Within a window, parsers push their components in the same
+            // order as when every parser scans the whole input, so ties are
+            // broken the same way
+            for (int i = 0; i < parsers.size(); i++) {
+                if (legacyComponents[i] != null) {
+                    pushLegacy(legacyComponents[i], windowStart, windowEnd, offset, selector);
+                } else {
+                    scanWindow(parsers.get(i), matchers[i], input, windowStart, windowEnd, reference, sink);
+                }
+            }
+
+            // Components that have not been found yet start before the
+            // window and are not longer than maxComponentLength
+            if (selector.isFinal(offset + windowStart - 1 + maxComponentLength)) {
+                return;
+            }
+
+            windowEnd = windowStart;
+        }
+    }
+
+    private static void pushLegacy(
+        ComponentBuffer components,
+        int windowStart,
+        int windowEnd,
+        int offset,
+        ComponentSelector selector
+    ) {
+        for (int i = 0; i < components.size(); i++) {
+            int start = components.startIndex(i);
+
+            if (start < windowStart || start >= windowEnd) {
+                continue;
+            }
+
+            if (offset == 0) {
+                // Push the component object itself, so it ends up in the
+                // ParseResult as it is
+                ComponentBuffer.push(selector, components.component(i, null, null));
+            } else {
+                selector.accept(
+                    components.startIndex(i) + offset,
+                    components.endIndex(i) + offset,
+                    components.epochDay(i),
+                    components.nanoOfDay(i)
+                );
+            }
+        }
+    }
+
+    /**
+     * Pushes the matches of the parser that start in the window.
+     */
+    private void scanWindow(
+        Parser parser,
+        Matcher matcher,
+        CharSequence input,
+        int windowStart,
+        int windowEnd,
+        LocalDateTime reference,
+        ComponentSink sink
+    ) {
+        int length = input.length();
+
+        int position = safeStart(parser, matcher, input, windowStart, 0, maxComponentLength);
+
+        // Matches that start in the window end before this index, longer
+        // matches break the maxComponentLength assumption anyway
+        int regionEnd = (int) Math.min(length, (long) windowEnd + maxComponentLength);
+
+        while (position <= regionEnd) {
+            matcher.region(position, regionEnd);
+
+            if (!matcher.find() || matcher.start() >= windowEnd) {
+                return;
+            }
+
+            if (matcher.start() >= windowStart) {
+                parser.pushMatch(matcher, reference, input, sink);
+            }
+
+            position = (matcher.end() == matcher.start()) ? matcher.end() + 1 : matcher.end();
+        }
+    }
+
+    /**
+     * Finds a position at or before <code>position</code> which no match of
+     * the parser crosses. Scanning from such a position finds the same
+     * matches as scanning from the start of the input.
+     * <p>
+     * The returned position is never less than <code>minPosition</code>, so
+     * that callers can exclude a part of the input the regex should only
+     * look at. The matcher must use transparent, non-anchoring bounds.
+     */
+    static int safeStart(
+        Parser parser,
+        Matcher matcher,
+        CharSequence input,
+        int position,
+        int minPosition,
+        int maxComponentLength
+    ) {
+        int length = input.length();
+        int cut = position;
+
+        boolean moved = true;
+        while (moved && cut > minPosition) {
+            moved = false;
+
+            for (int p = Math.max(minPosition, cut - maxComponentLength); p < cut; p++) {
+                if (parser.startsWithBoundaryCheck && p > 0 && !TokenStream.isWhitespace(input.charAt(p - 1))) {
+                    // The regex can not match here
+                    continue;
+                }
+
+                matcher.region(p, (int) Math.min(length, (long) p + maxComponentLength));
+
+                if (matcher.lookingAt() && matcher.end() > cut) {
+                    // A match at p might cross the cut, try cutting before
+                    // it instead
+                    cut = p;
+                    moved = true;
+                    break;
+                }
+            }
+        }
+
+        return cut;
+    }
+}
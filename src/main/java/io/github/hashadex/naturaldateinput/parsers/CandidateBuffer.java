@@ -0,0 +1,321 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Objects;
+
+import io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent;
+
+/**
+ * {@link ComponentSink} that collects the matches of parsers as unresolved
+ * candidates, so that only the candidates that can be selected by a
+ * {@link ComponentSelector} have to be resolved against the reference.
+ * <p>
+ * Parsers that compile their matches, see {@link CompilingParser}, add
+ * their {@link Expression Expressions} to the buffer instead of resolving
+ * them when they parse into it. Components pushed with
+ * {@link #accept(int, int, long, long)}, for example by parsers that
+ * extend {@link Parser} directly, are kept as
+ * resolved candidates.
+ * <p>
+ * {@link #selectInto(ReferenceContext, ComponentSelector)} visits the
+ * candidates from the highest to the lowest ranked position and skips the
+ * candidates that can not outrank the components selected so far, so with
+ * many matches only a few of them are resolved. The selection is the same as if every
+ * candidate was resolved into the selector in the order they were added.
+ * <p>
+ * A buffer can be reused for multiple inputs by calling {@link #clear()}.
+ * Buffers are not thread-safe, but once a buffer is no longer modified,
+ * multiple threads can select from it into their own selectors.
+ *
+ * @author hashadex
+ * @since 2.2.0
+ */
+public final class CandidateBuffer implements ComponentSink {
+    private int size;
+
+    private int[] startIndexes;
+    private int[] endIndexes;
+
+    /**
+     * Expressions of the candidates, or null for candidates that were
+     * accepted already resolved.
+     */
+    private Expression[] expressions;
+
+    private long[] epochDays;
+    private long[] nanosOfDay;
+
+    /**
+     * Components pushed as <code>ParsedComponent</code> objects by parsers
+     * that extend {@link Parser} directly, attached to
+     * the selector if they are selected. Allocated on first use.
+     */
+    private ParsedComponent[] attached;
+
+    /**
+     * Indexes of the candidates from the highest to the lowest ranked
+     * position, or null if candidates were added since it was computed.
+     */
+    private volatile int[] order;
+
+    /**
+     * Constructs an empty buffer.
+     *
+     * @since 2.2.0
+     */
+    public CandidateBuffer() {
+        this.startIndexes = new int[8];
+        this.endIndexes = new int[8];
+        this.expressions = new Expression[8];
+        this.epochDays = new long[8];
+        this.nanosOfDay = new long[8];
+    }
+
+    /**
+     * Adds a resolved candidate.
+     *
+     * @throws IllegalArgumentException if the component has neither a date
+     *                                  nor a time
+     */
+    @Override
+    public void accept(int startIndex, int endIndex, long epochDay, long nanoOfDay) {
+        if (epochDay == NO_DATE && nanoOfDay == NO_TIME) {
+            throw new IllegalArgumentException("Component must have a date or a time");
+        }
+
+        add(startIndex, endIndex, null, epochDay, nanoOfDay);
+    }
+
+    /**
+     * Adds an unresolved candidate, which is resolved only if it can be
+     * selected.
+     *
+     * @param expression Expression of the candidate, not null
+     * @throws NullPointerException if <code>expression</code> is null
+     * @since 2.2.0
+     */
+    public void add(Expression expression) {
+        Objects.requireNonNull(expression, "expression must not be null");
+
+        add(expression.startIndex(), expression.endIndex(), expression, NO_DATE, NO_TIME);
+    }
+
+    private void add(int startIndex, int endIndex, Expression expression, long epochDay, long nanoOfDay) {
+        if (size == startIndexes.length) {
+            int capacity = Math.max(8, size * 2);
+
+            startIndexes = Arrays.copyOf(startIndexes, capacity);
+            endIndexes = Arrays.copyOf(endIndexes, capacity);
+            expressions = Arrays.copyOf(expressions, capacity);
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            nanosOfDay = Arrays.copyOf(nanosOfDay, capacity);
+        }
+
+        startIndexes[size] = startIndex;
+        endIndexes[size] = endIndex;
+        expressions[size] = expression;
+        epochDays[size] = epochDay;
+        nanosOfDay[size] = nanoOfDay;
+        size++;
+
+        order = null;
+    }
+
+    /**
+     * Keeps the component object of the last added candidate.
+     */
+    void attach(ParsedComponent component) {
+        if (attached == null || attached.length < startIndexes.length) {
+            attached = (attached == null)
+                ? new ParsedComponent[startIndexes.length]
+                : Arrays.copyOf(attached, startIndexes.length);
+        }
+
+        attached[size - 1] = component;
+    }
+
+    /**
+     * Removes all candidates from the buffer, keeping its capacity.
+     *
+     * @since 2.2.0
+     */
+    public void clear() {
+        Arrays.fill(expressions, 0, size, null);
+
+        if (attached != null) {
+            Arrays.fill(attached, 0, Math.min(size, attached.length), null);
+        }
+
+        size = 0;
+        order = null;
+    }
+
+    /**
+     * Returns the number of candidates in the buffer.
+     *
+     * @return Number of candidates
+     * @since 2.2.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Selects from the candidates against the reference, see
+     * {@link #selectInto(ReferenceContext, ComponentSelector)}.
+     *
+     * @param reference Reference datetime, not null
+     * @param selector  Selector to accept the selected candidates into, not
+     *                  null
+     * @throws NullPointerException if <code>reference</code> or
+     *                              <code>selector</code> is null
+     * @throws java.time.DateTimeException if a resolved candidate is out of
+     *                                     the range supported by
+     *                                     <code>LocalDate</code>
+     * @since 2.2.0
+     */
+    public void selectInto(LocalDateTime reference, ComponentSelector selector) {
+        selectInto(ReferenceContext.of(reference), selector);
+    }
+
+    /**
+     * Selects from the candidates against the reference given as an epoch
+     * day and a nano-of-day, see
+     * {@link #selectInto(ReferenceContext, ComponentSelector)}.
+     *
+     * @param referenceEpochDay  Date of the reference as returned by
+     *                           {@link java.time.LocalDate#toEpochDay()}
+     * @param referenceNanoOfDay Time of the reference as returned by
+     *                           {@link java.time.LocalTime#toNanoOfDay()}
+     * @param selector           Selector to accept the selected candidates
+     *                           into, not null
+     * @throws NullPointerException if <code>selector</code> is null
+     * @throws java.time.DateTimeException if the reference or a resolved
+     *                                     candidate is out of the range
+     *                                     supported by <code>LocalDate</code>
+     * @since 2.2.0
+     */
+    public void selectInto(long referenceEpochDay, long referenceNanoOfDay, ComponentSelector selector) {
+        selectInto(ReferenceContext.of(referenceEpochDay, referenceNanoOfDay), selector);
+    }
+
+    /**
+     * Resolves the candidates that can be selected against the reference
+     * and accepts them into the selector. The selector ends up with the same
+     * selection as if every candidate had been resolved into it in the order
+     * the candidates were added, after the components it already holds.
+     * <p>
+     * Candidates that can not outrank the components selected so far are
+     * not resolved, so an expression that would fail to resolve with the
+     * reference, for example one that is out of the supported range, may
+     * not be noticed if it is not selected.
+     *
+     * @param context  Context of the reference, not null
+     * @param selector Selector to accept the selected candidates into, not
+     *                 null
+     * @throws NullPointerException if <code>context</code> or
+     *                              <code>selector</code> is null
+     * @throws java.time.DateTimeException if a resolved candidate is out of
+     *                                     the range supported by
+     *                                     <code>LocalDate</code>
+     * @since 2.2.0
+     */
+    public void selectInto(ReferenceContext context, ComponentSelector selector) {
+        Objects.requireNonNull(context, "context must not be null");
+        Objects.requireNonNull(selector, "selector must not be null");
+
+        int[] order = order();
+
+        // Candidates are numbered after the components that the selector
+        // already holds, in the order they were added
+        long firstSequence = selector.sequence();
+
+        for (int i : order) {
+            long sequence = firstSequence + i;
+            Expression expression = expressions[i];
+
+            if (expression != null) {
+                if (expression.maySelect(selector, sequence)) {
+                    selector.sequence(sequence);
+                    expression.resolveInto(context, selector);
+                }
+            } else if (
+                selector.mayAccept(
+                    startIndexes[i], endIndexes[i], epochDays[i] != NO_DATE, nanosOfDay[i] != NO_TIME, sequence
+                )
+            ) {
+                selector.sequence(sequence);
+                selector.accept(startIndexes[i], endIndexes[i], epochDays[i], nanosOfDay[i]);
+
+                if (attached != null && i < attached.length && attached[i] != null) {
+                    selector.attach(attached[i]);
+                }
+            }
+        }
+
+        selector.sequence(firstSequence + order.length);
+    }
+
+    /**
+     * Returns the indexes of the candidates sorted from the highest to the
+     * lowest ranked position: by end index, then by length, descending.
+     * Candidates with equal positions keep the order they were added in.
+     */
+    private int[] order() {
+        int[] order = this.order;
+
+        if (order == null || order.length != size) {
+            order = new int[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+
+            sort(order, new int[size], 0, size);
+
+            this.order = order;
+        }
+
+        return order;
+    }
+
+    /**
+     * Stable merge sort of the range of the indexes by rank.
+     */
+    private void sort(int[] indexes, int[] buffer, int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+
+        sort(indexes, buffer, from, middle);
+        sort(indexes, buffer, middle, to);
+
+        if (!ranksHigher(indexes[middle], indexes[middle - 1])) {
+            // Already in order
+            return;
+        }
+
+        System.arraycopy(indexes, from, buffer, from, to - from);
+
+        int left = from;
+        int right = middle;
+
+        for (int k = from; k < to; k++) {
+            if (right >= to || (left < middle && !ranksHigher(buffer[right], buffer[left]))) {
+                indexes[k] = buffer[left++];
+            } else {
+                indexes[k] = buffer[right++];
+            }
+        }
+    }
+
+    private boolean ranksHigher(int a, int b) {
+        if (endIndexes[a] != endIndexes[b]) {
+            return endIndexes[a] > endIndexes[b];
+        }
+
+        return endIndexes[a] - startIndexes[a] > endIndexes[b] - startIndexes[b];
+    }
+}
@@ -0,0 +1,171 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import java.util.Objects;
+
+/**
+ * Folds the case of text with a fixed table, so that case-insensitive regexes
+ * can match it case-sensitively.
+ * <p>
+ * Characters are folded the same way as regexes compiled with the
+ * <code>CASE_INSENSITIVE</code> and <code>UNICODE_CASE</code> flags compare
+ * them, to the lower case of their upper case: for example,
+ * <code>'Я'</code> is folded to <code>'я'</code>, and the Kelvin sign
+ * <code>U+212A</code> to <code>'k'</code>. The folds of the ASCII, Latin,
+ * Greek and Cyrillic blocks (up to <code>U+04FF</code>) are looked up in a
+ * table, other characters are folded with <code>Character</code> methods.
+ * Every character is folded into a single character, so the indexes of
+ * folded text are the same as the indexes of the original text.
+ *
+ * @author hashadex
+ * @see Parser#canParseFolded()
+ * @since 2.2.0
+ */
+public final class CaseFolding {
+    /**
+     * Number of characters covered by the {@link #FOLDS} table, the end of
+     * the Cyrillic block. Most text that is parsed only contains these
+     * characters.
+     */
+    private static final int TABLE_SIZE = 0x0500;
+
+    private static final char[] FOLDS = new char[TABLE_SIZE];
+
+    static {
+        for (int c = 0; c < TABLE_SIZE; c++) {
+            FOLDS[c] = Character.toLowerCase(Character.toUpperCase((char) c));
+        }
+    }
+
+    private CaseFolding() {}
+
+    /**
+     * Folds the case of the character.
+     *
+     * @param c Character to fold
+     * @return Folded character, or the same character if it has no case
+     * @since 2.2.0
+     */
+    public static char fold(char c) {
+        return (c < TABLE_SIZE) ? FOLDS[c] : Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Folds the case of the string.
+     *
+     * @param input String to fold, not null
+     * @return Folded string, or the same instance if folding does not change
+     *         it
+     * @throws NullPointerException if <code>input</code> is null
+     * @since 2.2.0
+     */
+    public static String fold(String input) {
+        Objects.requireNonNull(input, "input must not be null");
+
+        int first = firstUnfolded(input, 0, input.length());
+        if (first == -1) {
+            return input;
+        }
+
+        char[] chars = input.toCharArray();
+        for (int i = first; i < chars.length; i++) {
+            chars[i] = fold(chars[i]);
+        }
+
+        return new String(chars);
+    }
+
+    /**
+     * Folds the case of the range of the text between <code>start</code>
+     * (inclusive) and <code>end</code> (exclusive). Characters outside of the
+     * range are read from the text as they are.
+     * <p>
+     * Only the folded characters of the range are copied, the returned text
+     * is a view that reads every other character from <code>input</code>, so
+     * that folding a short range of a long text does not copy all of it.
+     * Changing the characters of <code>input</code> outside of the folded
+     * part of the range later changes the view as well.
+     *
+     * @param input Text to fold, not null
+     * @param start Start index of the range, inclusive
+     * @param end   End index of the range, exclusive
+     * @return Text with the range folded and the same indexes as
+     *         <code>input</code>, or the same instance if folding does not
+     *         change the range
+     * @throws NullPointerException      if <code>input</code> is null
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of
+     *                                   the text
+     * @since 2.2.0
+     */
+    public static CharSequence fold(CharSequence input, int start, int end) {
+        Objects.requireNonNull(input, "input must not be null");
+        Objects.checkFromToIndex(start, end, input.length());
+
+        int first = firstUnfolded(input, start, end);
+        if (first == -1) {
+            return input;
+        }
+
+        char[] chars = new char[end - first];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = fold(input.charAt(first + i));
+        }
+
+        return new FoldedRange(input, first, chars);
+    }
+
+    /**
+     * Returns the index of the first character in the range that folding
+     * changes, or -1 if there is none.
+     */
+    private static int firstUnfolded(CharSequence input, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+
+            if (fold(c) != c) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Text with the characters from <code>offset</code> replaced by the
+     * folded characters, at the same indexes as in the original text.
+     */
+    private static final class FoldedRange implements CharSequence {
+        private final CharSequence input;
+        private final int offset;
+        private final char[] folded;
+
+        private FoldedRange(CharSequence input, int offset, char[] folded) {
+            this.input = input;
+            this.offset = offset;
+            this.folded = folded;
+        }
+
+        @Override
+        public int length() {
+            return input.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            int relative = index - offset;
+
+            return (relative >= 0 && relative < folded.length) ? folded[relative] : input.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            Objects.checkFromToIndex(start, end, length());
+
+            return new StringBuilder(end - start).append(this, start, end).toString();
+        }
+
+        @Override
+        public String toString() {
+            return new StringBuilder(length()).append(this).toString();
+        }
+    }
+}
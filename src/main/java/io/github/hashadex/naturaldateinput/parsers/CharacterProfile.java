@@ -0,0 +1,198 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import java.util.Objects;
+
+/**
+ * Summary of the characters of an input, collected in a single pass over the
+ * input. Parsers use it to cheaply rule out inputs that their regexes can not
+ * match, see {@link Parser#canMatch(CharacterProfile)}.
+ * <p>
+ * Digits are ASCII digits (<code>0-9</code>) and whitespace is whitespace as
+ * defined by the <code>\s</code> regex character class, the same as in the
+ * regexes of the parsers.
+ * <p>
+ * Only ASCII characters are tracked by
+ * {@link #separatesDigits(char)} and {@link #followsDigitAndWhitespace(char)}.
+ * ASCII letters are tracked ignoring case. For other characters, these
+ * methods always return <code>true</code>, so that they can always be used
+ * as a necessary condition.
+ *
+ * @author hashadex
+ * @since 2.2.0
+ */
+public final class CharacterProfile {
+    private boolean hasDigit;
+    private int longestDigitRun;
+
+    /**
+     * Bit masks of ASCII characters that appear between two digits, like
+     * <code>:</code> in <code>"12:30"</code>. Bits 0-63 are in the low mask
+     * and bits 64-127 are in the high mask.
+     */
+    private long separatorsLow;
+    private long separatorsHigh;
+
+    /**
+     * Bit masks of ASCII characters that appear after a digit followed by a
+     * single whitespace character, like <code>p</code> in
+     * <code>"5 pm"</code>.
+     */
+    private long followersLow;
+    private long followersHigh;
+
+    private CharacterProfile() {}
+
+    /**
+     * Collects the profile of the input.
+     *
+     * @param input String to profile, not null
+     * @return Profile of the input
+     * @throws NullPointerException if <code>input</code> is null
+     * @since 2.2.0
+     */
+    public static CharacterProfile of(String input) {
+        Objects.requireNonNull(input, "input must not be null");
+
+        return of(input, 0, input.length());
+    }
+
+    /**
+     * Collects the profile of the range of the input between
+     * <code>start</code> (inclusive) and <code>end</code> (exclusive).
+     *
+     * @param input Text to profile, not null
+     * @param start Start index of the range, inclusive
+     * @param end   End index of the range, exclusive
+     * @return Profile of the range
+     * @throws NullPointerException      if <code>input</code> is null
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of
+     *                                   the input
+     * @since 2.2.0
+     */
+    public static CharacterProfile of(CharSequence input, int start, int end) {
+        Objects.requireNonNull(input, "input must not be null");
+        Objects.checkFromToIndex(start, end, input.length());
+
+        CharacterProfile profile = new CharacterProfile();
+
+        int digitRun = 0;
+
+        // Whether the character one and two positions before the current
+        // one are digits or whitespace
+        boolean previousIsDigit = false;
+        boolean previousIsWhitespace = false;
+        boolean beforePreviousIsDigit = false;
+
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            boolean isDigit = TokenStream.isDigit(c);
+
+            if (isDigit) {
+                digitRun++;
+                profile.hasDigit = true;
+
+                if (digitRun > profile.longestDigitRun) {
+                    profile.longestDigitRun = digitRun;
+                }
+
+                if (beforePreviousIsDigit && !previousIsDigit) {
+                    profile.addSeparator(input.charAt(i - 1));
+                }
+            } else {
+                digitRun = 0;
+
+                if (beforePreviousIsDigit && previousIsWhitespace) {
+                    profile.addFollower(c);
+                }
+            }
+
+            beforePreviousIsDigit = previousIsDigit;
+            previousIsDigit = isDigit;
+            previousIsWhitespace = TokenStream.isWhitespace(c);
+        }
+
+        return profile;
+    }
+
+    private void addSeparator(char c) {
+        if (c < 64) {
+            separatorsLow |= 1L << c;
+        } else if (c < 128) {
+            separatorsHigh |= 1L << (c - 64);
+        }
+    }
+
+    private void addFollower(char c) {
+        c = foldAscii(c);
+
+        if (c < 64) {
+            followersLow |= 1L << c;
+        } else if (c < 128) {
+            followersHigh |= 1L << (c - 64);
+        }
+    }
+
+    private static char foldAscii(char c) {
+        return (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static boolean contains(long low, long high, char c) {
+        if (c < 64) {
+            return (low & (1L << c)) != 0;
+        } else if (c < 128) {
+            return (high & (1L << (c - 64))) != 0;
+        }
+
+        // Untracked character
+        return true;
+    }
+
+    /**
+     * Checks if the input contains at least one digit.
+     *
+     * @return <code>true</code> if the input contains a digit
+     * @since 2.2.0
+     */
+    public boolean hasDigit() {
+        return hasDigit;
+    }
+
+    /**
+     * Returns the length of the longest run of consecutive digits in the
+     * input.
+     *
+     * @return Length of the longest run of digits, 0 if the input contains no
+     *         digits
+     * @since 2.2.0
+     */
+    public int longestDigitRun() {
+        return longestDigitRun;
+    }
+
+    /**
+     * Checks if the character appears in the input directly between two
+     * digits, for example <code>/</code> in <code>"10/12"</code>.
+     *
+     * @param separator Character to check
+     * @return <code>true</code> if the character appears between two digits,
+     *         or if the character is not ASCII
+     * @since 2.2.0
+     */
+    public boolean separatesDigits(char separator) {
+        return contains(separatorsLow, separatorsHigh, separator);
+    }
+
+    /**
+     * Checks if the character appears in the input after a digit followed by
+     * a whitespace character, for example <code>p</code> in
+     * <code>"5 pm"</code>. Case is ignored.
+     *
+     * @param follower Character to check
+     * @return <code>true</code> if the character follows a digit and a
+     *         whitespace character, or if the character is not ASCII
+     * @since 2.2.0
+     */
+    public boolean followsDigitAndWhitespace(char follower) {
+        return contains(followersLow, followersHigh, foldAscii(follower));
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.regex.MatchResult;
+
+/**
+ * Base abstract class for parsers that compile their matches into
+ * reference-free {@link Expression Expressions}.
+ * <p>
+ * Concrete compiling parsers implement
+ * {@link #compileMatch(MatchResult, CharSequence) compileMatch}. Matches are
+ * parsed by compiling them and resolving the expression against the
+ * reference, so an input can also be compiled once and resolved against
+ * many references, see {@link #compile(CharSequence)}, and case-folded text
+ * can be parsed, see {@link #canParseFolded()}.
+ * <p>
+ * All parsers included in this library extend this class.
+ *
+ * @author hashadex
+ * @since 2.2.0
+ */
+public abstract class CompilingParser extends SinkParser {
+    /**
+     * Constructs the class and compiles the provided <code>regex</code> with
+     * the provided <code>flags</code>, see {@link Parser#Parser(String, Map, int)}.
+     *
+     * @param regex         Regular expression which will be used by the parser
+     *                      to locate date/time expressions and process them
+     * @param namedGroupMap Map of capturing groups' names to their indexes
+     * @param flags         A bit mask representing match flags that will be
+     *                      passed to <code>Pattern.compile</code>
+     * @since 2.2.0
+     */
+    protected CompilingParser(String regex, Map<String, Integer> namedGroupMap, int flags) {
+        super(regex, namedGroupMap, flags);
+    }
+
+    /**
+     * Constructs the class and compiles the provided <code>regex</code> with
+     * the default match flags, see {@link Parser#Parser(String, Map)}.
+     *
+     * @param regex         Regular expression which will be used by the parser
+     *                      to locate date/time expressions and process them
+     * @param namedGroupMap Map of capturing groups' names to their indexes
+     * @since 2.2.0
+     */
+    protected CompilingParser(String regex, Map<String, Integer> namedGroupMap) {
+        super(regex, namedGroupMap);
+    }
+
+    /**
+     * Extracts match information from the provided
+     * {@link java.util.regex.MatchResult MatchResult} and turns it into a
+     * reference-free {@link Expression}, which can later be resolved against
+     * any reference datetime without matching the regex again.
+     * <p>
+     * The source text can be used to look words of the match up without
+     * allocating substrings, for example with a {@link WordTrie}. Indexes of
+     * the match are indexes in the source text.
+     *
+     * @param match  Match info
+     * @param source Source text
+     * @return Expression, or null if the match can not be parsed with any
+     *         reference, for example an invalid date like 2025-02-30
+     * @since 2.2.0
+     */
+    protected abstract Expression compileMatch(MatchResult match, CharSequence source);
+
+    /**
+     * Compiles the match and resolves the expression against the reference,
+     * or adds it unresolved if the sink is a {@link CandidateBuffer}, which
+     * resolves it only if it can be selected.
+     *
+     * @param match     Match info
+     * @param reference Reference datetime
+     * @param source    Source text
+     * @param sink      Sink to push the parsed component into
+     * @since 2.2.0
+     */
+    @Override
+    protected final void parseMatchInto(
+        MatchResult match,
+        LocalDateTime reference,
+        CharSequence source,
+        ComponentSink sink
+    ) {
+        Expression expression = compileMatch(match, source);
+
+        if (expression == null) {
+            return;
+        }
+
+        if (sink instanceof CandidateBuffer candidates) {
+            candidates.add(expression);
+        } else {
+            expression.resolveInto(reference, sink);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Objects;
+
+import io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent;
+import io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponentBuilder;
+
+/**
+ * {@link ComponentSink} that stores the accepted components in primitive
+ * arrays. Components are stored in the order in which they were accepted and
+ * can be turned into {@link Parser.ParsedComponent ParsedComponents} on
+ * demand with {@link #component(int, LocalDateTime, CharSequence)}.
+ * <p>
+ * A buffer can be reused for multiple inputs by calling {@link #clear()}.
+ * Buffers are not thread-safe.
+ *
+ * @author hashadex
+ * @since 2.2.0
+ */
+public final class ComponentBuffer implements ComponentSink {
+    private int size;
+
+    private int[] startIndexes;
+    private int[] endIndexes;
+    private long[] epochDays;
+    private long[] nanosOfDay;
+
+    /**
+     * Components pushed as <code>ParsedComponent</code> objects by parsers
+     * that extend {@link Parser} directly, kept so that
+     * {@link #component(int, LocalDateTime, CharSequence)} can return them as they
+     * are. Allocated on first use.
+     */
+    private ParsedComponent[] attached;
+
+    /**
+     * Constructs an empty buffer.
+     *
+     * @since 2.2.0
+     */
+    public ComponentBuffer() {
+        this(8);
+    }
+
+    /**
+     * Constructs an empty buffer with the specified initial capacity.
+     *
+     * @param initialCapacity Number of components the buffer can store
+     *                        before it has to grow
+     * @throws IllegalArgumentException if <code>initialCapacity</code> is
+     *                                  negative
+     * @since 2.2.0
+     */
+    public ComponentBuffer(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must not be negative");
+        }
+
+        this.startIndexes = new int[initialCapacity];
+        this.endIndexes = new int[initialCapacity];
+        this.epochDays = new long[initialCapacity];
+        this.nanosOfDay = new long[initialCapacity];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the component has neither a date
+     *                                  nor a time
+     */
+    @Override
+    public void accept(int startIndex, int endIndex, long epochDay, long nanoOfDay) {
+        if (epochDay == NO_DATE && nanoOfDay == NO_TIME) {
+            throw new IllegalArgumentException("Component must have a date or a time");
+        }
+
+        if (size == startIndexes.length) {
+            int capacity = Math.max(8, size * 2);
+
+            startIndexes = Arrays.copyOf(startIndexes, capacity);
+            endIndexes = Arrays.copyOf(endIndexes, capacity);
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            nanosOfDay = Arrays.copyOf(nanosOfDay, capacity);
+        }
+
+        startIndexes[size] = startIndex;
+        endIndexes[size] = endIndex;
+        epochDays[size] = epochDay;
+        nanosOfDay[size] = nanoOfDay;
+        size++;
+    }
+
+    /**
+     * Removes all components from the buffer, keeping its capacity.
+     *
+     * @since 2.2.0
+     */
+    public void clear() {
+        if (attached != null) {
+            Arrays.fill(attached, 0, Math.min(size, attached.length), null);
+        }
+
+        size = 0;
+    }
+
+    /**
+     * Returns the number of components in the buffer.
+     *
+     * @return Number of components
+     * @since 2.2.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the start index of the component.
+     *
+     * @param component Index of the component, from 0 to {@link #size()} - 1
+     * @return Start index of the match
+     * @throws IndexOutOfBoundsException if <code>component</code> is out of
+     *                                   range
+     * @since 2.2.0
+     */
+    public int startIndex(int component) {
+        return startIndexes[Objects.checkIndex(component, size)];
+    }
+
+    /**
+     * Returns the end index of the component.
+     *
+     * @param component Index of the component, from 0 to {@link #size()} - 1
+     * @return End index of the match
+     * @throws IndexOutOfBoundsException if <code>component</code> is out of
+     *                                   range
+     * @since 2.2.0
+     */
+    public int endIndex(int component) {
+        return endIndexes[Objects.checkIndex(component, size)];
+    }
+
+    /**
+     * Returns the date of the component as an epoch day.
+     *
+     * @param component Index of the component, from 0 to {@link #size()} - 1
+     * @return Epoch day, or {@link ComponentSink#NO_DATE} if the component
+     *         has no date
+     * @throws IndexOutOfBoundsException if <code>component</code> is out of
+     *                                   range
+     * @since 2.2.0
+     */
+    public long epochDay(int component) {
+        return epochDays[Objects.checkIndex(component, size)];
+    }
+
+    /**
+     * Returns the time of the component as a nano-of-day.
+     *
+     * @param component Index of the component, from 0 to {@link #size()} - 1
+     * @return Nano-of-day, or {@link ComponentSink#NO_TIME} if the component
+     *         has no time
+     * @throws IndexOutOfBoundsException if <code>component</code> is out of
+     *                                   range
+     * @since 2.2.0
+     */
+    public long nanoOfDay(int component) {
+        return nanosOfDay[Objects.checkIndex(component, size)];
+    }
+
+    /**
+     * Checks if the component has a date.
+     *
+     * @param component Index of the component, from 0 to {@link #size()} - 1
+     * @return <code>true</code> if the component has a date
+     * @throws IndexOutOfBoundsException if <code>component</code> is out of
+     *                                   range
+     * @since 2.2.0
+     */
+    public boolean hasDate(int component) {
+        return epochDay(component) != NO_DATE;
+    }
+
+    /**
+     * Checks if the component has a time.
+     *
+     * @param component Index of the component, from 0 to {@link #size()} - 1
+     * @return <code>true</code> if the component has a time
+     * @throws IndexOutOfBoundsException if <code>component</code> is out of
+     *                                   range
+     * @since 2.2.0
+     */
+    public boolean hasTime(int component) {
+        return nanoOfDay(component) != NO_TIME;
+    }
+
+    /**
+     * Creates a {@link Parser.ParsedComponent ParsedComponent} from the
+     * component. If the component was pushed as a <code>ParsedComponent</code>
+     * by a parser that extends {@link Parser} directly, that <code>ParsedComponent</code> is returned instead.
+     *
+     * @param component Index of the component, from 0 to {@link #size()} - 1
+     * @param reference Reference datetime the component was parsed with
+     * @param source    Source text the component was parsed from
+     * @return New <code>ParsedComponent</code>
+     * @throws IndexOutOfBoundsException if <code>component</code> is out of
+     *                                   range
+     * @throws NullPointerException      if <code>reference</code> or
+     *                                   <code>source</code> is null
+     * @since 2.2.0
+     */
+    public ParsedComponent component(int component, LocalDateTime reference, CharSequence source) {
+        Objects.checkIndex(component, size);
+
+        if (attached != null && component < attached.length && attached[component] != null) {
+            return attached[component];
+        }
+
+        ParsedComponentBuilder builder = new ParsedComponentBuilder(
+            reference, source, startIndexes[component], endIndexes[component]
+        );
+
+        if (epochDays[component] != NO_DATE) {
+            builder.date(LocalDate.ofEpochDay(epochDays[component]));
+        }
+
+        if (nanosOfDay[component] != NO_TIME) {
+            builder.time(LocalTime.ofNanoOfDay(nanosOfDay[component]));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Pushes the component into the sink. If the sink is a
+     * <code>ComponentBuffer</code> or a {@link ComponentSelector}, the
+     * component itself is kept in the sink.
+     */
+    static void push(ComponentSink sink, ParsedComponent component) {
+        push(sink, component, 0);
+
+        if (sink instanceof ComponentBuffer buffer) {
+            if (buffer.attached == null || buffer.attached.length < buffer.startIndexes.length) {
+                buffer.attached = (buffer.attached == null)
+                    ? new ParsedComponent[buffer.startIndexes.length]
+                    : Arrays.copyOf(buffer.attached, buffer.startIndexes.length);
+            }
+
+            buffer.attached[buffer.size - 1] = component;
+        } else if (sink instanceof ComponentSelector selector) {
+            selector.attach(component);
+        } else if (sink instanceof CandidateBuffer candidates) {
+            candidates.attach(component);
+        }
+    }
+
+    /**
+     * Pushes the values of the component into the sink, with its indexes
+     * shifted by <code>offset</code>. The component itself is not kept, as
+     * its indexes refer to a different source.
+     */
+    static void push(ComponentSink sink, ParsedComponent component, int offset) {
+        sink.accept(
+            component.startIndex() + offset,
+            component.endIndex() + offset,
+            component.date().map(LocalDate::toEpochDay).orElse(NO_DATE),
+            component.time().map(LocalTime::toNanoOfDay).orElse(NO_TIME)
+        );
+    }
+}
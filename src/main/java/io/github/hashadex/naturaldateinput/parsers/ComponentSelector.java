@@ -0,0 +1,390 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Objects;
+
+import io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent;
+import io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponentBuilder;
+
+/**
+ * {@link ComponentSink} that selects the components used for a
+ * {@link io.github.hashadex.naturaldateinput.ParsingConfiguration.ParseResult ParseResult}
+ * in a single pass, without storing all accepted components.
+ * <p>
+ * Components are ranked by their position: a component that ends later in
+ * the string ranks higher, and of two components that end at the same index
+ * the longer one ranks higher. Of two components with equal positions, the
+ * one that was accepted first ranks higher.
+ * <p>
+ * The selected components are:
+ * <ul>
+ * <li>the highest ranked component, if it has both a date and a time;
+ * <li>otherwise, the highest ranked component and the highest ranked
+ * component that has only what the first one lacks: only a time if the first
+ * one has only a date, or only a date if the first one has only a time.
+ * </ul>
+ * This is the same selection as sorting all components by rank and taking
+ * the first component that fills the empty date and/or time "slots" until
+ * both are filled, but it only keeps three running winners: the highest
+ * ranked component overall, the highest ranked date-only component and the
+ * highest ranked time-only component.
+ * <p>
+ * Components can also be selected from the candidates of a
+ * {@link CandidateBuffer}, which only resolves the candidates that can still
+ * change the selection.
+ * <p>
+ * A selector can be reused for multiple inputs by calling {@link #clear()}.
+ * Selectors are not thread-safe.
+ *
+ * @author hashadex
+ * @see io.github.hashadex.naturaldateinput.ParsingConfiguration#parse(String, LocalDateTime)
+ * @since 2.2.0
+ */
+public final class ComponentSelector implements ComponentSink {
+    private static final int BEST = 0;
+    private static final int BEST_DATE_ONLY = 1;
+    private static final int BEST_TIME_ONLY = 2;
+
+    private final boolean[] present = new boolean[3];
+    private final int[] startIndexes = new int[3];
+    private final int[] endIndexes = new int[3];
+    private final long[] epochDays = new long[3];
+    private final long[] nanosOfDay = new long[3];
+
+    /**
+     * Order in which the winners were accepted, which breaks ties between
+     * components with equal positions.
+     */
+    private final long[] sequences = new long[3];
+
+    /**
+     * Sequence of the next accepted component. Components are numbered in
+     * the order they are accepted, unless a {@link CandidateBuffer} sets the
+     * sequence of its candidates, which it resolves out of order.
+     */
+    private long sequence;
+
+    /**
+     * <code>ParsedComponent</code> objects of the winners, if they were
+     * pushed as objects by parsers that override
+     * {@link Parser#parse(String, LocalDateTime)}.
+     */
+    private final ParsedComponent[] attached = new ParsedComponent[3];
+
+    /**
+     * Bit mask of the winners that were replaced by the last accepted
+     * component.
+     */
+    private int lastReplaced;
+
+    /**
+     * Constructs an empty selector.
+     *
+     * @since 2.2.0
+     */
+    public ComponentSelector() {}
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the component has neither a date
+     *                                  nor a time
+     */
+    @Override
+    public void accept(int startIndex, int endIndex, long epochDay, long nanoOfDay) {
+        boolean hasDate = epochDay != NO_DATE;
+        boolean hasTime = nanoOfDay != NO_TIME;
+
+        if (!hasDate && !hasTime) {
+            throw new IllegalArgumentException("Component must have a date or a time");
+        }
+
+        lastReplaced = 0;
+
+        offer(BEST, startIndex, endIndex, epochDay, nanoOfDay);
+
+        if (hasDate && !hasTime) {
+            offer(BEST_DATE_ONLY, startIndex, endIndex, epochDay, nanoOfDay);
+        } else if (hasTime && !hasDate) {
+            offer(BEST_TIME_ONLY, startIndex, endIndex, epochDay, nanoOfDay);
+        }
+
+        sequence++;
+    }
+
+    private void offer(int slot, int startIndex, int endIndex, long epochDay, long nanoOfDay) {
+        if (!outranks(slot, startIndex, endIndex, sequence)) {
+            return;
+        }
+
+        present[slot] = true;
+        startIndexes[slot] = startIndex;
+        endIndexes[slot] = endIndex;
+        epochDays[slot] = epochDay;
+        nanosOfDay[slot] = nanoOfDay;
+        sequences[slot] = sequence;
+        attached[slot] = null;
+
+        lastReplaced |= 1 << slot;
+    }
+
+    /**
+     * Checks if a component would replace the winner of the slot: if it
+     * ranks strictly higher, or if it has the same position and was accepted
+     * first.
+     */
+    private boolean outranks(int slot, int startIndex, int endIndex, long sequence) {
+        if (!present[slot] || endIndex != endIndexes[slot]) {
+            return !present[slot] || endIndex > endIndexes[slot];
+        }
+
+        int length = endIndex - startIndex;
+        int slotLength = endIndexes[slot] - startIndexes[slot];
+
+        return length > slotLength || (length == slotLength && sequence < sequences[slot]);
+    }
+
+    /**
+     * Checks if accepting a component with the position, the parts and the
+     * sequence could change any winner. Components that can not are skipped
+     * by {@link CandidateBuffer} without being resolved.
+     */
+    boolean mayAccept(int startIndex, int endIndex, boolean hasDate, boolean hasTime, long sequence) {
+        if (outranks(BEST, startIndex, endIndex, sequence)) {
+            return true;
+        }
+
+        if (hasDate && !hasTime) {
+            return outranks(BEST_DATE_ONLY, startIndex, endIndex, sequence);
+        } else if (hasTime && !hasDate) {
+            return outranks(BEST_TIME_ONLY, startIndex, endIndex, sequence);
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the sequence of the next accepted component, see
+     * {@link #sequence}.
+     */
+    long sequence() {
+        return sequence;
+    }
+
+    /**
+     * Sets the sequence of the next accepted component, see
+     * {@link #sequence}.
+     */
+    void sequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    /**
+     * Keeps the component object for the winners it has just become.
+     */
+    void attach(ParsedComponent component) {
+        for (int slot = 0; slot < attached.length; slot++) {
+            if ((lastReplaced & (1 << slot)) != 0) {
+                attached[slot] = component;
+            }
+        }
+    }
+
+    /**
+     * Removes all components from the selector.
+     *
+     * @since 2.2.0
+     */
+    public void clear() {
+        for (int slot = 0; slot < present.length; slot++) {
+            present[slot] = false;
+            attached[slot] = null;
+        }
+
+        lastReplaced = 0;
+        sequence = 0;
+    }
+
+    /**
+     * Returns the number of selected components.
+     *
+     * @return 0 if no components were accepted, otherwise 1 or 2
+     * @since 2.2.0
+     */
+    public int size() {
+        if (!present[BEST]) {
+            return 0;
+        }
+
+        return (slotOf(1) == -1) ? 1 : 2;
+    }
+
+    /**
+     * Checks if the selection can no longer change when only components
+     * that end at or before <code>maxEndIndex</code> are accepted from now
+     * on.
+     *
+     * @param maxEndIndex Greatest end index of the components that can still
+     *                    be accepted
+     * @return <code>true</code> if every selected component ends after
+     *         <code>maxEndIndex</code> and no more components can be selected
+     * @since 2.2.0
+     */
+    public boolean isFinal(int maxEndIndex) {
+        if (!present[BEST] || endIndexes[BEST] <= maxEndIndex) {
+            return false;
+        }
+
+        boolean hasDate = epochDays[BEST] != NO_DATE;
+        boolean hasTime = nanosOfDay[BEST] != NO_TIME;
+
+        if (hasDate && hasTime) {
+            return true;
+        }
+
+        // The other selected component is the best component that has only
+        // what the first one lacks, and it must not be outranked either
+        int other = hasDate ? BEST_TIME_ONLY : BEST_DATE_ONLY;
+
+        return present[other] && endIndexes[other] > maxEndIndex;
+    }
+
+    /**
+     * Returns the winner slot that holds the selected component.
+     *
+     * @return Slot, or -1 if there is no such selected component
+     */
+    private int slotOf(int selected) {
+        if (!present[BEST]) {
+            return -1;
+        }
+
+        if (selected == 0) {
+            return BEST;
+        }
+
+        boolean hasDate = epochDays[BEST] != NO_DATE;
+        boolean hasTime = nanosOfDay[BEST] != NO_TIME;
+
+        if (hasDate && !hasTime && present[BEST_TIME_ONLY]) {
+            return BEST_TIME_ONLY;
+        } else if (hasTime && !hasDate && present[BEST_DATE_ONLY]) {
+            return BEST_DATE_ONLY;
+        }
+
+        return -1;
+    }
+
+    private int checkedSlotOf(int selected) {
+        int slot = (selected == 0 || selected == 1) ? slotOf(selected) : -1;
+
+        if (slot == -1) {
+            throw new IndexOutOfBoundsException("No selected component " + selected);
+        }
+
+        return slot;
+    }
+
+    /**
+     * Returns the start index of the selected component.
+     *
+     * @param selected Index of the selected component, from 0 to
+     *                 {@link #size()} - 1
+     * @return Start index of the match
+     * @throws IndexOutOfBoundsException if <code>selected</code> is out of
+     *                                   range
+     * @since 2.2.0
+     */
+    public int startIndex(int selected) {
+        return startIndexes[checkedSlotOf(selected)];
+    }
+
+    /**
+     * Returns the end index of the selected component.
+     *
+     * @param selected Index of the selected component, from 0 to
+     *                 {@link #size()} - 1
+     * @return End index of the match
+     * @throws IndexOutOfBoundsException if <code>selected</code> is out of
+     *                                   range
+     * @since 2.2.0
+     */
+    public int endIndex(int selected) {
+        return endIndexes[checkedSlotOf(selected)];
+    }
+
+    /**
+     * Returns the date of the selected component as an epoch day.
+     *
+     * @param selected Index of the selected component, from 0 to
+     *                 {@link #size()} - 1
+     * @return Epoch day, or {@link ComponentSink#NO_DATE} if the component
+     *         has no date
+     * @throws IndexOutOfBoundsException if <code>selected</code> is out of
+     *                                   range
+     * @since 2.2.0
+     */
+    public long epochDay(int selected) {
+        return epochDays[checkedSlotOf(selected)];
+    }
+
+    /**
+     * Returns the time of the selected component as a nano-of-day.
+     *
+     * @param selected Index of the selected component, from 0 to
+     *                 {@link #size()} - 1
+     * @return Nano-of-day, or {@link ComponentSink#NO_TIME} if the component
+     *         has no time
+     * @throws IndexOutOfBoundsException if <code>selected</code> is out of
+     *                                   range
+     * @since 2.2.0
+     */
+    public long nanoOfDay(int selected) {
+        return nanosOfDay[checkedSlotOf(selected)];
+    }
+
+    /**
+     * Creates a {@link Parser.ParsedComponent ParsedComponent} from the
+     * selected component. If the component was pushed as a
+     * <code>ParsedComponent</code> by a parser that overrides
+     * {@link Parser#parse(String, LocalDateTime)}, that
+     * <code>ParsedComponent</code> is returned instead.
+     *
+     * @param selected  Index of the selected component, from 0 to
+     *                  {@link #size()} - 1
+     * @param reference Reference datetime the component was parsed with
+     * @param source    Source text the component was parsed from
+     * @return <code>ParsedComponent</code>
+     * @throws IndexOutOfBoundsException if <code>selected</code> is out of
+     *                                   range
+     * @throws NullPointerException      if <code>reference</code> or
+     *                                   <code>source</code> is null
+     * @since 2.2.0
+     */
+    public ParsedComponent component(int selected, LocalDateTime reference, CharSequence source) {
+        int slot = checkedSlotOf(selected);
+
+        if (attached[slot] != null) {
+            return attached[slot];
+        }
+
+        Objects.requireNonNull(reference, "reference must not be null");
+        Objects.requireNonNull(source, "source must not be null");
+
+        ParsedComponentBuilder builder = new ParsedComponentBuilder(
+            reference, source, startIndexes[slot], endIndexes[slot]
+        );
+
+        if (epochDays[slot] != NO_DATE) {
+            builder.date(LocalDate.ofEpochDay(epochDays[slot]));
+        }
+
+        if (nanosOfDay[slot] != NO_TIME) {
+            builder.time(LocalTime.ofNanoOfDay(nanosOfDay[slot]));
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+/**
+ * Receiver of the components parsed by a {@link Parser}, see
+ * {@link Parser#parseInto(CharSequence, java.time.LocalDateTime, ComponentSink)}.
+ * <p>
+ * Unlike {@link Parser.ParsedComponent ParsedComponents}, components are
+ * pushed into a sink as primitives: the indexes of the match, the date as an
+ * epoch day and the time as a nano-of-day. This lets parsers report results
+ * without allocating objects for every match.
+ * <p>
+ * A component always contains a date or a time. A missing date is reported
+ * as {@link #NO_DATE} and a missing time is reported as {@link #NO_TIME}.
+ *
+ * @author hashadex
+ * @see ComponentBuffer
+ * @since 2.2.0
+ */
+@FunctionalInterface
+public interface ComponentSink {
+    /**
+     * Value of the <code>epochDay</code> parameter of
+     * {@link #accept(int, int, long, long)} if the component has no date.
+     *
+     * @since 2.2.0
+     */
+    long NO_DATE = Long.MIN_VALUE;
+
+    /**
+     * Value of the <code>nanoOfDay</code> parameter of
+     * {@link #accept(int, int, long, long)} if the component has no time.
+     *
+     * @since 2.2.0
+     */
+    long NO_TIME = Long.MIN_VALUE;
+
+    /**
+     * Accepts a parsed component.
+     *
+     * @param startIndex Start index of the match from which the date/time
+     *                   were parsed
+     * @param endIndex   End index of the match from which the date/time were
+     *                   parsed
+     * @param epochDay   Parsed date as returned by
+     *                   {@link java.time.LocalDate#toEpochDay()}, or
+     *                   {@link #NO_DATE}
+     * @param nanoOfDay  Parsed time as returned by
+     *                   {@link java.time.LocalTime#toNanoOfDay()}, or
+     *                   {@link #NO_TIME}
+     * @since 2.2.0
+     */
+    void accept(int startIndex, int endIndex, long epochDay, long nanoOfDay);
+}
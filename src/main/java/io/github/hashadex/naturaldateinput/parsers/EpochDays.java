@@ -0,0 +1,224 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Year;
+
+/**
+ * Calendar arithmetic on epoch days, as returned by
+ * {@link LocalDate#toEpochDay()}, that does not create any objects.
+ * <p>
+ * Conversions between epoch days and proleptic ISO dates use the
+ * <code>days_from_civil</code> and <code>civil_from_days</code> algorithms
+ * by Howard Hinnant, which count days in 400-year eras of 146097 days.
+ *
+ * @author hashadex
+ * @since 2.2.0
+ */
+final class EpochDays {
+    static final long MIN_EPOCH_DAY = LocalDate.MIN.toEpochDay();
+    static final long MAX_EPOCH_DAY = LocalDate.MAX.toEpochDay();
+
+    /**
+     * Returned by {@link #nextMonthDay(long, int, int)} if the day does not
+     * exist in the year of the reference, and by
+     * {@link #plusMonthsOrNone(long, long)} if the result is out of the
+     * supported range.
+     */
+    static final long NO_SUCH_DAY = Long.MIN_VALUE;
+
+    /**
+     * Number of months between the first month of the minimum year and the
+     * last month of the maximum year, beyond which adding months always
+     * leaves the supported range.
+     */
+    private static final long MAX_MONTHS = 12L * ((long) Year.MAX_VALUE - Year.MIN_VALUE + 1);
+
+    /**
+     * Days between 0000-03-01, the start of the first era, and 1970-01-01.
+     */
+    private static final long DAYS_0000_TO_1970 = 719468;
+    private static final int DAYS_PER_ERA = 146097;
+
+    private static final int DAY_BITS = 5;
+    private static final int MONTH_BITS = 4;
+
+    private EpochDays() {}
+
+    /**
+     * Returns the epoch day, or throws if it is out of the range supported
+     * by <code>LocalDate</code>, like <code>LocalDate</code> arithmetic does.
+     */
+    static long checked(long epochDay) {
+        if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+            throw new DateTimeException("Epoch day %d is out of the supported range".formatted(epochDay));
+        }
+
+        return epochDay;
+    }
+
+    static boolean isSupported(long epochDay) {
+        return epochDay >= MIN_EPOCH_DAY && epochDay <= MAX_EPOCH_DAY;
+    }
+
+    /**
+     * Returns the ISO day of the week, from 1 (Monday) to 7 (Sunday).
+     */
+    static int dayOfWeek(long epochDay) {
+        // 1970-01-01 was a Thursday
+        return Math.floorMod(epochDay + 3, 7) + 1;
+    }
+
+    static boolean isLeapYear(long year) {
+        return Year.isLeap(year);
+    }
+
+    static int lengthOfMonth(long year, int month) {
+        return switch (month) {
+            case 2 -> isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * Returns the epoch day of the date. The date must be valid.
+     */
+    static long of(long year, int month, int day) {
+        // Eras start on March 1st, so that the leap day is the last day of
+        // the year
+        long y = (month <= 2) ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+
+        return era * DAYS_PER_ERA + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Returns the date of the epoch day packed into a single
+     * <code>long</code>, see {@link #year(long)}, {@link #month(long)} and
+     * {@link #day(long)}.
+     */
+    static long toDate(long epochDay) {
+        long z = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(z, DAYS_PER_ERA);
+        long dayOfEra = z - era * DAYS_PER_ERA;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+
+        int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        return (year << (MONTH_BITS + DAY_BITS)) | ((long) month << DAY_BITS) | day;
+    }
+
+    static long year(long date) {
+        // Arithmetic shift keeps the sign of negative years
+        return date >> (MONTH_BITS + DAY_BITS);
+    }
+
+    static int month(long date) {
+        return (int) (date >>> DAY_BITS) & ((1 << MONTH_BITS) - 1);
+    }
+
+    static int day(long date) {
+        return (int) date & ((1 << DAY_BITS) - 1);
+    }
+
+    /**
+     * Adds months to the date like {@link LocalDate#plusMonths(long)}: the
+     * day is clamped to the length of the resulting month.
+     *
+     * @return Epoch day of the result
+     * @throws DateTimeException if the result is out of the supported range
+     */
+    static long plusMonths(long epochDay, long months) {
+        long result = plusMonthsOrNone(epochDay, months);
+
+        if (result == NO_SUCH_DAY) {
+            throw new DateTimeException("Adding %d months to epoch day %d is out of the supported range".formatted(
+                months, epochDay
+            ));
+        }
+
+        return result;
+    }
+
+    /**
+     * Adds months to the date like {@link #plusMonths(long, long)}, but
+     * returns {@link #NO_SUCH_DAY} instead of throwing if the result is out
+     * of the supported range.
+     */
+    static long plusMonthsOrNone(long epochDay, long months) {
+        long date = toDate(epochDay);
+
+        return plusMonthsOrNone(year(date), month(date), day(date), months);
+    }
+
+    /**
+     * Adds months to the date given by its year, month and day, see
+     * {@link #plusMonthsOrNone(long, long)}.
+     */
+    static long plusMonthsOrNone(long year, int month, int day, long months) {
+        if (months > MAX_MONTHS || months < -MAX_MONTHS) {
+            return NO_SUCH_DAY;
+        }
+
+        long monthCount = year * 12 + (month - 1) + months;
+        long resultYear = Math.floorDiv(monthCount, 12);
+        int resultMonth = Math.floorMod(monthCount, 12) + 1;
+
+        if (resultYear < Year.MIN_VALUE || resultYear > Year.MAX_VALUE) {
+            return NO_SUCH_DAY;
+        }
+
+        return of(resultYear, resultMonth, Math.min(day, lengthOfMonth(resultYear, resultMonth)));
+    }
+
+    /**
+     * Returns the first occurrence of the month and day on or after the
+     * reference. The month and day are taken in the year of the reference,
+     * and if that date is before the reference, in the next year, where
+     * February 29th becomes February 28th, like {@link LocalDate#plusYears(long)}
+     * does.
+     *
+     * @return Epoch day of the occurrence, or {@link #NO_SUCH_DAY} if the day
+     *         does not exist in the month in the year of the reference
+     * @throws DateTimeException if the occurrence is out of the supported
+     *                           range
+     */
+    static long nextMonthDay(long referenceEpochDay, int month, int day) {
+        long date = toDate(referenceEpochDay);
+
+        return nextMonthDay(year(date), month(date), day(date), month, day);
+    }
+
+    /**
+     * Returns the first occurrence of the month and day on or after the
+     * reference date given by its year, month and day, see
+     * {@link #nextMonthDay(long, int, int)}. Whether the date is before the
+     * reference is decided by comparing the months and days, without
+     * computing the epoch day of the date first.
+     */
+    static long nextMonthDay(long referenceYear, int referenceMonth, int referenceDay, int month, int day) {
+        if (day < 1 || day > lengthOfMonth(referenceYear, month)) {
+            return NO_SUCH_DAY;
+        }
+
+        if (month > referenceMonth || (month == referenceMonth && day >= referenceDay)) {
+            return of(referenceYear, month, day);
+        }
+
+        long year = referenceYear + 1;
+
+        if (year > Year.MAX_VALUE) {
+            throw new DateTimeException("Year %d is out of the supported range".formatted(year));
+        }
+
+        return of(year, month, Math.min(day, lengthOfMonth(year, month)));
+    }
+}
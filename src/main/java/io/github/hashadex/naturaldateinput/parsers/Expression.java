@@ -0,0 +1,583 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+
+import io.github.hashadex.naturaldateinput.parsers.Parser.ReferenceDependency;
+
+/**
+ * Reference-free form of a date/time expression matched by a {@link Parser},
+ * such as "+1 day", "next-or-same FRIDAY" or "absolute 2025-08-04".
+ * <p>
+ * An expression is the result of a match before the reference datetime is
+ * applied to it. It can be {@link #resolveInto(LocalDateTime, ComponentSink) resolved}
+ * against any number of references without running any regexes, and
+ * resolving it pushes the same component as parsing the match with that
+ * reference would. Depending on the reference, resolving can push no
+ * component, for example a date without a year that does not exist in the
+ * year of the reference, like February 29th.
+ * <p>
+ * Expressions resolve on primitive epoch days and nanos of day, see
+ * {@link #resolveInto(long, long, ComponentSink)}, so resolving an
+ * expression against many references does not create any date or time
+ * objects.
+ * <p>
+ * Expressions are created by
+ * {@link CompilingParser#compileMatch(java.util.regex.MatchResult, CharSequence) CompilingParsers} with the static
+ * factory methods of this class. Expressions are immutable and thread-safe.
+ *
+ * @author hashadex
+ * @see Parser#compile(CharSequence)
+ * @since 2.2.0
+ */
+public abstract class Expression {
+    private final int startIndex;
+    private final int endIndex;
+
+    private Expression(int startIndex, int endIndex) {
+        if (startIndex < 0 || endIndex < startIndex) {
+            throw new IllegalArgumentException("Invalid indexes %d-%d".formatted(startIndex, endIndex));
+        }
+
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+    }
+
+    /**
+     * Returns the start index of the match in the source text.
+     *
+     * @return Start index of the match
+     * @since 2.2.0
+     */
+    public final int startIndex() {
+        return startIndex;
+    }
+
+    /**
+     * Returns the end index of the match in the source text.
+     *
+     * @return End index of the match
+     * @since 2.2.0
+     */
+    public final int endIndex() {
+        return endIndex;
+    }
+
+    /**
+     * Resolves the expression against the reference and pushes the resulting
+     * component, if any, into the sink. The context of the reference is
+     * created for this call only, so to resolve many expressions against one
+     * reference, create its {@link ReferenceContext} once and pass it to
+     * {@link #resolveInto(ReferenceContext, ComponentSink)}.
+     *
+     * @param reference Reference datetime, not null
+     * @param sink      Sink to push the component into, not null
+     * @throws DateTimeException if the result is out of the range supported
+     *                           by <code>LocalDate</code>, except for
+     *                           {@link #later(int, int, long, ChronoUnit) later}
+     *                           expressions, which push nothing then
+     * @since 2.2.0
+     */
+    public final void resolveInto(LocalDateTime reference, ComponentSink sink) {
+        resolveInto(ReferenceContext.of(reference), sink);
+    }
+
+    /**
+     * Resolves the expression against the reference given as an epoch day
+     * and a nano-of-day, and pushes the resulting component, if any, into
+     * the sink. Pushes the same component as
+     * {@link #resolveInto(LocalDateTime, ComponentSink)} with the equivalent
+     * <code>LocalDateTime</code>, without creating it.
+     *
+     * @param referenceEpochDay  Date of the reference as returned by
+     *                           {@link LocalDate#toEpochDay()}, in the range
+     *                           supported by <code>LocalDate</code>
+     * @param referenceNanoOfDay Time of the reference as returned by
+     *                           {@link LocalTime#toNanoOfDay()}
+     * @param sink               Sink to push the component into, not null
+     * @throws DateTimeException if the reference or the result is out of
+     *                           the range supported by <code>LocalDate</code>,
+     *                           except for results of
+     *                           {@link #later(int, int, long, ChronoUnit) later}
+     *                           expressions, which push nothing then
+     * @since 2.2.0
+     */
+    public final void resolveInto(long referenceEpochDay, long referenceNanoOfDay, ComponentSink sink) {
+        resolveInto(ReferenceContext.of(referenceEpochDay, referenceNanoOfDay), sink);
+    }
+
+    /**
+     * Resolves the expression against the calendar facts of the reference
+     * and pushes the resulting component, if any, into the sink. Resolving
+     * many expressions against one context does not compute the facts of
+     * the reference again for every expression.
+     *
+     * @param context Context of the reference, not null
+     * @param sink    Sink to push the component into, not null
+     * @throws DateTimeException if the result is out of the range supported
+     *                           by <code>LocalDate</code>, except for
+     *                           {@link #later(int, int, long, ChronoUnit) later}
+     *                           expressions, which push nothing then
+     * @since 2.2.0
+     */
+    public abstract void resolveInto(ReferenceContext context, ComponentSink sink);
+
+    /**
+     * Returns the part of the reference datetime that the resolved component
+     * depends on.
+     *
+     * @return Reference dependency
+     * @since 2.2.0
+     */
+    public abstract ReferenceDependency referenceDependency();
+
+    /**
+     * Describes the expression without its indexes, for example
+     * <code>"+1 day"</code>.
+     */
+    abstract String describe();
+
+    /**
+     * Whether the resolved component has a date, with any reference.
+     */
+    abstract boolean hasDate();
+
+    /**
+     * Whether the resolved component has a time, with any reference.
+     */
+    abstract boolean hasTime();
+
+    /**
+     * Checks if the component that resolving the expression pushes, with any
+     * reference, could change the selection of the selector if it was
+     * accepted with the sequence.
+     */
+    boolean maySelect(ComponentSelector selector, long sequence) {
+        return selector.mayAccept(startIndex, endIndex, hasDate(), hasTime(), sequence);
+    }
+
+    /**
+     * Returns a string representation of this <code>Expression</code>.
+     *
+     * @return String in the format
+     *         {@code "Expression[<start>-<end> <description>]"}
+     */
+    @Override
+    public String toString() {
+        return "Expression[%d-%d %s]".formatted(startIndex, endIndex, describe());
+    }
+
+    /**
+     * Creates an expression that always resolves to the same date and/or
+     * time.
+     *
+     * @param startIndex Start index of the match
+     * @param endIndex   End index of the match
+     * @param epochDay   Date as returned by {@link LocalDate#toEpochDay()},
+     *                   or {@link ComponentSink#NO_DATE}
+     * @param nanoOfDay  Time as returned by {@link LocalTime#toNanoOfDay()},
+     *                   or {@link ComponentSink#NO_TIME}
+     * @return Absolute expression
+     * @throws IllegalArgumentException if both the date and the time are
+     *                                  missing, or if the indexes are invalid
+     * @since 2.2.0
+     */
+    public static Expression absolute(int startIndex, int endIndex, long epochDay, long nanoOfDay) {
+        return new Absolute(startIndex, endIndex, epochDay, nanoOfDay);
+    }
+
+    /**
+     * Creates an expression that resolves to the date of the reference plus
+     * the number of days, such as "tomorrow".
+     *
+     * @param startIndex Start index of the match
+     * @param endIndex   End index of the match
+     * @param days       Number of days to add, can be negative
+     * @return Day offset expression
+     * @throws IllegalArgumentException if the indexes are invalid
+     * @since 2.2.0
+     */
+    public static Expression dayOffset(int startIndex, int endIndex, long days) {
+        return new DayOffset(startIndex, endIndex, days);
+    }
+
+    /**
+     * Creates an expression that resolves to the next occurrence of the
+     * weekday after the date of the reference, or on it if
+     * <code>orSame</code> is <code>true</code>.
+     *
+     * @param startIndex Start index of the match
+     * @param endIndex   End index of the match
+     * @param weekday    Weekday, not null
+     * @param orSame     Whether the date of the reference itself can be the
+     *                   result
+     * @return Weekday expression
+     * @throws NullPointerException     if <code>weekday</code> is null
+     * @throws IllegalArgumentException if the indexes are invalid
+     * @since 2.2.0
+     */
+    public static Expression weekday(int startIndex, int endIndex, DayOfWeek weekday, boolean orSame) {
+        return new Weekday(startIndex, endIndex, weekday, orSame);
+    }
+
+    /**
+     * Creates an expression that resolves to the day of the month in the
+     * year of the reference, rolling forward to the next year if that date
+     * is before the date of the reference.
+     * <p>
+     * If the day does not exist in the month in the year of the reference,
+     * the fallback expression is resolved instead, or nothing is pushed if
+     * there is no fallback.
+     *
+     * @param startIndex Start index of the match
+     * @param endIndex   End index of the match
+     * @param month      Month, not null
+     * @param day        Day of the month
+     * @param fallback   Expression to resolve if the day does not exist, or
+     *                   null
+     * @return Rolling month-day expression
+     * @throws NullPointerException     if <code>month</code> is null
+     * @throws IllegalArgumentException if the indexes are invalid
+     * @since 2.2.0
+     */
+    public static Expression monthDay(int startIndex, int endIndex, Month month, int day, Expression fallback) {
+        return new RollingMonthDay(startIndex, endIndex, month, day, fallback);
+    }
+
+    /**
+     * Creates an expression that resolves to the reference plus the amount
+     * of the unit, such as "in 10 hours". Date-based units only resolve to a
+     * date. Nothing is pushed if the result is out of the supported range.
+     *
+     * @param startIndex Start index of the match
+     * @param endIndex   End index of the match
+     * @param amount     Amount of the unit to add
+     * @param unit       Unit, not null
+     * @return Later expression
+     * @throws NullPointerException     if <code>unit</code> is null
+     * @throws IllegalArgumentException if the indexes are invalid
+     * @since 2.2.0
+     */
+    public static Expression later(int startIndex, int endIndex, long amount, ChronoUnit unit) {
+        return new Later(startIndex, endIndex, amount, unit);
+    }
+
+    private static final class Absolute extends Expression {
+        private final long epochDay;
+        private final long nanoOfDay;
+
+        private Absolute(int startIndex, int endIndex, long epochDay, long nanoOfDay) {
+            super(startIndex, endIndex);
+
+            if (epochDay == ComponentSink.NO_DATE && nanoOfDay == ComponentSink.NO_TIME) {
+                throw new IllegalArgumentException("Expression must have a date or a time");
+            }
+
+            this.epochDay = epochDay;
+            this.nanoOfDay = nanoOfDay;
+        }
+
+        @Override
+        public void resolveInto(ReferenceContext context, ComponentSink sink) {
+            sink.accept(startIndex(), endIndex(), epochDay, nanoOfDay);
+        }
+
+        @Override
+        public ReferenceDependency referenceDependency() {
+            return ReferenceDependency.NONE;
+        }
+
+        @Override
+        boolean hasDate() {
+            return epochDay != ComponentSink.NO_DATE;
+        }
+
+        @Override
+        boolean hasTime() {
+            return nanoOfDay != ComponentSink.NO_TIME;
+        }
+
+        @Override
+        String describe() {
+            String date = (epochDay != ComponentSink.NO_DATE) ? LocalDate.ofEpochDay(epochDay).toString() : "";
+            String time = (nanoOfDay != ComponentSink.NO_TIME) ? LocalTime.ofNanoOfDay(nanoOfDay).toString() : "";
+
+            return ("absolute " + date + " " + time).strip();
+        }
+    }
+
+    private static final class DayOffset extends Expression {
+        private final long days;
+
+        private DayOffset(int startIndex, int endIndex, long days) {
+            super(startIndex, endIndex);
+
+            this.days = days;
+        }
+
+        @Override
+        public void resolveInto(ReferenceContext context, ComponentSink sink) {
+            long result = EpochDays.checked(context.epochDay() + days);
+
+            sink.accept(startIndex(), endIndex(), result, ComponentSink.NO_TIME);
+        }
+
+        @Override
+        public ReferenceDependency referenceDependency() {
+            return ReferenceDependency.DATE;
+        }
+
+        @Override
+        boolean hasDate() {
+            return true;
+        }
+
+        @Override
+        boolean hasTime() {
+            return false;
+        }
+
+        @Override
+        String describe() {
+            return "%+d %s".formatted(days, Math.abs(days) == 1 ? "day" : "days");
+        }
+    }
+
+    private static final class Weekday extends Expression {
+        private final DayOfWeek weekday;
+        private final boolean orSame;
+
+        private Weekday(int startIndex, int endIndex, DayOfWeek weekday, boolean orSame) {
+            super(startIndex, endIndex);
+
+            this.weekday = Objects.requireNonNull(weekday, "weekday must not be null");
+            this.orSame = orSame;
+        }
+
+        @Override
+        public void resolveInto(ReferenceContext context, ComponentSink sink) {
+            long result = EpochDays.checked(context.epochDay() + context.daysUntil(weekday, orSame));
+
+            sink.accept(startIndex(), endIndex(), result, ComponentSink.NO_TIME);
+        }
+
+        @Override
+        public ReferenceDependency referenceDependency() {
+            return ReferenceDependency.DATE;
+        }
+
+        @Override
+        boolean hasDate() {
+            return true;
+        }
+
+        @Override
+        boolean hasTime() {
+            return false;
+        }
+
+        @Override
+        String describe() {
+            return (orSame ? "next-or-same " : "next ") + weekday;
+        }
+    }
+
+    private static final class RollingMonthDay extends Expression {
+        private final Month month;
+        private final int day;
+        private final Expression fallback;
+
+        private RollingMonthDay(int startIndex, int endIndex, Month month, int day, Expression fallback) {
+            super(startIndex, endIndex);
+
+            this.month = Objects.requireNonNull(month, "month must not be null");
+            this.day = day;
+            this.fallback = fallback;
+        }
+
+        @Override
+        public void resolveInto(ReferenceContext context, ComponentSink sink) {
+            long result = context.nextMonthDay(month.getValue(), day);
+
+            if (result == EpochDays.NO_SUCH_DAY) {
+                if (fallback != null) {
+                    fallback.resolveInto(context, sink);
+                }
+
+                return;
+            }
+
+            sink.accept(startIndex(), endIndex(), result, ComponentSink.NO_TIME);
+        }
+
+        @Override
+        public ReferenceDependency referenceDependency() {
+            return ReferenceDependency.DATE;
+        }
+
+        @Override
+        boolean hasDate() {
+            return true;
+        }
+
+        @Override
+        boolean hasTime() {
+            return false;
+        }
+
+        /**
+         * The fallback has its own position, so the expression may be
+         * selected if either of them may.
+         */
+        @Override
+        boolean maySelect(ComponentSelector selector, long sequence) {
+            return super.maySelect(selector, sequence) || (fallback != null && fallback.maySelect(selector, sequence));
+        }
+
+        @Override
+        String describe() {
+            String description = "MonthDay %02d-%02d rolling forward".formatted(month.getValue(), day);
+
+            return (fallback != null) ? description + ", else " + fallback : description;
+        }
+    }
+
+    private static final class Later extends Expression {
+        private static final long NANOS_PER_DAY = 86_400_000_000_000L;
+
+        /**
+         * Number of days in the supported range, beyond which adding days
+         * always leaves it.
+         */
+        private static final long MAX_DAYS = EpochDays.MAX_EPOCH_DAY - EpochDays.MIN_EPOCH_DAY;
+
+        private final long amount;
+        private final ChronoUnit unit;
+
+        /**
+         * Number of the units in a day if the unit is time-based, 0
+         * otherwise. Every time-based unit divides a day evenly.
+         */
+        private final long unitsPerDay;
+
+        /**
+         * Number of days in the unit if the unit is a fixed number of days,
+         * 0 otherwise.
+         */
+        private final long daysPerUnit;
+
+        /**
+         * Number of months in the unit if the unit is a fixed number of
+         * months, 0 otherwise.
+         */
+        private final long monthsPerUnit;
+
+        private Later(int startIndex, int endIndex, long amount, ChronoUnit unit) {
+            super(startIndex, endIndex);
+
+            this.amount = amount;
+            this.unit = Objects.requireNonNull(unit, "unit must not be null");
+
+            // LocalDateTime adds half-days in whole days of 256 half-days,
+            // which this expression has always resolved with, so half-days
+            // are left to LocalDateTime
+            this.unitsPerDay = (unit.isTimeBased() && unit != ChronoUnit.HALF_DAYS)
+                ? NANOS_PER_DAY / unit.getDuration().toNanos()
+                : 0;
+            this.daysPerUnit = switch (unit) {
+                case DAYS -> 1;
+                case WEEKS -> 7;
+                default -> 0;
+            };
+            this.monthsPerUnit = switch (unit) {
+                case MONTHS -> 1;
+                case YEARS -> 12;
+                case DECADES -> 12 * 10;
+                case CENTURIES -> 12 * 100;
+                case MILLENNIA -> 12 * 1000;
+                default -> 0;
+            };
+        }
+
+        @Override
+        public void resolveInto(ReferenceContext context, ComponentSink sink) {
+            long referenceEpochDay = context.epochDay();
+            long referenceNanoOfDay = context.nanoOfDay();
+
+            long epochDay;
+            long nanoOfDay = ComponentSink.NO_TIME;
+
+            // Amounts that leave the supported range are rejected before
+            // they can overflow, without throwing, so that inputs like
+            // "in 2000000000 years" do not create exceptions
+            if (unitsPerDay != 0) {
+                // Split the amount into whole days and the rest, so that
+                // it does not overflow when converted to nanos
+                long days = Math.floorDiv(amount, unitsPerDay);
+                long nanos = referenceNanoOfDay + Math.floorMod(amount, unitsPerDay) * (NANOS_PER_DAY / unitsPerDay);
+
+                epochDay = referenceEpochDay + days + Math.floorDiv(nanos, NANOS_PER_DAY);
+                nanoOfDay = Math.floorMod(nanos, NANOS_PER_DAY);
+            } else if (daysPerUnit != 0) {
+                if (amount > MAX_DAYS / daysPerUnit || amount < -MAX_DAYS / daysPerUnit) {
+                    return;
+                }
+
+                epochDay = referenceEpochDay + amount * daysPerUnit;
+            } else if (monthsPerUnit != 0) {
+                if (amount > Long.MAX_VALUE / monthsPerUnit || amount < -Long.MAX_VALUE / monthsPerUnit) {
+                    return;
+                }
+
+                epochDay = context.plusMonthsOrNone(amount * monthsPerUnit);
+            } else {
+                // Half-days and units that are rarely used, such as eras
+                try {
+                    LocalDateTime result = LocalDateTime.of(
+                        LocalDate.ofEpochDay(referenceEpochDay),
+                        LocalTime.ofNanoOfDay(referenceNanoOfDay)
+                    ).plus(amount, unit);
+
+                    epochDay = result.toLocalDate().toEpochDay();
+                    if (unit.isTimeBased()) {
+                        nanoOfDay = result.toLocalTime().toNanoOfDay();
+                    }
+                } catch (DateTimeException | ArithmeticException e) {
+                    return;
+                }
+            }
+
+            if (!EpochDays.isSupported(epochDay)) {
+                return;
+            }
+
+            sink.accept(startIndex(), endIndex(), epochDay, nanoOfDay);
+        }
+
+        @Override
+        public ReferenceDependency referenceDependency() {
+            return unit.isDateBased() ? ReferenceDependency.DATE : ReferenceDependency.DATE_TIME;
+        }
+
+        @Override
+        boolean hasDate() {
+            return true;
+        }
+
+        @Override
+        boolean hasTime() {
+            return unit.isTimeBased();
+        }
+
+        @Override
+        String describe() {
+            return "%+d %s".formatted(amount, unit);
+        }
+    }
+}
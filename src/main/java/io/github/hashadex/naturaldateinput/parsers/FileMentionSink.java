@@ -0,0 +1,40 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+/**
+ * Receiver of the date/time mentions found by a {@link MappedFileScanner}.
+ * <p>
+ * Like a {@link MentionSink}, a sink receives mentions as primitives, but
+ * every mention has two pairs of offsets: byte offsets in the UTF-8 encoded
+ * file and character offsets in the decoded text. Character offsets count
+ * UTF-16 <code>char</code>s, like the indexes of a <code>String</code>.
+ * <p>
+ * A mention always contains a date or a time. A missing date is reported as
+ * {@link ComponentSink#NO_DATE} and a missing time is reported as
+ * {@link ComponentSink#NO_TIME}.
+ *
+ * @author hashadex
+ * @since 2.2.0
+ */
+@FunctionalInterface
+public interface FileMentionSink {
+    /**
+     * Accepts a found mention.
+     *
+     * @param startByte Offset of the first byte of the mention from the start
+     *                  of the file
+     * @param endByte   Offset of the byte after the mention from the start of
+     *                  the file
+     * @param startChar Offset of the first character of the mention from the
+     *                  start of the text
+     * @param endChar   Offset of the character after the mention from the
+     *                  start of the text
+     * @param epochDay  Parsed date as returned by
+     *                  {@link java.time.LocalDate#toEpochDay()}, or
+     *                  {@link ComponentSink#NO_DATE}
+     * @param nanoOfDay Parsed time as returned by
+     *                  {@link java.time.LocalTime#toNanoOfDay()}, or
+     *                  {@link ComponentSink#NO_TIME}
+     * @since 2.2.0
+     */
+    void accept(long startByte, long endByte, long startChar, long endChar, long epochDay, long nanoOfDay);
+}
@@ -0,0 +1,260 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Index of the {@link Parser#keywords() keywords} of multiple
+ * {@link Parser Parsers}, used to find the parsers that can match an input
+ * without running their regexes.
+ * <p>
+ * The keywords of all parsers are compiled into a single Aho-Corasick
+ * automaton, which finds all occurrences of all keywords in one pass over the
+ * input. Keywords are matched ignoring case, the same way as regexes compiled
+ * with the {@link java.util.regex.Pattern#CASE_INSENSITIVE CASE_INSENSITIVE}
+ * and {@link java.util.regex.Pattern#UNICODE_CASE UNICODE_CASE} flags.
+ * <p>
+ * Parsers that have no keywords are always considered to be able to match.
+ *
+ * @author hashadex
+ * @see io.github.hashadex.naturaldateinput.ParsingConfiguration
+ * @since 2.2.0
+ */
+public final class KeywordIndex {
+    private final int parserCount;
+
+    /**
+     * Parsers that have no keywords and must always run.
+     */
+    private final BitSet alwaysMatching;
+
+    /**
+     * Transitions of every node of the automaton: labels of the outgoing
+     * edges, sorted in ascending order, and the nodes they lead to.
+     */
+    private final char[][] labels;
+    private final int[][] targets;
+
+    /**
+     * Node to continue from if the current node has no edge for the next
+     * character.
+     */
+    private final int[] failures;
+
+    /**
+     * Parsers, keywords of which end at the node, including keywords that
+     * are suffixes of the node's string. <code>null</code> if there are none.
+     */
+    private final BitSet[] outputs;
+
+    /**
+     * Constructs the index. Parsers are identified by their index in the
+     * provided list.
+     *
+     * @param parsers Parsers to index, not null
+     * @throws NullPointerException if <code>parsers</code> is null or contains
+     *                              null elements
+     * @since 2.2.0
+     */
+    public KeywordIndex(List<? extends Parser> parsers) {
+        Objects.requireNonNull(parsers, "parsers must not be null");
+
+        this.parserCount = parsers.size();
+        this.alwaysMatching = new BitSet(parserCount);
+
+        // Build the trie with sorted maps first, and compact it into arrays
+        // once all keywords are added
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<BitSet> nodeOutputs = new ArrayList<>();
+        children.add(new TreeMap<>());
+        nodeOutputs.add(null);
+
+        for (int i = 0; i < parserCount; i++) {
+            Parser parser = Objects.requireNonNull(parsers.get(i), "parsers must not contain null elements");
+
+            if (parser.keywords().isEmpty()) {
+                alwaysMatching.set(i);
+                continue;
+            }
+
+            for (String keyword : parser.keywords()) {
+                if (keyword.isEmpty()) {
+                    // The empty string occurs in every input
+                    alwaysMatching.set(i);
+                    continue;
+                }
+
+                int node = 0;
+                for (int j = 0; j < keyword.length(); j++) {
+                    char c = fold(keyword.charAt(j));
+
+                    Integer child = children.get(node).get(c);
+                    if (child == null) {
+                        child = children.size();
+                        children.get(node).put(c, child);
+                        children.add(new TreeMap<>());
+                        nodeOutputs.add(null);
+                    }
+
+                    node = child;
+                }
+
+                if (nodeOutputs.get(node) == null) {
+                    nodeOutputs.set(node, new BitSet(parserCount));
+                }
+                nodeOutputs.get(node).set(i);
+            }
+        }
+
+        int nodeCount = children.size();
+
+        this.labels = new char[nodeCount][];
+        this.targets = new int[nodeCount][];
+        this.failures = new int[nodeCount];
+        this.outputs = nodeOutputs.toArray(new BitSet[0]);
+
+        for (int node = 0; node < nodeCount; node++) {
+            TreeMap<Character, Integer> edges = children.get(node);
+
+            labels[node] = new char[edges.size()];
+            targets[node] = new int[edges.size()];
+
+            int edge = 0;
+            for (var entry : edges.entrySet()) {
+                labels[node][edge] = entry.getKey();
+                targets[node][edge] = entry.getValue();
+                edge++;
+            }
+        }
+
+        // Compute failure links breadth-first, so that the failure link of
+        // every node is computed before the links of its children
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[0]) {
+            failures[child] = 0;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            int node = queue.remove();
+
+            for (int edge = 0; edge < labels[node].length; edge++) {
+                char c = labels[node][edge];
+                int child = targets[node][edge];
+
+                int failure = failures[node];
+                while (failure != 0 && transition(failure, c) == -1) {
+                    failure = failures[failure];
+                }
+
+                int failureChild = transition(failure, c);
+                failures[child] = (failureChild == -1) ? 0 : failureChild;
+
+                // Keywords that end at the failure node also end at the child
+                BitSet failureOutput = outputs[failures[child]];
+                if (failureOutput != null) {
+                    if (outputs[child] == null) {
+                        outputs[child] = new BitSet(parserCount);
+                    }
+                    outputs[child].or(failureOutput);
+                }
+
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Folds the case of the character the same way as case-insensitive
+     * regexes do.
+     */
+    static char fold(char c) {
+        if (c < 0x80) {
+            return (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+        }
+
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private int transition(int node, char c) {
+        int edge = Arrays.binarySearch(labels[node], c);
+
+        return (edge < 0) ? -1 : targets[node][edge];
+    }
+
+    /**
+     * Finds the parsers that can match the input: the parsers that have no
+     * keywords and the parsers, keywords of which occur in the input.
+     *
+     * @param input String to scan, not null
+     * @return New <code>BitSet</code>, in which the bits of the parsers that
+     *         can match the input are set. Bits are the indexes of the parsers
+     *         in the list passed to the constructor.
+     * @throws NullPointerException if <code>input</code> is null
+     * @since 2.2.0
+     */
+    public BitSet matchingParsers(String input) {
+        Objects.requireNonNull(input, "input must not be null");
+
+        return matchingParsers(input, 0, input.length());
+    }
+
+    /**
+     * Finds the parsers that can match the range of the input between
+     * <code>start</code> (inclusive) and <code>end</code> (exclusive).
+     *
+     * @param input Text to scan, not null
+     * @param start Start index of the range, inclusive
+     * @param end   End index of the range, exclusive
+     * @return New <code>BitSet</code>, in which the bits of the parsers that
+     *         can match the range are set
+     * @throws NullPointerException      if <code>input</code> is null
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of
+     *                                   the input
+     * @see #matchingParsers(String)
+     * @since 2.2.0
+     */
+    public BitSet matchingParsers(CharSequence input, int start, int end) {
+        Objects.requireNonNull(input, "input must not be null");
+        Objects.checkFromToIndex(start, end, input.length());
+
+        BitSet result = (BitSet) alwaysMatching.clone();
+        int remaining = parserCount - result.cardinality();
+
+        int node = 0;
+        for (int i = start; i < end && remaining > 0; i++) {
+            char c = fold(input.charAt(i));
+
+            int next;
+            while ((next = transition(node, c)) == -1 && node != 0) {
+                node = failures[node];
+            }
+            node = (next == -1) ? 0 : next;
+
+            BitSet output = outputs[node];
+            if (output != null) {
+                int before = result.cardinality();
+                result.or(output);
+                remaining -= result.cardinality() - before;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the number of parsers in the index.
+     *
+     * @return Number of parsers
+     * @since 2.2.0
+     */
+    public int parserCount() {
+        return parserCount;
+    }
+}
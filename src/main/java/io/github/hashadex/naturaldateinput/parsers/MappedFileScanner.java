@@ -0,0 +1,410 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.regex.Matcher;
+
+/**
+ * Runs {@link Parser Parsers} over a UTF-8 encoded file without reading it
+ * onto the heap and reports every date/time mention they find, with byte and
+ * character offsets counted from the start of the file.
+ * <p>
+ * The file is split into regions of about the region size. Every region is
+ * memory-mapped with {@link FileChannel#map(FileChannel.MapMode, long, long)}
+ * and decoded on its own, so the file is paged in by the operating system and
+ * only one decoded region per running task is held in memory. Regions can be
+ * scanned in parallel on an {@link Executor}.
+ * <p>
+ * Like a {@link StreamingScanner}, the scanner relies on the <b>maximum
+ * component length</b>: no match of any parser, including the text its regex
+ * looks at before and after the match, may be longer than this number of
+ * characters. Every region is decoded together with some text before and
+ * after it, and every parser starts searching at a position before the
+ * region that no match crosses, see
+ * {@link BackwardScanner}. A mention belongs to the region it starts in, so
+ * mentions that span two regions are found once, and the found mentions are
+ * the same as the components pushed by
+ * {@link Parser#parseInto(CharSequence, LocalDateTime, ComponentSink)} of
+ * every parser called with the whole text.
+ * <p>
+ * The file must be valid UTF-8, a malformed file makes the scan fail with a
+ * {@link java.nio.charset.CharacterCodingException CharacterCodingException}.
+ * Character offsets of the regions are found by counting the characters of
+ * every region before scanning, which only looks at the bytes and is much
+ * cheaper than running the parsers.
+ * <p>
+ * Parsers that extend {@link Parser} directly instead of {@link SinkParser}
+ * need the whole text at once and can not be used, see
+ * {@link StreamingScanner#canStream(Parser)}.
+ *
+ * @author hashadex
+ * @since 2.2.0
+ */
+public final class MappedFileScanner {
+    private final List<Parser> parsers;
+    private final int regionSize;
+    private final int maxComponentLength;
+
+    /**
+     * Constructs the scanner.
+     *
+     * @param parsers            Parsers to run, not null
+     * @param regionSize         Number of bytes mapped and decoded at a time,
+     *                           must be positive
+     * @param maxComponentLength Maximum length of a match of any parser,
+     *                           must be positive
+     * @throws NullPointerException     if <code>parsers</code> is null or
+     *                                  contains null elements
+     * @throws IllegalArgumentException if any of the parsers can not be
+     *                                  streamed, see
+     *                                  {@link StreamingScanner#canStream(Parser)},
+     *                                  if <code>regionSize</code> or
+     *                                  <code>maxComponentLength</code> is not
+     *                                  positive, or if a region with the text
+     *                                  around it can not be mapped at once
+     * @since 2.2.0
+     */
+    public MappedFileScanner(List<? extends Parser> parsers, int regionSize, int maxComponentLength) {
+        Objects.requireNonNull(parsers, "parsers must not be null");
+
+        if (regionSize <= 0) {
+            throw new IllegalArgumentException("regionSize must be positive");
+        }
+        if (maxComponentLength <= 0) {
+            throw new IllegalArgumentException("maxComponentLength must be positive");
+        }
+        if ((long) regionSize + contextBytes(maxComponentLength) + overlapBytes(maxComponentLength) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("regionSize and maxComponentLength are too large");
+        }
+
+        for (Parser parser : parsers) {
+            if (!StreamingScanner.canStream(Objects.requireNonNull(parser, "Parser list must not contain null elements"))) {
+                throw new IllegalArgumentException(
+                    "Parser %s can not be streamed".formatted(parser.getClass().getName())
+                );
+            }
+        }
+
+        this.parsers = List.copyOf(parsers);
+        this.regionSize = regionSize;
+        this.maxComponentLength = maxComponentLength;
+    }
+
+    /**
+     * Number of bytes decoded before a region: enough for the maximum
+     * component length of characters that a match crossing the start of the
+     * region can start at, and twice as many that its regex can look at.
+     */
+    private static long contextBytes(int maxComponentLength) {
+        return 4L * 3 * maxComponentLength;
+    }
+
+    /**
+     * Number of bytes decoded after a region: enough for the text a match
+     * that starts at the end of the region can cover or look at.
+     */
+    private static long overlapBytes(int maxComponentLength) {
+        return 4L * (maxComponentLength + 1);
+    }
+
+    /**
+     * Scans the file region by region on the calling thread and pushes every
+     * mention found by the parsers into the sink.
+     *
+     * @param file      UTF-8 encoded file to scan, not null
+     * @param reference <code>LocalDateTime</code> that serves as a reference
+     *                  point for parsers that deal with relative date/time
+     *                  expressions, not null
+     * @param sink      Sink to push the mentions into, not null
+     * @throws IOException          if the file can not be read or is not
+     *                              valid UTF-8
+     * @throws NullPointerException if any of the parameters are null
+     * @since 2.2.0
+     */
+    public void scan(Path file, LocalDateTime reference, FileMentionSink sink) throws IOException {
+        scan(file, reference, sink, Runnable::run);
+    }
+
+    /**
+     * Scans the regions of the file in parallel on the executor and pushes
+     * every mention found by the parsers into the sink. This method blocks
+     * until all regions are scanned.
+     * <p>
+     * The sink is called from the threads of the executor, possibly
+     * concurrently, so it must be thread-safe. Mentions are pushed region by
+     * region and parser by parser, so they are not sorted by offset.
+     *
+     * @param file      UTF-8 encoded file to scan, not null
+     * @param reference <code>LocalDateTime</code> that serves as a reference
+     *                  point for parsers that deal with relative date/time
+     *                  expressions, not null
+     * @param sink      Sink to push the mentions into, not null
+     * @param executor  Executor to scan the regions on, not null
+     * @throws IOException          if the file can not be read or is not
+     *                              valid UTF-8
+     * @throws NullPointerException if any of the parameters are null
+     * @since 2.2.0
+     */
+    public void scan(
+        Path file, LocalDateTime reference, FileMentionSink sink, Executor executor
+    ) throws IOException {
+        Objects.requireNonNull(file, "file must not be null");
+        Objects.requireNonNull(reference, "reference must not be null");
+        Objects.requireNonNull(sink, "sink must not be null");
+        Objects.requireNonNull(executor, "executor must not be null");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long[] regionStarts = regionStarts(channel, size);
+            int regions = regionStarts.length - 1;
+
+            long[] charCounts = new long[regions];
+            runAll(regions, executor, region -> {
+                charCounts[region] = countChars(channel, regionStarts[region], regionStarts[region + 1]);
+            });
+
+            long[] charStarts = new long[regions];
+            for (int region = 1; region < regions; region++) {
+                charStarts[region] = charStarts[region - 1] + charCounts[region - 1];
+            }
+
+            runAll(regions, executor, region -> {
+                scanRegion(channel, size, regionStarts, region, charStarts[region], reference, sink);
+            });
+        }
+    }
+
+    /**
+     * Splits the file into regions that start at character boundaries.
+     *
+     * @return Byte offsets of the starts of the regions, followed by the size
+     *         of the file
+     */
+    private long[] regionStarts(FileChannel channel, long size) throws IOException {
+        List<Long> starts = new ArrayList<>();
+        starts.add(0L);
+
+        for (long position = regionSize; position < size; position += regionSize) {
+            long start = alignToCharStart(channel, position, size);
+
+            if (start > starts.get(starts.size() - 1) && start < size) {
+                starts.add(start);
+            }
+        }
+
+        starts.add(size);
+
+        return starts.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Finds the first byte at or after <code>position</code> that is not a
+     * UTF-8 continuation byte.
+     *
+     * @return Offset of the byte, at most <code>limit</code>
+     */
+    private static long alignToCharStart(FileChannel channel, long position, long limit) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(4);
+
+        while (position < limit) {
+            bytes.clear();
+            int read = channel.read(bytes, position);
+
+            if (read <= 0) {
+                break;
+            }
+
+            for (int i = 0; i < read && position < limit; i++, position++) {
+                if (!isContinuationByte(bytes.get(i))) {
+                    return position;
+                }
+            }
+        }
+
+        return Math.min(position, limit);
+    }
+
+    private static boolean isContinuationByte(byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    /**
+     * Counts the UTF-16 characters that the bytes between <code>from</code>
+     * and <code>to</code> decode to.
+     */
+    private static long countChars(FileChannel channel, long from, long to) throws IOException {
+        if (from == to) {
+            return 0;
+        }
+
+        MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        long count = 0;
+
+        while (bytes.hasRemaining()) {
+            byte b = bytes.get();
+
+            if (!isContinuationByte(b)) {
+                count++;
+            }
+            if ((b & 0xF8) == 0xF0) {
+                // Four byte sequences decode to a surrogate pair
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private void scanRegion(
+        FileChannel channel,
+        long size,
+        long[] regionStarts,
+        int region,
+        long charStart,
+        LocalDateTime reference,
+        FileMentionSink sink
+    ) throws IOException {
+        long start = regionStarts[region];
+        long end = regionStarts[region + 1];
+        boolean lastRegion = region == regionStarts.length - 2;
+
+        long contextStart = alignToCharStart(
+            channel, Math.max(0, start - contextBytes(maxComponentLength)), start
+        );
+        long extendedEnd = alignToCharStart(
+            channel, Math.min(size, end + overlapBytes(maxComponentLength)), size
+        );
+
+        MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, contextStart, extendedEnd - contextStart);
+        CharBuffer text = StandardCharsets.UTF_8.newDecoder().decode(bytes);
+        int length = text.length();
+
+        int[] byteOffsets = byteOffsets(text);
+
+        int regionCharStart = Arrays.binarySearch(byteOffsets, (int) (start - contextStart));
+        int regionCharEnd = lastRegion ? length + 1 : Arrays.binarySearch(byteOffsets, (int) (end - contextStart));
+
+        long charOffset = charStart - regionCharStart;
+        ComponentSink regionSink = (startIndex, endIndex, epochDay, nanoOfDay) -> sink.accept(
+            contextStart + byteOffsets[startIndex],
+            contextStart + byteOffsets[endIndex],
+            charOffset + startIndex,
+            charOffset + endIndex,
+            epochDay,
+            nanoOfDay
+        );
+
+        // The decoded text might not start at the start of the file, don't
+        // let ^ match there
+        int minPosition = (contextStart == 0) ? 0 : 1;
+
+        for (Parser parser : parsers) {
+            Matcher matcher = parser.matchers.acquire(text);
+
+            try {
+                matcher.useTransparentBounds(true);
+                matcher.useAnchoringBounds(false);
+
+                int position = BackwardScanner.safeStart(
+                    parser, matcher, text, regionCharStart, minPosition, maxComponentLength
+                );
+
+                while (position <= length) {
+                    matcher.region(position, length);
+
+                    if (!matcher.find() || matcher.start() >= regionCharEnd) {
+                        break;
+                    }
+
+                    if (matcher.start() >= regionCharStart) {
+                        parser.pushMatch(matcher, reference, text, regionSink);
+                    }
+
+                    position = (matcher.end() == matcher.start()) ? matcher.end() + 1 : matcher.end();
+                }
+            } finally {
+                parser.matchers.release(matcher);
+            }
+        }
+    }
+
+    /**
+     * Computes the byte offset of every character of the decoded text, and
+     * of its end, from the start of the text. Both characters of a surrogate
+     * pair are counted as two bytes, so that the offsets strictly increase.
+     */
+    private static int[] byteOffsets(CharSequence text) {
+        int[] offsets = new int[text.length() + 1];
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            int bytes;
+            if (c < 0x80) {
+                bytes = 1;
+            } else if (c < 0x800 || Character.isSurrogate(c)) {
+                bytes = 2;
+            } else {
+                bytes = 3;
+            }
+
+            offsets[i + 1] = offsets[i] + bytes;
+        }
+
+        return offsets;
+    }
+
+    @FunctionalInterface
+    private interface RegionTask {
+        void run(int region) throws IOException;
+    }
+
+    /**
+     * Runs the task for every region on the executor and waits for all of
+     * them to finish.
+     */
+    private static void runAll(int regions, Executor executor, RegionTask task) throws IOException {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[regions];
+
+        for (int i = 0; i < regions; i++) {
+            int region = i;
+
+            futures[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    task.run(region);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, executor);
+        }
+
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException cause) {
+                throw cause.getCause();
+            } else if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            } else if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded pool of reusable {@link Matcher Matchers} of a single regex,
+ * shared by all threads.
+ * <p>
+ * Creating a matcher allocates arrays sized to the groups of its regex, so
+ * parsers borrow a matcher from the pool for the duration of a parsing call
+ * and return it afterwards, instead of creating a new matcher for every call.
+ * <p>
+ * The pool does not use locks or thread-locals, so it never blocks or pins
+ * virtual threads, and virtual threads reuse matchers no matter which carrier
+ * thread they run on. Matchers are taken and returned with compare-and-set.
+ * Every thread starts looking at its own slot, determined by its id, so
+ * threads parsing at once mostly use different slots instead of contending
+ * for the first one. If all pooled matchers are taken, a new matcher is
+ * created, and if the pool is full, a returned matcher is dropped, so the
+ * pool never holds more than {@link #CAPACITY} matchers, no matter how many
+ * threads use it.
+ *
+ * @author hashadex
+ * @since 2.2.0
+ */
+final class MatcherPool {
+    /**
+     * Maximum number of pooled matchers, enough for every core to parse with
+     * the same parser at once.
+     */
+    static final int CAPACITY = Math.max(2, Math.min(32, Runtime.getRuntime().availableProcessors()));
+
+    private final Pattern pattern;
+    private final AtomicReferenceArray<Matcher> slots = new AtomicReferenceArray<>(CAPACITY);
+
+    MatcherPool(Pattern pattern) {
+        this.pattern = pattern;
+    }
+
+    /**
+     * Takes a matcher from the pool, or creates a new one if the pool is
+     * empty, and resets it to the input. The matcher must be returned with
+     * {@link #release(Matcher)} once it is no longer used.
+     */
+    Matcher acquire(CharSequence input) {
+        int first = firstSlot();
+
+        for (int i = 0; i < CAPACITY; i++) {
+            int slot = (first + i) % CAPACITY;
+            Matcher matcher = slots.get(slot);
+
+            if (matcher != null && slots.compareAndSet(slot, matcher, null)) {
+                return matcher.reset(input);
+            }
+        }
+
+        return pattern.matcher(input);
+    }
+
+    /**
+     * Returns the matcher to the pool, or drops it if the pool is full.
+     */
+    void release(Matcher matcher) {
+        // Don't keep the input reachable, and undo the settings parsers
+        // might have changed
+        matcher.reset("");
+        matcher.useTransparentBounds(false);
+        matcher.useAnchoringBounds(true);
+
+        int first = firstSlot();
+
+        for (int i = 0; i < CAPACITY; i++) {
+            int slot = (first + i) % CAPACITY;
+
+            if (slots.get(slot) == null && slots.compareAndSet(slot, null, matcher)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the slot the current thread starts looking at.
+     */
+    @SuppressWarnings("deprecation")
+    private static int firstSlot() {
+        // Thread.getId() is deprecated in favour of threadId() since Java 19,
+        // but it returns the same id
+        return (int) (Thread.currentThread().getId() % CAPACITY);
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+/**
+ * Receiver of the date/time mentions found by a {@link StreamingScanner}.
+ * <p>
+ * Like a {@link ComponentSink}, a sink receives mentions as primitives, but
+ * their offsets are <code>long</code>s counted from the start of the stream,
+ * so that streams longer than <code>Integer.MAX_VALUE</code> characters can
+ * be scanned. Mentions do not refer to the scanned text in any way.
+ * <p>
+ * A mention always contains a date or a time. A missing date is reported as
+ * {@link ComponentSink#NO_DATE} and a missing time is reported as
+ * {@link ComponentSink#NO_TIME}.
+ *
+ * @author hashadex
+ * @since 2.2.0
+ */
+@FunctionalInterface
+public interface MentionSink {
+    /**
+     * Accepts a found mention.
+     *
+     * @param startOffset Offset of the first character of the mention from
+     *                    the start of the stream
+     * @param endOffset   Offset of the character after the mention from the
+     *                    start of the stream
+     * @param epochDay    Parsed date as returned by
+     *                    {@link java.time.LocalDate#toEpochDay()}, or
+     *                    {@link ComponentSink#NO_DATE}
+     * @param nanoOfDay   Parsed time as returned by
+     *                    {@link java.time.LocalTime#toNanoOfDay()}, or
+     *                    {@link ComponentSink#NO_TIME}
+     * @since 2.2.0
+     */
+    void accept(long startOffset, long endOffset, long epochDay, long nanoOfDay);
+}
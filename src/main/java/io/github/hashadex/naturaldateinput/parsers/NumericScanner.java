@@ -0,0 +1,491 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import io.github.hashadex.naturaldateinput.parsers.common.ISODateParser;
+import io.github.hashadex.naturaldateinput.parsers.common.SlashDateFormatParser;
+import io.github.hashadex.naturaldateinput.parsers.common.SlashDateFormatParser.DayMonthOrder;
+import io.github.hashadex.naturaldateinput.parsers.common.TwentyFourHourTimeParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENTwelveHourTimeParser;
+
+/**
+ * Finds the matches of the numeric date and time parsers in a single pass
+ * over the input, without regexes. The scanner recognizes the shapes matched
+ * by {@link ISODateParser}, {@link SlashDateFormatParser},
+ * {@link TwentyFourHourTimeParser} and {@link ENTwelveHourTimeParser},
+ * computes the numbers straight from the characters and pushes the same
+ * components as {@link Parser#parseInto(CharSequence, int, int, LocalDateTime, ComponentSink)}
+ * of every scanned parser would.
+ * <p>
+ * Every match of these parsers starts with a digit at the start of the input
+ * or after a whitespace character, so the scanner only looks at these
+ * positions and skips the rest of every run of digits. Components are pushed
+ * in the order of their positions instead of parser by parser, which only
+ * matters for sinks that care about the order of components with equal
+ * positions, and none of the scanned parsers of different types can match
+ * the same range.
+ * <p>
+ * Only instances of exactly these classes can be scanned, see
+ * {@link #canScan(Parser)}: subclasses may change how matches are parsed.
+ *
+ * @author hashadex
+ * @see io.github.hashadex.naturaldateinput.ParsingConfiguration ParsingConfiguration
+ * @since 2.2.0
+ */
+public final class NumericScanner {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final int isoDateParsers;
+    private final DayMonthOrder[] slashDateOrders;
+    private final int twentyFourHourTimeParsers;
+    private final int twelveHourTimeParsers;
+
+    /**
+     * Constructs the scanner. Every parser pushes its own components, so two
+     * instances of the same parser push every component twice.
+     *
+     * @param parsers Parsers to scan for, not null
+     * @throws NullPointerException     if <code>parsers</code> is null or
+     *                                  contains null elements
+     * @throws IllegalArgumentException if any of the parsers can not be
+     *                                  scanned, see {@link #canScan(Parser)}
+     * @since 2.2.0
+     */
+    public NumericScanner(Collection<? extends Parser> parsers) {
+        Objects.requireNonNull(parsers, "parsers must not be null");
+
+        int isoDateParsers = 0;
+        List<DayMonthOrder> slashDateOrders = new ArrayList<>();
+        int twentyFourHourTimeParsers = 0;
+        int twelveHourTimeParsers = 0;
+
+        for (Parser parser : parsers) {
+            Objects.requireNonNull(parser, "parsers must not contain null elements");
+
+            if (!canScan(parser)) {
+                throw new IllegalArgumentException("Parser %s can not be scanned".formatted(parser));
+            }
+
+            if (parser instanceof ISODateParser) {
+                isoDateParsers++;
+            } else if (parser instanceof SlashDateFormatParser slashDateParser) {
+                slashDateOrders.add(slashDateParser.preferredDayMonthOrder());
+            } else if (parser instanceof TwentyFourHourTimeParser) {
+                twentyFourHourTimeParsers++;
+            } else {
+                twelveHourTimeParsers++;
+            }
+        }
+
+        this.isoDateParsers = isoDateParsers;
+        this.slashDateOrders = slashDateOrders.toArray(DayMonthOrder[]::new);
+        this.twentyFourHourTimeParsers = twentyFourHourTimeParsers;
+        this.twelveHourTimeParsers = twelveHourTimeParsers;
+    }
+
+    /**
+     * Checks if the scanner can find the matches of the parser. Only direct
+     * instances of {@link ISODateParser}, {@link SlashDateFormatParser},
+     * {@link TwentyFourHourTimeParser} and {@link ENTwelveHourTimeParser} can
+     * be scanned.
+     *
+     * @param parser Parser to check, not null
+     * @return <code>true</code> if the parser can be scanned
+     * @throws NullPointerException if <code>parser</code> is null
+     * @since 2.2.0
+     */
+    public static boolean canScan(Parser parser) {
+        Class<?> type = parser.getClass();
+
+        return type == ISODateParser.class
+            || type == SlashDateFormatParser.class
+            || type == TwentyFourHourTimeParser.class
+            || type == ENTwelveHourTimeParser.class;
+    }
+
+    /**
+     * Scans the range of the input between <code>start</code> (inclusive)
+     * and <code>end</code> (exclusive) as if it was the whole input, and
+     * pushes the components of all parsers into the sink. Indexes of the
+     * components are relative to the whole input.
+     *
+     * @param input     Text to be parsed, not null
+     * @param start     Start index of the range, inclusive
+     * @param end       End index of the range, exclusive
+     * @param reference <code>LocalDateTime</code> that dates without a year
+     *                  are implied from, not null
+     * @param sink      Sink to push the components into, not null
+     * @throws NullPointerException      if any of the parameters are null
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of
+     *                                   the input
+     * @since 2.2.0
+     */
+    public void scanInto(CharSequence input, int start, int end, LocalDateTime reference, ComponentSink sink) {
+        Objects.requireNonNull(input, "input must not be null");
+        Objects.requireNonNull(reference, "reference must not be null");
+        Objects.requireNonNull(sink, "sink must not be null");
+        Objects.checkFromToIndex(start, end, input.length());
+
+        ReferenceContext context = ReferenceContext.of(reference);
+
+        for (int i = start; i < end; i++) {
+            if (!TokenStream.isDigit(input.charAt(i)) || (i > start && !TokenStream.isWhitespace(input.charAt(i - 1)))) {
+                continue;
+            }
+
+            int runEnd = i + 1;
+            while (runEnd < end && TokenStream.isDigit(input.charAt(runEnd))) {
+                runEnd++;
+            }
+
+            if (isoDateParsers > 0 && runEnd - i >= 4) {
+                scanISODate(input, i, end, sink);
+            }
+
+            if (runEnd - i <= 2) {
+                if (slashDateOrders.length > 0) {
+                    scanSlashDate(input, i, runEnd, end, context, sink);
+                }
+                if (twentyFourHourTimeParsers > 0) {
+                    scanTwentyFourHourTime(input, i, runEnd, end, sink);
+                }
+                if (twelveHourTimeParsers > 0) {
+                    scanTwelveHourTime(input, i, runEnd, end, sink);
+                }
+            }
+
+            // No match starts inside the run or at the character after it
+            i = runEnd;
+        }
+    }
+
+    /**
+     * Matches <code>YYYY</code>, <code>YYYY-MM</code>,
+     * <code>YYYY-MM-DD</code> and their forms with the dot delimeter or no
+     * delimeter, which must end the input.
+     */
+    private void scanISODate(CharSequence input, int start, int end, ComponentSink sink) {
+        int year = digits(input, start, start + 4);
+        int month = 1;
+        int day = 1;
+
+        int yearEnd = start + 4;
+        int matchEnd;
+
+        char delimeter = (yearEnd < end) ? input.charAt(yearEnd) : 0;
+        int monthStart = (delimeter == '-' || delimeter == '.') ? yearEnd + 1 : yearEnd;
+        int dayStart = (monthStart > yearEnd) ? monthStart + 3 : monthStart + 2;
+
+        if (
+            hasDigits(input, monthStart, 2, end) && hasDigits(input, dayStart, 2, end) &&
+            (dayStart == monthStart + 2 || input.charAt(monthStart + 2) == delimeter) &&
+            isLineEnd(input, dayStart + 2, end)
+        ) {
+            month = digits(input, monthStart, monthStart + 2);
+            day = digits(input, dayStart, dayStart + 2);
+            matchEnd = dayStart + 2;
+        } else if (hasDigits(input, monthStart, 2, end) && isLineEnd(input, monthStart + 2, end)) {
+            month = digits(input, monthStart, monthStart + 2);
+            matchEnd = monthStart + 2;
+        } else if (isLineEnd(input, yearEnd, end)) {
+            matchEnd = yearEnd;
+        } else {
+            return;
+        }
+
+        if (month < 1 || month > 12 || day < 1 || day > EpochDays.lengthOfMonth(year, month)) {
+            return;
+        }
+
+        long epochDay = EpochDays.of(year, month, day);
+
+        for (int n = 0; n < isoDateParsers; n++) {
+            sink.accept(start, matchEnd, epochDay, ComponentSink.NO_TIME);
+        }
+    }
+
+    /**
+     * Matches <code>N.N</code>, <code>N.N.YY</code> and
+     * <code>N.N.YYYY</code> with one or two digit numbers and the dot or
+     * slash delimeter, which must end the input.
+     */
+    private void scanSlashDate(
+        CharSequence input,
+        int start,
+        int runEnd,
+        int end,
+        ReferenceContext context,
+        ComponentSink sink
+    ) {
+        if (runEnd >= end) {
+            return;
+        }
+
+        char delimeter = input.charAt(runEnd);
+        if (delimeter != '.' && delimeter != '/') {
+            return;
+        }
+
+        int num2Start = runEnd + 1;
+        int num2End = num2Start;
+        while (num2End < end && num2End - num2Start <= 2 && TokenStream.isDigit(input.charAt(num2End))) {
+            num2End++;
+        }
+        if (num2End == num2Start || num2End - num2Start > 2) {
+            return;
+        }
+
+        int year = 0;
+        boolean yearSetExplicitly = true;
+        int matchEnd;
+
+        boolean hasYearDelimeter = num2End < end && input.charAt(num2End) == delimeter;
+
+        if (hasYearDelimeter && hasDigits(input, num2End + 1, 4, end) && isLineEnd(input, num2End + 5, end)) {
+            year = digits(input, num2End + 1, num2End + 5);
+            matchEnd = num2End + 5;
+        } else if (hasYearDelimeter && hasDigits(input, num2End + 1, 2, end) && isLineEnd(input, num2End + 3, end)) {
+            year = 2000 + digits(input, num2End + 1, num2End + 3);
+            matchEnd = num2End + 3;
+        } else if (isLineEnd(input, num2End, end)) {
+            yearSetExplicitly = false;
+            matchEnd = num2End;
+        } else {
+            return;
+        }
+
+        int num1 = digits(input, start, runEnd);
+        int num2 = digits(input, num2Start, num2End);
+
+        if (num1 < 1 || num1 > 31 || num2 < 1 || num2 > 31 || (num1 > 12 && num2 > 12)) {
+            return;
+        }
+
+        for (DayMonthOrder order : slashDateOrders) {
+            int day;
+            int month;
+
+            if (num1 <= 12 && num2 <= 12) {
+                // Ambiguous date - use preferred day-month order
+                day = (order == DayMonthOrder.DAY_MONTH) ? num1 : num2;
+                month = (order == DayMonthOrder.DAY_MONTH) ? num2 : num1;
+            } else if (num2 <= 12) {
+                day = num1;
+                month = num2;
+            } else {
+                day = num2;
+                month = num1;
+            }
+
+            long epochDay;
+
+            if (yearSetExplicitly) {
+                if (day > EpochDays.lengthOfMonth(year, month)) {
+                    continue;
+                }
+
+                epochDay = EpochDays.of(year, month, day);
+            } else {
+                epochDay = context.nextMonthDay(month, day);
+
+                if (epochDay == EpochDays.NO_SUCH_DAY) {
+                    continue;
+                }
+            }
+
+            sink.accept(start, matchEnd, epochDay, ComponentSink.NO_TIME);
+        }
+    }
+
+    /**
+     * Matches <code>H:MM</code> and <code>H:MM:SS</code> with a one or two
+     * digit hour, followed by a whitespace character or the end of the
+     * input.
+     */
+    private void scanTwentyFourHourTime(CharSequence input, int start, int runEnd, int end, ComponentSink sink) {
+        if (runEnd >= end || input.charAt(runEnd) != ':' || !hasDigits(input, runEnd + 1, 2, end)) {
+            return;
+        }
+
+        int second = 0;
+        int matchEnd;
+
+        if (
+            runEnd + 3 < end && input.charAt(runEnd + 3) == ':' &&
+            hasDigits(input, runEnd + 4, 2, end) && isTimeEnd(input, runEnd + 6, end)
+        ) {
+            second = digits(input, runEnd + 4, runEnd + 6);
+            matchEnd = runEnd + 6;
+        } else if (isTimeEnd(input, runEnd + 3, end)) {
+            matchEnd = runEnd + 3;
+        } else {
+            return;
+        }
+
+        int hour = digits(input, start, runEnd);
+        int minute = digits(input, runEnd + 1, runEnd + 3);
+
+        if (hour > 23 || minute > 59 || second > 59) {
+            return;
+        }
+
+        long nanoOfDay = nanoOfDay(hour, minute, second);
+
+        for (int n = 0; n < twentyFourHourTimeParsers; n++) {
+            sink.accept(start, matchEnd, ComponentSink.NO_DATE, nanoOfDay);
+        }
+    }
+
+    /**
+     * Matches <code>H AM</code>, <code>H:MM AM</code> and
+     * <code>H:MM:SS AM</code> with a one or two digit hour and AM or PM in
+     * any case and with optional dots, followed by a whitespace character or
+     * the end of the input.
+     */
+    private void scanTwelveHourTime(CharSequence input, int start, int runEnd, int end, ComponentSink sink) {
+        boolean hasMinute = runEnd < end && input.charAt(runEnd) == ':' && hasDigits(input, runEnd + 1, 2, end);
+        boolean hasSecond = hasMinute && runEnd + 3 < end && input.charAt(runEnd + 3) == ':' &&
+            hasDigits(input, runEnd + 4, 2, end);
+
+        int minute = 0;
+        int second = 0;
+        int timeEnd;
+        int matchEnd;
+
+        if (hasSecond && (matchEnd = meridiemEnd(input, runEnd + 6, end)) != -1) {
+            minute = digits(input, runEnd + 1, runEnd + 3);
+            second = digits(input, runEnd + 4, runEnd + 6);
+            timeEnd = runEnd + 6;
+        } else if (hasMinute && (matchEnd = meridiemEnd(input, runEnd + 3, end)) != -1) {
+            minute = digits(input, runEnd + 1, runEnd + 3);
+            timeEnd = runEnd + 3;
+        } else if ((matchEnd = meridiemEnd(input, runEnd, end)) != -1) {
+            timeEnd = runEnd;
+        } else {
+            return;
+        }
+
+        int hour = digits(input, start, runEnd);
+
+        if (hour > 12 || minute > 59 || second > 59) {
+            return;
+        }
+
+        boolean pm = (input.charAt(timeEnd + 1) | 0x20) == 'p';
+
+        // Convert 12h to 24h: 12 AM means 0:00, 12 PM means 12:00
+        if (!pm && hour == 12) {
+            hour = 0;
+        } else if (pm && hour != 12) {
+            hour += 12;
+        }
+
+        long nanoOfDay = nanoOfDay(hour, minute, second);
+
+        for (int n = 0; n < twelveHourTimeParsers; n++) {
+            sink.accept(start, matchEnd, ComponentSink.NO_DATE, nanoOfDay);
+        }
+    }
+
+    /**
+     * Matches a whitespace character and AM or PM, written like
+     * <code>am</code>, <code>A.M.</code> or <code>pm.</code>, at the index.
+     *
+     * @return End index of the match, or -1 if there is no match
+     */
+    private static int meridiemEnd(CharSequence input, int index, int end) {
+        if (index + 2 >= end || !TokenStream.isWhitespace(input.charAt(index))) {
+            return -1;
+        }
+
+        char letter = (char) (input.charAt(index + 1) | 0x20);
+        if (letter != 'a' && letter != 'p') {
+            return -1;
+        }
+
+        int i = index + 2;
+        if (input.charAt(i) == '.') {
+            i++;
+        }
+        if (i >= end || (input.charAt(i) | 0x20) != 'm') {
+            return -1;
+        }
+
+        i++;
+        if (i < end && input.charAt(i) == '.') {
+            i++;
+        }
+
+        return isTimeEnd(input, i, end) ? i : -1;
+    }
+
+    /**
+     * Checks if the <code>$</code> regex boundary matches at the index: at
+     * the end of the input, or before a line terminator that ends the input.
+     */
+    private static boolean isLineEnd(CharSequence input, int index, int end) {
+        if (index == end) {
+            return true;
+        }
+
+        if (index == end - 2) {
+            return input.charAt(index) == '\r' && input.charAt(index + 1) == '\n';
+        }
+
+        if (index == end - 1) {
+            char c = input.charAt(index);
+
+            if (c == '\n') {
+                return index == 0 || input.charAt(index - 1) != '\r';
+            }
+
+            return c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if the <code>(?=$|\s)</code> regex boundary matches at the
+     * index.
+     */
+    private static boolean isTimeEnd(CharSequence input, int index, int end) {
+        return (index < end && TokenStream.isWhitespace(input.charAt(index))) || isLineEnd(input, index, end);
+    }
+
+    private static boolean hasDigits(CharSequence input, int start, int count, int end) {
+        if (start + count > end) {
+            return false;
+        }
+
+        for (int i = start; i < start + count; i++) {
+            if (!TokenStream.isDigit(input.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the value of the digits between the indexes, which must all be
+     * digits.
+     */
+    private static int digits(CharSequence input, int start, int end) {
+        int value = 0;
+
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (input.charAt(i) - '0');
+        }
+
+        return value;
+    }
+
+    private static long nanoOfDay(int hour, int minute, int second) {
+        return (hour * 3600L + minute * 60L + second) * NANOS_PER_SECOND;
+    }
+}
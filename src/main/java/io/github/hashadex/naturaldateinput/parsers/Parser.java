@@ -3,14 +3,18 @@ package io.github.hashadex.naturaldateinput.parsers;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -27,6 +31,12 @@ import java.util.stream.Stream;
  * Each concrete parser has it's own regex and <code>parseMatch</code> method.
  * A parser handles only one date/time format.
  * <p>
+ * Concrete parsers can also extend {@link SinkParser}, which pushes the
+ * components of matches into {@link ComponentSink ComponentSinks}, or
+ * {@link CompilingParser}, which compiles matches into reference-free
+ * {@link Expression Expressions}. All parsers included in this library
+ * extend <code>CompilingParser</code>.
+ * <p>
  * Some examples of parsers included in this library are:
  * <ul>
  * <li>{@link io.github.hashadex.naturaldateinput.parsers.common.ISODateParser ISODateParser},
@@ -36,6 +46,12 @@ import java.util.stream.Stream;
  * <li>{@link io.github.hashadex.naturaldateinput.parsers.en.ENRelativeWordParser ENRelativeWordParser}
  * which handles English words like "today" and "tomorrow"
  * </ul>
+ * <p>
+ * Parsers are immutable and can be used by multiple threads at once. Every
+ * parsing method only uses the state it creates itself, or state that is
+ * passed to it, like a {@link ComponentSink} or a reused {@link Matcher},
+ * which must not be shared between threads. Concrete parsers must keep this
+ * guarantee, all parsers included in this library do.
  * 
  * @author hashadex
  * @since 1.0.0
@@ -61,6 +77,54 @@ public abstract class Parser {
      */
     protected final Map<String, Integer> namedGroupMap;
 
+    /**
+     * Index returned by {@link #groupIndex(String)} for groups that are not
+     * in the {@link #namedGroupMap}. It is the same as the index that
+     * {@link MatchResult#start(int)} returns for groups that did not take
+     * part in the match.
+     * 
+     * @since 2.2.0
+     */
+    protected static final int NO_GROUP = -1;
+
+    /**
+     * Regex of the left boundary check, which all parsers in this library
+     * start their regexes with.
+     */
+    static final String LEFT_BOUNDARY_CHECK = "(?<=^|\\s)";
+
+    /**
+     * Whether the concrete parser extends <code>Parser</code> directly
+     * instead of {@link SinkParser}, in which case it may override
+     * {@link #parse(String, LocalDateTime)} and all other ways of parsing
+     * must delegate to it.
+     */
+    final boolean delegatesToParse;
+
+    /**
+     * Whether the regex starts with the {@link #LEFT_BOUNDARY_CHECK}, which
+     * means that it can only match at the boundaries of a {@link TokenStream}.
+     */
+    final boolean startsWithBoundaryCheck;
+
+    /**
+     * Matchers of {@link #pattern}, reused by the parsing methods instead of
+     * creating a new matcher for every call.
+     */
+    final MatcherPool matchers;
+
+    /**
+     * Whether the parser can parse case-folded input, see
+     * {@link #canParseFolded()}.
+     */
+    private final boolean foldable;
+
+    /**
+     * Matchers of the case-sensitive copy of {@link #pattern}, used for
+     * case-folded input. Created on first use.
+     */
+    private volatile MatcherPool foldedMatchers;
+
     /**
      * Constructs the class and compiles the provided <code>regex</code> using
      * {@link java.util.regex.Pattern#compile(String, int)} with the provided
@@ -80,6 +144,58 @@ public abstract class Parser {
     protected Parser(String regex, Map<String, Integer> namedGroupMap, int flags) {
         pattern = Pattern.compile(regex, flags);
         this.namedGroupMap = namedGroupMap;
+        this.matchers = new MatcherPool(pattern);
+
+        this.delegatesToParse = !(this instanceof SinkParser);
+        // A literal regex does not check anything, and with Unicode
+        // character classes \s matches more than the whitespace of a
+        // TokenStream
+        this.startsWithBoundaryCheck = (flags & (Pattern.LITERAL | Pattern.UNICODE_CHARACTER_CLASS)) == 0 && (
+            (flags & Pattern.COMMENTS) != 0 ? regex.stripLeading() : regex
+        ).startsWith(LEFT_BOUNDARY_CHECK);
+
+        this.foldable = this instanceof CompilingParser && isFoldable(regex, flags);
+    }
+
+    /**
+     * Checks if a regex compiled with the flags matches case-folded text
+     * case-sensitively the same way as it matches the original text: the
+     * regex must be case-insensitive with Unicode case, and folding must not
+     * change any of its characters outside of escape sequences and comments.
+     * Escapes that may stand for letters and inline flags that may turn
+     * case-insensitivity off are rejected.
+     */
+    private static boolean isFoldable(String regex, int flags) {
+        int caseFlags = Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+        if ((flags & caseFlags) != caseFlags || (flags & (Pattern.LITERAL | Pattern.CANON_EQ)) != 0) {
+            return false;
+        }
+
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+
+            if (c == '\\' && i + 1 < regex.length()) {
+                // Escaped characters, like \S or \D, keep their meaning,
+                // but escapes of code points may stand for uppercase letters
+                if ("0cuxNpP".indexOf(regex.charAt(i + 1)) != -1) {
+                    return false;
+                }
+
+                i++;
+            } else if (c == '#' && (flags & Pattern.COMMENTS) != 0) {
+                // Comments are ignored up to the end of the line
+                while (i + 1 < regex.length() && "\n\r\u0085\u2028\u2029".indexOf(regex.charAt(i + 1)) == -1) {
+                    i++;
+                }
+            } else if (c == '(' && regex.startsWith("(?", i) && i + 2 < regex.length()
+                    && "idmsuxU-".indexOf(regex.charAt(i + 2)) != -1) {
+                return false;
+            } else if (CaseFolding.fold(c) != c) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     /**
@@ -127,6 +243,112 @@ public abstract class Parser {
             .collect(Collectors.joining("|"));
     }
 
+    /**
+     * Returns the index of the named capturing group from the
+     * {@link #namedGroupMap}.
+     * <p>
+     * Concrete parsers should resolve their groups once, in their
+     * constructors, and keep the indexes in <code>final</code> fields, so
+     * that parsing a match does not look up the map.
+     * 
+     * @param name Name of the capturing group
+     * @return Index of the group, or {@link #NO_GROUP} if the map does not
+     *         contain the group
+     * @since 2.2.0
+     */
+    protected final int groupIndex(String name) {
+        if (namedGroupMap == null) {
+            return NO_GROUP;
+        }
+
+        Integer group = namedGroupMap.get(name);
+
+        return (group != null) ? group : NO_GROUP;
+    }
+
+    /**
+     * Checks if the capturing group took part in the match, without creating
+     * the text of the group.
+     * 
+     * @param match Match info
+     * @param group Index of the group, or {@link #NO_GROUP}
+     * @return <code>true</code> if the regex has the group and it matched
+     * @since 2.2.0
+     */
+    protected static boolean isMatched(MatchResult match, int group) {
+        return group != NO_GROUP && match.start(group) != -1;
+    }
+
+    /**
+     * Parses the ASCII digits between <code>start</code> (inclusive) and
+     * <code>end</code> (exclusive) in the source text into a non-negative
+     * integer, without creating a substring.
+     * <p>
+     * Unlike {@link Integer#parseInt(String)}, this method does not throw if
+     * the range is not a number, so inputs like
+     * <code>"in 99999999999 days"</code> are rejected without the cost of
+     * creating an exception. The indexes of a capturing group that did not
+     * match, which are -1, are also not a number.
+     *
+     * @param source Source text
+     * @param start  Start index of the digits, inclusive
+     * @param end    End index of the digits, exclusive
+     * @return The number, or -1 if the range is empty, contains a character
+     *         that is not an ASCII digit or the number is greater than
+     *         {@link Integer#MAX_VALUE}
+     * @since 2.2.0
+     */
+    protected static int parseDigits(CharSequence source, int start, int end) {
+        if (start < 0 || start >= end) {
+            return -1;
+        }
+
+        int value = 0;
+
+        for (int i = start; i < end; i++) {
+            int digit = source.charAt(i) - '0';
+
+            if (digit < 0 || digit > 9 || value > (Integer.MAX_VALUE - digit) / 10) {
+                return -1;
+            }
+
+            value = value * 10 + digit;
+        }
+
+        return value;
+    }
+
+    /**
+     * Part of the reference datetime that the components of a parser depend
+     * on. Parsing the same input with two references that have the same
+     * dependent part returns the same dates and times.
+     * 
+     * @see Parser#referenceDependency()
+     * @since 2.2.0
+     */
+    public static enum ReferenceDependency {
+        /**
+         * Components do not depend on the reference, like the components of
+         * {@link io.github.hashadex.naturaldateinput.parsers.common.ISODateParser ISODateParser}.
+         */
+        NONE,
+
+        /**
+         * Components depend only on the date of the reference, like the
+         * components of
+         * {@link io.github.hashadex.naturaldateinput.parsers.en.ENRelativeWordParser ENRelativeWordParser}.
+         */
+        DATE,
+
+        /**
+         * Components depend on the date and the time of the reference, like
+         * the components of
+         * {@link io.github.hashadex.naturaldateinput.parsers.en.ENChronoUnitLaterParser ENChronoUnitLaterParser}
+         * that add hours or minutes to the reference.
+         */
+        DATE_TIME
+    }
+
     /**
      * Immutable data class that represents one parsed regex match. Contains
      * date and/or time, reference datetime, source string, as well as the
@@ -139,6 +361,13 @@ public abstract class Parser {
      * <p>
      * Objects of this class can only be created by {@link Parser Parsers}
      * by using the protected {@link ParsedComponentBuilder}.
+     * <p>
+     * If the component was parsed from a <code>CharSequence</code> that is not
+     * a <code>String</code>, such as a <code>StringBuilder</code> or a
+     * <code>CharBuffer</code>, the component keeps a <code>String</code> copy
+     * of only its own text, made when the component is built, so later
+     * changes to the sequence do not affect the component. Its indexes are
+     * still relative to the sequence.
      * 
      * @author hashadex
      * @since 1.0.0
@@ -149,6 +378,12 @@ public abstract class Parser {
         private final String source;
         private final int startIndex;
         private final int endIndex;
+
+        /**
+         * Index in the parsed text at which {@link #source} starts, 0 unless
+         * only the text of the component was copied.
+         */
+        private final int sourceOffset;
     
         private final LocalDate date;
         private final LocalTime time;
@@ -157,6 +392,7 @@ public abstract class Parser {
             this.reference = builder.reference;
 
             this.source = builder.source;
+            this.sourceOffset = builder.sourceOffset;
             this.startIndex = builder.startIndex;
             this.endIndex = builder.endIndex;
 
@@ -183,6 +419,10 @@ public abstract class Parser {
         /**
          * Returns the source string in which the parser had found and
          * successfully parsed a certain date/time format.
+         * <p>
+         * If the component was parsed from a <code>CharSequence</code> that is
+         * not a <code>String</code>, the source is only the text of the
+         * component, see {@link #text()}.
          * 
          * @return Source string
          * @since 1.0.0
@@ -255,7 +495,7 @@ public abstract class Parser {
          * @since 1.0.0
          */
         public String text() {
-            return source.substring(startIndex, endIndex);
+            return source.substring(startIndex - sourceOffset, endIndex - sourceOffset);
         }
     
         /**
@@ -394,6 +634,7 @@ public abstract class Parser {
         private LocalDateTime reference;
     
         private String source;
+        private int sourceOffset;
         private int startIndex;
         private int endIndex;
     
@@ -424,6 +665,41 @@ public abstract class Parser {
             this.endIndex = endIndex;
         }
 
+        /**
+         * Constructs the builder with a source that is not necessarily a
+         * <code>String</code>. Unless the source is a <code>String</code>,
+         * only the text between the start and end indexes is copied, so the
+         * built component does not refer to the caller's sequence, and its
+         * {@link ParsedComponent#source() source} is the copied text.
+         * 
+         * @param reference  Reference datetime, not null
+         * @param source     Source text, not null
+         * @param startIndex Start index of the regex match that was processed
+         * @param endIndex   End index of the regex match that was processed
+         * @throws NullPointerException      If <code>reference</code> or
+         *                                   <code>source</code> parameters are
+         *                                   null
+         * @throws IndexOutOfBoundsException If the source is not a
+         *                                   <code>String</code> and the
+         *                                   indexes are out of its bounds
+         * @since 2.2.0
+         */
+        public ParsedComponentBuilder(LocalDateTime reference, CharSequence source, int startIndex, int endIndex) {
+            this(reference, textOf(source, startIndex, endIndex), startIndex, endIndex);
+
+            this.sourceOffset = (source instanceof String) ? 0 : startIndex;
+        }
+
+        private static String textOf(CharSequence source, int startIndex, int endIndex) {
+            Objects.requireNonNull(source, "source must not be null");
+
+            if (source instanceof String string) {
+                return string;
+            }
+
+            return source.subSequence(startIndex, endIndex).toString();
+        }
+
         /**
          * Constructs the builder, extracting the start and end indexes from
          * the provided {@link java.util.regex.MatchResult MatchResult}.
@@ -518,6 +794,10 @@ public abstract class Parser {
      * source string.
      * <p>
      * This method should only be called from {@link #parse(String, LocalDateTime)}.
+     * <p>
+     * Parsers that push their components into sinks without creating a
+     * <code>ParsedComponent</code> for every match extend
+     * {@link SinkParser} instead, which implements this method.
      * 
      * @param match     Match info
      * @param reference Reference datetime
@@ -529,6 +809,251 @@ public abstract class Parser {
      */
     protected abstract Optional<ParsedComponent> parseMatch(MatchResult match, LocalDateTime reference, String source);
 
+    /**
+     * Parses the match and pushes the component into the sink. Parsers that
+     * extend <code>Parser</code> directly are always parsed with
+     * {@link #parse(String, LocalDateTime)}, so this is only called for
+     * {@link SinkParser SinkParsers}, which push their components directly.
+     */
+    void pushMatch(MatchResult match, LocalDateTime reference, CharSequence source, ComponentSink sink) {
+        parseMatch(match, reference, source.toString())
+            .ifPresent(component -> ComponentBuffer.push(sink, component));
+    }
+
+    /**
+     * Checks if the parser can compile inputs into
+     * {@link Expression Expressions}, see {@link #compile(CharSequence)}.
+     * All parsers included in this library can.
+     * 
+     * @return <code>true</code> if the parser extends
+     *         {@link CompilingParser}
+     * @since 2.2.0
+     */
+    public boolean canCompile() {
+        return this instanceof CompilingParser;
+    }
+
+    /**
+     * Compiles every match of the parser's regex in the provided text into a
+     * reference-free {@link Expression}.
+     * <p>
+     * Resolving the returned expressions in order against a reference pushes
+     * the same components as
+     * {@link #parseInto(CharSequence, LocalDateTime, ComponentSink)} with
+     * that reference, so an input can be parsed once and resolved against
+     * many references.
+     * 
+     * @param input Text to be compiled, not null
+     * @return List of expressions, in the order of the matches
+     * @throws NullPointerException          if <code>input</code> is null
+     * @throws UnsupportedOperationException if the parser can not compile
+     *                                       inputs, see {@link #canCompile()}
+     * @since 2.2.0
+     */
+    public List<Expression> compile(CharSequence input) {
+        Objects.requireNonNull(input, "input must not be null");
+
+        if (!(this instanceof CompilingParser compiling)) {
+            throw new UnsupportedOperationException(
+                "Parser %s does not support compiling matches".formatted(getClass().getName())
+            );
+        }
+
+        List<Expression> expressions = new ArrayList<>();
+        Matcher matcher = matchers.acquire(input);
+
+        try {
+            while (matcher.find()) {
+                Expression expression = compiling.compileMatch(matcher, input);
+
+                if (expression != null) {
+                    expressions.add(expression);
+                }
+            }
+        } finally {
+            matchers.release(matcher);
+        }
+
+        return expressions;
+    }
+
+    /**
+     * Checks if the parser can parse case-folded text with
+     * {@link #parseFoldedInto(CharSequence, int, int, LocalDateTime, ComponentSink)}.
+     * <p>
+     * Folded text only contains characters that {@link CaseFolding} does not
+     * change, so a case-insensitive regex, none of the characters of which
+     * are changed by folding, can match it case-sensitively, which is faster
+     * than case-insensitive matching, especially for long alternations of
+     * Cyrillic words.
+     * 
+     * @return <code>true</code> if the parser can {@link #canCompile() compile}
+     *         its matches and its regex is compiled with the
+     *         <code>CASE_INSENSITIVE</code> and <code>UNICODE_CASE</code>
+     *         flags and contains no characters that folding changes, like
+     *         most parsers included in this library. Parsers that look the
+     *         words of their matches up case-sensitively override this
+     *         method to return <code>false</code>.
+     * @since 2.2.0
+     */
+    public boolean canParseFolded() {
+        return foldable;
+    }
+
+    /**
+     * Parses the range of case-folded text between <code>start</code>
+     * (inclusive) and <code>end</code> (exclusive) with a case-sensitive copy
+     * of the parser's regex and pushes the results into the sink.
+     * <p>
+     * If the range was folded with {@link CaseFolding#fold(CharSequence, int, int)},
+     * the pushed components are the same as the components pushed by
+     * {@link #parseInto(CharSequence, int, int, LocalDateTime, ComponentSink)}
+     * for the original text.
+     * 
+     * @param folded    Case-folded text to be parsed, not null
+     * @param start     Start index of the range, inclusive
+     * @param end       End index of the range, exclusive
+     * @param reference <code>LocalDateTime</code> that serves as a reference 
+     *                  point for parsers that deal with relative date/time
+     *                  expressions, not null
+     * @param sink      Sink to push the parsed components into, not null
+     * @throws NullPointerException          if any of the parameters are null
+     * @throws IndexOutOfBoundsException     if the range is out of the bounds
+     *                                       of the text
+     * @throws UnsupportedOperationException if the parser can not parse
+     *                                       folded text, see
+     *                                       {@link #canParseFolded()}
+     * @since 2.2.0
+     */
+    public void parseFoldedInto(CharSequence folded, int start, int end, LocalDateTime reference, ComponentSink sink) {
+        Objects.requireNonNull(folded, "folded must not be null");
+        Objects.requireNonNull(reference, "reference must not be null");
+        Objects.requireNonNull(sink, "sink must not be null");
+        Objects.checkFromToIndex(start, end, folded.length());
+
+        parseRegionInto(foldedMatchers(), folded, start, end, reference, sink);
+    }
+
+    /**
+     * Parses the input of the provided {@link TokenStream} of case-folded
+     * text with a case-sensitive copy of the parser's regex and pushes the
+     * results into the sink. See
+     * {@link #parseFoldedInto(CharSequence, int, int, LocalDateTime, ComponentSink)}
+     * and {@link #parseInto(TokenStream, LocalDateTime, ComponentSink)}.
+     * 
+     * @param tokens    Token stream of the case-folded text, not null
+     * @param reference <code>LocalDateTime</code> that serves as a reference 
+     *                  point for parsers that deal with relative date/time
+     *                  expressions, not null
+     * @param sink      Sink to push the parsed components into, not null
+     * @throws NullPointerException          if any of the parameters are null
+     * @throws UnsupportedOperationException if the parser can not parse
+     *                                       folded text, see
+     *                                       {@link #canParseFolded()}
+     * @since 2.2.0
+     */
+    public void parseFoldedInto(TokenStream tokens, LocalDateTime reference, ComponentSink sink) {
+        Objects.requireNonNull(tokens, "tokens must not be null");
+        Objects.requireNonNull(reference, "reference must not be null");
+        Objects.requireNonNull(sink, "sink must not be null");
+
+        MatcherPool pool = foldedMatchers();
+
+        if (!startsWithBoundaryCheck) {
+            parseRegionInto(pool, tokens.input(), 0, tokens.input().length(), reference, sink);
+            return;
+        }
+
+        parseBoundariesInto(pool, tokens, reference, sink);
+    }
+
+    /**
+     * Returns the matchers of the case-sensitive copy of the regex, creating
+     * the pool on first use.
+     *
+     * @throws UnsupportedOperationException if the parser can not parse
+     *                                       folded text
+     */
+    private MatcherPool foldedMatchers() {
+        if (!canParseFolded()) {
+            throw new UnsupportedOperationException(
+                "Parser %s does not support parsing folded text".formatted(getClass().getName())
+            );
+        }
+
+        MatcherPool pool = foldedMatchers;
+        if (pool == null) {
+            // Racing threads may compile the regex twice, which is harmless
+            pool = new MatcherPool(
+                Pattern.compile(pattern.pattern(), pattern.flags() & ~(Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE))
+            );
+            foldedMatchers = pool;
+        }
+
+        return pool;
+    }
+
+    /**
+     * Returns the keywords of the parser. The parser can only match an input
+     * if at least one of its keywords occurs in the input, ignoring case. For
+     * example, a parser that handles month names can not match an input that
+     * contains no month names.
+     * <p>
+     * Keywords let {@link io.github.hashadex.naturaldateinput.ParsingConfiguration ParsingConfiguration}
+     * skip parsers that can not match the input, see {@link KeywordIndex}.
+     * <p>
+     * The default implementation returns an empty set, which means that the
+     * parser has no keywords and may match any input.
+     *
+     * @return Set of keywords, or an empty set if the parser may match any
+     *         input
+     * @since 2.2.0
+     */
+    public Set<String> keywords() {
+        return Set.of();
+    }
+
+    /**
+     * Checks a cheap necessary condition for the parser to be able to match
+     * the input, without running the regex. For example, a parser that
+     * handles "HH:MM" times can not match an input in which no
+     * <code>:</code> appears between two digits.
+     * <p>
+     * {@link io.github.hashadex.naturaldateinput.ParsingConfiguration ParsingConfiguration}
+     * skips parsers that return <code>false</code>. The profile is collected
+     * once per input and shared by all parsers.
+     * <p>
+     * The default implementation returns <code>true</code>.
+     *
+     * @param profile Profile of the input
+     * @return <code>false</code> if the parser can not match the input,
+     *         <code>true</code> if it might
+     * @since 2.2.0
+     */
+    public boolean canMatch(CharacterProfile profile) {
+        return true;
+    }
+
+    /**
+     * Returns the part of the reference datetime that the components of the
+     * parser depend on.
+     * <p>
+     * {@link io.github.hashadex.naturaldateinput.ParsingConfiguration ParsingConfiguration}
+     * uses it to reuse cached results for other references, see
+     * {@link io.github.hashadex.naturaldateinput.ParsingConfiguration.OptionsBuilder#cacheSize(int) OptionsBuilder.cacheSize}.
+     * A parser must never return a smaller dependency than its components
+     * actually have.
+     * <p>
+     * The default implementation returns {@link ReferenceDependency#DATE_TIME},
+     * which is correct for every parser.
+     *
+     * @return Reference dependency, not null
+     * @since 2.2.0
+     */
+    public ReferenceDependency referenceDependency() {
+        return ReferenceDependency.DATE_TIME;
+    }
+
     /**
      * Parses the provided string.
      * <p>
@@ -554,10 +1079,328 @@ public abstract class Parser {
         Objects.requireNonNull(input, "input must not be null");
         Objects.requireNonNull(reference, "reference must not be null");
 
-        Matcher matcher = pattern.matcher(input);
+        // Collect the components eagerly, so that the matcher can be
+        // returned to the pool before the stream is consumed
+        List<ParsedComponent> components = new ArrayList<>();
+        Matcher matcher = matchers.acquire(input);
+
+        try {
+            while (matcher.find()) {
+                parseMatch(matcher, reference, input).ifPresent(components::add);
+            }
+        } finally {
+            matchers.release(matcher);
+        }
+
+        return components.stream();
+    }
+
+    /**
+     * Parses the provided text and pushes the results into the sink.
+     * <p>
+     * The pushed components are the same as the components returned by
+     * {@link #parse(String, LocalDateTime)}, in the same order. Unlike
+     * <code>parse</code>, this method does not create a <code>Stream</code>,
+     * an <code>Optional</code> and a {@link ParsedComponent} for every match.
+     * <p>
+     * If the concrete parser extends <code>Parser</code> directly instead of
+     * {@link SinkParser}, this method delegates to
+     * {@link #parse(String, LocalDateTime)}.
+     * 
+     * @param input     Text to be parsed, not null
+     * @param reference <code>LocalDateTime</code> that serves as a reference 
+     *                  point for parsers that deal with relative date/time
+     *                  expressions, not null
+     * @param sink      Sink to push the parsed components into, not null
+     * @throws NullPointerException if any of the parameters are null
+     * @since 2.2.0
+     */
+    public void parseInto(CharSequence input, LocalDateTime reference, ComponentSink sink) {
+        Objects.requireNonNull(input, "input must not be null");
+
+        parseInto(input, 0, input.length(), reference, sink);
+    }
+
+    /**
+     * Parses the range of the provided text between <code>start</code>
+     * (inclusive) and <code>end</code> (exclusive) and pushes the results
+     * into the sink, without copying the range.
+     * <p>
+     * The range is parsed as if it was the whole input: the text outside of
+     * the range is not looked at, so a date at the start of the range is
+     * found even if a letter precedes it in the text. Indexes of the pushed
+     * components are relative to the whole text, not to the range.
+     * <p>
+     * If the concrete parser extends <code>Parser</code> directly instead of
+     * {@link SinkParser}, this method delegates to
+     * {@link #parse(String, LocalDateTime)} with a copy of the range.
+     * 
+     * @param input     Text to be parsed, not null
+     * @param start     Start index of the range, inclusive
+     * @param end       End index of the range, exclusive
+     * @param reference <code>LocalDateTime</code> that serves as a reference 
+     *                  point for parsers that deal with relative date/time
+     *                  expressions, not null
+     * @param sink      Sink to push the parsed components into, not null
+     * @throws NullPointerException      if any of the parameters are null
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of
+     *                                   the text
+     * @since 2.2.0
+     */
+    public void parseInto(CharSequence input, int start, int end, LocalDateTime reference, ComponentSink sink) {
+        Objects.requireNonNull(input, "input must not be null");
+        Objects.requireNonNull(reference, "reference must not be null");
+        Objects.requireNonNull(sink, "sink must not be null");
+        Objects.checkFromToIndex(start, end, input.length());
+
+        if (delegatesToParse) {
+            if (start == 0 && end == input.length()) {
+                parse(input.toString(), reference).forEach(component -> ComponentBuffer.push(sink, component));
+            } else {
+                parse(input.subSequence(start, end).toString(), reference)
+                    .forEach(component -> ComponentBuffer.push(sink, component, start));
+            }
+            return;
+        }
+
+        parseRegionInto(matchers, input, start, end, reference, sink);
+    }
+
+    /**
+     * Finds the matches in the range with a matcher from the pool and parses
+     * them into the sink.
+     */
+    private void parseRegionInto(
+        MatcherPool pool,
+        CharSequence input,
+        int start,
+        int end,
+        LocalDateTime reference,
+        ComponentSink sink
+    ) {
+        Matcher matcher = pool.acquire(input);
+        // With the default opaque and anchoring bounds, the region is matched
+        // as if it was the whole input
+        matcher.region(start, end);
+
+        try {
+            while (matcher.find()) {
+                pushMatch(matcher, reference, input, sink);
+            }
+        } finally {
+            pool.release(matcher);
+        }
+    }
 
-        return matcher.results()
-            .flatMap(match -> parseMatch(matcher, reference, input).stream());
+    /**
+     * Parses the range of the provided text between <code>start</code>
+     * (inclusive) and <code>end</code> (exclusive), without copying the
+     * range. See {@link #parseInto(CharSequence, int, int, LocalDateTime, ComponentSink)}.
+     * <p>
+     * The indexes of the returned components are relative to the whole text.
+     * Unless the text is a <code>String</code>, only the texts of the
+     * components are copied, see {@link ParsedComponent}.
+     * 
+     * @param input     Text to be parsed, not null
+     * @param start     Start index of the range, inclusive
+     * @param end       End index of the range, exclusive
+     * @param reference <code>LocalDateTime</code> that serves as a reference 
+     *                  point for parsers that deal with relative date/time
+     *                  expressions, not null
+     * @return <code>Stream</code> of <code>ParsedComponents</code> that represent
+     *         parsing results. The stream can be empty.
+     * @throws NullPointerException      if any of the parameters are null
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of
+     *                                   the text
+     * @since 2.2.0
+     */
+    public Stream<ParsedComponent> parse(CharSequence input, int start, int end, LocalDateTime reference) {
+        ComponentBuffer buffer = new ComponentBuffer();
+        parseInto(input, start, end, reference, buffer);
+
+        if (buffer.size() == 0) {
+            return Stream.empty();
+        }
+
+        // Build the components before returning, as the text may change
+        // while the stream is not consumed
+        List<ParsedComponent> components = new ArrayList<>(buffer.size());
+        for (int i = 0; i < buffer.size(); i++) {
+            components.add(buffer.component(i, reference, input));
+        }
+
+        return components.stream();
+    }
+
+    /**
+     * Creates a new matcher of the parser's regex, to be reused with
+     * {@link #parseInto(CharSequence, LocalDateTime, ComponentSink, Matcher)}.
+     * 
+     * @return New matcher with an empty input
+     * @since 2.2.0
+     */
+    public Matcher newMatcher() {
+        return pattern.matcher("");
+    }
+
+    /**
+     * Parses the provided text and pushes the results into the sink, reusing
+     * the provided matcher instead of creating a new one. The matcher is
+     * reset to the input, so it can be reused for any number of inputs, but
+     * not by multiple threads at once.
+     * <p>
+     * The pushed components are the same as with
+     * {@link #parseInto(CharSequence, LocalDateTime, ComponentSink)}.
+     * 
+     * @param input     Text to be parsed, not null
+     * @param reference <code>LocalDateTime</code> that serves as a reference 
+     *                  point for parsers that deal with relative date/time
+     *                  expressions, not null
+     * @param sink      Sink to push the parsed components into, not null
+     * @param matcher   Matcher created with {@link #newMatcher()} of this
+     *                  parser, not null
+     * @throws NullPointerException     if any of the parameters are null
+     * @throws IllegalArgumentException if the matcher does not use the
+     *                                  parser's regex
+     * @since 2.2.0
+     */
+    public void parseInto(CharSequence input, LocalDateTime reference, ComponentSink sink, Matcher matcher) {
+        Objects.requireNonNull(input, "input must not be null");
+        Objects.requireNonNull(reference, "reference must not be null");
+        Objects.requireNonNull(sink, "sink must not be null");
+        Objects.requireNonNull(matcher, "matcher must not be null");
+
+        if (matcher.pattern() != pattern) {
+            throw new IllegalArgumentException("matcher must be created with newMatcher() of this parser");
+        }
+
+        if (delegatesToParse) {
+            parseInto(input, reference, sink);
+            return;
+        }
+
+        matcher.reset(input);
+
+        while (matcher.find()) {
+            pushMatch(matcher, reference, input, sink);
+        }
+    }
+
+    /**
+     * Parses the input of the provided {@link TokenStream}.
+     * <p>
+     * The result is the same as the result of
+     * {@link #parse(String, LocalDateTime)} called with the input of the
+     * token stream. However, if the parser's regex starts with the
+     * <code>(?&lt;=^|\s)</code> left boundary check, the regex is only tried
+     * at the {@link TokenStream#boundary(int) boundaries} of the token stream
+     * instead of at every character of the input. This makes it cheap to
+     * parse the same long input with many parsers, as the input only has to
+     * be split into tokens once.
+     * <p>
+     * If the concrete parser extends <code>Parser</code> directly instead of
+     * {@link SinkParser}, this method delegates to
+     * {@link #parse(String, LocalDateTime)}.
+     * 
+     * @param tokens    Token stream of the input to be parsed
+     * @param reference <code>LocalDateTime</code> that serves as a reference 
+     *                  point for parsers that deal with relative date/time
+     *                  expressions, such as
+     *                  {@link io.github.hashadex.naturaldateinput.parsers.en.ENRelativeWordParser ENRelativeWordParser}
+     * @return <code>Stream</code> of <code>ParsedComponents</code> that represent
+     *         parsing results. The stream can be empty.
+     * @since 2.2.0
+     */
+    public Stream<ParsedComponent> parse(TokenStream tokens, LocalDateTime reference) {
+        Objects.requireNonNull(tokens, "tokens must not be null");
+        Objects.requireNonNull(reference, "reference must not be null");
+
+        String input = tokens.input();
+
+        if (delegatesToParse) {
+            return parse(input, reference);
+        }
+
+        ComponentBuffer buffer = new ComponentBuffer();
+        parseInto(tokens, reference, buffer);
+
+        return IntStream.range(0, buffer.size())
+            .mapToObj(component -> buffer.component(component, reference, input));
+    }
+
+    /**
+     * Parses the input of the provided {@link TokenStream} and pushes the
+     * results into the sink. See {@link #parse(TokenStream, LocalDateTime)}
+     * and {@link #parseInto(CharSequence, LocalDateTime, ComponentSink)}.
+     * 
+     * @param tokens    Token stream of the input to be parsed, not null
+     * @param reference <code>LocalDateTime</code> that serves as a reference 
+     *                  point for parsers that deal with relative date/time
+     *                  expressions, not null
+     * @param sink      Sink to push the parsed components into, not null
+     * @throws NullPointerException if any of the parameters are null
+     * @since 2.2.0
+     */
+    public void parseInto(TokenStream tokens, LocalDateTime reference, ComponentSink sink) {
+        Objects.requireNonNull(tokens, "tokens must not be null");
+        Objects.requireNonNull(reference, "reference must not be null");
+        Objects.requireNonNull(sink, "sink must not be null");
+
+        String input = tokens.input();
+
+        if (delegatesToParse || !startsWithBoundaryCheck) {
+            parseInto(input, reference, sink);
+            return;
+        }
+
+        parseBoundariesInto(matchers, tokens, reference, sink);
+    }
+
+    /**
+     * Tries the regex at every boundary of the token stream with a matcher
+     * from the pool.
+     */
+    private void parseBoundariesInto(MatcherPool pool, TokenStream tokens, LocalDateTime reference, ComponentSink sink) {
+        Matcher matcher = pool.acquire(tokens.input());
+        // Let lookbehinds see the text before the region, and don't let ^
+        // match at the start of the region
+        matcher.useTransparentBounds(true);
+        matcher.useAnchoringBounds(false);
+
+        try {
+            parseBoundaries(tokens, reference, sink, matcher);
+        } finally {
+            pool.release(matcher);
+        }
+    }
+
+    /**
+     * Tries the regex at every boundary of the token stream, with a matcher
+     * that uses transparent and non-anchoring bounds.
+     */
+    private void parseBoundaries(TokenStream tokens, LocalDateTime reference, ComponentSink sink, Matcher matcher) {
+        String input = tokens.input();
+
+        // Position at which the matcher would continue searching after the
+        // previous match, matches must not overlap like with Matcher.find
+        int nextSearchIndex = 0;
+
+        for (int i = 0; i < tokens.boundaryCount(); i++) {
+            int boundary = tokens.boundary(i);
+
+            if (boundary < nextSearchIndex) {
+                continue;
+            }
+
+            matcher.region(boundary, input.length());
+            if (!matcher.lookingAt()) {
+                continue;
+            }
+
+            nextSearchIndex = (matcher.end() == boundary) ? boundary + 1 : matcher.end();
+
+            pushMatch(matcher, reference, input, sink);
+        }
     }
 
     /**
@@ -0,0 +1,378 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent;
+
+/**
+ * Runs multiple {@link Parser Parsers} in a single walk over the input.
+ * <p>
+ * The regexes of all combined parsers start with the left boundary check,
+ * so they can only match at the start of the input and after whitespace.
+ * The union visits these boundaries once and dispatches every boundary by
+ * the character after it: only the parsers whose regexes can start with
+ * that character try their regexes there, with
+ * {@link java.util.regex.Matcher#lookingAt() lookingAt}. The characters a
+ * regex can start with are found once, when the union is constructed, by
+ * trying the regex against every character of the Latin and Cyrillic
+ * blocks. Boundaries followed by other characters are tried by all parsers.
+ * <p>
+ * The components returned by a <code>ParserUnion</code> are the same as the
+ * components returned by calling {@link Parser#parse(String, LocalDateTime)}
+ * on every parser separately: for every parser, only the matches that the
+ * parser's own {@link java.util.regex.Matcher Matcher} would find (matches
+ * that do not overlap previous matches of the same parser) are used.
+ * <p>
+ * Not every parser can be combined, see {@link #canCombine(Parser)}.
+ *
+ * @author hashadex
+ * @see io.github.hashadex.naturaldateinput.ParsingConfiguration.ScanMode#UNION
+ * @since 2.2.0
+ */
+public final class ParserUnion {
+    /**
+     * Number of characters from the start of the Unicode table that
+     * boundaries are dispatched by. Covers the Latin and Cyrillic blocks.
+     */
+    private static final int DISPATCH_SIZE = 0x500;
+
+    private final List<Parser> parsers;
+
+    /**
+     * Indexes of the parsers, regexes of which can start with the character
+     * at the same index, in ascending order.
+     */
+    private final int[][] dispatch;
+
+    /**
+     * Indexes of all parsers, tried at boundaries followed by characters
+     * outside of {@link #dispatch}.
+     */
+    private final int[] all;
+
+    /**
+     * Indexes of the parsers, regexes of which can match at the end of the
+     * input.
+     */
+    private final int[] atEnd;
+
+    /**
+     * Constructs the union and finds the characters the regexes of the
+     * parsers can start with.
+     *
+     * @param parsers Parsers to combine, not null
+     * @throws NullPointerException     if <code>parsers</code> is null or
+     *                                  contains null elements
+     * @throws IllegalArgumentException if any of the parsers can not be
+     *                                  combined, see {@link #canCombine(Parser)}
+     * @since 2.2.0
+     */
+    public ParserUnion(Collection<? extends Parser> parsers) {
+        Objects.requireNonNull(parsers, "parsers must not be null");
+
+        this.parsers = List.copyOf(parsers);
+
+        for (Parser parser : this.parsers) {
+            if (!canCombine(parser)) {
+                throw new IllegalArgumentException(
+                    "Parser %s can not be combined".formatted(parser.getClass().getName())
+                );
+            }
+        }
+
+        this.all = IntStream.range(0, this.parsers.size()).toArray();
+        this.atEnd = startingWith("");
+
+        // Characters that start the same parsers share the array
+        Map<List<Integer>, int[]> distinct = new HashMap<>();
+
+        this.dispatch = new int[DISPATCH_SIZE][];
+        for (int c = 0; c < DISPATCH_SIZE; c++) {
+            int[] indexes = startingWith(String.valueOf((char) c));
+
+            dispatch[c] = distinct.computeIfAbsent(
+                Arrays.stream(indexes).boxed().toList(),
+                key -> indexes
+            );
+        }
+    }
+
+    /**
+     * Finds the parsers, regexes of which can match text that starts with
+     * the provided text at a boundary.
+     * <p>
+     * The regex is tried at the start of the text and after a space. It can
+     * match text that starts with the provided text if it matches it, or if
+     * the matcher hit the end of the text, which means that the regex needed
+     * more text to decide.
+     */
+    private int[] startingWith(String text) {
+        return IntStream.range(0, parsers.size())
+            .filter(index -> {
+                Matcher matcher = parsers.get(index).newMatcher();
+
+                matcher.useTransparentBounds(true);
+                matcher.useAnchoringBounds(false);
+
+                if (matcher.reset(text).lookingAt() || matcher.hitEnd()) {
+                    return true;
+                }
+
+                matcher.reset(" " + text).region(1, text.length() + 1);
+
+                return matcher.lookingAt() || matcher.hitEnd();
+            })
+            .toArray();
+    }
+
+    /**
+     * Checks if the parser can be combined with other parsers into a
+     * <code>ParserUnion</code>.
+     * <p>
+     * A parser can be combined if it extends {@link SinkParser} instead of
+     * {@link Parser} directly, and if its regex starts with the left boundary
+     * check <code>(?&lt;=^|\s)</code>, see
+     * {@link TokenStream#boundary(int) TokenStream boundaries}. All parsers
+     * included in this library can be combined.
+     *
+     * @param parser Parser to check, not null
+     * @return <code>true</code> if the parser can be combined
+     * @since 2.2.0
+     */
+    public static boolean canCombine(Parser parser) {
+        Objects.requireNonNull(parser, "parser must not be null");
+
+        return !parser.delegatesToParse && parser.startsWithBoundaryCheck;
+    }
+
+    /**
+     * Returns the parsers combined by this union.
+     *
+     * @return Unmodifiable <code>List</code> of parsers
+     * @since 2.2.0
+     */
+    public List<Parser> parsers() {
+        return parsers;
+    }
+
+    /**
+     * Parses the provided string with all parsers in the union, walking the
+     * string only once.
+     *
+     * @param input     String to be parsed
+     * @param reference <code>LocalDateTime</code> that serves as a reference
+     *                  point for parsers that deal with relative date/time
+     *                  expressions
+     * @return <code>Stream</code> of <code>ParsedComponents</code> returned
+     *         by all parsers of the union. The stream can be empty.
+     * @since 2.2.0
+     */
+    public Stream<ParsedComponent> parse(String input, LocalDateTime reference) {
+        ComponentBuffer buffer = new ComponentBuffer();
+        parseInto(input, reference, buffer);
+
+        return IntStream.range(0, buffer.size())
+            .mapToObj(component -> buffer.component(component, reference, input));
+    }
+
+    /**
+     * Parses the provided text with all parsers in the union, walking the
+     * text only once, and pushes the results into the sink.
+     *
+     * @param input     Text to be parsed, not null
+     * @param reference <code>LocalDateTime</code> that serves as a reference
+     *                  point for parsers that deal with relative date/time
+     *                  expressions, not null
+     * @param sink      Sink to push the parsed components into, not null
+     * @throws NullPointerException if any of the parameters are null
+     * @see Parser#parseInto(CharSequence, LocalDateTime, ComponentSink)
+     * @since 2.2.0
+     */
+    public void parseInto(CharSequence input, LocalDateTime reference, ComponentSink sink) {
+        Objects.requireNonNull(input, "input must not be null");
+
+        parseInto(input, 0, input.length(), reference, sink);
+    }
+
+    /**
+     * Parses the range of the provided text between <code>start</code>
+     * (inclusive) and <code>end</code> (exclusive) with all parsers in the
+     * union, and pushes the results into the sink.
+     *
+     * @param input     Text to be parsed, not null
+     * @param start     Start index of the range, inclusive
+     * @param end       End index of the range, exclusive
+     * @param reference <code>LocalDateTime</code> that serves as a reference
+     *                  point for parsers that deal with relative date/time
+     *                  expressions, not null
+     * @param sink      Sink to push the parsed components into, not null
+     * @throws NullPointerException      if any of the parameters are null
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of
+     *                                   the text
+     * @see Parser#parseInto(CharSequence, int, int, LocalDateTime, ComponentSink)
+     * @since 2.2.0
+     */
+    public void parseInto(CharSequence input, int start, int end, LocalDateTime reference, ComponentSink sink) {
+        parseInto(input, start, end, null, reference, sink);
+    }
+
+    /**
+     * Parses the range of the provided text between <code>start</code>
+     * (inclusive) and <code>end</code> (exclusive) with the selected parsers
+     * of the union, and pushes the results into the sink. Used to skip the
+     * parsers that prefilters, such as {@link KeywordIndex}, rule out.
+     * <p>
+     * The whole text is parsed in a single walk. A range is parsed by every
+     * selected parser on its own, as the boundaries of a range are not the
+     * boundaries of the text.
+     *
+     * @param input     Text to be parsed, not null
+     * @param start     Start index of the range, inclusive
+     * @param end       End index of the range, exclusive
+     * @param selected  Indexes of the parsers in {@link #parsers()} to run, or
+     *                  <code>null</code> to run all parsers
+     * @param reference <code>LocalDateTime</code> that serves as a reference
+     *                  point for parsers that deal with relative date/time
+     *                  expressions, not null
+     * @param sink      Sink to push the parsed components into, not null
+     * @throws NullPointerException      if <code>input</code>,
+     *                                   <code>reference</code> or
+     *                                   <code>sink</code> is null
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of
+     *                                   the text
+     * @since 2.2.0
+     */
+    public void parseInto(
+        CharSequence input,
+        int start,
+        int end,
+        BitSet selected,
+        LocalDateTime reference,
+        ComponentSink sink
+    ) {
+        Objects.requireNonNull(input, "input must not be null");
+        Objects.requireNonNull(reference, "reference must not be null");
+        Objects.requireNonNull(sink, "sink must not be null");
+        Objects.checkFromToIndex(start, end, input.length());
+
+        if (selected != null && selected.isEmpty()) {
+            return;
+        }
+
+        if (start != 0 || end != input.length()) {
+            for (int i = 0; i < parsers.size(); i++) {
+                if (selected == null || selected.get(i)) {
+                    parsers.get(i).parseInto(input, start, end, reference, sink);
+                }
+            }
+
+            return;
+        }
+
+        Matcher[] matchers = new Matcher[parsers.size()];
+
+        try {
+            pushMatches(input, 0, Integer.MAX_VALUE, selected, new int[parsers.size()], matchers, reference, sink);
+        } finally {
+            release(matchers);
+        }
+    }
+
+    /**
+     * Walks the boundaries of the text from <code>from</code> and pushes the
+     * matches of the selected parsers, or of all parsers if
+     * <code>selected</code> is null, that start before <code>limit</code>.
+     * <p>
+     * <code>nextSearchIndexes</code> holds the index at which each parser's
+     * own matcher would continue searching, used to skip matches that
+     * overlap the previous match of the same parser. It is updated, so that
+     * a walk can be continued by a later call, like the
+     * {@link StreamingScanner} does.
+     * <p>
+     * <code>matchers</code> holds the matcher of every parser, taken from
+     * the parser's pool when the parser first tries its regex. The matchers
+     * must be reset to the text if it changes, and be given back with
+     * {@link #release(Matcher[])}.
+     *
+     * @return Index at which the walk stopped, at most <code>limit</code>
+     */
+    int pushMatches(
+        CharSequence input,
+        int from,
+        int limit,
+        BitSet selected,
+        int[] nextSearchIndexes,
+        Matcher[] matchers,
+        LocalDateTime reference,
+        ComponentSink sink
+    ) {
+        int length = input.length();
+        int last = Math.min(limit - 1, length);
+
+        for (int position = from; position <= last; position++) {
+            if (position > 0 && !TokenStream.isWhitespace(input.charAt(position - 1))) {
+                continue;
+            }
+
+            int[] candidates;
+            if (position == length) {
+                candidates = atEnd;
+            } else {
+                char c = input.charAt(position);
+                candidates = (c < DISPATCH_SIZE) ? dispatch[c] : all;
+            }
+
+            for (int i : candidates) {
+                if (position < nextSearchIndexes[i] || (selected != null && !selected.get(i))) {
+                    continue;
+                }
+
+                Matcher matcher = matchers[i];
+                if (matcher == null) {
+                    matcher = parsers.get(i).matchers.acquire(input);
+
+                    // Let lookbehinds see the text before the region, and
+                    // don't let ^ match at the start of the region
+                    matcher.useTransparentBounds(true);
+                    matcher.useAnchoringBounds(false);
+
+                    matchers[i] = matcher;
+                }
+
+                matcher.region(position, length);
+                if (!matcher.lookingAt()) {
+                    continue;
+                }
+
+                nextSearchIndexes[i] = (matcher.end() == position) ? position + 1 : matcher.end();
+
+                parsers.get(i).pushMatch(matcher, reference, input, sink);
+            }
+        }
+
+        return Math.max(from, last + 1);
+    }
+
+    /**
+     * Gives the matchers taken by {@link #pushMatches} back to the pools of
+     * their parsers.
+     */
+    void release(Matcher[] matchers) {
+        for (int i = 0; i < matchers.length; i++) {
+            if (matchers[i] != null) {
+                parsers.get(i).matchers.release(matchers[i]);
+                matchers[i] = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Immutable calendar facts of a reference datetime, which
+ * {@link Expression Expressions} are resolved against: the epoch day, the
+ * year, month and day of the month and the day of the week. Values derived
+ * from them, such as the number of days until a day of the week, are
+ * computed when they are asked for, see
+ * {@link #daysUntil(DayOfWeek, boolean)}.
+ * <p>
+ * The facts are computed once when the context is created, instead of for
+ * every resolved match, so callers that resolve many expressions against one
+ * reference create its context once and pass it along, see
+ * {@link CandidateBuffer#selectInto(ReferenceContext, ComponentSelector)}.
+ * Contexts are not cached, so creating one never touches state shared with
+ * other calls or threads.
+ *
+ * @author hashadex
+ * @since 2.2.0
+ */
+public final class ReferenceContext {
+    private static final long NANOS_PER_DAY = 86_400_000_000_000L;
+
+    private final long epochDay;
+    private final long nanoOfDay;
+
+    private final int year;
+    private final int month;
+    private final int dayOfMonth;
+    private final int dayOfWeek;
+
+    private ReferenceContext(long epochDay, long nanoOfDay) {
+        this.epochDay = epochDay;
+        this.nanoOfDay = nanoOfDay;
+
+        long date = EpochDays.toDate(epochDay);
+
+        this.year = (int) EpochDays.year(date);
+        this.month = EpochDays.month(date);
+        this.dayOfMonth = EpochDays.day(date);
+        this.dayOfWeek = EpochDays.dayOfWeek(epochDay);
+    }
+
+    /**
+     * Returns the context of the reference datetime.
+     *
+     * @param reference Reference datetime, not null
+     * @return Context of the reference
+     * @throws NullPointerException if <code>reference</code> is null
+     * @since 2.2.0
+     */
+    public static ReferenceContext of(LocalDateTime reference) {
+        Objects.requireNonNull(reference, "reference must not be null");
+
+        return new ReferenceContext(reference.toLocalDate().toEpochDay(), reference.toLocalTime().toNanoOfDay());
+    }
+
+    /**
+     * Returns the context of the reference date and time.
+     *
+     * @param epochDay  Date of the reference as returned by
+     *                  {@link java.time.LocalDate#toEpochDay()}
+     * @param nanoOfDay Time of the reference as returned by
+     *                  {@link java.time.LocalTime#toNanoOfDay()}
+     * @return Context of the reference
+     * @throws DateTimeException if the epoch day is out of the range
+     *                           supported by <code>LocalDate</code>, or the
+     *                           nano of day is not between 0 and the number
+     *                           of nanoseconds in a day
+     * @since 2.2.0
+     */
+    public static ReferenceContext of(long epochDay, long nanoOfDay) {
+        EpochDays.checked(epochDay);
+
+        if (nanoOfDay < 0 || nanoOfDay >= NANOS_PER_DAY) {
+            throw new DateTimeException("Nano of day %d is out of range".formatted(nanoOfDay));
+        }
+
+        return new ReferenceContext(epochDay, nanoOfDay);
+    }
+
+    /**
+     * Checks if the epoch day is in the range supported by
+     * <code>LocalDate</code>, from {@link java.time.LocalDate#MIN} to
+     * {@link java.time.LocalDate#MAX}, which contexts can be created of.
+     *
+     * @param epochDay Epoch day, as returned by
+     *                 {@link java.time.LocalDate#toEpochDay()}
+     * @return <code>true</code> if the epoch day is supported
+     * @since 2.2.0
+     */
+    public static boolean isSupported(long epochDay) {
+        return EpochDays.isSupported(epochDay);
+    }
+
+    /**
+     * Returns the date of the reference.
+     *
+     * @return Epoch day, as returned by {@link java.time.LocalDate#toEpochDay()}
+     * @since 2.2.0
+     */
+    public long epochDay() {
+        return epochDay;
+    }
+
+    /**
+     * Returns the time of the reference.
+     *
+     * @return Nano of day, as returned by {@link java.time.LocalTime#toNanoOfDay()}
+     * @since 2.2.0
+     */
+    public long nanoOfDay() {
+        return nanoOfDay;
+    }
+
+    /**
+     * Returns the year of the reference date.
+     *
+     * @return Proleptic ISO year
+     * @since 2.2.0
+     */
+    public int year() {
+        return year;
+    }
+
+    /**
+     * Returns the month of the reference date.
+     *
+     * @return Month, from 1 (January) to 12 (December)
+     * @since 2.2.0
+     */
+    public int month() {
+        return month;
+    }
+
+    /**
+     * Returns the day of the month of the reference date.
+     *
+     * @return Day of the month, from 1 to 31
+     * @since 2.2.0
+     */
+    public int dayOfMonth() {
+        return dayOfMonth;
+    }
+
+    /**
+     * Returns the day of the week of the reference date.
+     *
+     * @return Day of the week
+     * @since 2.2.0
+     */
+    public DayOfWeek dayOfWeek() {
+        return DayOfWeek.of(dayOfWeek);
+    }
+
+    /**
+     * Returns the number of days from the reference date until the next
+     * occurrence of the day of the week, like
+     * {@link java.time.temporal.TemporalAdjusters#next(DayOfWeek) next} and
+     * {@link java.time.temporal.TemporalAdjusters#nextOrSame(DayOfWeek) nextOrSame}.
+     *
+     * @param weekday Day of the week, not null
+     * @param orSame  Whether the reference date itself counts as an
+     *                occurrence if it is on the day of the week
+     * @return Number of days, from 0 to 6 if <code>orSame</code> is
+     *         <code>true</code>, otherwise from 1 to 7
+     * @throws NullPointerException if <code>weekday</code> is null
+     * @since 2.2.0
+     */
+    public int daysUntil(DayOfWeek weekday, boolean orSame) {
+        int days = Math.floorMod(weekday.getValue() - dayOfWeek, 7);
+
+        return (days == 0 && !orSame) ? 7 : days;
+    }
+
+    /**
+     * Returns the first occurrence of the month and day on or after the
+     * reference date, see {@link EpochDays#nextMonthDay(long, int, int)}.
+     */
+    long nextMonthDay(int month, int day) {
+        return EpochDays.nextMonthDay(year, this.month, dayOfMonth, month, day);
+    }
+
+    /**
+     * Adds months to the reference date, see
+     * {@link EpochDays#plusMonthsOrNone(long, long)}.
+     */
+    long plusMonthsOrNone(long months) {
+        return EpochDays.plusMonthsOrNone(year, month, dayOfMonth, months);
+    }
+
+    @Override
+    public String toString() {
+        return "ReferenceContext[%d-%02d-%02d %s, epoch day %d, nano of day %d]".formatted(
+            year, month, dayOfMonth, DayOfWeek.of(dayOfWeek), epochDay, nanoOfDay
+        );
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.MatchResult;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Base abstract class for parsers that push the components of their matches
+ * into {@link ComponentSink ComponentSinks}, without creating a
+ * {@link Parser.ParsedComponent ParsedComponent} and an <code>Optional</code>
+ * for every match.
+ * <p>
+ * Concrete sink parsers implement
+ * {@link #parseMatchInto(MatchResult, LocalDateTime, CharSequence, ComponentSink) parseMatchInto},
+ * and all ways of parsing, including {@link #parse(String, LocalDateTime)},
+ * are built on it. Parsers that extend {@link Parser} directly may override
+ * <code>parse</code>, so every other way of parsing has to delegate to it,
+ * while sink parsers can be combined into a {@link ParserUnion}, scanned in
+ * windows and streamed.
+ *
+ * @author hashadex
+ * @since 2.2.0
+ */
+public abstract class SinkParser extends Parser {
+    /**
+     * Constructs the class and compiles the provided <code>regex</code> with
+     * the provided <code>flags</code>, see {@link Parser#Parser(String, Map, int)}.
+     *
+     * @param regex         Regular expression which will be used by the parser
+     *                      to locate date/time expressions and process them
+     * @param namedGroupMap Map of capturing groups' names to their indexes
+     * @param flags         A bit mask representing match flags that will be
+     *                      passed to <code>Pattern.compile</code>
+     * @since 2.2.0
+     */
+    protected SinkParser(String regex, Map<String, Integer> namedGroupMap, int flags) {
+        super(regex, namedGroupMap, flags);
+    }
+
+    /**
+     * Constructs the class and compiles the provided <code>regex</code> with
+     * the default match flags, see {@link Parser#Parser(String, Map)}.
+     *
+     * @param regex         Regular expression which will be used by the parser
+     *                      to locate date/time expressions and process them
+     * @param namedGroupMap Map of capturing groups' names to their indexes
+     * @since 2.2.0
+     */
+    protected SinkParser(String regex, Map<String, Integer> namedGroupMap) {
+        super(regex, namedGroupMap);
+    }
+
+    /**
+     * Extracts match information from the provided
+     * {@link java.util.regex.MatchResult MatchResult}, parses it into a
+     * date and/or time and pushes the result into the sink. Nothing is
+     * pushed if the parsing was unsuccessful.
+     * <p>
+     * This method should only be called by the parsing methods of the
+     * parser, like {@link #parseInto(CharSequence, LocalDateTime, ComponentSink)}.
+     *
+     * @param match     Match info
+     * @param reference Reference datetime
+     * @param source    Source text, indexes of the match are indexes in it
+     * @param sink      Sink to push the parsed component into
+     * @since 2.2.0
+     */
+    protected abstract void parseMatchInto(
+        MatchResult match,
+        LocalDateTime reference,
+        CharSequence source,
+        ComponentSink sink
+    );
+
+    @Override
+    final void pushMatch(MatchResult match, LocalDateTime reference, CharSequence source, ComponentSink sink) {
+        parseMatchInto(match, reference, source, sink);
+    }
+
+    /**
+     * Parses the match into a component with
+     * {@link #parseMatchInto(MatchResult, LocalDateTime, CharSequence, ComponentSink) parseMatchInto}.
+     * The parsing methods of sink parsers do not call this method.
+     *
+     * @param match     Match info
+     * @param reference Reference datetime
+     * @param source    Source string
+     * @return <code>Optional</code> containing the first pushed component,
+     *         or an empty <code>Optional</code> if nothing was pushed
+     * @since 2.2.0
+     */
+    @Override
+    protected final Optional<ParsedComponent> parseMatch(MatchResult match, LocalDateTime reference, String source) {
+        ComponentBuffer buffer = new ComponentBuffer(1);
+
+        parseMatchInto(match, reference, source, buffer);
+
+        return (buffer.size() == 0)
+            ? Optional.empty()
+            : Optional.of(buffer.component(0, reference, source));
+    }
+
+    /**
+     * Parses the provided string. The components of all matches are pushed
+     * into one buffer, and <code>ParsedComponents</code> are only created for
+     * the returned stream.
+     *
+     * @param input     String to be parsed
+     * @param reference <code>LocalDateTime</code> that serves as a reference
+     *                  point for parsers that deal with relative date/time
+     *                  expressions
+     * @return <code>Stream</code> of <code>ParsedComponents</code> that
+     *         represent parsing results. The stream can be empty.
+     * @since 2.2.0
+     */
+    @Override
+    public final Stream<ParsedComponent> parse(String input, LocalDateTime reference) {
+        Objects.requireNonNull(input, "input must not be null");
+        Objects.requireNonNull(reference, "reference must not be null");
+
+        ComponentBuffer buffer = new ComponentBuffer();
+        parseInto(input, reference, buffer);
+
+        return IntStream.range(0, buffer.size())
+            .mapToObj(component -> buffer.component(component, reference, input));
+    }
+}
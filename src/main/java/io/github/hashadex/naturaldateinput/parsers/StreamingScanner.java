@@ -0,0 +1,414 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+
+import io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent;
+
+/**
+ * Runs {@link Parser Parsers} over the text of a {@link Reader} in bounded
+ * memory and reports every date/time mention they find, with offsets counted
+ * from the start of the stream.
+ * <p>
+ * The text is read in chunks into a buffer. A part of the previous chunk is
+ * carried over into the next one, so mentions that span two chunks, such as
+ * <code>"August\n4th"</code>, are found like in the whole text. Every parser
+ * resumes its search where it stopped in the previous chunk, so the found
+ * mentions are the same as the components pushed by
+ * {@link Parser#parseInto(CharSequence, LocalDateTime, ComponentSink)} of
+ * every parser called with the whole text.
+ * <p>
+ * Streaming relies on the <b>maximum component length</b>: no match of any
+ * parser, including the text its regex looks at before and after the match,
+ * may be longer than this number of characters. A match is only reported
+ * once at least this many characters after its start have been read.
+ * <p>
+ * The memory used by the scanner does not depend on the length of the
+ * stream: the buffer holds at most the chunk size plus two maximum component
+ * lengths of characters. Mentions are pushed into a {@link MentionSink}
+ * chunk by chunk and parser by parser, so they are not sorted by offset.
+ * <p>
+ * The scanner can also run a {@link ParserUnion}, which walks every chunk
+ * once for all of its parsers. Parsers, including the parsers of the union,
+ * that declare
+ * {@link Parser#keywords() keywords} or rule text out by its
+ * {@link CharacterProfile} are skipped for chunks they can not match, like
+ * in {@link io.github.hashadex.naturaldateinput.ParsingConfiguration ParsingConfigurations}.
+ * <p>
+ * Parsers that extend {@link Parser} directly instead of {@link SinkParser}
+ * can not be streamed match by match, see {@link #canStream(Parser)}.
+ * Instead, they {@link Parser#parse(String, LocalDateTime) parse} the text
+ * of every buffered chunk, and only the mentions that start in the part of
+ * the chunk that was not scanned before are reported.
+ *
+ * @author hashadex
+ * @since 2.2.0
+ */
+public final class StreamingScanner {
+    private final ParserUnion union;
+    private final List<Parser> parsers;
+    private final int chunkSize;
+    private final int maxComponentLength;
+
+    /**
+     * Index of the keywords of {@link #parsers}, or null if none of the
+     * parsers have keywords.
+     */
+    private final KeywordIndex keywordIndex;
+
+    /**
+     * Index of the keywords of the parsers of the {@link #union}, or null if
+     * there is no union or none of its parsers have keywords.
+     */
+    private final KeywordIndex unionKeywordIndex;
+
+    /**
+     * Constructs the scanner.
+     *
+     * @param parsers            Parsers to run, not null
+     * @param chunkSize          Number of characters read from the stream at
+     *                           a time, must be positive
+     * @param maxComponentLength Maximum length of a match of any parser,
+     *                           must be positive
+     * @throws NullPointerException     if <code>parsers</code> is null or
+     *                                  contains null elements
+     * @throws IllegalArgumentException if <code>chunkSize</code> or
+     *                                  <code>maxComponentLength</code> is not
+     *                                  positive
+     * @since 2.2.0
+     */
+    public StreamingScanner(List<? extends Parser> parsers, int chunkSize, int maxComponentLength) {
+        this(null, parsers, chunkSize, maxComponentLength);
+    }
+
+    /**
+     * Constructs the scanner that runs the union and the parsers.
+     *
+     * @param union              Union to run, or null
+     * @param parsers            Parsers to run besides the union, not null
+     * @param chunkSize          Number of characters read from the stream at
+     *                           a time, must be positive
+     * @param maxComponentLength Maximum length of a match of any parser,
+     *                           must be positive
+     * @throws NullPointerException     if <code>parsers</code> is null or
+     *                                  contains null elements
+     * @throws IllegalArgumentException if <code>chunkSize</code> or
+     *                                  <code>maxComponentLength</code> is not
+     *                                  positive
+     * @since 2.2.0
+     */
+    public StreamingScanner(ParserUnion union, List<? extends Parser> parsers, int chunkSize, int maxComponentLength) {
+        Objects.requireNonNull(parsers, "parsers must not be null");
+
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        if (maxComponentLength <= 0) {
+            throw new IllegalArgumentException("maxComponentLength must be positive");
+        }
+
+        for (Parser parser : parsers) {
+            Objects.requireNonNull(parser, "Parser list must not contain null elements");
+        }
+
+        this.union = union;
+        this.parsers = List.copyOf(parsers);
+        this.chunkSize = chunkSize;
+        this.maxComponentLength = maxComponentLength;
+
+        this.keywordIndex = this.parsers.stream().anyMatch(parser -> !parser.keywords().isEmpty())
+            ? new KeywordIndex(this.parsers)
+            : null;
+        this.unionKeywordIndex = (
+            union != null && union.parsers().stream().anyMatch(parser -> !parser.keywords().isEmpty())
+        )
+            ? new KeywordIndex(union.parsers())
+            : null;
+    }
+
+    /**
+     * Checks if the parser can be streamed match by match.
+     * <p>
+     * A parser can not be streamed if it extends {@link Parser} directly
+     * instead of {@link SinkParser}, as it is parsed with
+     * {@link Parser#parse(String, LocalDateTime)}, which has to see the whole
+     * text at once. The scanner then parses the text of every buffered
+     * chunk with it instead.
+     *
+     * @param parser Parser to check, not null
+     * @return <code>true</code> if the parser can be streamed match by match
+     * @throws NullPointerException if <code>parser</code> is null
+     * @since 2.2.0
+     */
+    public static boolean canStream(Parser parser) {
+        Objects.requireNonNull(parser, "parser must not be null");
+
+        return !parser.delegatesToParse;
+    }
+
+    /**
+     * Reads the reader until its end and pushes every mention found by the
+     * parsers into the sink. The reader is not closed.
+     *
+     * @param reader    Reader to read the text from, not null
+     * @param reference <code>LocalDateTime</code> that serves as a reference
+     *                  point for parsers that deal with relative date/time
+     *                  expressions, not null
+     * @param sink      Sink to push the mentions into, not null
+     * @throws IOException          if reading fails
+     * @throws NullPointerException if any of the parameters are null
+     * @since 2.2.0
+     */
+    public void scan(Reader reader, LocalDateTime reference, MentionSink sink) throws IOException {
+        Objects.requireNonNull(reader, "reader must not be null");
+        Objects.requireNonNull(reference, "reference must not be null");
+        Objects.requireNonNull(sink, "sink must not be null");
+
+        char[] buffer = new char[chunkSize + 2 * maxComponentLength];
+        int length = 0;
+
+        // Offset of buffer[0] from the start of the stream
+        long bufferOffset = 0;
+
+        // Offset at which each parser continues searching
+        long[] nextSearchOffsets = new long[parsers.size()];
+
+        // Offset at which the union continues its walk, the index in the
+        // buffer at which each parser of the union continues searching, and
+        // the matchers of the parsers of the union
+        long unionOffset = 0;
+        int[] unionSearchIndexes = (union != null) ? new int[union.parsers().size()] : null;
+        Matcher[] unionMatchers = (union != null) ? new Matcher[union.parsers().size()] : null;
+
+        OffsetSink offsetSink = new OffsetSink(sink);
+
+        Matcher[] matchers = new Matcher[parsers.size()];
+        for (int i = 0; i < parsers.size(); i++) {
+            if (canStream(parsers.get(i))) {
+                matchers[i] = streamingMatcher(parsers.get(i).matchers);
+            }
+        }
+
+        try {
+            boolean endOfStream = false;
+
+            while (!endOfStream) {
+                int read = reader.read(buffer, length, buffer.length - length);
+
+                if (read == -1) {
+                    endOfStream = true;
+                } else {
+                    length += read;
+
+                    if (length < buffer.length) {
+                        // Fill the buffer before scanning
+                        continue;
+                    }
+                }
+
+                // Matches that start before this index are final, matches
+                // that start after it might still change with the next chunk
+                int finalLimit = endOfStream ? length + 1 : length - maxComponentLength;
+
+                CharBuffer text = CharBuffer.wrap(buffer, 0, length);
+                offsetSink.offset = bufferOffset;
+
+                // Skip the parsers that can not match the buffered text, and
+                // so no match that starts before the final limit
+                CharacterProfile profile = CharacterProfile.of(text, 0, length);
+                BitSet matching = (keywordIndex != null) ? keywordIndex.matchingParsers(text, 0, length) : null;
+
+                if (union != null) {
+                    BitSet selected = (unionKeywordIndex != null)
+                        ? unionKeywordIndex.matchingParsers(text, 0, length)
+                        : new BitSet();
+
+                    for (int i = 0; i < unionSearchIndexes.length; i++) {
+                        Parser parser = union.parsers().get(i);
+
+                        // Without a keyword index, all parsers are keyword
+                        // matches
+                        boolean keywordMatch = unionKeywordIndex == null || selected.get(i);
+                        selected.set(i, keywordMatch && parser.canMatch(profile));
+
+                        if (unionMatchers[i] != null) {
+                            unionMatchers[i].reset(text);
+                        }
+                    }
+
+                    int position = union.pushMatches(
+                        text,
+                        (int) (unionOffset - bufferOffset),
+                        finalLimit,
+                        selected,
+                        unionSearchIndexes,
+                        unionMatchers,
+                        reference,
+                        offsetSink
+                    );
+
+                    unionOffset = bufferOffset + Math.max(position, finalLimit);
+                }
+
+                // Text of the chunk for the parsers that can not be streamed,
+                // created on first use
+                String window = null;
+
+                for (int i = 0; i < parsers.size(); i++) {
+                    Parser parser = parsers.get(i);
+                    int position = (int) (nextSearchOffsets[i] - bufferOffset);
+
+                    if ((matching != null && !matching.get(i)) || !parser.canMatch(profile)) {
+                        // Nothing to do, the search continues at the final limit
+                    } else if (matchers[i] != null) {
+                        position = scanChunk(parser, matchers[i].reset(text), text, position, finalLimit, reference, offsetSink);
+                    } else {
+                        if (window == null) {
+                            window = text.toString();
+                        }
+
+                        position = parseChunk(parser, window, position, finalLimit, reference, offsetSink);
+                    }
+
+                    nextSearchOffsets[i] = bufferOffset + Math.max(position, finalLimit);
+                }
+
+                if (endOfStream) {
+                    break;
+                }
+
+                // Carry over the text that was not scanned to the end, and
+                // the text before it that lookbehinds can look at
+                long keepFrom = Math.min(
+                    Arrays.stream(nextSearchOffsets).min().orElse(bufferOffset + finalLimit),
+                    (union != null) ? unionOffset : Long.MAX_VALUE
+                );
+                int carried = (int) Math.max(0, keepFrom - bufferOffset - maxComponentLength);
+
+                System.arraycopy(buffer, carried, buffer, 0, length - carried);
+                length -= carried;
+                bufferOffset += carried;
+
+                if (union != null) {
+                    for (int i = 0; i < unionSearchIndexes.length; i++) {
+                        // Indexes before the buffer all mean that the parser
+                        // can match anywhere in it
+                        unionSearchIndexes[i] = Math.max(0, unionSearchIndexes[i] - carried);
+                    }
+                }
+            }
+        } finally {
+            for (int i = 0; i < parsers.size(); i++) {
+                if (matchers[i] != null) {
+                    parsers.get(i).matchers.release(matchers[i]);
+                }
+            }
+
+            if (union != null) {
+                union.release(unionMatchers);
+            }
+        }
+    }
+
+    /**
+     * Takes a matcher from the pool and sets it up for scanning regions of
+     * the buffer.
+     */
+    private static Matcher streamingMatcher(MatcherPool pool) {
+        Matcher matcher = pool.acquire("");
+
+        // Let lookbehinds see the carried over text before the region,
+        // and don't let ^ match at the start of the region
+        matcher.useTransparentBounds(true);
+        matcher.useAnchoringBounds(false);
+
+        return matcher;
+    }
+
+    /**
+     * Pushes the matches of the parser that start between
+     * <code>position</code> and <code>finalLimit</code>.
+     *
+     * @return Position at which the parser continues searching
+     */
+    private static int scanChunk(
+        Parser parser,
+        Matcher matcher,
+        CharSequence text,
+        int position,
+        int finalLimit,
+        LocalDateTime reference,
+        ComponentSink sink
+    ) {
+        int length = text.length();
+
+        while (position <= length) {
+            matcher.region(position, length);
+
+            if (!matcher.find() || matcher.start() >= finalLimit) {
+                break;
+            }
+
+            parser.pushMatch(matcher, reference, text, sink);
+
+            position = (matcher.end() == matcher.start()) ? matcher.end() + 1 : matcher.end();
+        }
+
+        return position;
+    }
+
+    /**
+     * Parses the text of the chunk with a parser that can not be streamed
+     * and pushes the components that start between <code>position</code>
+     * and <code>finalLimit</code>.
+     *
+     * @return Position at which the parser continues searching
+     */
+    private static int parseChunk(
+        Parser parser,
+        String text,
+        int position,
+        int finalLimit,
+        LocalDateTime reference,
+        ComponentSink sink
+    ) {
+        Iterator<ParsedComponent> components = parser.parse(text, reference).iterator();
+
+        while (components.hasNext()) {
+            ParsedComponent component = components.next();
+
+            if (component.startIndex() >= position && component.startIndex() < finalLimit) {
+                ComponentBuffer.push(sink, component);
+
+                position = Math.max(component.endIndex(), component.startIndex() + 1);
+            }
+        }
+
+        return position;
+    }
+
+    /**
+     * Sink that turns the indexes in the buffer into offsets in the stream.
+     */
+    private static final class OffsetSink implements ComponentSink {
+        private final MentionSink sink;
+        private long offset;
+
+        private OffsetSink(MentionSink sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void accept(int startIndex, int endIndex, long epochDay, long nanoOfDay) {
+            sink.accept(offset + startIndex, offset + endIndex, epochDay, nanoOfDay);
+        }
+    }
+}
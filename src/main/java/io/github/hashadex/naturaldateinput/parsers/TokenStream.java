@@ -0,0 +1,250 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Input string split into typed tokens. A <code>TokenStream</code> is created
+ * once per input and can then be shared by all {@link Parser Parsers} that
+ * parse the input, see {@link Parser#parse(TokenStream, java.time.LocalDateTime)}.
+ * <p>
+ * The input is split into three types of tokens, see {@link TokenType}.
+ * Whitespace separates tokens and is not part of any token. Whitespace is
+ * defined the same way as the <code>\s</code> regex character class:
+ * <code>[ \t\n\x0B\f\r]</code>.
+ * <p>
+ * Besides tokens, the stream also contains the <b>boundaries</b> of the
+ * input: the start of the input and every position that directly follows a
+ * whitespace character. These are the only positions at which a regex that
+ * starts with the <code>(?&lt;=^|\s)</code> left boundary check can match,
+ * so parsers only need to try their regexes at these positions instead of
+ * at every character of the input.
+ * <p>
+ * Example: the input <code>"Due 4th of Aug."</code> is split into the tokens
+ * <code>"Due"</code> (word), <code>"4"</code> (number), <code>"th"</code>
+ * (word), <code>"of"</code> (word), <code>"Aug"</code> (word) and
+ * <code>"."</code> (punctuation). Its boundaries are 0, 4, 8 and 11.
+ *
+ * @author hashadex
+ * @since 2.2.0
+ */
+public final class TokenStream {
+    /**
+     * Type of a token.
+     *
+     * @since 2.2.0
+     */
+    public static enum TokenType {
+        /**
+         * Run of ASCII digits (<code>0-9</code>), the same digits as the ones
+         * matched by the <code>\d</code> regex character class.
+         */
+        NUMBER,
+
+        /**
+         * Run of letters, as defined by {@link Character#isLetter(char)}.
+         */
+        WORD,
+
+        /**
+         * Any other single character that is not whitespace, for example
+         * <code>:</code>, <code>/</code> or <code>.</code>
+         */
+        PUNCTUATION
+    }
+
+    private static final TokenType[] tokenTypes = TokenType.values();
+
+    private final String input;
+
+    private int tokenCount;
+    private int[] tokenStarts;
+    private int[] tokenEnds;
+    private byte[] tokenTypeOrdinals;
+
+    private int boundaryCount;
+    private int[] boundaries;
+
+    private TokenStream(String input) {
+        this.input = input;
+
+        int capacity = Math.max(4, input.length() / 4);
+
+        this.tokenStarts = new int[capacity];
+        this.tokenEnds = new int[capacity];
+        this.tokenTypeOrdinals = new byte[capacity];
+        this.boundaries = new int[capacity];
+    }
+
+    /**
+     * Splits the input into tokens.
+     *
+     * @param input String to split, not null
+     * @return <code>TokenStream</code> of the input
+     * @throws NullPointerException if <code>input</code> is null
+     * @since 2.2.0
+     */
+    public static TokenStream tokenize(String input) {
+        Objects.requireNonNull(input, "input must not be null");
+
+        TokenStream tokens = new TokenStream(input);
+
+        int length = input.length();
+        int i = 0;
+
+        tokens.addBoundary(0);
+
+        while (i < length) {
+            char c = input.charAt(i);
+
+            if (isWhitespace(c)) {
+                i++;
+                tokens.addBoundary(i);
+                continue;
+            }
+
+            int start = i;
+            TokenType type;
+
+            if (isDigit(c)) {
+                type = TokenType.NUMBER;
+                do {
+                    i++;
+                } while (i < length && isDigit(input.charAt(i)));
+            } else if (Character.isLetter(c)) {
+                type = TokenType.WORD;
+                do {
+                    i++;
+                } while (i < length && Character.isLetter(input.charAt(i)));
+            } else {
+                type = TokenType.PUNCTUATION;
+                i++;
+            }
+
+            tokens.addToken(start, i, type);
+        }
+
+        return tokens;
+    }
+
+    /**
+     * Checks if the character is matched by the <code>\s</code> regex
+     * character class.
+     */
+    static boolean isWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    /**
+     * Checks if the character is matched by the <code>\d</code> regex
+     * character class.
+     */
+    static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private void addToken(int start, int end, TokenType type) {
+        if (tokenCount == tokenStarts.length) {
+            int capacity = tokenCount * 2;
+
+            tokenStarts = Arrays.copyOf(tokenStarts, capacity);
+            tokenEnds = Arrays.copyOf(tokenEnds, capacity);
+            tokenTypeOrdinals = Arrays.copyOf(tokenTypeOrdinals, capacity);
+        }
+
+        tokenStarts[tokenCount] = start;
+        tokenEnds[tokenCount] = end;
+        tokenTypeOrdinals[tokenCount] = (byte) type.ordinal();
+        tokenCount++;
+    }
+
+    private void addBoundary(int position) {
+        if (boundaryCount == boundaries.length) {
+            boundaries = Arrays.copyOf(boundaries, boundaryCount * 2);
+        }
+
+        boundaries[boundaryCount++] = position;
+    }
+
+    /**
+     * Returns the string that was split into tokens.
+     *
+     * @return Input string
+     * @since 2.2.0
+     */
+    public String input() {
+        return input;
+    }
+
+    /**
+     * Returns the number of tokens in the stream.
+     *
+     * @return Number of tokens
+     * @since 2.2.0
+     */
+    public int tokenCount() {
+        return tokenCount;
+    }
+
+    /**
+     * Returns the start index of the token in the input.
+     *
+     * @param token Index of the token, from 0 to {@link #tokenCount()} - 1
+     * @return Start index of the token, inclusive
+     * @throws IndexOutOfBoundsException if <code>token</code> is out of range
+     * @since 2.2.0
+     */
+    public int tokenStart(int token) {
+        return tokenStarts[Objects.checkIndex(token, tokenCount)];
+    }
+
+    /**
+     * Returns the end index of the token in the input.
+     *
+     * @param token Index of the token, from 0 to {@link #tokenCount()} - 1
+     * @return End index of the token, exclusive
+     * @throws IndexOutOfBoundsException if <code>token</code> is out of range
+     * @since 2.2.0
+     */
+    public int tokenEnd(int token) {
+        return tokenEnds[Objects.checkIndex(token, tokenCount)];
+    }
+
+    /**
+     * Returns the type of the token.
+     *
+     * @param token Index of the token, from 0 to {@link #tokenCount()} - 1
+     * @return Type of the token
+     * @throws IndexOutOfBoundsException if <code>token</code> is out of range
+     * @since 2.2.0
+     */
+    public TokenType tokenType(int token) {
+        return tokenTypes[tokenTypeOrdinals[Objects.checkIndex(token, tokenCount)]];
+    }
+
+    /**
+     * Returns the number of boundaries in the input. There is always at least
+     * one boundary, the start of the input.
+     *
+     * @return Number of boundaries
+     * @since 2.2.0
+     */
+    public int boundaryCount() {
+        return boundaryCount;
+    }
+
+    /**
+     * Returns the position of the boundary in the input. Boundaries are
+     * sorted in ascending order.
+     *
+     * @param boundary Index of the boundary, from 0 to
+     *                 {@link #boundaryCount()} - 1
+     * @return Position of the boundary
+     * @throws IndexOutOfBoundsException if <code>boundary</code> is out of
+     *                                   range
+     * @since 2.2.0
+     */
+    public int boundary(int boundary) {
+        return boundaries[Objects.checkIndex(boundary, boundaryCount)];
+    }
+}
@@ -0,0 +1,360 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Immutable dictionary of words, which looks words up in a range of text
+ * without allocating, case-insensitively or, if created with
+ * {@link #ofCaseSensitive(Map)}, case-sensitively.
+ * <p>
+ * The words are {@link CaseFolding folded}, unless the trie is
+ * case-sensitive, and stored in a minimal acyclic automaton: a trie in which
+ * equal subtrees are stored only once, so words that share an ending share
+ * their nodes along with words that share a beginning. For example, the
+ * inflected forms <code>"января"</code>, <code>"февраля"</code> and
+ * <code>"марта"</code> all end in the same node.
+ * <p>
+ * Looking a word up folds the characters of the text one by one, if the trie
+ * ignores case, so the text does not have to be folded or copied into a <code>String</code>.
+ *
+ * @param <V> Type of the values of the words
+ * @author hashadex
+ * @since 2.2.0
+ */
+public final class WordTrie<V> {
+    /** Marks nodes that do not end a word. */
+    private static final int NO_VALUE = -1;
+
+    /**
+     * Index of the first edge of every node in {@link #labels} and
+     * {@link #targets}, with one more element for the end of the last node.
+     * The root is node 0.
+     */
+    private final int[] firstEdges;
+
+    /** Folded characters of the edges, sorted within every node. */
+    private final char[] labels;
+
+    /** Nodes the edges lead to. */
+    private final int[] targets;
+
+    /**
+     * Index of the value in {@link #values} of the word that ends at every
+     * node, or {@link #NO_VALUE}.
+     */
+    private final int[] valueIndexes;
+
+    /** Distinct values of the words. */
+    private final Object[] values;
+
+    private final int size;
+
+    /** Whether the words and the looked up text are folded. */
+    private final boolean ignoreCase;
+
+    private WordTrie(
+        int[] firstEdges,
+        char[] labels,
+        int[] targets,
+        int[] valueIndexes,
+        Object[] values,
+        int size,
+        boolean ignoreCase
+    ) {
+        this.firstEdges = firstEdges;
+        this.labels = labels;
+        this.targets = targets;
+        this.valueIndexes = valueIndexes;
+        this.values = values;
+        this.size = size;
+        this.ignoreCase = ignoreCase;
+    }
+
+    /**
+     * Creates a trie of the words of the map.
+     * <p>
+     * The words are folded, so two words that only differ in case are the
+     * same word. If such words have different values, the value of the word
+     * that folding does not change, like an all-lowercase word, is used, as
+     * text used to be looked up in lower case. If folding changes all of
+     * them, the value of the first of them in <code>String</code> order is
+     * used.
+     *
+     * @param <V> Type of the values of the words
+     * @param map Map of words to their values, not null
+     * @return Trie of the words of the map
+     * @throws NullPointerException if <code>map</code>, any of its words or
+     *                              any of its values is null
+     * @since 2.2.0
+     */
+    public static <V> WordTrie<V> of(Map<String, ? extends V> map) {
+        return build(map, true);
+    }
+
+    /**
+     * Creates a trie of the words of the map, which looks words up
+     * case-sensitively, like the map itself.
+     *
+     * @param <V> Type of the values of the words
+     * @param map Map of words to their values, not null
+     * @return Trie of the words of the map
+     * @throws NullPointerException if <code>map</code>, any of its words or
+     *                              any of its values is null
+     * @since 2.2.0
+     */
+    public static <V> WordTrie<V> ofCaseSensitive(Map<String, ? extends V> map) {
+        return build(map, false);
+    }
+
+    private static <V> WordTrie<V> build(Map<String, ? extends V> map, boolean ignoreCase) {
+        Objects.requireNonNull(map, "map must not be null");
+
+        List<Object> values = new ArrayList<>();
+        Map<Object, Integer> valueIndexes = new HashMap<>();
+        Map<String, Object> words = new HashMap<>();
+
+        Node root = new Node();
+
+        List<Map.Entry<String, ? extends V>> entries = new ArrayList<>(map.size());
+        for (Map.Entry<String, ? extends V> entry : map.entrySet()) {
+            Objects.requireNonNull(entry.getKey(), "map must not contain null words");
+            Objects.requireNonNull(entry.getValue(), "map must not contain null values");
+            entries.add(entry);
+        }
+
+        if (ignoreCase) {
+            // Words that folding does not change first, so that their values
+            // are used for the words that only differ from them in case
+            entries.sort(
+                Comparator.comparing((Map.Entry<String, ? extends V> entry) -> !isFolded(entry.getKey()))
+                    .thenComparing(Map.Entry::getKey)
+            );
+        }
+
+        for (Map.Entry<String, ? extends V> entry : entries) {
+            String word = ignoreCase ? CaseFolding.fold(entry.getKey()) : entry.getKey();
+            Object value = entry.getValue();
+
+            if (words.putIfAbsent(word, value) != null) {
+                continue;
+            }
+
+            Node node = root;
+            for (int i = 0; i < word.length(); i++) {
+                node = node.edges.computeIfAbsent(word.charAt(i), c -> new Node());
+            }
+
+            node.valueIndex = valueIndexes.computeIfAbsent(value, v -> {
+                values.add(v);
+                return values.size() - 1;
+            });
+        }
+
+        // Replace equal subtrees with one node, from the leaves up
+        List<Node> nodes = new ArrayList<>();
+        int rootId = minimize(root, new HashMap<>(), nodes);
+
+        // Number the nodes so that the root is node 0
+        int[] ids = new int[nodes.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = (i == rootId) ? 0 : (i < rootId ? i + 1 : i);
+        }
+
+        Node[] ordered = new Node[nodes.size()];
+        int edgeCount = 0;
+        for (int i = 0; i < ids.length; i++) {
+            ordered[ids[i]] = nodes.get(i);
+            edgeCount += nodes.get(i).edges.size();
+        }
+
+        int[] firstEdges = new int[ordered.length + 1];
+        char[] labels = new char[edgeCount];
+        int[] targets = new int[edgeCount];
+        int[] nodeValueIndexes = new int[ordered.length];
+
+        int edge = 0;
+        for (int i = 0; i < ordered.length; i++) {
+            firstEdges[i] = edge;
+            nodeValueIndexes[i] = ordered[i].valueIndex;
+
+            for (Map.Entry<Character, Node> child : ordered[i].edges.entrySet()) {
+                labels[edge] = child.getKey();
+                targets[edge] = ids[child.getValue().id];
+                edge++;
+            }
+        }
+        firstEdges[ordered.length] = edge;
+
+        return new WordTrie<>(firstEdges, labels, targets, nodeValueIndexes, values.toArray(), words.size(), ignoreCase);
+    }
+
+    private static boolean isFolded(String word) {
+        return CaseFolding.fold(word).equals(word);
+    }
+
+    /**
+     * Replaces the children of the node with their equal nodes registered
+     * before, registers the node and returns its id.
+     */
+    private static int minimize(Node node, Map<List<Integer>, Node> register, List<Node> nodes) {
+        // Signature of the node: its value, then the labels and ids of its
+        // children
+        List<Integer> signature = new ArrayList<>(1 + 2 * node.edges.size());
+        signature.add(node.valueIndex);
+
+        for (Map.Entry<Character, Node> child : node.edges.entrySet()) {
+            int childId = minimize(child.getValue(), register, nodes);
+
+            child.setValue(nodes.get(childId));
+            signature.add((int) child.getKey());
+            signature.add(childId);
+        }
+
+        Node equal = register.putIfAbsent(signature, node);
+        if (equal != null) {
+            return equal.id;
+        }
+
+        node.id = nodes.size();
+        nodes.add(node);
+
+        return node.id;
+    }
+
+    /**
+     * Looks up the word between <code>start</code> (inclusive) and
+     * <code>end</code> (exclusive) in the text, ignoring case unless the
+     * trie is case-sensitive.
+     *
+     * @param input Text that contains the word, not null
+     * @param start Start index of the word, inclusive
+     * @param end   End index of the word, exclusive
+     * @return Value of the word, or null if the trie does not contain it
+     * @throws NullPointerException      if <code>input</code> is null
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of
+     *                                   the text
+     * @since 2.2.0
+     */
+    @SuppressWarnings("unchecked")
+    public V get(CharSequence input, int start, int end) {
+        Objects.requireNonNull(input, "input must not be null");
+        Objects.checkFromToIndex(start, end, input.length());
+
+        int node = 0;
+
+        for (int i = start; i < end; i++) {
+            char c = ignoreCase ? CaseFolding.fold(input.charAt(i)) : input.charAt(i);
+
+            int low = firstEdges[node];
+            int high = firstEdges[node + 1] - 1;
+            int target = -1;
+
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char label = labels[middle];
+
+                if (label < c) {
+                    low = middle + 1;
+                } else if (label > c) {
+                    high = middle - 1;
+                } else {
+                    target = targets[middle];
+                    break;
+                }
+            }
+
+            if (target == -1) {
+                return null;
+            }
+
+            node = target;
+        }
+
+        int valueIndex = valueIndexes[node];
+
+        return (valueIndex == NO_VALUE) ? null : (V) values[valueIndex];
+    }
+
+    /**
+     * Looks up the word, ignoring case unless the trie is case-sensitive.
+     *
+     * @param word Word to look up, not null
+     * @return Value of the word, or null if the trie does not contain it
+     * @throws NullPointerException if <code>word</code> is null
+     * @since 2.2.0
+     */
+    public V get(CharSequence word) {
+        Objects.requireNonNull(word, "word must not be null");
+
+        return get(word, 0, word.length());
+    }
+
+    /**
+     * Returns the number of words in the trie. Words that only differ in
+     * case are counted once, unless the trie is case-sensitive.
+     *
+     * @return Number of words
+     * @since 2.2.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the words of the trie, folded unless the trie is
+     * case-sensitive. The words are collected from the nodes of the trie, so
+     * the trie does not have to keep the map it was created of.
+     *
+     * @return Unmodifiable set of the words, in the order of their characters
+     * @since 2.2.0
+     */
+    public Set<String> words() {
+        Set<String> words = new LinkedHashSet<>(size);
+        collectWords(0, new StringBuilder(), words);
+
+        return Collections.unmodifiableSet(words);
+    }
+
+    /**
+     * Adds the words that end in the node or below it, prefixed with the
+     * characters on the way to the node, to the set.
+     */
+    private void collectWords(int node, StringBuilder prefix, Set<String> words) {
+        if (valueIndexes[node] != NO_VALUE) {
+            words.add(prefix.toString());
+        }
+
+        for (int edge = firstEdges[node]; edge < firstEdges[node + 1]; edge++) {
+            prefix.append(labels[edge]);
+            collectWords(targets[edge], prefix, words);
+            prefix.setLength(prefix.length() - 1);
+        }
+    }
+
+    /**
+     * Returns the number of nodes of the trie, including the root. Words
+     * share the nodes of their common beginnings and endings.
+     *
+     * @return Number of nodes
+     * @since 2.2.0
+     */
+    public int nodeCount() {
+        return valueIndexes.length;
+    }
+
+    /** Node of the trie while it is built. */
+    private static final class Node {
+        private final TreeMap<Character, Node> edges = new TreeMap<>();
+        private int valueIndex = NO_VALUE;
+        private int id;
+    }
+}
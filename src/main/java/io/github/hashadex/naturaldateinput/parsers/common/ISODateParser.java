@@ -1,13 +1,14 @@
 package io.github.hashadex.naturaldateinput.parsers.common;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.Map;
-import java.util.Optional;
 import java.util.regex.MatchResult;
 
-import io.github.hashadex.naturaldateinput.parsers.Parser;
+import io.github.hashadex.naturaldateinput.parsers.CharacterProfile;
+import io.github.hashadex.naturaldateinput.parsers.CompilingParser;
+import io.github.hashadex.naturaldateinput.parsers.ComponentSink;
+import io.github.hashadex.naturaldateinput.parsers.Expression;
 
 /**
  * Parser for the ISO 8601 (YYYY-MM-DD) date format. Supports the dash delimeter
@@ -17,7 +18,11 @@ import io.github.hashadex.naturaldateinput.parsers.Parser;
  * @author hashadex
  * @since 1.0.0
  */
-public class ISODateParser extends Parser {
+public class ISODateParser extends CompilingParser {
+    private final int yearGroup;
+    private final int monthGroup;
+    private final int dayGroup;
+
     /**
      * Constructs the parser.
      * 
@@ -40,32 +45,57 @@ public class ISODateParser extends Parser {
             """,
             Map.of("year", 1, "delimeter", 2, "month", 3, "day", 4)
         );
+
+        this.yearGroup = groupIndex("year");
+        this.monthGroup = groupIndex("month");
+        this.dayGroup = groupIndex("day");
     }
 
+    /**
+     * The parser can only match inputs that contain a run of at least four
+     * digits, the year.
+     * 
+     * @since 2.2.0
+     */
     @Override
-    protected Optional<ParsedComponent> parseMatch(MatchResult match, LocalDateTime reference, String source) {
-        int year = Integer.parseInt(match.group(namedGroupMap.get("year")));
+    public boolean canMatch(CharacterProfile profile) {
+        return profile.longestDigitRun() >= 4;
+    }
+
+    /**
+     * ISO dates always contain the year, so the components do not depend on
+     * the reference.
+     * 
+     * @return {@link ReferenceDependency#NONE}
+     * @since 2.2.0
+     */
+    @Override
+    public ReferenceDependency referenceDependency() {
+        return ReferenceDependency.NONE;
+    }
+
+    @Override
+    protected Expression compileMatch(MatchResult match, CharSequence source) {
+        int year = parseDigits(source, match.start(yearGroup), match.end(yearGroup));
 
         int month = 1;
-        if (match.group(namedGroupMap.get("month")) != null) {
-            month = Integer.parseInt(match.group(namedGroupMap.get("month")));
+        if (isMatched(match, monthGroup)) {
+            month = parseDigits(source, match.start(monthGroup), match.end(monthGroup));
         }
         if (!(month >= 1 && month <= 12)) {
-            return Optional.empty();
+            return null;
         }
 
         int day = 1;
-        if (match.group(namedGroupMap.get("day")) != null) {
-            day = Integer.parseInt(match.group(namedGroupMap.get("day")));
+        if (isMatched(match, dayGroup)) {
+            day = parseDigits(source, match.start(dayGroup), match.end(dayGroup));
         }
         if (!YearMonth.of(year, month).isValidDay(day)) {
-            return Optional.empty();
+            return null;
         }
 
         LocalDate result = LocalDate.of(year, month, day);
 
-        return Optional.of(
-            new ParsedComponentBuilder(reference, source, match).date(result).build()
-        );
+        return Expression.absolute(match.start(), match.end(), result.toEpochDay(), ComponentSink.NO_TIME);
     }
 }
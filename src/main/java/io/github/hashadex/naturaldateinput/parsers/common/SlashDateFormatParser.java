@@ -1,13 +1,15 @@
 package io.github.hashadex.naturaldateinput.parsers.common;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.time.Month;
 import java.time.YearMonth;
 import java.util.Map;
-import java.util.Optional;
 import java.util.regex.MatchResult;
 
-import io.github.hashadex.naturaldateinput.parsers.Parser;
+import io.github.hashadex.naturaldateinput.parsers.CharacterProfile;
+import io.github.hashadex.naturaldateinput.parsers.CompilingParser;
+import io.github.hashadex.naturaldateinput.parsers.ComponentSink;
+import io.github.hashadex.naturaldateinput.parsers.Expression;
 
 /**
  * {@link io.github.hashadex.naturaldateinput.parsers.Parser Parser} for DMY
@@ -29,7 +31,7 @@ import io.github.hashadex.naturaldateinput.parsers.Parser;
  * @see io.github.hashadex.naturaldateinput.parsers.common.ISODateParser ISODateParser
  * @since 1.0.0
  */
-public class SlashDateFormatParser extends Parser {
+public class SlashDateFormatParser extends CompilingParser {
     /**
      * Order in which day and month is placed.
      * 
@@ -49,6 +51,9 @@ public class SlashDateFormatParser extends Parser {
     }
 
     private final DayMonthOrder preferredDayMonthOrder;
+    private final int num1Group;
+    private final int num2Group;
+    private final int yearGroup;
 
     /**
      * Constructs the parser and sets the preferred day-month order. See
@@ -75,6 +80,19 @@ public class SlashDateFormatParser extends Parser {
         );
 
         this.preferredDayMonthOrder = preferredDayMonthOrder;
+        this.num1Group = groupIndex("num1");
+        this.num2Group = groupIndex("num2");
+        this.yearGroup = groupIndex("year");
+    }
+
+    /**
+     * Returns the day-month order used for ambiguous dates.
+     * 
+     * @return Preferred day-month order
+     * @since 2.2.0
+     */
+    public DayMonthOrder preferredDayMonthOrder() {
+        return preferredDayMonthOrder;
     }
 
     private static boolean isWithinDayRange(int num) {
@@ -85,29 +103,50 @@ public class SlashDateFormatParser extends Parser {
         return num >= 1 && num <= 12;
     }
 
+    /**
+     * The parser can only match inputs in which a slash (<code>/</code>) or a
+     * dot (<code>.</code>) appears between two digits.
+     * 
+     * @since 2.2.0
+     */
     @Override
-    protected Optional<ParsedComponent> parseMatch(MatchResult match, LocalDateTime reference, String source) {
+    public boolean canMatch(CharacterProfile profile) {
+        return profile.separatesDigits('/') || profile.separatesDigits('.');
+    }
+
+    /**
+     * The year of dates without a year is implied from the reference date.
+     * 
+     * @return {@link ReferenceDependency#DATE}
+     * @since 2.2.0
+     */
+    @Override
+    public ReferenceDependency referenceDependency() {
+        return ReferenceDependency.DATE;
+    }
+
+    @Override
+    protected Expression compileMatch(MatchResult match, CharSequence source) {
         boolean yearSetExplicitly = false;
-        int year = reference.getYear();
-        if (match.group(namedGroupMap.get("year")) != null) {
-            String yearString = match.group(namedGroupMap.get("year"));
+        int year = 0;
+        if (isMatched(match, yearGroup)) {
+            year = parseDigits(source, match.start(yearGroup), match.end(yearGroup));
 
-            if (yearString.length() == 2) {
-                yearString = "20" + yearString;
+            if (match.end(yearGroup) - match.start(yearGroup) == 2) {
+                year += 2000;
             }
 
-            year = Integer.parseInt(yearString);
             yearSetExplicitly = true;
         }
 
-        int num1 = Integer.parseInt(match.group(namedGroupMap.get("num1")));
-        int num2 = Integer.parseInt(match.group(namedGroupMap.get("num2")));
+        int num1 = parseDigits(source, match.start(num1Group), match.end(num1Group));
+        int num2 = parseDigits(source, match.start(num2Group), match.end(num2Group));
 
         int day;
         int month;
 
         if (!isWithinDayRange(num1) || !isWithinDayRange(num2)) {
-            return Optional.empty();
+            return null;
         }
 
         if (isWithinMonthRange(num1) && isWithinMonthRange(num2)) {
@@ -128,20 +167,21 @@ public class SlashDateFormatParser extends Parser {
             day = num2;
             month = num1;
         } else {
-            return Optional.empty();
+            return null;
+        }
+
+        if (!yearSetExplicitly) {
+            // The year is implied from the reference, dates that do not
+            // exist in that year, like 29.02, are ignored
+            return Expression.monthDay(match.start(), match.end(), Month.of(month), day, null);
         }
 
         if (!YearMonth.of(year, month).isValidDay(day)) {
-            return Optional.empty();
+            return null;
         }
 
         LocalDate result = LocalDate.of(year, month, day);
-        if (!yearSetExplicitly && result.isBefore(reference.toLocalDate())) {
-            result = result.plusYears(1);
-        }
 
-        return Optional.of(
-            new ParsedComponentBuilder(reference, source, match).date(result).build()
-        );
+        return Expression.absolute(match.start(), match.end(), result.toEpochDay(), ComponentSink.NO_TIME);
     }
 }
@@ -2,6 +2,7 @@ package io.github.hashadex.naturaldateinput.parsers.common;
 
 import java.util.Map;
 
+import io.github.hashadex.naturaldateinput.parsers.CharacterProfile;
 import io.github.hashadex.naturaldateinput.parsers.templates.HourMinuteSecondParser;
 
 /**
@@ -32,5 +33,16 @@ public final class TwentyFourHourTimeParser extends HourMinuteSecondParser {
             """,
             Map.of("hour", 1, "minute", 2, "second", 3)
         );
-    }   
+    }
+
+    /**
+     * The parser can only match inputs in which a colon (<code>:</code>)
+     * appears between two digits.
+     * 
+     * @since 2.2.0
+     */
+    @Override
+    public boolean canMatch(CharacterProfile profile) {
+        return profile.separatesDigits(':');
+    }
 }
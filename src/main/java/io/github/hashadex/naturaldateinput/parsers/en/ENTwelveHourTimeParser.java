@@ -2,6 +2,7 @@ package io.github.hashadex.naturaldateinput.parsers.en;
 
 import java.util.Map;
 
+import io.github.hashadex.naturaldateinput.parsers.CharacterProfile;
 import io.github.hashadex.naturaldateinput.parsers.templates.HourMinuteSecondParser;
 
 /**
@@ -51,4 +52,16 @@ public final class ENTwelveHourTimeParser extends HourMinuteSecondParser {
             )
         );
     }
+
+    /**
+     * The parser can only match inputs in which <code>a</code> or
+     * <code>p</code> appears after a digit and a whitespace character, like in
+     * "5 pm".
+     * 
+     * @since 2.2.0
+     */
+    @Override
+    public boolean canMatch(CharacterProfile profile) {
+        return profile.followsDigitAndWhitespace('a') || profile.followsDigitAndWhitespace('p');
+    }
 }
@@ -1,13 +1,14 @@
 package io.github.hashadex.naturaldateinput.parsers.templates;
 
-import java.time.DateTimeException;
-import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.regex.MatchResult;
 
+import io.github.hashadex.naturaldateinput.parsers.CompilingParser;
+import io.github.hashadex.naturaldateinput.parsers.Expression;
 import io.github.hashadex.naturaldateinput.parsers.Parser;
+import io.github.hashadex.naturaldateinput.parsers.WordTrie;
 
 /**
  * Base for language parsers that handle date/time expressions in the form of
@@ -20,7 +21,8 @@ import io.github.hashadex.naturaldateinput.parsers.Parser;
  * integers as the amount can optionally be enabled by passing a
  * {@link java.util.Map Map} of the names of the numbers in your language to
  * their respective integers as the <code>cardinalNumberMap</code> parameter in
- * the constructor call.
+ * the constructor call. Cardinal numbers are looked up case-sensitively, while
+ * timeunits are looked up ignoring case, see {@link WordTrie#of(Map)}.
  * <p>
  * The regex for the concrete parser must contain <code>amount</code> and
  * <code>unit</code> named capturing groups. The <code>amount</code> capturing
@@ -33,9 +35,12 @@ import io.github.hashadex.naturaldateinput.parsers.Parser;
  * @author hashadex
  * @since 1.0.0
  */
-public abstract class ChronoUnitLaterParser extends Parser {
-    private final Map<String, ChronoUnit> chronoUnitMap;
-    private final Map<String, Integer> cardinalNumberMap;
+public abstract class ChronoUnitLaterParser extends CompilingParser {
+    private final WordTrie<ChronoUnit> chronoUnitTrie;
+    private final WordTrie<Integer> cardinalNumberTrie;
+    private final ReferenceDependency referenceDependency;
+    private final int amountGroup;
+    private final int unitGroup;
 
     /**
      * Constructs the parser with cardinal number support and custom regex flags.
@@ -62,8 +67,11 @@ public abstract class ChronoUnitLaterParser extends Parser {
     ) {
         super(regex, namedGroupMap, flags);
 
-        this.chronoUnitMap = chronoUnitMap;
-        this.cardinalNumberMap = cardinalNumberMap;
+        this.chronoUnitTrie = WordTrie.of(chronoUnitMap);
+        this.cardinalNumberTrie = WordTrie.ofCaseSensitive(cardinalNumberMap);
+        this.referenceDependency = referenceDependencyOf(chronoUnitMap);
+        this.amountGroup = groupIndex("amount");
+        this.unitGroup = groupIndex("unit");
     }
 
     /**
@@ -88,8 +96,11 @@ public abstract class ChronoUnitLaterParser extends Parser {
     ) {
         super(regex, namedGroupMap);
 
-        this.chronoUnitMap = chronoUnitMap;
-        this.cardinalNumberMap = cardinalNumberMap;
+        this.chronoUnitTrie = WordTrie.of(chronoUnitMap);
+        this.cardinalNumberTrie = WordTrie.ofCaseSensitive(cardinalNumberMap);
+        this.referenceDependency = referenceDependencyOf(chronoUnitMap);
+        this.amountGroup = groupIndex("amount");
+        this.unitGroup = groupIndex("unit");
     }
 
     /**
@@ -112,35 +123,66 @@ public abstract class ChronoUnitLaterParser extends Parser {
         this(regex, namedGroupMap, chronoUnitMap, Map.of());
     }
 
+    /**
+     * Returns the names of timeunits from the <code>chronoUnitMap</code>, as the
+     * <code>unit</code> capturing group must match one of them.
+     * 
+     * @return Folded keys of the <code>chronoUnitMap</code>
+     * @since 2.2.0
+     */
     @Override
-    protected Optional<ParsedComponent> parseMatch(MatchResult match, LocalDateTime reference, String source) {
-        int amount;
-        if (cardinalNumberMap.containsKey(match.group(namedGroupMap.get("amount")))) {
-            amount = cardinalNumberMap.get(match.group(namedGroupMap.get("amount")));
-        } else {
-            try {
-                amount = Integer.parseInt(match.group(namedGroupMap.get("amount")));
-            } catch (NumberFormatException e) {
-                return Optional.empty();
-            }
-        }
+    public Set<String> keywords() {
+        return chronoUnitTrie.words();
+    }
 
-        ChronoUnit unit = chronoUnitMap.get(match.group(namedGroupMap.get("unit")).toLowerCase());
+    /**
+     * Date-based timeunits, such as days, are added to the reference date,
+     * while time-based timeunits, such as hours, are added to the whole
+     * reference datetime.
+     * 
+     * @return {@link ReferenceDependency#DATE_TIME} if the
+     *         <code>chronoUnitMap</code> contains a time-based timeunit,
+     *         {@link ReferenceDependency#DATE} otherwise
+     * @since 2.2.0
+     */
+    @Override
+    public ReferenceDependency referenceDependency() {
+        return referenceDependency;
+    }
 
-        LocalDateTime result;
-        try {
-            result = reference.plus(amount, unit);
-        } catch (DateTimeException e) {
-            return Optional.empty();
-        }
+    private static ReferenceDependency referenceDependencyOf(Map<String, ChronoUnit> chronoUnitMap) {
+        return chronoUnitMap.values().stream().allMatch(ChronoUnit::isDateBased)
+            ? ReferenceDependency.DATE
+            : ReferenceDependency.DATE_TIME;
+    }
 
-        ParsedComponentBuilder builder = new ParsedComponentBuilder(reference, source, match);
-        if (unit.isDateBased()) {
-            builder.date(result.toLocalDate());
-        } else {
-            builder.dateTime(result);
+    /**
+     * Cardinal numbers are looked up case-sensitively, and folding the text
+     * would change which of them are found, so parsers with cardinal number
+     * support can not parse folded text.
+     * 
+     * @return <code>false</code> if the <code>cardinalNumberMap</code> is
+     *         not empty, otherwise see {@link Parser#canParseFolded()}
+     * @since 2.2.0
+     */
+    @Override
+    public boolean canParseFolded() {
+        return cardinalNumberTrie.size() == 0 && super.canParseFolded();
+    }
+
+    @Override
+    protected Expression compileMatch(MatchResult match, CharSequence source) {
+        Integer amount = cardinalNumberTrie.get(source, match.start(amountGroup), match.end(amountGroup));
+        if (amount == null) {
+            amount = parseDigits(source, match.start(amountGroup), match.end(amountGroup));
+
+            if (amount == -1) {
+                return null;
+            }
         }
 
-        return Optional.of(builder.build());
+        ChronoUnit unit = chronoUnitTrie.get(source, match.start(unitGroup), match.end(unitGroup));
+
+        return Expression.later(match.start(), match.end(), amount, unit);
     }
 }
@@ -1,12 +1,12 @@
 package io.github.hashadex.naturaldateinput.parsers.templates;
 
-import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Map;
-import java.util.Optional;
 import java.util.regex.MatchResult;
 
-import io.github.hashadex.naturaldateinput.parsers.Parser;
+import io.github.hashadex.naturaldateinput.parsers.CompilingParser;
+import io.github.hashadex.naturaldateinput.parsers.ComponentSink;
+import io.github.hashadex.naturaldateinput.parsers.Expression;
 
 /**
  * Base for parsers that handle time in formats like HH:MM:SS with support for
@@ -26,7 +26,13 @@ import io.github.hashadex.naturaldateinput.parsers.Parser;
  * @author hashadex
  * @since 1.0.0
  */
-public class HourMinuteSecondParser extends Parser {
+public class HourMinuteSecondParser extends CompilingParser {
+    private final int hourGroup;
+    private final int minuteGroup;
+    private final int secondGroup;
+    private final int amGroup;
+    private final int pmGroup;
+
     /**
      * Constructs the parser using custom regex flags. See the
      * {@link HourMinuteSecondParser class doc comment} for requirements for
@@ -40,6 +46,12 @@ public class HourMinuteSecondParser extends Parser {
      */
     public HourMinuteSecondParser(String regex, Map<String, Integer> namedGroupMap, int flags) {
         super(regex, namedGroupMap, flags);
+
+        this.hourGroup = groupIndex("hour");
+        this.minuteGroup = groupIndex("minute");
+        this.secondGroup = groupIndex("second");
+        this.amGroup = groupIndex("am");
+        this.pmGroup = groupIndex("pm");
     }
 
     /**
@@ -53,6 +65,12 @@ public class HourMinuteSecondParser extends Parser {
      */
     public HourMinuteSecondParser(String regex, Map<String, Integer> namedGroupMap) {
         super(regex, namedGroupMap);
+
+        this.hourGroup = groupIndex("hour");
+        this.minuteGroup = groupIndex("minute");
+        this.secondGroup = groupIndex("second");
+        this.amGroup = groupIndex("am");
+        this.pmGroup = groupIndex("pm");
     }
 
     private static boolean isWithin24HourRange(int hour) {
@@ -67,30 +85,35 @@ public class HourMinuteSecondParser extends Parser {
         return value >= 0 && value <= 59;
     }
 
+    /**
+     * Times are parsed from the match alone, so the components do not depend
+     * on the reference.
+     * 
+     * @return {@link ReferenceDependency#NONE}
+     * @since 2.2.0
+     */
     @Override
-    protected Optional<ParsedComponent> parseMatch(MatchResult match, LocalDateTime reference, String source) {
-        boolean am = false;
-        if (namedGroupMap.containsKey("am") && match.group(namedGroupMap.get("am")) != null) {
-            am = true;
-        }
+    public ReferenceDependency referenceDependency() {
+        return ReferenceDependency.NONE;
+    }
 
-        boolean pm = false;
-        if (namedGroupMap.containsKey("pm") && match.group(namedGroupMap.get("pm")) != null) {
-            pm = true;
-        }
+    @Override
+    protected Expression compileMatch(MatchResult match, CharSequence source) {
+        boolean am = isMatched(match, amGroup);
+        boolean pm = isMatched(match, pmGroup);
         // If the regex is working correctly, either am or pm can be true.
 
         int hour = 0;
-        if (namedGroupMap.containsKey("hour") && match.group(namedGroupMap.get("hour")) != null) {
-            hour = Integer.parseInt(match.group(namedGroupMap.get("hour")));
+        if (isMatched(match, hourGroup)) {
+            hour = parseDigits(source, match.start(hourGroup), match.end(hourGroup));
             
             if (am || pm) {
                 if (!isWithin12HourRange(hour)) {
-                    return Optional.empty();
+                    return null;
                 }
             } else {
                 if (!isWithin24HourRange(hour)) {
-                    return Optional.empty();
+                    return null;
                 }
             }
 
@@ -105,28 +128,26 @@ public class HourMinuteSecondParser extends Parser {
         }
 
         int minute = 0;
-        if (namedGroupMap.containsKey("minute") && match.group(namedGroupMap.get("minute")) != null) {
-            minute = Integer.parseInt(match.group(namedGroupMap.get("minute")));
+        if (isMatched(match, minuteGroup)) {
+            minute = parseDigits(source, match.start(minuteGroup), match.end(minuteGroup));
 
             if (!isWithinMinuteSecondRange(minute)) {
-                return Optional.empty();
+                return null;
             }
         }
 
         int second = 0;
-        if (namedGroupMap.containsKey("second") && match.group(namedGroupMap.get("second")) != null) {
-            second = Integer.parseInt(match.group(namedGroupMap.get("second")));
+        if (isMatched(match, secondGroup)) {
+            second = parseDigits(source, match.start(secondGroup), match.end(secondGroup));
 
             if (!isWithinMinuteSecondRange(second)) {
-                return Optional.empty();
+                return null;
             }
         }
 
         // Assemble the date
         LocalTime result = LocalTime.of(hour, minute, second);
 
-        return Optional.of(
-            new ParsedComponentBuilder(reference, source, match).time(result).build()
-        );
+        return Expression.absolute(match.start(), match.end(), ComponentSink.NO_DATE, result.toNanoOfDay());
     }
 }
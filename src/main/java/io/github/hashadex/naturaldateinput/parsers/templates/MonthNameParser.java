@@ -1,22 +1,25 @@
 package io.github.hashadex.naturaldateinput.parsers.templates;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.MonthDay;
 import java.time.YearMonth;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.regex.MatchResult;
 
-import io.github.hashadex.naturaldateinput.parsers.Parser;
+import io.github.hashadex.naturaldateinput.parsers.CompilingParser;
+import io.github.hashadex.naturaldateinput.parsers.ComponentSink;
+import io.github.hashadex.naturaldateinput.parsers.Expression;
+import io.github.hashadex.naturaldateinput.parsers.WordTrie;
 
 /**
  * Base for language parsers that handle date expressions containing a month
  * name, like "August 3rd, 2025".
  * <p>
  * The names of months are stored in a map, passed to the constructor as the
- * <code>monthMap</code> parameter.
+ * <code>monthMap</code> parameter. Month names are looked up ignoring case,
+ * see {@link WordTrie#of(java.util.Map)} for names that only differ in case.
  * <p>
  * If this parser finds an invalid day, it will shift the start or end index so
  * the invalid day would not get included. For example, the match "32 April 2025"
@@ -33,8 +36,11 @@ import io.github.hashadex.naturaldateinput.parsers.Parser;
  * @author hashadex
  * @since 1.0.0
  */
-public abstract class MonthNameParser extends Parser {
-    private final Map<String, Month> monthMap;
+public abstract class MonthNameParser extends CompilingParser {
+    private final WordTrie<Month> monthTrie;
+    private final int monthGroup;
+    private final int dayGroup;
+    private final int yearGroup;
 
     /**
      * Constructs the parser using custom regex flags. See the
@@ -57,7 +63,10 @@ public abstract class MonthNameParser extends Parser {
     ) {
         super(regex, namedGroupMap, flags);
 
-        this.monthMap = monthMap;
+        this.monthTrie = WordTrie.of(monthMap);
+        this.monthGroup = groupIndex("month");
+        this.dayGroup = groupIndex("day");
+        this.yearGroup = groupIndex("year");
     }
 
     /**
@@ -78,66 +87,112 @@ public abstract class MonthNameParser extends Parser {
     ) {
         super(regex, namedGroupMap);
 
-        this.monthMap = monthMap;
+        this.monthTrie = WordTrie.of(monthMap);
+        this.monthGroup = groupIndex("month");
+        this.dayGroup = groupIndex("day");
+        this.yearGroup = groupIndex("year");
     }
 
+    /**
+     * Returns the names of months from the <code>monthMap</code>, as the
+     * <code>month</code> capturing group must match one of them.
+     * 
+     * @return Folded keys of the <code>monthMap</code>
+     * @since 2.2.0
+     */
+    @Override
+    public Set<String> keywords() {
+        return monthTrie.words();
+    }
+
+    /**
+     * The year of dates without a year is implied from the reference date.
+     * 
+     * @return {@link ReferenceDependency#DATE}
+     * @since 2.2.0
+     */
     @Override
-    protected Optional<ParsedComponent> parseMatch(MatchResult match, LocalDateTime reference, String source) {
+    public ReferenceDependency referenceDependency() {
+        return ReferenceDependency.DATE;
+    }
+
+    @Override
+    protected Expression compileMatch(MatchResult match, CharSequence source) {
         int startIndex = match.start();
         int endIndex = match.end();
 
-        Month month = monthMap.get(match.group(namedGroupMap.get("month")).toLowerCase());
+        Month month = monthTrie.get(source, match.start(monthGroup), match.end(monthGroup));
 
-        int year = reference.getYear();
-        boolean yearSetExplicitly = false;
-        if (namedGroupMap.containsKey("year") && match.group(namedGroupMap.get("year")) != null) {
-            year = Integer.parseInt(match.group(namedGroupMap.get("year")));
-            yearSetExplicitly = true;
-        }
+        Integer year = null;
+        if (isMatched(match, yearGroup)) {
+            int yearDigits = parseDigits(source, match.start(yearGroup), match.end(yearGroup));
 
-        int day = 1;
-        if (namedGroupMap.containsKey("day") && match.group(namedGroupMap.get("day")) != null) {
-            day = Integer.parseInt(match.group(namedGroupMap.get("day")));
-
-            if (!YearMonth.of(year, month).isValidDay(day)) {
-                // If the day is invalid, (e.g. April 32nd) ignore the day
-                // by shifting indexes so the invalid day would not get included
-                // in the ParsedComponent
-                // e.g. [32 Apr 2025] => 32 [Apr 2025]
-                day = 1;
-
-                // Figure out the layout of capturing groups in the regex by comparing
-                // the capturing groups' group numbers
-                if (namedGroupMap.get("day") < namedGroupMap.get("month")) {
-                    // Day capturing group is before the month
-                    // Shift start index to start index of the capturing group that is after the day group
-                    startIndex = match.start(namedGroupMap.get("day") + 1);
-                } else {
-                    // Day capturing group is after the month
-                    // Shift end index to end index of the capturing group that is before the day group
-                    endIndex = match.end(namedGroupMap.get("day") - 1);
-                }
-
-                // If the year is not adjacent to month, (e.g. April 8, 2025)
-                // then also ignore the year
-                // [April 32, 2025] => [April] 32, 2025
-                if (Math.abs(namedGroupMap.get("month") - namedGroupMap.get("year")) > 1) {
-                    year = reference.getYear();
-                    yearSetExplicitly = false;
-                }
+            if (yearDigits == -1) {
+                return null;
             }
+
+            year = yearDigits;
         }
 
-        // Assemble the date
-        LocalDate result = MonthDay.of(month, day).atYear(year);
+        if (!isMatched(match, dayGroup)) {
+            return dateExpression(startIndex, endIndex, month, 1, year, null);
+        }
+
+        int day = parseDigits(source, match.start(dayGroup), match.end(dayGroup));
 
-        if (result.isBefore(reference.toLocalDate()) && !yearSetExplicitly) {
-            result = result.plusYears(1);
+        if (day >= 1 && day <= month.minLength()) {
+            // The day exists in every year
+            return dateExpression(startIndex, endIndex, month, day, year, null);
         }
 
-        // Return the date
-        return Optional.of(
-            new ParsedComponentBuilder(reference, source, startIndex, endIndex).date(result).build()
-        );
+        // If the day is invalid, (e.g. April 32nd) ignore the day by shifting
+        // indexes so the invalid day would not get included in the
+        // ParsedComponent
+        // e.g. [32 Apr 2025] => 32 [Apr 2025]
+        // Figure out the layout of capturing groups in the regex by comparing
+        // the capturing groups' group numbers
+        if (dayGroup < monthGroup) {
+            // Day capturing group is before the month
+            // Shift start index to start index of the capturing group that is after the day group
+            startIndex = match.start(dayGroup + 1);
+        } else {
+            // Day capturing group is after the month
+            // Shift end index to end index of the capturing group that is before the day group
+            endIndex = match.end(dayGroup - 1);
+        }
+
+        // If the year is not adjacent to month, (e.g. April 8, 2025)
+        // then also ignore the year
+        // [April 32, 2025] => [April] 32, 2025
+        Integer yearWithoutDay = year;
+        if (year != null && Math.abs(monthGroup - yearGroup) > 1) {
+            yearWithoutDay = null;
+        }
+
+        Expression withoutDay = dateExpression(startIndex, endIndex, month, 1, yearWithoutDay, null);
+
+        return dateExpression(match.start(), match.end(), month, day, year, withoutDay);
+    }
+
+    /**
+     * Creates the expression of the date, or returns the fallback if the day
+     * does not exist. Dates without a year are rolled forward from the
+     * reference date.
+     */
+    private static Expression dateExpression(
+        int startIndex, int endIndex, Month month, int day, Integer year, Expression fallback
+    ) {
+        if (year == null) {
+            // Whether the day exists depends on the year of the reference
+            return Expression.monthDay(startIndex, endIndex, month, day, fallback);
+        }
+
+        if (!YearMonth.of(year, month).isValidDay(day)) {
+            return fallback;
+        }
+
+        LocalDate result = MonthDay.of(month, day).atYear(year);
+
+        return Expression.absolute(startIndex, endIndex, result.toEpochDay(), ComponentSink.NO_TIME);
     }
 }
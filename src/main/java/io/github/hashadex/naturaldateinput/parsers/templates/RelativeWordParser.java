@@ -1,12 +1,12 @@
 package io.github.hashadex.naturaldateinput.parsers.templates;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.regex.MatchResult;
 
-import io.github.hashadex.naturaldateinput.parsers.Parser;
+import io.github.hashadex.naturaldateinput.parsers.CompilingParser;
+import io.github.hashadex.naturaldateinput.parsers.Expression;
+import io.github.hashadex.naturaldateinput.parsers.WordTrie;
 
 /**
  * Base for language parsers that handle relative words like "today" and
@@ -17,7 +17,8 @@ import io.github.hashadex.naturaldateinput.parsers.Parser;
  * example, in English the offset for "today" is 0, the offset for
  * "tomorrow" is 1 and the offset for "yesterday" is -1. These offsets are
  * stored in a map passed to the constructor as the
- * <code>relativeWordOffsetMap</code> parameter.
+ * <code>relativeWordOffsetMap</code> parameter, and relative words are looked
+ * up in it ignoring case, see {@link WordTrie#of(java.util.Map)}.
  * <p>
  * The regex for the concrete parser must contain the <code>word</code> named
  * capturing group. This group must only capture the relative words specified
@@ -26,8 +27,9 @@ import io.github.hashadex.naturaldateinput.parsers.Parser;
  * @author hashadex
  * @since 1.0.0
  */
-public abstract class RelativeWordParser extends Parser {
-    private final Map<String, Integer> relativeWordOffsetMap;
+public abstract class RelativeWordParser extends CompilingParser {
+    private final WordTrie<Integer> relativeWordOffsetTrie;
+    private final int wordGroup;
 
     /**
      * Constructs the parser with custom regex flags. See the
@@ -49,7 +51,8 @@ public abstract class RelativeWordParser extends Parser {
     ) {
         super(regex, namedGroupMap, flags);
 
-        this.relativeWordOffsetMap = relativeWordOffsetMap;
+        this.relativeWordOffsetTrie = WordTrie.of(relativeWordOffsetMap);
+        this.wordGroup = groupIndex("word");
     }
 
     /**
@@ -69,17 +72,39 @@ public abstract class RelativeWordParser extends Parser {
     ) {
         super(regex, namedGroupMap);
 
-        this.relativeWordOffsetMap = relativeWordOffsetMap;
+        this.relativeWordOffsetTrie = WordTrie.of(relativeWordOffsetMap);
+        this.wordGroup = groupIndex("word");
     }
 
+    /**
+     * Returns the relative words from the <code>relativeWordOffsetMap</code>, as
+     * the <code>word</code> capturing group must match one of them.
+     * 
+     * @return Folded keys of the <code>relativeWordOffsetMap</code>
+     * @since 2.2.0
+     */
     @Override
-    protected Optional<ParsedComponent> parseMatch(MatchResult match, LocalDateTime reference, String source) {
-        LocalDate result = reference.toLocalDate().plusDays(
-            relativeWordOffsetMap.get(match.group(namedGroupMap.get("word")).toLowerCase())
-        );
+    public Set<String> keywords() {
+        return relativeWordOffsetTrie.words();
+    }
+
+    /**
+     * Relative words are resolved by adding days to the reference date.
+     * 
+     * @return {@link ReferenceDependency#DATE}
+     * @since 2.2.0
+     */
+    @Override
+    public ReferenceDependency referenceDependency() {
+        return ReferenceDependency.DATE;
+    }
 
-        return Optional.of(
-            new ParsedComponentBuilder(reference, source, match).date(result).build()
+    @Override
+    protected Expression compileMatch(MatchResult match, CharSequence source) {
+        return Expression.dayOffset(
+            match.start(),
+            match.end(),
+            relativeWordOffsetTrie.get(source, match.start(wordGroup), match.end(wordGroup))
         );
     }
 }
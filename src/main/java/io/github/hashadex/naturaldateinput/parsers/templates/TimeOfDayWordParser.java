@@ -1,19 +1,23 @@
 package io.github.hashadex.naturaldateinput.parsers.templates;
 
-import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.regex.MatchResult;
 
-import io.github.hashadex.naturaldateinput.parsers.Parser;
+import io.github.hashadex.naturaldateinput.parsers.CompilingParser;
+import io.github.hashadex.naturaldateinput.parsers.ComponentSink;
+import io.github.hashadex.naturaldateinput.parsers.Expression;
+import io.github.hashadex.naturaldateinput.parsers.WordTrie;
 
 /**
  * Base for language parsers that handle time-of-day words like "morning", "noon".
  * <p>
  * This template parser works by looking up the time-of-day word in the map of
  * time-of-day words in your language to their {@link java.time.LocalTime LocalTimes}
- * passed to the constructor, and returns the respective <code>LocalTime</code>.
+ * passed to the constructor, ignoring case (see
+ * {@link WordTrie#of(java.util.Map)}), and returns the respective
+ * <code>LocalTime</code>.
  * <p>
  * The regex for the concrete parser must contain the <code>word</code> capturing
  * group that only captures the words in the <code>timeOfDayWordMap</code>.
@@ -21,8 +25,9 @@ import io.github.hashadex.naturaldateinput.parsers.Parser;
  * @author hashadex
  * @since 1.0.0
  */
-public class TimeOfDayWordParser extends Parser {
-    private final Map<String, LocalTime> timeOfDayWordMap;
+public class TimeOfDayWordParser extends CompilingParser {
+    private final WordTrie<LocalTime> timeOfDayWordTrie;
+    private final int wordGroup;
 
     /**
      * Constructs the parser using custom regex flags. See the
@@ -45,7 +50,8 @@ public class TimeOfDayWordParser extends Parser {
     ) {
         super(regex, namedGroupMap, flags);
 
-        this.timeOfDayWordMap = timeOfDayWordMap;
+        this.timeOfDayWordTrie = WordTrie.of(timeOfDayWordMap);
+        this.wordGroup = groupIndex("word");
     }
 
     /**
@@ -66,15 +72,38 @@ public class TimeOfDayWordParser extends Parser {
     ) {
         super(regex, namedGroupMap);
 
-        this.timeOfDayWordMap = timeOfDayWordMap;
+        this.timeOfDayWordTrie = WordTrie.of(timeOfDayWordMap);
+        this.wordGroup = groupIndex("word");
+    }
+
+    /**
+     * Returns the time-of-day words from the <code>timeOfDayWordMap</code>, as
+     * the <code>word</code> capturing group must match one of them.
+     * 
+     * @return Folded keys of the <code>timeOfDayWordMap</code>
+     * @since 2.2.0
+     */
+    @Override
+    public Set<String> keywords() {
+        return timeOfDayWordTrie.words();
+    }
+
+    /**
+     * Every word stands for a fixed time, so the components do not depend on
+     * the reference.
+     * 
+     * @return {@link ReferenceDependency#NONE}
+     * @since 2.2.0
+     */
+    @Override
+    public ReferenceDependency referenceDependency() {
+        return ReferenceDependency.NONE;
     }
 
     @Override
-    protected Optional<ParsedComponent> parseMatch(MatchResult match, LocalDateTime reference, String source) {
-        LocalTime result = timeOfDayWordMap.get(match.group(namedGroupMap.get("word")).toLowerCase());
+    protected Expression compileMatch(MatchResult match, CharSequence source) {
+        LocalTime result = timeOfDayWordTrie.get(source, match.start(wordGroup), match.end(wordGroup));
 
-        return Optional.of(
-            new ParsedComponentBuilder(reference, source, match).time(result).build()
-        );
+        return Expression.absolute(match.start(), match.end(), ComponentSink.NO_DATE, result.toNanoOfDay());
     }
 }
\ No newline at end of file
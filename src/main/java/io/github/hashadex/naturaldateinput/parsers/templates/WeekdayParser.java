@@ -1,15 +1,13 @@
 package io.github.hashadex.naturaldateinput.parsers.templates;
 
 import java.time.DayOfWeek;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.temporal.TemporalAdjuster;
-import java.time.temporal.TemporalAdjusters;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.regex.MatchResult;
 
-import io.github.hashadex.naturaldateinput.parsers.Parser;
+import io.github.hashadex.naturaldateinput.parsers.CompilingParser;
+import io.github.hashadex.naturaldateinput.parsers.Expression;
+import io.github.hashadex.naturaldateinput.parsers.WordTrie;
 
 /**
  * Base for language parsers that handle expressions like "on wednesday",
@@ -23,7 +21,8 @@ import io.github.hashadex.naturaldateinput.parsers.Parser;
  * <p>
  * The names of weekday names and their respective {@link java.time.DayOfWeek}
  * are stored in a map passed to the constructor as the <code>weekdayMap</code>
- * parameter.
+ * parameter. Weekday names are looked up ignoring case, as described in
+ * {@link WordTrie#of(java.util.Map)}.
  * <p>
  * The concrete parser's regex must contain a <code>weekday</code> named
  * capturing group that must only capture weekdays from the
@@ -35,8 +34,10 @@ import io.github.hashadex.naturaldateinput.parsers.Parser;
  * @author hashadex
  * @since 1.0.0
  */
-public abstract class WeekdayParser extends Parser {
-    private final Map<String, DayOfWeek> weekdayMap;
+public abstract class WeekdayParser extends CompilingParser {
+    private final WordTrie<DayOfWeek> weekdayTrie;
+    private final int weekdayGroup;
+    private final int nextModifierGroup;
 
     /**
      * Constructs the parser using custom regex flags. See the
@@ -59,7 +60,9 @@ public abstract class WeekdayParser extends Parser {
     ) {
         super(regex, namedGroupMap, flags);
 
-        this.weekdayMap = weekdayMap;
+        this.weekdayTrie = WordTrie.of(weekdayMap);
+        this.weekdayGroup = groupIndex("weekday");
+        this.nextModifierGroup = groupIndex("nextmodifier");
     }
 
     /**
@@ -80,30 +83,41 @@ public abstract class WeekdayParser extends Parser {
     ) {
         super(regex, namedGroupMap);
 
-        this.weekdayMap = weekdayMap;
+        this.weekdayTrie = WordTrie.of(weekdayMap);
+        this.weekdayGroup = groupIndex("weekday");
+        this.nextModifierGroup = groupIndex("nextmodifier");
     }
 
+    /**
+     * Returns the names of weekdays from the <code>weekdayMap</code>, as the
+     * <code>weekday</code> capturing group must match one of them.
+     * 
+     * @return Folded keys of the <code>weekdayMap</code>
+     * @since 2.2.0
+     */
     @Override
-    protected Optional<ParsedComponent> parseMatch(MatchResult match, LocalDateTime reference, String source) {
-        boolean nextModifier = false;
-
-        if (namedGroupMap.containsKey("nextmodifier") && match.group(namedGroupMap.get("nextmodifier")) != null) {
-            nextModifier = true;
-        }
+    public Set<String> keywords() {
+        return weekdayTrie.words();
+    }
 
-        DayOfWeek weekday = weekdayMap.get(match.group(namedGroupMap.get("weekday")).toLowerCase());
+    /**
+     * Weekdays are resolved relative to the reference date.
+     * 
+     * @return {@link ReferenceDependency#DATE}
+     * @since 2.2.0
+     */
+    @Override
+    public ReferenceDependency referenceDependency() {
+        return ReferenceDependency.DATE;
+    }
 
-        TemporalAdjuster adjuster;
-        if (nextModifier) {
-            adjuster = TemporalAdjusters.next(weekday);
-        } else {
-            adjuster = TemporalAdjusters.nextOrSame(weekday);
-        }
+    @Override
+    protected Expression compileMatch(MatchResult match, CharSequence source) {
+        boolean nextModifier = isMatched(match, nextModifierGroup);
 
-        LocalDate result = reference.toLocalDate().with(adjuster);
+        DayOfWeek weekday = weekdayTrie.get(source, match.start(weekdayGroup), match.end(weekdayGroup));
 
-        return Optional.of(
-            new ParsedComponentBuilder(reference, source, match).date(result).build()
-        );
+        // "next friday" skips the reference date, "friday" does not
+        return Expression.weekday(match.start(), match.end(), weekday, !nextModifier);
     }
 }
@@ -2,21 +2,43 @@ package io.github.hashadex.naturaldateinput;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.MatchResult;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import io.github.hashadex.naturaldateinput.ParsingConfiguration.CacheStats;
+import io.github.hashadex.naturaldateinput.ParsingConfiguration.CompiledInput;
+import io.github.hashadex.naturaldateinput.ParsingConfiguration.OptionsBuilder;
 import io.github.hashadex.naturaldateinput.ParsingConfiguration.ParseResult;
+import io.github.hashadex.naturaldateinput.ParsingConfiguration.ScanDirection;
+import io.github.hashadex.naturaldateinput.ParsingConfiguration.ScanMode;
+import io.github.hashadex.naturaldateinput.parsers.ComponentSink;
 import io.github.hashadex.naturaldateinput.parsers.Parser;
+import io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent;
+import io.github.hashadex.naturaldateinput.parsers.common.SlashDateFormatParser.DayMonthOrder;
+import io.github.hashadex.naturaldateinput.parsers.en.ENRelativeWordParser;
 
 public class ParsingConfigurationTest {
     private static LocalDateTime reference = LocalDateTime.of(2025, 7, 2, 12, 0, 0);
@@ -179,4 +201,728 @@ public class ParsingConfigurationTest {
             () -> assertEquals(exampleTime, resultTime)
         );
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "Meeting tomorrow at 5 pm",
+        "on the next friday at 17:30",
+        "4th of August, 2025 12:00:00 a.m.",
+        "in ten days at noon",
+        "due 10.12.2025",
+        "nothing to see here"
+    })
+    void parse_UnionScanMode_ReturnsSameResultAsIndependentScanMode(String input) {
+        ParsingConfiguration independent = new ENParsingConfiguration(DayMonthOrder.DAY_MONTH);
+        ParsingConfiguration union = new ENParsingConfiguration(
+            DayMonthOrder.DAY_MONTH,
+            new OptionsBuilder().scanMode(ScanMode.UNION).build()
+        );
+
+        assertEquals(independent.parse(input, reference), union.parse(input, reference));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "Meeting tomorrow at 5 pm",
+        "on the next friday at 17:30",
+        "4th of August, 2025 12:00:00 a.m.",
+        "in ten days at noon",
+        "due 10.12.2025",
+        "nothing to see here"
+    })
+    void parse_TokenizedScanMode_ReturnsSameResultAsIndependentScanMode(String input) {
+        ParsingConfiguration independent = new ENParsingConfiguration(DayMonthOrder.DAY_MONTH);
+        ParsingConfiguration tokenized = new ENParsingConfiguration(
+            DayMonthOrder.DAY_MONTH,
+            new OptionsBuilder().scanMode(ScanMode.TOKENIZED).build()
+        );
+
+        assertEquals(independent.parse(input, reference), tokenized.parse(input, reference));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "Meeting tomorrow at 5 pm",
+        "on the next friday at 17:30",
+        "4th of August, 2025 12:00:00 a.m.",
+        "in ten days at noon",
+        "due 10.12.2025",
+        "nothing to see here",
+        "at 5 pm, not 17:30 on 2025-08-04 or 10.12.2025, but the next friday at noon",
+        "call me tomorrow  at 10 am and then again in ten days"
+    })
+    void parse_BackwardScanDirection_ReturnsSameResultAsForwardScanDirection(String input) {
+        ParsingConfiguration forward = new ENParsingConfiguration(DayMonthOrder.DAY_MONTH);
+
+        // Small windows, so that matches cross window borders
+        for (int windowSize : new int[] { 1, 3, 7, 256 }) {
+            ParsingConfiguration backward = new ENParsingConfiguration(
+                DayMonthOrder.DAY_MONTH,
+                new OptionsBuilder().scanDirection(ScanDirection.BACKWARD).windowSize(windowSize).build()
+            );
+
+            assertEquals(forward.parse(input, reference), backward.parse(input, reference), "windowSize " + windowSize);
+        }
+    }
+
+    @Test
+    void parse_BackwardScanDirectionLongInput_ReturnsSameResultAsForwardScanDirection() {
+        String input = "on 2024-01-01 at 9 am ".repeat(500) + "meeting on the 4th of August at 17:30";
+
+        ParsingConfiguration forward = new ENParsingConfiguration(DayMonthOrder.DAY_MONTH);
+        ParsingConfiguration backward = new ENParsingConfiguration(
+            DayMonthOrder.DAY_MONTH,
+            new OptionsBuilder().scanDirection(ScanDirection.BACKWARD).build()
+        );
+
+        assertEquals(forward.parse(input, reference), backward.parse(input, reference));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "Meeting TOMORROW at 5 PM",
+        "on the Next Friday at 17:30",
+        "4th of AUGUST, 2025 12:00:00 A.M.",
+        "In Ten Days at Noon",
+        "due 10.12.2025",
+        "NOTHING to see here"
+    })
+    void parse_CaseFolding_ReturnsSameResultAsWithoutCaseFolding(String input) {
+        ParsingConfiguration unfolded = new ENParsingConfiguration(DayMonthOrder.DAY_MONTH);
+
+        for (ScanMode scanMode : new ScanMode[] { ScanMode.INDEPENDENT, ScanMode.TOKENIZED }) {
+            ParsingConfiguration folded = new ENParsingConfiguration(
+                DayMonthOrder.DAY_MONTH,
+                new OptionsBuilder().scanMode(scanMode).caseFolding(true).build()
+            );
+
+            assertEquals(unfolded.parse(input, reference), folded.parse(input, reference), scanMode.name());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "Встреча ЗАВТРА в 17:30",
+        "в Следующую Пятницу",
+        "ЧЕРЕЗ ДЕСЯТЬ ДНЕЙ",
+        "4 Августа 2025 года"
+    })
+    void parse_CaseFoldingRussian_ReturnsSameResultAsWithoutCaseFolding(String input) {
+        ParsingConfiguration unfolded = new RUParsingConfiguration(DayMonthOrder.DAY_MONTH);
+        ParsingConfiguration folded = new RUParsingConfiguration(
+            DayMonthOrder.DAY_MONTH,
+            new OptionsBuilder().caseFolding(true).build()
+        );
+
+        assertEquals(unfolded.parse(input, reference), folded.parse(input, reference));
+    }
+
+    @Test
+    void build_CaseFoldingWithUnionScanModeOrBackwardScanDirection_ThrowsIllegalStateException() {
+        assertAll(
+            () -> assertThrows(
+                IllegalStateException.class,
+                () -> new OptionsBuilder().caseFolding(true).scanMode(ScanMode.UNION).build()
+            ),
+            () -> assertThrows(
+                IllegalStateException.class,
+                () -> new OptionsBuilder().caseFolding(true).scanDirection(ScanDirection.BACKWARD).build()
+            )
+        );
+    }
+
+    @Test
+    void build_BackwardScanDirectionWithUnionScanMode_ThrowsIllegalStateException() {
+        OptionsBuilder builder = new OptionsBuilder()
+            .scanMode(ScanMode.UNION)
+            .scanDirection(ScanDirection.BACKWARD);
+
+        assertThrows(IllegalStateException.class, () -> builder.build());
+    }
+
+    @Test
+    void optionsBuilder_NonPositiveSizes_ThrowsIllegalArgumentException() {
+        OptionsBuilder builder = new OptionsBuilder();
+
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> builder.windowSize(0)),
+            () -> assertThrows(IllegalArgumentException.class, () -> builder.maxComponentLength(-1))
+        );
+    }
+
+    @Test
+    void parseAll_Inputs_ReturnsSameResultsAsParseInInputOrder() {
+        ParsingConfiguration conf = new ENParsingConfiguration(DayMonthOrder.DAY_MONTH);
+        List<CharSequence> inputs = List.of(
+            "Meeting tomorrow at 5 pm",
+            new StringBuilder("due 10.12.2025"),
+            "nothing to see here",
+            "today",
+            "on the next friday at 17:30",
+            "today"
+        );
+
+        List<ParseResult> expected = new ArrayList<>();
+        for (CharSequence input : inputs) {
+            expected.add(conf.parse(input.toString(), reference));
+        }
+
+        assertEquals(expected, conf.parseAll(inputs, reference));
+    }
+
+    @Test
+    void parseAll_RepeatedInputs_ReturnsSameInstance() {
+        ParsingConfiguration conf = new ENParsingConfiguration(DayMonthOrder.DAY_MONTH);
+
+        List<ParseResult> results = conf.parseAll(List.of("tomorrow", "next monday", "tomorrow"), reference);
+
+        assertSame(results.get(0), results.get(2));
+    }
+
+    @Test
+    void parseAll_NullInput_ThrowsNullPointerException() {
+        ParsingConfiguration conf = new ENParsingConfiguration(DayMonthOrder.DAY_MONTH);
+
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> conf.parseAll(null, reference)),
+            () -> assertThrows(NullPointerException.class, () -> conf.parseAll(Arrays.asList("today", null), reference)),
+            () -> assertThrows(NullPointerException.class, () -> conf.parseAll(List.of("today"), null))
+        );
+    }
+
+    @Test
+    void parseAll_Executor_ReturnsSameResultsAsSequentialParseAll() throws InterruptedException {
+        ParsingConfiguration conf = new ENParsingConfiguration(DayMonthOrder.DAY_MONTH);
+
+        String[] samples = {
+            "Meeting tomorrow at 5 pm", "due 10.12.2025", "today", "nothing to see here", "in ten days at noon"
+        };
+
+        // Several chunks, with a last chunk that is not full
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            inputs.add(samples[i % samples.length] + " #" + (i % 700));
+        }
+
+        List<ParseResult> expected = conf.parseAll(inputs, reference);
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            assertAll(
+                () -> assertEquals(expected, conf.parseAll(inputs, reference, pool)),
+                () -> assertEquals(expected, conf.parseAll(inputs, reference, ForkJoinPool.commonPool()))
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void parseAll_ExecutorAndNullInput_ThrowsNullPointerException() {
+        ParsingConfiguration conf = new ENParsingConfiguration(DayMonthOrder.DAY_MONTH);
+
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> conf.parseAll(List.of("today"), reference, null)),
+            () -> assertThrows(
+                NullPointerException.class,
+                () -> conf.parseAll(Arrays.asList("today", null), reference, ForkJoinPool.commonPool())
+            )
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "Meeting tomorrow at 5 pm",
+        "on the next friday at 17:30",
+        "4th of August, 2025 12:00:00 a.m.",
+        "due 10.12.2025",
+        "nothing to see here"
+    })
+    void parse_Range_ReturnsSameDateTimeAsSubstringWithShiftedIndexes(String input) {
+        StringBuilder text = new StringBuilder("today 9:00 ").append(input).append(" 2020-01-01");
+        int start = 11;
+        int end = start + input.length();
+
+        List<ParsingConfiguration> configurations = List.of(
+            new ENParsingConfiguration(DayMonthOrder.DAY_MONTH),
+            new ENParsingConfiguration(DayMonthOrder.DAY_MONTH, new OptionsBuilder().scanMode(ScanMode.UNION).build()),
+            new ENParsingConfiguration(DayMonthOrder.DAY_MONTH, new OptionsBuilder().scanMode(ScanMode.TOKENIZED).build()),
+            new ENParsingConfiguration(
+                DayMonthOrder.DAY_MONTH,
+                new OptionsBuilder().scanDirection(ScanDirection.BACKWARD).windowSize(3).build()
+            )
+        );
+
+        for (ParsingConfiguration conf : configurations) {
+            ParseResult expected = conf.parse(input, reference);
+            ParseResult result = conf.parse(text, start, end, reference);
+
+            assertAll(
+                () -> assertEquals(expected.date(), result.date()),
+                () -> assertEquals(expected.time(), result.time()),
+                () -> assertEquals("", result.source()),
+                () -> assertEquals(
+                    expected.components().stream().map(c -> c.startIndex() + start).toList(),
+                    result.components().stream().map(c -> c.startIndex()).toList()
+                ),
+                () -> assertEquals(
+                    expected.components().stream().map(c -> c.text()).toList(),
+                    result.components().stream().map(c -> c.text()).toList()
+                )
+            );
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "Meeting tomorrow at 5 pm",
+        "on the next friday at 17:30",
+        "due 10.12.2025 or 2025-08-04",
+        "встреча завтра в 17:30",
+        "в следующую пятницу, 5 августа 2026 года",
+        "nothing to see here"
+    })
+    void parse_Utf8Bytes_ReturnsSameResultAsString(String input) {
+        List<ParsingConfiguration> configurations = List.of(
+            new ENParsingConfiguration(DayMonthOrder.DAY_MONTH),
+            new RUParsingConfiguration(DayMonthOrder.DAY_MONTH)
+        );
+
+        byte[] utf8 = input.getBytes(StandardCharsets.UTF_8);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(utf8.length + 2);
+        direct.put((byte) 'x').put(utf8).put((byte) 'y').flip();
+        direct.position(1).limit(utf8.length + 1);
+
+        for (ParsingConfiguration conf : configurations) {
+            ParseResult expected = conf.parse(input, reference);
+
+            assertAll(
+                () -> assertEquals(describe(expected), describe(conf.parseUtf8(utf8, reference))),
+                () -> assertEquals(describe(expected), describe(conf.parseUtf8(direct, reference))),
+                () -> assertEquals(1, direct.position())
+            );
+        }
+    }
+
+    /**
+     * Describes the date, the time and the components of the result, but not
+     * its source.
+     */
+    private static List<String> describe(ParseResult result) {
+        List<String> description = new ArrayList<>();
+
+        description.add(result.date() + " " + result.time());
+        for (ParsedComponent component : result.components()) {
+            description.add(component.startIndex() + "-" + component.endIndex() + " " + component);
+        }
+
+        return description;
+    }
+
+    @Test
+    void parse_ConsecutiveCallsOnSameThread_DoNotShareCandidates() {
+        ParsingConfiguration conf = new ENParsingConfiguration(DayMonthOrder.DAY_MONTH);
+        String many = "tomorrow at noon, ".repeat(200);
+
+        ParseResult first = conf.parse("meet tomorrow at noon", reference);
+        ParseResult nothing = conf.parse("nothing to see here", reference);
+        ParseResult longResult = conf.parse(many, reference);
+        ParseResult again = conf.parse("meet tomorrow at noon", reference);
+
+        assertAll(
+            () -> assertEquals(2, first.components().size()),
+            () -> assertTrue(nothing.components().isEmpty()),
+            () -> assertEquals(new ENParsingConfiguration(DayMonthOrder.DAY_MONTH).parse(many, reference), longResult),
+            () -> assertEquals(first, again)
+        );
+    }
+
+    @Test
+    void parse_ModifiedSequence_KeepsTextsOfComponents() {
+        ParsingConfiguration conf = new ENParsingConfiguration(DayMonthOrder.DAY_MONTH);
+        StringBuilder text = new StringBuilder("meet tomorrow");
+        byte[] utf8 = "meet tomorrow".getBytes(StandardCharsets.US_ASCII);
+
+        ParseResult result = conf.parse(text, 0, text.length(), reference);
+        ParseResult utf8Result = conf.parseUtf8(utf8, reference);
+
+        text.setLength(0);
+        text.append("a completely different text");
+        Arrays.fill(utf8, (byte) 'x');
+
+        assertAll(
+            () -> assertEquals("", result.source()),
+            () -> assertEquals("tomorrow", result.components().get(0).text()),
+            () -> assertEquals("tomorrow", result.components().get(0).source()),
+            () -> assertEquals(5, result.components().get(0).startIndex()),
+            () -> assertEquals("", utf8Result.source()),
+            () -> assertEquals("tomorrow", utf8Result.components().get(0).text()),
+            () -> assertEquals(result, utf8Result),
+            () -> assertEquals(result.hashCode(), utf8Result.hashCode())
+        );
+    }
+
+    @Test
+    void parse_RangeOutOfBounds_ThrowsIndexOutOfBoundsException() {
+        ParsingConfiguration conf = new ENParsingConfiguration(DayMonthOrder.DAY_MONTH);
+
+        assertAll(
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> conf.parse("today", 2, 6, reference)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> conf.parse("today", 3, 2, reference))
+        );
+    }
+
+    @Test
+    void scan_Reader_FindsEveryMentionWithOffsets() throws Exception {
+        ParsingConfiguration conf = new ENParsingConfiguration(DayMonthOrder.DAY_MONTH);
+        List<String> mentions = new ArrayList<>();
+
+        conf.scan(
+            new StringReader("call me tomorrow or at 17:30 on 2025-08-04"),
+            reference,
+            (start, end, epochDay, nanoOfDay) -> mentions.add(start + "-" + end)
+        );
+
+        mentions.sort(null);
+
+        assertEquals(List.of("23-28", "32-42", "8-16"), mentions);
+    }
+
+    @Test
+    void scan_UnionScanMode_FindsSameMentionsAsIndependentScanMode() throws Exception {
+        String text = "call me tomorrow or at 17:30 on 2025-08-04, in 3 days, next friday at 5 pm. ".repeat(300);
+
+        List<List<String>> results = new ArrayList<>();
+
+        for (ScanMode scanMode : new ScanMode[] { ScanMode.INDEPENDENT, ScanMode.UNION }) {
+            ParsingConfiguration conf = new ENParsingConfiguration(
+                DayMonthOrder.DAY_MONTH,
+                new OptionsBuilder().scanMode(scanMode).build()
+            );
+            List<String> mentions = new ArrayList<>();
+
+            conf.scan(
+                new StringReader(text),
+                reference,
+                (start, end, epochDay, nanoOfDay) -> mentions.add("%d-%d %d %d".formatted(start, end, epochDay, nanoOfDay))
+            );
+
+            mentions.sort(null);
+            results.add(mentions);
+        }
+
+        assertAll(
+            () -> assertEquals(300 * 4, results.get(0).size()),
+            () -> assertEquals(results.get(0), results.get(1))
+        );
+    }
+
+    @Test
+    void scan_ParserOverridingParse_FindsItsMentions() throws Exception {
+        class MockParser extends Parser {
+            MockParser() {
+                super("", Map.of());
+            }
+
+            @Override
+            protected Optional<ParsedComponent> parseMatch(MatchResult match, LocalDateTime reference, String source) {
+                return Optional.empty();
+            }
+
+            @Override
+            public Stream<ParsedComponent> parse(String input, LocalDateTime reference) {
+                return new ENRelativeWordParser().parse(input, reference);
+            }
+        }
+
+        class MockParsingConfiguration extends ParsingConfiguration {
+            MockParsingConfiguration() {
+                super(Set.of(new MockParser()));
+            }
+        }
+
+        List<String> mentions = new ArrayList<>();
+
+        new MockParsingConfiguration().scan(
+            new StringReader("today or tomorrow"),
+            reference,
+            (start, end, epochDay, nanoOfDay) -> mentions.add(start + "-" + end)
+        );
+
+        assertEquals(List.of("0-5", "9-17"), mentions);
+    }
+
+    @Test
+    void parse_Cache_ReturnsSameResultsAsUncached() {
+        List<String> inputs = List.of(
+            "Meeting tomorrow at 5 pm",
+            "on the next friday at 17:30",
+            "4th of August at noon",
+            "in ten days",
+            "in 2 hours",
+            "due 10.12",
+            "2025-08-04",
+            "nothing to see here"
+        );
+        List<LocalDateTime> references = List.of(
+            reference,
+            reference.plusHours(3),
+            reference.plusDays(1),
+            reference.plusYears(1),
+            reference
+        );
+
+        ParsingConfiguration uncached = new ENParsingConfiguration(DayMonthOrder.DAY_MONTH);
+        ParsingConfiguration cached = new ENParsingConfiguration(
+            DayMonthOrder.DAY_MONTH,
+            new OptionsBuilder().cacheSize(64).build()
+        );
+
+        for (LocalDateTime ref : references) {
+            for (String input : inputs) {
+                assertEquals(uncached.parse(input, ref), cached.parse(input, ref), input + " " + ref);
+            }
+        }
+
+        assertTrue(cached.cacheStats().get().hits() > 0);
+    }
+
+    @Test
+    void parse_CacheDateDependentInput_ReusesResultOnSameDay() {
+        ParsingConfiguration conf = new ENParsingConfiguration(
+            DayMonthOrder.DAY_MONTH,
+            new OptionsBuilder().cacheSize(64).build()
+        );
+
+        ParseResult first = conf.parse("tomorrow", reference);
+        ParseResult sameDay = conf.parse("tomorrow", reference.plusHours(6));
+        ParseResult nextDay = conf.parse("tomorrow", reference.plusDays(1));
+
+        CacheStats stats = conf.cacheStats().get();
+
+        assertAll(
+            () -> assertEquals(reference.plusHours(6), sameDay.reference()),
+            () -> assertEquals(first.date(), sameDay.date()),
+            () -> assertEquals(Optional.of(LocalDate.of(2025, 7, 4)), nextDay.date()),
+            () -> assertEquals(1, stats.hits()),
+            () -> assertEquals(2, stats.misses())
+        );
+    }
+
+    @Test
+    void parse_CacheTimeDependentInput_DoesNotReuseResultForOtherTime() {
+        ParsingConfiguration conf = new ENParsingConfiguration(
+            DayMonthOrder.DAY_MONTH,
+            new OptionsBuilder().cacheSize(64).build()
+        );
+
+        conf.parse("in 2 hours", reference);
+        ParseResult result = conf.parse("in 2 hours", reference.plusMinutes(1));
+
+        assertAll(
+            () -> assertEquals(Optional.of(LocalTime.of(14, 1)), result.time()),
+            () -> assertEquals(0, conf.cacheStats().get().hits())
+        );
+    }
+
+    @Test
+    void parse_CacheReferenceIndependentInput_ReusesResultForAnyReference() {
+        ParsingConfiguration conf = new ENParsingConfiguration(
+            DayMonthOrder.DAY_MONTH,
+            new OptionsBuilder().cacheSize(64).build()
+        );
+
+        ParseResult first = conf.parse("17:30", reference);
+        ParseResult same = conf.parse("17:30", reference);
+        conf.parse("17:30", reference.plusYears(1));
+
+        assertAll(
+            () -> assertSame(first, same),
+            () -> assertEquals(2, conf.cacheStats().get().hits()),
+            () -> assertEquals(1, conf.cacheStats().get().misses())
+        );
+    }
+
+    @Test
+    void parse_CacheFull_EvictsResults() {
+        ParsingConfiguration conf = new ENParsingConfiguration(
+            DayMonthOrder.DAY_MONTH,
+            new OptionsBuilder().cacheSize(1).build()
+        );
+
+        conf.parse("17:30", reference);
+        conf.parse("18:30", reference);
+        conf.parse("17:30", reference);
+
+        CacheStats stats = conf.cacheStats().get();
+
+        assertAll(
+            () -> assertEquals(0, stats.hits()),
+            () -> assertEquals(3, stats.misses()),
+            () -> assertEquals(2, stats.evictions()),
+            () -> assertEquals(1, stats.size())
+        );
+    }
+
+    @Test
+    void cacheStats_CachingDisabled_ReturnsEmptyOptional() {
+        assertAll(
+            () -> assertTrue(new ENParsingConfiguration(DayMonthOrder.DAY_MONTH).cacheStats().isEmpty()),
+            () -> assertThrows(IllegalArgumentException.class, () -> new OptionsBuilder().cacheSize(-1))
+        );
+    }
+
+    @Test
+    void compile_Inputs_ResolvesToSameResultsAsParse() {
+        List<String> enInputs = List.of(
+            "Meeting tomorrow at 5 pm",
+            "on the next friday at 17:30",
+            "4th of August, 2025 12:00:00 a.m.",
+            "29 February at noon",
+            "February 30, 2024",
+            "in ten days",
+            "in 2 hours",
+            "due 29.02",
+            "2025-08-04 and 31.04.2025",
+            "nothing to see here"
+        );
+        List<String> ruInputs = List.of(
+            "завтра в 17:30",
+            "в следующую пятницу",
+            "29 февраля в полдень",
+            "через 2 часа",
+            "29.02"
+        );
+        List<LocalDateTime> references = List.of(
+            reference,
+            reference.plusHours(13),
+            LocalDateTime.of(2028, 2, 29, 23, 59),
+            LocalDateTime.of(2027, 3, 1, 0, 0),
+            LocalDateTime.of(2024, 12, 31, 8, 0)
+        );
+
+        ParsingConfiguration en = new ENParsingConfiguration(DayMonthOrder.DAY_MONTH);
+        ParsingConfiguration enUnion = new ENParsingConfiguration(
+            DayMonthOrder.DAY_MONTH,
+            new OptionsBuilder().scanMode(ScanMode.UNION).build()
+        );
+        ParsingConfiguration ru = new RUParsingConfiguration(DayMonthOrder.DAY_MONTH);
+
+        for (String input : enInputs) {
+            CompiledInput compiled = en.compile(input);
+            CompiledInput compiledUnion = enUnion.compile(input);
+
+            for (LocalDateTime ref : references) {
+                assertEquals(en.parse(input, ref), compiled.resolve(ref), input + " " + ref);
+                assertEquals(en.parse(input, ref), compiledUnion.resolve(ref), input + " " + ref);
+            }
+        }
+        for (String input : ruInputs) {
+            CompiledInput compiled = ru.compile(input);
+
+            for (LocalDateTime ref : references) {
+                assertEquals(ru.parse(input, ref), compiled.resolve(ref), input + " " + ref);
+            }
+        }
+    }
+
+    @Test
+    void compile_ParserThatCanNotCompile_ThrowsUnsupportedOperationException() {
+        class MockParser extends Parser {
+            MockParser() {
+                super("today", Map.of());
+            }
+
+            @Override
+            protected Optional<ParsedComponent> parseMatch(MatchResult match, LocalDateTime reference, String source) {
+                return Optional.empty();
+            }
+        }
+
+        class MockParsingConfiguration extends ParsingConfiguration {
+            MockParsingConfiguration() {
+                super(Set.of(new MockParser()));
+            }
+        }
+
+        assertAll(
+            () -> assertThrows(UnsupportedOperationException.class, () -> new MockParsingConfiguration().compile("today")),
+            () -> assertThrows(
+                NullPointerException.class,
+                () -> new ENParsingConfiguration(DayMonthOrder.DAY_MONTH).compile(null)
+            ),
+            () -> assertThrows(
+                NullPointerException.class,
+                () -> new ENParsingConfiguration(DayMonthOrder.DAY_MONTH).compile("today").resolve(null)
+            )
+        );
+    }
+
+    @Test
+    void resolveAll_References_ReturnsSameDateTimeAsResolve() {
+        ParsingConfiguration conf = new ENParsingConfiguration(DayMonthOrder.DAY_MONTH);
+
+        int count = 1000;
+        long[] referenceEpochDays = new long[count];
+        int[] referenceSecondsOfDay = new int[count];
+        for (int i = 0; i < count; i++) {
+            referenceEpochDays[i] = LocalDate.of(2027, 12, 1).toEpochDay() + i;
+            referenceSecondsOfDay[i] = (i * 7919) % 86_400;
+        }
+
+        for (String input : List.of("next friday at 5 pm", "in 3 weeks", "Aug 4", "29.02", "in 90 minutes", "hello")) {
+            CompiledInput compiled = conf.compile(input);
+
+            long[] epochDays = new long[count];
+            int[] secondsOfDay = new int[count];
+            compiled.resolveAll(referenceEpochDays, referenceSecondsOfDay, epochDays, secondsOfDay);
+
+            for (int i = 0; i < count; i++) {
+                ParseResult expected = compiled.resolve(LocalDateTime.of(
+                    LocalDate.ofEpochDay(referenceEpochDays[i]),
+                    LocalTime.ofSecondOfDay(referenceSecondsOfDay[i])
+                ));
+
+                assertEquals(
+                    expected.date().map(LocalDate::toEpochDay).orElse(ComponentSink.NO_DATE),
+                    epochDays[i],
+                    input
+                );
+                assertEquals(
+                    expected.time().map(LocalTime::toSecondOfDay).orElse(CompiledInput.NO_TIME),
+                    secondsOfDay[i],
+                    input
+                );
+            }
+        }
+    }
+
+    @Test
+    void resolveAll_InvalidArrays_ThrowsExceptions() {
+        CompiledInput compiled = new ENParsingConfiguration(DayMonthOrder.DAY_MONTH)
+            .compile("tomorrow");
+
+        long[] epochDays = new long[1];
+        int[] secondsOfDay = new int[1];
+        compiled.resolveAll(new long[] {0}, epochDays, secondsOfDay);
+
+        assertAll(
+            () -> assertEquals(1, epochDays[0]),
+            () -> assertEquals(CompiledInput.NO_TIME, secondsOfDay[0]),
+            () -> assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> compiled.resolveAll(new long[2], epochDays, secondsOfDay)
+            ),
+            () -> assertThrows(
+                IllegalArgumentException.class,
+                () -> compiled.resolveAll(new long[] {0}, new int[] {86_400}, epochDays, secondsOfDay)
+            ),
+            () -> assertThrows(
+                IllegalArgumentException.class,
+                () -> compiled.resolveAll(new long[] {Long.MAX_VALUE}, epochDays, secondsOfDay)
+            ),
+            () -> assertThrows(NullPointerException.class, () -> compiled.resolveAll(null, epochDays, secondsOfDay))
+        );
+    }
 }
@@ -0,0 +1,52 @@
+package io.github.hashadex.naturaldateinput;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class ResultCacheTest {
+    @Test
+    void put_FullCache_EvictsLeastRecentlyUsedEntry() {
+        // A single segment with a single entry
+        ResultCache<String, Integer> cache = new ResultCache<>(1);
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        assertAll(
+            () -> assertNull(cache.get("a")),
+            () -> assertEquals(2, cache.get("b")),
+            () -> assertEquals(1, cache.evictions())
+        );
+    }
+
+    @Test
+    void put_ManyEntries_StaysWithinCapacity() {
+        ResultCache<Integer, Integer> cache = new ResultCache<>(64);
+
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, i);
+        }
+
+        assertAll(
+            () -> assertTrue(cache.size() <= 64),
+            () -> assertEquals(1000, cache.size() + cache.evictions())
+        );
+    }
+
+    @Test
+    void put_CapacityNotDivisibleBySegments_FillsExactlyToCapacity() {
+        for (int capacity : new int[] { 3, 20, 100, 1000 }) {
+            ResultCache<Integer, Integer> cache = new ResultCache<>(capacity);
+
+            for (int i = 0; i < 100_000; i++) {
+                cache.put(i, i);
+            }
+
+            assertEquals(capacity, cache.size(), "capacity " + capacity);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+public class AsciiCharSequenceTest {
+    private static ByteBuffer direct(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+        return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+    }
+
+    @Test
+    void isAscii_AsciiText_ReturnsTrue() {
+        String text = "Meeting on 2025-08-04 at 17:30";
+
+        assertAll(
+            () -> assertTrue(AsciiCharSequence.isAscii(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)))),
+            () -> assertTrue(AsciiCharSequence.isAscii(direct(text))),
+            () -> assertTrue(AsciiCharSequence.isAscii(ByteBuffer.allocate(0)))
+        );
+    }
+
+    @Test
+    void isAscii_NonAsciiText_ReturnsFalse() {
+        // Non-ASCII characters in the bulk part and in the tail of the check
+        String bulk = "встреча at 17:30 on 2025-08-04";
+        String tail = "at 17:30 on 2025-08-04 завтра";
+
+        assertAll(
+            () -> assertFalse(AsciiCharSequence.isAscii(ByteBuffer.wrap(bulk.getBytes(StandardCharsets.UTF_8)))),
+            () -> assertFalse(AsciiCharSequence.isAscii(direct(bulk))),
+            () -> assertFalse(AsciiCharSequence.isAscii(direct(tail)))
+        );
+    }
+
+    @Test
+    void isAscii_NonAsciiByteAtEveryIndexOfHeapArray_ReturnsFalse() {
+        byte[] array = "x".repeat(40).getBytes(StandardCharsets.US_ASCII);
+
+        // Slices at every alignment, with the non-ASCII byte in the words
+        // and in the tail of the check
+        for (int offset = 0; offset < 8; offset++) {
+            ByteBuffer slice = ByteBuffer.wrap(array, offset, array.length - offset).slice();
+
+            assertTrue(AsciiCharSequence.isAscii(slice), "offset " + offset);
+
+            for (int i = offset; i < array.length; i++) {
+                array[i] = (byte) 0xD0;
+
+                assertFalse(AsciiCharSequence.isAscii(slice), "offset %d, index %d".formatted(offset, i));
+
+                array[i] = 'x';
+            }
+        }
+    }
+
+    @Test
+    void isAscii_NonAsciiOutsideRemainingBytes_ReturnsTrue() {
+        ByteBuffer bytes = direct("я today я");
+        bytes.position(2).limit(9);
+
+        assertAll(
+            () -> assertTrue(AsciiCharSequence.isAscii(bytes)),
+            () -> assertEquals(2, bytes.position())
+        );
+    }
+
+    @Test
+    void charSequence_ViewOfRemainingBytes_BehavesLikeString() {
+        ByteBuffer bytes = ByteBuffer.wrap("xx today at 5 pm yy".getBytes(StandardCharsets.US_ASCII));
+        bytes.position(3).limit(16);
+
+        AsciiCharSequence sequence = new AsciiCharSequence(bytes);
+
+        // Moving the buffer does not affect the view
+        bytes.position(0);
+
+        assertAll(
+            () -> assertEquals(13, sequence.length()),
+            () -> assertEquals('t', sequence.charAt(0)),
+            () -> assertEquals("today at 5 pm", sequence.toString()),
+            () -> assertEquals("at 5", sequence.subSequence(6, 10).toString()),
+            () -> assertEquals("5 pm", new AsciiCharSequence(direct("5 pm")).toString()),
+            () -> assertTrue(sequence.subSequence(3, 3).isEmpty()),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> sequence.charAt(13)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> sequence.subSequence(5, 14))
+        );
+    }
+}
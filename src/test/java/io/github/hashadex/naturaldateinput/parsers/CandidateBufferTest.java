@@ -0,0 +1,222 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent;
+
+public class CandidateBufferTest {
+    private static final LocalDateTime reference = LocalDateTime.of(2025, 7, 2, 12, 0, 0); // Wednesday
+    private static final String source = "x".repeat(64);
+
+    /**
+     * Describes the selected components as
+     * {@code "<start>-<end> <epoch day> <nano of day>"}.
+     */
+    private static List<String> describe(ComponentSelector selector) {
+        List<String> selected = new ArrayList<>();
+
+        for (int i = 0; i < selector.size(); i++) {
+            selected.add(
+                "%d-%d %d %d".formatted(
+                    selector.startIndex(i),
+                    selector.endIndex(i),
+                    selector.epochDay(i),
+                    selector.nanoOfDay(i)
+                )
+            );
+        }
+
+        return selected;
+    }
+
+    private static Expression randomExpression(Random random, int sequence) {
+        // Few distinct positions, so that ties are frequent
+        int start = random.nextInt(8);
+        int end = start + 1 + random.nextInt(8);
+
+        // The date and time also identify the expression, so that
+        // expressions with equal positions can be told apart
+        return switch (random.nextInt(7)) {
+            case 0 -> Expression.absolute(start, end, LocalDate.of(2025, 1, 1).plusDays(sequence).toEpochDay(), ComponentSink.NO_TIME);
+            case 1 -> Expression.absolute(start, end, ComponentSink.NO_DATE, LocalTime.ofSecondOfDay(sequence).toNanoOfDay());
+            case 2 -> Expression.dayOffset(start, end, sequence);
+            case 3 -> Expression.weekday(start, end, DayOfWeek.of(1 + sequence % 7), random.nextBoolean());
+            case 4 -> Expression.later(start, end, sequence, random.nextBoolean() ? ChronoUnit.DAYS : ChronoUnit.MINUTES);
+            case 5 -> Expression.later(start, end, sequence, ChronoUnit.HOURS);
+            default -> Expression.monthDay(
+                start,
+                end,
+                Month.FEBRUARY,
+                29 + random.nextInt(2),
+                // Fallbacks cover a part of the span of the expression
+                (start + 1 < end) ? Expression.monthDay(start + 1, end, Month.FEBRUARY, 1 + sequence % 28, null) : null
+            );
+        };
+    }
+
+    @Test
+    void selectInto_RandomCandidates_SelectsSameComponentsAsResolvingAll() {
+        Random random = new Random(20250702);
+
+        for (int run = 0; run < 5000; run++) {
+            int count = random.nextInt(12);
+            LocalDateTime runReference = reference.plusDays(random.nextInt(1500)).plusMinutes(random.nextInt(1440));
+
+            CandidateBuffer candidates = new CandidateBuffer();
+            ComponentSelector expected = new ComponentSelector();
+            List<String> added = new ArrayList<>();
+
+            for (int i = 0; i < count; i++) {
+                if (random.nextInt(4) == 0) {
+                    // Resolved candidate, like the ones pushed by parsers that
+                    // do not compile their matches
+                    int start = random.nextInt(8);
+                    int end = start + 1 + random.nextInt(8);
+                    long epochDay = random.nextBoolean() ? i : ComponentSink.NO_DATE;
+                    long nanoOfDay = (epochDay == ComponentSink.NO_DATE || random.nextBoolean()) ? i : ComponentSink.NO_TIME;
+
+                    candidates.accept(start, end, epochDay, nanoOfDay);
+                    expected.accept(start, end, epochDay, nanoOfDay);
+                    added.add("%d-%d %d %d".formatted(start, end, epochDay, nanoOfDay));
+                } else {
+                    Expression expression = randomExpression(random, i);
+
+                    candidates.add(expression);
+                    expression.resolveInto(runReference, expected);
+                    added.add(expression.toString());
+                }
+            }
+
+            ComponentSelector selector = new ComponentSelector();
+            candidates.selectInto(runReference, selector);
+
+            assertEquals(describe(expected), describe(selector), added.toString());
+        }
+    }
+
+    @Test
+    void selectInto_SelectorWithComponents_KeepsEarlierComponentsOnTies() {
+        CandidateBuffer candidates = new CandidateBuffer();
+        candidates.add(Expression.dayOffset(0, 5, 1));
+
+        ComponentSelector selector = new ComponentSelector();
+        selector.accept(0, 5, LocalDate.of(2030, 1, 1).toEpochDay(), ComponentSink.NO_TIME);
+        candidates.selectInto(reference, selector);
+
+        // Candidates selected after others are added after them as well
+        selector.accept(0, 5, LocalDate.of(2031, 1, 1).toEpochDay(), ComponentSink.NO_TIME);
+
+        assertAll(
+            () -> assertEquals(1, selector.size()),
+            () -> assertEquals(LocalDate.of(2030, 1, 1).toEpochDay(), selector.epochDay(0))
+        );
+    }
+
+    @Test
+    void selectInto_EqualPositions_SelectsFirstAdded() {
+        CandidateBuffer candidates = new CandidateBuffer();
+        candidates.add(Expression.dayOffset(2, 6, 1));
+        candidates.add(Expression.dayOffset(2, 6, 2));
+        candidates.add(Expression.absolute(2, 6, ComponentSink.NO_DATE, LocalTime.NOON.toNanoOfDay()));
+        candidates.add(Expression.absolute(2, 6, ComponentSink.NO_DATE, LocalTime.MIDNIGHT.toNanoOfDay()));
+
+        ComponentSelector selector = new ComponentSelector();
+        candidates.selectInto(reference, selector);
+
+        assertAll(
+            () -> assertEquals(2, selector.size()),
+            () -> assertEquals(reference.toLocalDate().plusDays(1).toEpochDay(), selector.epochDay(0)),
+            () -> assertEquals(LocalTime.NOON.toNanoOfDay(), selector.nanoOfDay(1))
+        );
+    }
+
+    @Test
+    void selectInto_OutrankedCandidate_DoesNotResolveIt() {
+        CandidateBuffer candidates = new CandidateBuffer();
+        candidates.add(Expression.dayOffset(0, 5, 1));
+
+        LocalDateTime max = LocalDateTime.MAX;
+
+        assertThrows(DateTimeException.class, () -> candidates.selectInto(max, new ComponentSelector()));
+
+        candidates.add(Expression.absolute(6, 10, LocalDate.of(2025, 8, 4).toEpochDay(), ComponentSink.NO_TIME));
+
+        ComponentSelector selector = new ComponentSelector();
+
+        assertAll(
+            () -> assertDoesNotThrow(() -> candidates.selectInto(max, selector)),
+            () -> assertEquals(1, selector.size()),
+            () -> assertEquals(6, selector.startIndex(0))
+        );
+    }
+
+    @Test
+    void selectInto_AttachedComponent_ReturnsSameObject() {
+        ParsedComponent component = new Parser.ParsedComponentBuilder(reference, "other", 0, 3)
+            .date(LocalDate.of(2030, 1, 1))
+            .build();
+
+        CandidateBuffer candidates = new CandidateBuffer();
+        candidates.add(Expression.absolute(0, 2, ComponentSink.NO_DATE, LocalTime.NOON.toNanoOfDay()));
+        ComponentBuffer.push(candidates, component);
+
+        ComponentSelector selector = new ComponentSelector();
+        candidates.selectInto(reference, selector);
+
+        assertAll(
+            () -> assertEquals(2, selector.size()),
+            () -> assertSame(component, selector.component(0, reference, source))
+        );
+    }
+
+    @Test
+    void clear_Candidates_RemovesThem() {
+        CandidateBuffer candidates = new CandidateBuffer();
+        for (int i = 0; i < 20; i++) {
+            candidates.add(Expression.dayOffset(i, i + 1, i));
+        }
+
+        candidates.clear();
+        candidates.accept(0, 1, ComponentSink.NO_DATE, 0);
+
+        ComponentSelector selector = new ComponentSelector();
+        candidates.selectInto(reference, selector);
+
+        assertAll(
+            () -> assertEquals(1, candidates.size()),
+            () -> assertEquals(1, selector.size()),
+            () -> assertEquals(0, selector.nanoOfDay(0))
+        );
+    }
+
+    @Test
+    void add_InvalidCandidates_ThrowsExceptions() {
+        CandidateBuffer candidates = new CandidateBuffer();
+
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> candidates.add(null)),
+            () -> assertThrows(
+                IllegalArgumentException.class,
+                () -> candidates.accept(0, 1, ComponentSink.NO_DATE, ComponentSink.NO_TIME)
+            ),
+            () -> assertThrows(NullPointerException.class, () -> candidates.selectInto(reference, null))
+        );
+    }
+}
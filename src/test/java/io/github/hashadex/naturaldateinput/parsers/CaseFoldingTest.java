@@ -0,0 +1,135 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.regex.MatchResult;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.hashadex.naturaldateinput.parsers.en.ENChronoUnitLaterParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENMonthDayYearParser;
+import io.github.hashadex.naturaldateinput.parsers.ru.RUChronoUnitLaterParser;
+import io.github.hashadex.naturaldateinput.parsers.ru.RUWeekdayParser;
+
+public class CaseFoldingTest {
+    /**
+     * Parser of "noon" with the regex and flags.
+     */
+    private static Parser noonParser(String regex, int flags) {
+        return new CompilingParser(regex, Map.of(), flags) {
+            @Override
+            protected Expression compileMatch(MatchResult match, CharSequence source) {
+                return Expression.absolute(match.start(), match.end(), ComponentSink.NO_DATE, 12 * 3_600_000_000_000L);
+            }
+        };
+    }
+
+    @Test
+    void fold_MixedCaseText_FoldsLettersOnly() {
+        assertAll(
+            () -> assertEquals("meet on friday, 10:30 am", CaseFolding.fold("Meet on FRIDAY, 10:30 AM")),
+            () -> assertEquals("в пятницу, 1 ёлка", CaseFolding.fold("В ПЯТНИЦУ, 1 Ёлка")),
+            () -> assertEquals('s', CaseFolding.fold('ſ')),
+            () -> assertEquals('k', CaseFolding.fold('K'))
+        );
+    }
+
+    @Test
+    void fold_FoldedText_ReturnsSameInstance() {
+        String folded = "meet on friday, в пятницу";
+
+        assertAll(
+            () -> assertSame(folded, CaseFolding.fold(folded)),
+            () -> assertSame(folded, CaseFolding.fold((CharSequence) folded, 0, folded.length()))
+        );
+    }
+
+    @Test
+    void fold_Range_FoldsRangeOnlyAndKeepsIndexes() {
+        StringBuilder input = new StringBuilder("AB Friday CD");
+
+        assertEquals("AB friday CD", CaseFolding.fold(input, 3, 9).toString());
+    }
+
+    @Test
+    void fold_RangeOfLongText_ReturnsViewWithSameIndexes() {
+        StringBuilder input = new StringBuilder("AB ".repeat(1000)).append("Friday CD");
+        int start = input.length() - 9;
+
+        CharSequence folded = CaseFolding.fold(input, start, start + 6);
+
+        assertAll(
+            () -> assertEquals(input.length(), folded.length()),
+            () -> assertEquals('A', folded.charAt(0)),
+            () -> assertEquals('f', folded.charAt(start)),
+            () -> assertEquals('C', folded.charAt(start + 7)),
+            () -> assertEquals("B friday C", folded.subSequence(start - 2, start + 8).toString()),
+            () -> assertTrue(folded.toString().endsWith("AB friday CD")),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> folded.charAt(input.length()))
+        );
+    }
+
+    @Test
+    void canParseFolded_Parsers_ReturnsTrueForCaseInsensitiveRegexesWithoutUppercaseLetters() {
+        int flags = Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE | Pattern.COMMENTS;
+
+        assertAll(
+            () -> assertTrue(new ENMonthDayYearParser().canParseFolded()),
+            () -> assertTrue(new RUWeekdayParser().canParseFolded()),
+            () -> assertTrue(noonParser("\\Snoon # At NOON", flags).canParseFolded()),
+            () -> assertFalse(noonParser("noon", 0).canParseFolded()),
+            () -> assertFalse(noonParser("noon", Pattern.CASE_INSENSITIVE).canParseFolded()),
+            () -> assertFalse(noonParser("NOON", flags).canParseFolded()),
+            () -> assertFalse(noonParser("(?-i)noon", flags).canParseFolded()),
+            () -> assertFalse(noonParser("\\u004Eoon", flags).canParseFolded())
+        );
+    }
+
+    @Test
+    void parseFoldedInto_CharactersOutsideTable_ParsesSameAsRegex() {
+        int flags = Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+        Parser parser = noonParser("k", flags);
+        LocalDateTime reference = LocalDateTime.of(2025, 7, 2, 12, 0);
+
+        // The Kelvin sign matches "k" in case-insensitive regexes
+        String input = "\u212A \u2C69 \uFF2B";
+        String folded = CaseFolding.fold(input);
+
+        ComponentBuffer unfoldedBuffer = new ComponentBuffer();
+        ComponentBuffer foldedBuffer = new ComponentBuffer();
+        parser.parseInto(input, reference, unfoldedBuffer);
+        parser.parseFoldedInto(folded, 0, folded.length(), reference, foldedBuffer);
+
+        assertAll(
+            () -> assertEquals(1, unfoldedBuffer.size()),
+            () -> assertEquals(unfoldedBuffer.size(), foldedBuffer.size()),
+            () -> assertEquals(unfoldedBuffer.startIndex(0), foldedBuffer.startIndex(0))
+        );
+    }
+
+    @Test
+    void canParseFolded_ChronoUnitLaterParsers_ReturnsFalseWithCardinalNumbers() {
+        assertAll(
+            () -> assertFalse(new ENChronoUnitLaterParser().canParseFolded()),
+            () -> assertFalse(new RUChronoUnitLaterParser().canParseFolded())
+        );
+    }
+
+    @Test
+    void parseFoldedInto_ParserThatCanNotParseFolded_ThrowsUnsupportedOperationException() {
+        Parser parser = noonParser("noon", 0);
+
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> parser.parseFoldedInto("noon", 0, 4, LocalDateTime.now(), new ComponentBuffer())
+        );
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class CharacterProfileTest {
+    @Test
+    void of_NoDigits_HasNoDigits() {
+        CharacterProfile profile = CharacterProfile.of("meeting tomorrow at noon");
+
+        assertAll(
+            () -> assertFalse(profile.hasDigit()),
+            () -> assertEquals(0, profile.longestDigitRun()),
+            () -> assertFalse(profile.separatesDigits(':')),
+            () -> assertFalse(profile.followsDigitAndWhitespace('a'))
+        );
+    }
+
+    @Test
+    void of_DigitRuns_FindsLongestRun() {
+        CharacterProfile profile = CharacterProfile.of("12 2025-08 4");
+
+        assertAll(
+            () -> assertTrue(profile.hasDigit()),
+            () -> assertEquals(4, profile.longestDigitRun())
+        );
+    }
+
+    @Test
+    void of_SeparatedDigits_TracksSeparators() {
+        CharacterProfile profile = CharacterProfile.of("at 17:30 on 10/12, not 5 . 6");
+
+        assertAll(
+            () -> assertTrue(profile.separatesDigits(':')),
+            () -> assertTrue(profile.separatesDigits('/')),
+            () -> assertFalse(profile.separatesDigits('.')),
+            () -> assertFalse(profile.separatesDigits(' '))
+        );
+    }
+
+    @Test
+    void of_DigitWhitespaceLetter_TracksFollowersIgnoringCase() {
+        CharacterProfile profile = CharacterProfile.of("5 PM and 6am");
+
+        assertAll(
+            () -> assertTrue(profile.followsDigitAndWhitespace('p')),
+            () -> assertTrue(profile.followsDigitAndWhitespace('P')),
+            () -> assertFalse(profile.followsDigitAndWhitespace('a'))
+        );
+    }
+
+    @Test
+    void separatesDigits_NonAsciiCharacter_ReturnsTrue() {
+        assertTrue(CharacterProfile.of("").separatesDigits('ж'));
+    }
+
+    @Test
+    void of_Null_ThrowsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CharacterProfile.of(null));
+    }
+}
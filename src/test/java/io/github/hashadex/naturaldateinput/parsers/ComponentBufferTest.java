@@ -0,0 +1,127 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.MatchResult;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent;
+import io.github.hashadex.naturaldateinput.parsers.en.ENRelativeWordParser;
+
+public class ComponentBufferTest {
+    private static final LocalDateTime reference = LocalDateTime.of(2025, 7, 2, 12, 0, 0);
+
+    @Test
+    void accept_DateAndTime_StoresPrimitives() {
+        ComponentBuffer buffer = new ComponentBuffer(0);
+
+        buffer.accept(0, 5, LocalDate.of(2025, 8, 4).toEpochDay(), ComponentSink.NO_TIME);
+        buffer.accept(6, 11, ComponentSink.NO_DATE, LocalTime.of(17, 30).toNanoOfDay());
+
+        assertAll(
+            () -> assertEquals(2, buffer.size()),
+            () -> assertTrue(buffer.hasDate(0)),
+            () -> assertFalse(buffer.hasTime(0)),
+            () -> assertFalse(buffer.hasDate(1)),
+            () -> assertTrue(buffer.hasTime(1)),
+            () -> assertEquals(6, buffer.startIndex(1)),
+            () -> assertEquals(11, buffer.endIndex(1))
+        );
+    }
+
+    @Test
+    void accept_NoDateAndNoTime_ThrowsIllegalArgumentException() {
+        ComponentBuffer buffer = new ComponentBuffer();
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> buffer.accept(0, 1, ComponentSink.NO_DATE, ComponentSink.NO_TIME)
+        );
+    }
+
+    @Test
+    void component_StoredComponent_ReturnsEqualParsedComponent() {
+        String source = "today 17:30";
+        ComponentBuffer buffer = new ComponentBuffer();
+
+        buffer.accept(0, 11, LocalDate.of(2025, 7, 2).toEpochDay(), LocalTime.of(17, 30).toNanoOfDay());
+
+        ParsedComponent component = buffer.component(0, reference, source);
+
+        assertAll(
+            () -> assertEquals(source, component.text()),
+            () -> assertEquals(LocalDate.of(2025, 7, 2), component.date().get()),
+            () -> assertEquals(LocalTime.of(17, 30), component.time().get())
+        );
+    }
+
+    @Test
+    void clear_FilledBuffer_RemovesComponents() {
+        ComponentBuffer buffer = new ComponentBuffer();
+
+        buffer.accept(0, 1, 0, ComponentSink.NO_TIME);
+        buffer.clear();
+
+        assertAll(
+            () -> assertEquals(0, buffer.size()),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> buffer.startIndex(0))
+        );
+    }
+
+    @Test
+    void parseInto_BuiltInParser_PushesPrimitives() {
+        ComponentBuffer buffer = new ComponentBuffer();
+
+        new ENRelativeWordParser().parseInto("meeting tomorrow", reference, buffer);
+
+        assertAll(
+            () -> assertEquals(1, buffer.size()),
+            () -> assertEquals(8, buffer.startIndex(0)),
+            () -> assertEquals(16, buffer.endIndex(0)),
+            () -> assertEquals(LocalDate.of(2025, 7, 3).toEpochDay(), buffer.epochDay(0)),
+            () -> assertEquals(ComponentSink.NO_TIME, buffer.nanoOfDay(0))
+        );
+    }
+
+    @Test
+    void parseInto_ParserOverridingParse_KeepsReturnedComponents() {
+        class MockParser extends Parser {
+            private final ParsedComponent component = new ParsedComponentBuilder(reference, "other source", 0, 5)
+                .date(LocalDate.of(2030, 1, 1))
+                .build();
+
+            MockParser() {
+                super("", Map.of());
+            }
+
+            @Override
+            protected Optional<ParsedComponent> parseMatch(MatchResult match, LocalDateTime reference, String source) {
+                return Optional.empty();
+            }
+
+            @Override
+            public Stream<ParsedComponent> parse(String input, LocalDateTime reference) {
+                return Stream.of(component);
+            }
+        }
+
+        MockParser parser = new MockParser();
+        ComponentBuffer buffer = new ComponentBuffer();
+
+        parser.parseInto("input", reference, buffer);
+
+        assertSame(parser.component, buffer.component(0, reference, "input"));
+    }
+}
@@ -0,0 +1,208 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent;
+
+public class ComponentSelectorTest {
+    private static final LocalDateTime reference = LocalDateTime.of(2025, 7, 2, 12, 0, 0);
+    private static final String source = "x".repeat(64);
+
+    /**
+     * Selection done the way <code>ParsingConfiguration.parse</code> used to
+     * do it: sort all components by position and walk the sorted list until
+     * both date and time are found.
+     */
+    private static List<ParsedComponent> selectBySorting(List<ParsedComponent> components) {
+        List<ParsedComponent> sorted = components.stream()
+            .sorted(
+                (c1, c2) -> {
+                    if (c1.endIndex() > c2.endIndex()) {
+                        return -1;
+                    } else if (c1.endIndex() < c2.endIndex()) {
+                        return 1;
+                    } else if (c1.length() > c2.length()) {
+                        return -1;
+                    } else if (c1.length() < c2.length()) {
+                        return 1;
+                    } else {
+                        return 0;
+                    }
+                }
+            )
+            .toList();
+
+        List<ParsedComponent> used = new ArrayList<>();
+
+        LocalDate date = null;
+        LocalTime time = null;
+
+        for (ParsedComponent component : sorted) {
+            if (component.date().isPresent() && component.time().isPresent()) {
+                if (time == null && date == null) {
+                    date = component.date().get();
+                    time = component.time().get();
+
+                    used.add(component);
+                }
+            } else if (component.date().isPresent() && date == null) {
+                date = component.date().get();
+
+                used.add(component);
+            } else if (component.time().isPresent() && time == null) {
+                time = component.time().get();
+
+                used.add(component);
+            }
+
+            if (date != null && time != null) {
+                break;
+            }
+        }
+
+        return used;
+    }
+
+    private static List<ParsedComponent> selectLinearly(List<ParsedComponent> components) {
+        ComponentSelector selector = new ComponentSelector();
+
+        for (ParsedComponent component : components) {
+            selector.accept(
+                component.startIndex(),
+                component.endIndex(),
+                component.date().map(LocalDate::toEpochDay).orElse(ComponentSink.NO_DATE),
+                component.time().map(LocalTime::toNanoOfDay).orElse(ComponentSink.NO_TIME)
+            );
+        }
+
+        List<ParsedComponent> used = new ArrayList<>();
+        for (int i = 0; i < selector.size(); i++) {
+            used.add(selector.component(i, reference, source));
+        }
+
+        return used;
+    }
+
+    private static ParsedComponent randomComponent(Random random, int sequence) {
+        // Few distinct positions, so that ties are frequent
+        int start = random.nextInt(8);
+        int end = start + 1 + random.nextInt(8);
+
+        Parser.ParsedComponentBuilder builder = new Parser.ParsedComponentBuilder(reference, source, start, end);
+
+        // The date and time also identify the component, so that components
+        // with equal positions can be told apart
+        LocalDate date = LocalDate.of(2025, 1, 1).plusDays(sequence);
+        LocalTime time = LocalTime.ofSecondOfDay(sequence);
+
+        switch (random.nextInt(3)) {
+            case 0 -> builder.date(date);
+            case 1 -> builder.time(time);
+            default -> builder.date(date).time(time);
+        }
+
+        return builder.build();
+    }
+
+    @Test
+    void select_RandomComponents_SelectsSameComponentsAsSorting() {
+        Random random = new Random(20250702);
+
+        for (int run = 0; run < 5000; run++) {
+            int count = random.nextInt(12);
+
+            List<ParsedComponent> components = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                components.add(randomComponent(random, i));
+            }
+
+            assertEquals(selectBySorting(components), selectLinearly(components), components.toString());
+        }
+    }
+
+    @Test
+    void select_DateThenTime_SelectsBoth() {
+        ComponentSelector selector = new ComponentSelector();
+
+        selector.accept(0, 5, ComponentSink.NO_DATE, LocalTime.NOON.toNanoOfDay());
+        selector.accept(6, 10, LocalDate.of(2025, 8, 4).toEpochDay(), ComponentSink.NO_TIME);
+
+        assertAll(
+            () -> assertEquals(2, selector.size()),
+            () -> assertEquals(6, selector.startIndex(0)),
+            () -> assertEquals(0, selector.startIndex(1))
+        );
+    }
+
+    @Test
+    void select_DateTimeAfterDate_SelectsOnlyDateTime() {
+        ComponentSelector selector = new ComponentSelector();
+
+        selector.accept(0, 5, LocalDate.of(2025, 8, 4).toEpochDay(), ComponentSink.NO_TIME);
+        selector.accept(6, 10, LocalDate.of(2025, 8, 5).toEpochDay(), LocalTime.NOON.toNanoOfDay());
+
+        assertAll(
+            () -> assertEquals(1, selector.size()),
+            () -> assertEquals(6, selector.startIndex(0)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> selector.startIndex(1))
+        );
+    }
+
+    @Test
+    void select_AttachedComponent_ReturnsSameObject() {
+        ComponentSelector selector = new ComponentSelector();
+        ParsedComponent component = new Parser.ParsedComponentBuilder(reference, "other", 0, 3)
+            .date(LocalDate.of(2030, 1, 1))
+            .build();
+
+        ComponentBuffer.push(selector, component);
+
+        assertSame(component, selector.component(0, reference, source));
+    }
+
+    @Test
+    void clear_SelectedComponents_RemovesThem() {
+        ComponentSelector selector = new ComponentSelector();
+
+        selector.accept(0, 5, LocalDate.of(2025, 8, 4).toEpochDay(), ComponentSink.NO_TIME);
+        selector.clear();
+
+        assertEquals(0, selector.size());
+    }
+
+    @Test
+    void isFinal_DateOnlyWithoutTime_ReturnsFalse() {
+        ComponentSelector selector = new ComponentSelector();
+
+        selector.accept(6, 10, LocalDate.of(2025, 8, 4).toEpochDay(), ComponentSink.NO_TIME);
+
+        assertFalse(selector.isFinal(5));
+    }
+
+    @Test
+    void isFinal_DateAndTimeAfterMaxEndIndex_ReturnsTrue() {
+        ComponentSelector selector = new ComponentSelector();
+
+        selector.accept(6, 10, LocalDate.of(2025, 8, 4).toEpochDay(), ComponentSink.NO_TIME);
+        selector.accept(0, 5, ComponentSink.NO_DATE, LocalTime.NOON.toNanoOfDay());
+
+        assertAll(
+            () -> assertTrue(selector.isFinal(4)),
+            () -> assertFalse(selector.isFinal(5))
+        );
+    }
+}
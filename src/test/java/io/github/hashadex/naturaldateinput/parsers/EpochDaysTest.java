@@ -0,0 +1,92 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+public class EpochDaysTest {
+    private static void assertSameAsLocalDate(long epochDay) {
+        LocalDate expected = LocalDate.ofEpochDay(epochDay);
+        long date = EpochDays.toDate(epochDay);
+
+        assertEquals(expected.getYear(), EpochDays.year(date), () -> expected.toString());
+        assertEquals(expected.getMonthValue(), EpochDays.month(date), () -> expected.toString());
+        assertEquals(expected.getDayOfMonth(), EpochDays.day(date), () -> expected.toString());
+        assertEquals(expected.getDayOfWeek().getValue(), EpochDays.dayOfWeek(epochDay), () -> expected.toString());
+        assertEquals(expected.lengthOfMonth(), EpochDays.lengthOfMonth(expected.getYear(), expected.getMonthValue()));
+        assertEquals(
+            epochDay,
+            EpochDays.of(expected.getYear(), expected.getMonthValue(), expected.getDayOfMonth()),
+            () -> expected.toString()
+        );
+    }
+
+    @Test
+    void toDate_EveryDayOfSeveralEras_ReturnsSameDateAsLocalDate() {
+        // 1200-01-01 to 2800-12-31, covering century and 400-year leap rules
+        long start = LocalDate.of(1200, 1, 1).toEpochDay();
+        long end = LocalDate.of(2800, 12, 31).toEpochDay();
+
+        for (long epochDay = start; epochDay <= end; epochDay++) {
+            assertSameAsLocalDate(epochDay);
+        }
+    }
+
+    @Test
+    void toDate_ExtremeDays_ReturnsSameDateAsLocalDate() {
+        assertAll(
+            () -> assertSameAsLocalDate(EpochDays.MIN_EPOCH_DAY),
+            () -> assertSameAsLocalDate(EpochDays.MAX_EPOCH_DAY),
+            () -> assertSameAsLocalDate(LocalDate.of(-4, 2, 29).toEpochDay()),
+            () -> assertSameAsLocalDate(LocalDate.of(0, 3, 1).toEpochDay()),
+            () -> assertSameAsLocalDate(LocalDate.of(-401, 12, 31).toEpochDay())
+        );
+    }
+
+    @Test
+    void plusMonths_Months_ReturnsSameDateAsLocalDate() {
+        long[] monthCounts = {-1300, -13, -12, -1, 0, 1, 11, 12, 13, 48, 1200};
+
+        for (LocalDate date = LocalDate.of(2023, 1, 25); date.isBefore(LocalDate.of(2025, 3, 5)); date = date.plusDays(1)) {
+            for (long months : monthCounts) {
+                assertEquals(
+                    date.plusMonths(months).toEpochDay(),
+                    EpochDays.plusMonths(date.toEpochDay(), months),
+                    date + " + " + months
+                );
+            }
+        }
+    }
+
+    @Test
+    void plusMonthsOrNone_OutOfRange_ReturnsNoSuchDay() {
+        assertAll(
+            () -> assertEquals(
+                LocalDate.of(2025, 3, 31).toEpochDay(),
+                EpochDays.plusMonthsOrNone(LocalDate.of(2025, 1, 31).toEpochDay(), 2)
+            ),
+            () -> assertEquals(EpochDays.NO_SUCH_DAY, EpochDays.plusMonthsOrNone(EpochDays.MAX_EPOCH_DAY, 1)),
+            () -> assertEquals(EpochDays.NO_SUCH_DAY, EpochDays.plusMonthsOrNone(EpochDays.MIN_EPOCH_DAY, -1)),
+            () -> assertEquals(EpochDays.NO_SUCH_DAY, EpochDays.plusMonthsOrNone(0, Long.MAX_VALUE)),
+            () -> assertEquals(EpochDays.NO_SUCH_DAY, EpochDays.plusMonthsOrNone(0, Long.MIN_VALUE))
+        );
+    }
+
+    @Test
+    void checked_OutOfRange_ThrowsDateTimeException() {
+        assertAll(
+            () -> assertEquals(0, EpochDays.checked(0)),
+            () -> assertThrows(DateTimeException.class, () -> EpochDays.checked(EpochDays.MAX_EPOCH_DAY + 1)),
+            () -> assertThrows(DateTimeException.class, () -> EpochDays.checked(EpochDays.MIN_EPOCH_DAY - 1)),
+            () -> assertThrows(
+                DateTimeException.class,
+                () -> EpochDays.plusMonths(EpochDays.MAX_EPOCH_DAY, 1)
+            )
+        );
+    }
+}
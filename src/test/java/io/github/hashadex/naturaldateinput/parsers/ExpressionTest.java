@@ -0,0 +1,217 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.hashadex.naturaldateinput.parsers.Parser.ReferenceDependency;
+import io.github.hashadex.naturaldateinput.parsers.en.ENRelativeWordParser;
+
+public class ExpressionTest {
+    private static final LocalDateTime reference = LocalDateTime.of(2025, 7, 2, 12, 0, 0); // Wednesday
+
+    /**
+     * Sink that describes every accepted component as
+     * {@code "<start>-<end> <date or -> <time or ->"}.
+     */
+    private static ComponentSink describing(List<String> components) {
+        return (startIndex, endIndex, epochDay, nanoOfDay) -> components.add(
+            "%d-%d %s %s".formatted(
+                startIndex,
+                endIndex,
+                (epochDay != ComponentSink.NO_DATE) ? LocalDate.ofEpochDay(epochDay) : "-",
+                (nanoOfDay != ComponentSink.NO_TIME) ? LocalTime.ofNanoOfDay(nanoOfDay) : "-"
+            )
+        );
+    }
+
+    private static List<String> resolve(Expression expression, LocalDateTime reference) {
+        List<String> components = new ArrayList<>();
+        expression.resolveInto(reference, describing(components));
+
+        return components;
+    }
+
+    @Test
+    void resolveInto_RelativeExpressions_DependOnReference() {
+        Expression tomorrow = Expression.dayOffset(0, 8, 1);
+        Expression wednesday = Expression.weekday(0, 6, DayOfWeek.WEDNESDAY, true);
+        Expression nextWednesday = Expression.weekday(0, 6, DayOfWeek.WEDNESDAY, false);
+        Expression inTwoHours = Expression.later(0, 12, 2, ChronoUnit.HOURS);
+        Expression inTwoDays = Expression.later(0, 11, 2, ChronoUnit.DAYS);
+
+        assertAll(
+            () -> assertEquals(List.of("0-8 2025-07-03 -"), resolve(tomorrow, reference)),
+            () -> assertEquals(List.of("0-8 2026-01-01 -"), resolve(tomorrow, LocalDateTime.of(2025, 12, 31, 0, 0))),
+            () -> assertEquals(List.of("0-6 2025-07-02 -"), resolve(wednesday, reference)),
+            () -> assertEquals(List.of("0-6 2025-07-09 -"), resolve(nextWednesday, reference)),
+            () -> assertEquals(List.of("0-12 2025-07-02 14:00"), resolve(inTwoHours, reference)),
+            () -> assertEquals(List.of("0-11 2025-07-04 -"), resolve(inTwoDays, reference)),
+            () -> assertEquals(List.of(), resolve(inTwoDays, LocalDateTime.MAX))
+        );
+    }
+
+    @Test
+    void resolveInto_MonthDay_RollsForwardAndFallsBack() {
+        Expression august = Expression.monthDay(0, 8, Month.AUGUST, 4, null);
+        Expression leapDay = Expression.monthDay(
+            0, 11, Month.FEBRUARY, 29,
+            Expression.monthDay(3, 11, Month.FEBRUARY, 1, null)
+        );
+
+        assertAll(
+            () -> assertEquals(List.of("0-8 2025-08-04 -"), resolve(august, reference)),
+            () -> assertEquals(List.of("0-8 2026-08-04 -"), resolve(august, LocalDateTime.of(2025, 8, 5, 0, 0))),
+            () -> assertEquals(List.of("3-11 2026-02-01 -"), resolve(leapDay, reference)),
+            () -> assertEquals(List.of("0-11 2028-02-29 -"), resolve(leapDay, LocalDateTime.of(2028, 1, 1, 0, 0))),
+            () -> assertEquals(List.of(), resolve(Expression.monthDay(0, 5, Month.APRIL, 31, null), reference))
+        );
+    }
+
+    @Test
+    void referenceDependency_Expressions_ReturnsPartOfReferenceUsed() {
+        assertAll(
+            () -> assertEquals(
+                ReferenceDependency.NONE,
+                Expression.absolute(0, 5, ComponentSink.NO_DATE, 0).referenceDependency()
+            ),
+            () -> assertEquals(ReferenceDependency.DATE, Expression.dayOffset(0, 5, -1).referenceDependency()),
+            () -> assertEquals(
+                ReferenceDependency.DATE,
+                Expression.later(0, 5, 1, ChronoUnit.WEEKS).referenceDependency()
+            ),
+            () -> assertEquals(
+                ReferenceDependency.DATE_TIME,
+                Expression.later(0, 5, 1, ChronoUnit.MINUTES).referenceDependency()
+            )
+        );
+    }
+
+    @Test
+    void toString_Expressions_DescribesExpression() {
+        assertAll(
+            () -> assertEquals("Expression[0-8 +1 day]", Expression.dayOffset(0, 8, 1).toString()),
+            () -> assertEquals(
+                "Expression[3-9 next-or-same FRIDAY]",
+                Expression.weekday(3, 9, DayOfWeek.FRIDAY, true).toString()
+            ),
+            () -> assertEquals(
+                "Expression[0-10 absolute 2025-08-04]",
+                Expression.absolute(0, 10, LocalDate.of(2025, 8, 4).toEpochDay(), ComponentSink.NO_TIME).toString()
+            ),
+            () -> assertEquals(
+                "Expression[0-11 +10 Hours]",
+                Expression.later(0, 11, 10, ChronoUnit.HOURS).toString()
+            )
+        );
+    }
+
+    @Test
+    void factories_InvalidArguments_ThrowExceptions() {
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> Expression.dayOffset(5, 4, 1)),
+            () -> assertThrows(IllegalArgumentException.class, () -> Expression.dayOffset(-1, 4, 1)),
+            () -> assertThrows(
+                IllegalArgumentException.class,
+                () -> Expression.absolute(0, 4, ComponentSink.NO_DATE, ComponentSink.NO_TIME)
+            ),
+            () -> assertThrows(NullPointerException.class, () -> Expression.weekday(0, 4, null, true)),
+            () -> assertThrows(NullPointerException.class, () -> Expression.later(0, 4, 1, null))
+        );
+    }
+
+    @Test
+    void compile_Parser_ResolvesToSameComponentsAsParseInto() {
+        Parser parser = new ENRelativeWordParser();
+        String input = "today or tomorrow, not yesterday";
+
+        List<Expression> expressions = parser.compile(input);
+
+        for (LocalDateTime ref : List.of(reference, LocalDateTime.of(2024, 2, 28, 23, 0))) {
+            List<String> parsed = new ArrayList<>();
+            List<String> resolved = new ArrayList<>();
+
+            parser.parseInto(input, ref, describing(parsed));
+            for (Expression expression : expressions) {
+                expression.resolveInto(ref, describing(resolved));
+            }
+
+            assertEquals(parsed, resolved);
+        }
+
+        assertTrue(parser.canCompile());
+    }
+
+    @Test
+    void resolveInto_EpochDayAndNanoOfDay_PushesSameComponentsAsLocalDateTime() {
+        List<Expression> expressions = List.of(
+            Expression.absolute(0, 5, 20000, ComponentSink.NO_TIME),
+            Expression.dayOffset(0, 5, -1),
+            Expression.weekday(0, 5, DayOfWeek.MONDAY, true),
+            Expression.weekday(0, 5, DayOfWeek.SUNDAY, false),
+            Expression.monthDay(0, 5, Month.FEBRUARY, 29, Expression.monthDay(2, 5, Month.FEBRUARY, 1, null)),
+            Expression.monthDay(0, 5, Month.DECEMBER, 31, null),
+            Expression.later(0, 5, 90, ChronoUnit.MINUTES),
+            Expression.later(0, 5, -7, ChronoUnit.HOURS),
+            Expression.later(0, 5, Integer.MAX_VALUE, ChronoUnit.SECONDS),
+            Expression.later(0, 5, 3, ChronoUnit.WEEKS),
+            Expression.later(0, 5, 257, ChronoUnit.HALF_DAYS),
+            Expression.later(0, 5, 1, ChronoUnit.MONTHS),
+            Expression.later(0, 5, 2, ChronoUnit.DECADES),
+            Expression.later(0, 5, 1, ChronoUnit.ERAS)
+        );
+
+        for (LocalDateTime ref = LocalDateTime.of(2023, 12, 25, 23, 17, 5); ref.getYear() < 2025; ref = ref.plusHours(37)) {
+            for (Expression expression : expressions) {
+                List<String> expected = resolve(expression, ref);
+                List<String> actual = new ArrayList<>();
+
+                expression.resolveInto(
+                    ref.toLocalDate().toEpochDay(), ref.toLocalTime().toNanoOfDay(), describing(actual)
+                );
+
+                assertEquals(expected, actual, expression + " " + ref);
+            }
+        }
+    }
+
+    @Test
+    void resolveInto_ResultOutOfRange_ThrowsOrPushesNothing() {
+        LocalDateTime max = LocalDateTime.MAX;
+
+        assertAll(
+            () -> assertThrows(DateTimeException.class, () -> resolve(Expression.dayOffset(0, 5, 1), max)),
+            () -> assertThrows(
+                DateTimeException.class,
+                () -> resolve(Expression.weekday(0, 5, DayOfWeek.MONDAY, false), max)
+            ),
+            () -> assertThrows(
+                DateTimeException.class,
+                () -> resolve(Expression.monthDay(0, 5, Month.JANUARY, 1, null), max)
+            ),
+            () -> assertEquals(List.of(), resolve(Expression.later(0, 5, 1, ChronoUnit.MINUTES), max)),
+            () -> assertEquals(List.of(), resolve(Expression.later(0, 5, 1, ChronoUnit.MONTHS), max)),
+            () -> assertEquals(List.of(), resolve(Expression.later(0, 5, -1, ChronoUnit.DAYS), LocalDateTime.MIN)),
+            () -> assertEquals(List.of(), resolve(Expression.later(0, 5, Long.MAX_VALUE, ChronoUnit.WEEKS), reference)),
+            () -> assertEquals(List.of(), resolve(Expression.later(0, 5, Long.MIN_VALUE, ChronoUnit.DAYS), reference)),
+            () -> assertEquals(
+                List.of(),
+                resolve(Expression.later(0, 5, Long.MAX_VALUE, ChronoUnit.MILLENNIA), reference)
+            ),
+            () -> assertEquals(List.of(), resolve(Expression.later(0, 5, Integer.MAX_VALUE, ChronoUnit.YEARS), reference))
+        );
+    }
+}
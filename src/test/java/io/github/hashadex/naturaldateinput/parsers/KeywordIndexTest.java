@@ -0,0 +1,102 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.MatchResult;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.hashadex.naturaldateinput.parsers.common.ISODateParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENMonthDayYearParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENWeekdayParser;
+import io.github.hashadex.naturaldateinput.parsers.ru.RUWeekdayParser;
+
+public class KeywordIndexTest {
+    private static final List<Parser> parsers = List.of(
+        new ISODateParser(),
+        new ENMonthDayYearParser(),
+        new ENWeekdayParser(),
+        new RUWeekdayParser()
+    );
+
+    private static final KeywordIndex index = new KeywordIndex(parsers);
+
+    private static BitSet bits(int... indexes) {
+        BitSet bits = new BitSet();
+        for (int index : indexes) {
+            bits.set(index);
+        }
+
+        return bits;
+    }
+
+    @Test
+    void matchingParsers_NoKeywords_ReturnsParsersWithoutKeywords() {
+        assertEquals(bits(0), index.matchingParsers("nothing to see here 2025-08-04"));
+    }
+
+    @Test
+    void matchingParsers_MonthName_ReturnsMonthParser() {
+        assertEquals(bits(0, 1), index.matchingParsers("due August 4th"));
+    }
+
+    @Test
+    void matchingParsers_MultipleKeywords_ReturnsAllOwners() {
+        assertEquals(bits(0, 1, 2, 3), index.matchingParsers("Friday, Aug 8 or в пятницу"));
+    }
+
+    @Test
+    void matchingParsers_DifferentCase_IgnoresCase() {
+        assertEquals(bits(0, 2, 3), index.matchingParsers("WEDNESDAY В СРЕДУ"));
+    }
+
+    @Test
+    void matchingParsers_KeywordAfterFailedPrefix_FindsKeyword() {
+        // The first "ju" does not continue into a keyword, the scan has to
+        // fall back and find "jul" starting from the second "j"
+        assertEquals(bits(0, 1), index.matchingParsers("jujuly"));
+    }
+
+    @Test
+    void matchingParsers_EmptyString_ReturnsParsersWithoutKeywords() {
+        assertEquals(bits(0), index.matchingParsers(""));
+    }
+
+    @Test
+    void matchingParsers_EmptyKeyword_AlwaysMatches() {
+        Parser parser = new Parser("x", Map.of()) {
+            @Override
+            protected Optional<ParsedComponent> parseMatch(MatchResult match, LocalDateTime reference, String source) {
+                return Optional.empty();
+            }
+
+            @Override
+            public Set<String> keywords() {
+                return Set.of("", "never");
+            }
+        };
+
+        assertEquals(bits(0), new KeywordIndex(List.of(parser)).matchingParsers("abc"));
+    }
+
+    @Test
+    void matchingParsers_Null_ThrowsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.matchingParsers(null));
+    }
+
+    @Test
+    void constructor_NullElement_ThrowsNullPointerException() {
+        List<Parser> withNull = new ArrayList<>(parsers);
+        withNull.add(null);
+
+        assertThrows(NullPointerException.class, () -> new KeywordIndex(withNull));
+    }
+}
@@ -0,0 +1,179 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.hashadex.naturaldateinput.parsers.common.ISODateParser;
+import io.github.hashadex.naturaldateinput.parsers.common.SlashDateFormatParser;
+import io.github.hashadex.naturaldateinput.parsers.common.SlashDateFormatParser.DayMonthOrder;
+import io.github.hashadex.naturaldateinput.parsers.common.TwentyFourHourTimeParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENDayMonthYearParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENMonthDayYearParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENRelativeWordParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENTwelveHourTimeParser;
+import io.github.hashadex.naturaldateinput.parsers.ru.RUDayMonthYearParser;
+import io.github.hashadex.naturaldateinput.parsers.ru.RURelativeWordParser;
+import io.github.hashadex.naturaldateinput.parsers.ru.RUWeekdayParser;
+
+public class MappedFileScannerTest {
+    private static final LocalDateTime reference = LocalDateTime.of(2025, 7, 2, 12, 0, 0);
+
+    private static final List<Parser> parsers = List.of(
+        new ISODateParser(),
+        new SlashDateFormatParser(DayMonthOrder.DAY_MONTH),
+        new TwentyFourHourTimeParser(),
+        new ENDayMonthYearParser(),
+        new ENMonthDayYearParser(),
+        new ENRelativeWordParser(),
+        new ENTwelveHourTimeParser(),
+        new RUDayMonthYearParser(),
+        new RURelativeWordParser(),
+        new RUWeekdayParser()
+    );
+
+    private static final String text = String.join(
+        "\n",
+        "2025-08-04 12:00:01 INFO Standup tomorrow at 9 am, retro on August\n4th at 17:30.",
+        "2025-08-05 09:15:00 WARN Встреча завтра в 17:30 или 5 августа 2026 🚀 в пятницу",
+        "2025-08-06 23:59:59 INFO Дедлайн 10.12.2025 — ничего срочного, увидимся сегодня"
+    ).repeat(15);
+
+    @TempDir
+    Path directory;
+
+    private Path write(byte[] bytes) throws IOException {
+        return Files.write(directory.resolve("scan.log"), bytes);
+    }
+
+    /**
+     * Mentions found by running every parser over the whole text, sorted by
+     * offset.
+     */
+    private static List<String> expectedMentions(String input) {
+        List<String> mentions = new ArrayList<>();
+
+        for (Parser parser : parsers) {
+            parser.parseInto(
+                input, reference,
+                (start, end, epochDay, nanoOfDay) -> mentions.add(describe(
+                    input.substring(0, start).getBytes(StandardCharsets.UTF_8).length,
+                    input.substring(0, end).getBytes(StandardCharsets.UTF_8).length,
+                    start, end, epochDay, nanoOfDay
+                ))
+            );
+        }
+
+        mentions.sort(null);
+        return mentions;
+    }
+
+    private List<String> scannedMentions(Path file, int regionSize) throws IOException {
+        List<String> mentions = new ArrayList<>();
+
+        new MappedFileScanner(parsers, regionSize, 64).scan(
+            file, reference,
+            (startByte, endByte, startChar, endChar, epochDay, nanoOfDay) -> mentions.add(
+                describe(startByte, endByte, startChar, endChar, epochDay, nanoOfDay)
+            )
+        );
+
+        mentions.sort(null);
+        return mentions;
+    }
+
+    private static String describe(
+        long startByte, long endByte, long startChar, long endChar, long epochDay, long nanoOfDay
+    ) {
+        return "%08d-%08d %08d-%08d %d %d".formatted(startByte, endByte, startChar, endChar, epochDay, nanoOfDay);
+    }
+
+    @Test
+    void scan_VariousRegionSizes_FindsSameMentionsAsWholeText() throws IOException {
+        Path file = write(text.getBytes(StandardCharsets.UTF_8));
+        List<String> expected = expectedMentions(text);
+
+        for (int regionSize : new int[] { 1, 5, 64, 1000, 1 << 20 }) {
+            assertEquals(expected, scannedMentions(file, regionSize), "regionSize " + regionSize);
+        }
+    }
+
+    @Test
+    void scan_Executor_FindsSameMentionsAsWholeText() throws IOException {
+        Path file = write(text.getBytes(StandardCharsets.UTF_8));
+        List<String> mentions = Collections.synchronizedList(new ArrayList<>());
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            new MappedFileScanner(parsers, 128, 64).scan(
+                file, reference,
+                (startByte, endByte, startChar, endChar, epochDay, nanoOfDay) -> mentions.add(
+                    describe(startByte, endByte, startChar, endChar, epochDay, nanoOfDay)
+                ),
+                pool
+            );
+        } finally {
+            pool.shutdown();
+        }
+
+        mentions.sort(null);
+        assertEquals(expectedMentions(text), mentions);
+    }
+
+    @Test
+    void scan_MultiByteCharacters_ReportsByteAndCharOffsets() throws IOException {
+        String input = "🚀 завтра";
+        Path file = write(input.getBytes(StandardCharsets.UTF_8));
+
+        // The emoji is 4 bytes and 2 chars, the space is 1 byte and
+        // "завтра" is 12 bytes and 6 chars
+        assertEquals(
+            List.of(describe(5, 17, 3, 9, LocalDate.of(2025, 7, 3).toEpochDay(), ComponentSink.NO_TIME)),
+            scannedMentions(file, 3)
+        );
+    }
+
+    @Test
+    void scan_EmptyFile_FindsNothing() throws IOException {
+        Path file = write(new byte[0]);
+
+        assertTrue(scannedMentions(file, 16).isEmpty());
+    }
+
+    @Test
+    void scan_MalformedFile_ThrowsCharacterCodingException() throws IOException {
+        Path file = write(new byte[] { 't', 'o', 'd', 'a', 'y', ' ', (byte) 0xC3 });
+
+        assertThrows(CharacterCodingException.class, () -> scannedMentions(file, 16));
+    }
+
+    @Test
+    void constructor_InvalidArguments_Throws() {
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> new MappedFileScanner(parsers, 0, 64)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new MappedFileScanner(parsers, 16, 0)),
+            () -> assertThrows(
+                IllegalArgumentException.class,
+                () -> new MappedFileScanner(parsers, Integer.MAX_VALUE, 64)
+            ),
+            () -> assertThrows(NullPointerException.class, () -> new MappedFileScanner(null, 16, 64))
+        );
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent;
+import io.github.hashadex.naturaldateinput.parsers.en.ENRelativeWordParser;
+
+public class MatcherPoolTest {
+    private static final Pattern pattern = Pattern.compile("\\d+");
+
+    @Test
+    void acquire_ReleasedMatcher_ReusesMatcherResetToInput() {
+        MatcherPool pool = new MatcherPool(pattern);
+
+        Matcher first = pool.acquire("abc 123");
+        first.useTransparentBounds(true);
+        first.useAnchoringBounds(false);
+        pool.release(first);
+
+        Matcher second = pool.acquire("456");
+
+        assertAll(
+            () -> assertSame(first, second),
+            () -> assertTrue(second.find()),
+            () -> assertEquals("456", second.group()),
+            () -> assertFalse(second.hasTransparentBounds()),
+            () -> assertTrue(second.hasAnchoringBounds())
+        );
+    }
+
+    @Test
+    void acquire_EmptyPool_CreatesNewMatchers() {
+        MatcherPool pool = new MatcherPool(pattern);
+
+        Matcher first = pool.acquire("1");
+        Matcher second = pool.acquire("2");
+
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void release_FullPool_DropsMatcher() {
+        MatcherPool pool = new MatcherPool(pattern);
+
+        List<Matcher> matchers = new ArrayList<>();
+        for (int i = 0; i <= MatcherPool.CAPACITY; i++) {
+            matchers.add(pool.acquire(""));
+        }
+        matchers.forEach(pool::release);
+
+        // Only the first CAPACITY matchers were kept
+        for (int i = 0; i < MatcherPool.CAPACITY; i++) {
+            assertSame(matchers.get(i), pool.acquire(""));
+        }
+        assertFalse(matchers.contains(pool.acquire("")));
+    }
+
+    @Test
+    void acquire_MatcherReleasedOnOtherThread_ReusesMatcher() throws Exception {
+        MatcherPool pool = new MatcherPool(pattern);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Matcher released = executor.submit(() -> {
+                Matcher matcher = pool.acquire("");
+                pool.release(matcher);
+                return matcher;
+            }).get();
+
+            assertSame(released, pool.acquire(""));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void acquire_VirtualThreads_ReusesMatchersOfPool() throws Exception {
+        LocalDateTime reference = LocalDateTime.of(2025, 7, 2, 12, 0, 0);
+        Parser parser = new ENRelativeWordParser();
+        String input = "today or tomorrow, but not yesterday";
+        MatcherPool pool = new MatcherPool(pattern);
+
+        List<ParsedComponent> expected = parser.parse(input, reference).toList();
+
+        // The library is compiled for Java 17, which has no virtual threads
+        ExecutorService executor = (ExecutorService) Executors.class
+            .getMethod("newVirtualThreadPerTaskExecutor")
+            .invoke(null);
+        try {
+            List<Future<List<ParsedComponent>>> futures = new ArrayList<>();
+            List<Future<Matcher>> released = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                futures.add(executor.submit(() -> parser.parse(input, reference).toList()));
+                released.add(executor.submit(() -> {
+                    Matcher matcher = pool.acquire("");
+                    pool.release(matcher);
+                    return matcher;
+                }));
+            }
+
+            for (Future<List<ParsedComponent>> future : futures) {
+                assertEquals(expected, future.get());
+            }
+
+            // Matchers released by the virtual threads stay in the pool, no
+            // matter which carrier threads the virtual threads ran on
+            List<Matcher> matchers = new ArrayList<>();
+            for (Future<Matcher> future : released) {
+                Matcher matcher = future.get();
+
+                if (!matchers.contains(matcher)) {
+                    matchers.add(matcher);
+                }
+            }
+
+            assertAll(
+                () -> assertTrue(matchers.size() < released.size()),
+                () -> assertTrue(matchers.contains(pool.acquire("")))
+            );
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void parse_ManyThreads_ReturnsSameResultsAsSingleThread() throws Exception {
+        LocalDateTime reference = LocalDateTime.of(2025, 7, 2, 12, 0, 0);
+        Parser parser = new ENRelativeWordParser();
+        String input = "today or tomorrow, but not yesterday";
+
+        List<ParsedComponent> expected = parser.parse(input, reference).toList();
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<ParsedComponent>>> futures = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                futures.add(pool.submit(() -> parser.parse(input, reference).toList()));
+            }
+
+            for (Future<List<ParsedComponent>> future : futures) {
+                assertEquals(expected, future.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.hashadex.naturaldateinput.parsers.common.ISODateParser;
+import io.github.hashadex.naturaldateinput.parsers.common.SlashDateFormatParser;
+import io.github.hashadex.naturaldateinput.parsers.common.SlashDateFormatParser.DayMonthOrder;
+import io.github.hashadex.naturaldateinput.parsers.common.TwentyFourHourTimeParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENRelativeWordParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENTwelveHourTimeParser;
+
+public class NumericScannerTest {
+    private static final List<Parser> parsers = List.of(
+        new ISODateParser(),
+        new SlashDateFormatParser(DayMonthOrder.DAY_MONTH),
+        new SlashDateFormatParser(DayMonthOrder.MONTH_DAY),
+        new TwentyFourHourTimeParser(),
+        new ENTwelveHourTimeParser()
+    );
+
+    private static final List<LocalDateTime> references = List.of(
+        LocalDateTime.of(2025, 7, 2, 12, 0),
+        LocalDateTime.of(2024, 2, 29, 0, 0),
+        LocalDateTime.of(2023, 12, 31, 23, 59)
+    );
+
+    private static final String ALPHABET = "0123456789012345678901./-: \n\r\t aApPmM. \u0085x";
+
+    /**
+     * Fragments of numeric dates and times, so that random inputs match
+     * more often than with single characters.
+     */
+    private static final List<String> FRAGMENTS = List.of(
+        "12", "7", "31", "2025", "13", ":30", ":05", ":61", " pm", " A.M.", " am.", " p.m", "\r\n",
+        "/02", ".12", "/2024", ".25"
+    );
+
+    /**
+     * Returns the components pushed by the parsers through their regexes,
+     * sorted by position.
+     */
+    private static List<String> parse(List<Parser> parsers, String input, int start, int end, LocalDateTime reference) {
+        List<String> components = new ArrayList<>();
+
+        for (Parser parser : parsers) {
+            parser.parseInto(input, start, end, reference, describing(components));
+        }
+
+        return sorted(components);
+    }
+
+    private static List<String> scan(List<Parser> parsers, String input, int start, int end, LocalDateTime reference) {
+        List<String> components = new ArrayList<>();
+
+        new NumericScanner(parsers).scanInto(input, start, end, reference, describing(components));
+
+        return sorted(components);
+    }
+
+    private static ComponentSink describing(List<String> components) {
+        return (startIndex, endIndex, epochDay, nanoOfDay) -> components.add(
+            "%05d-%05d %d %d".formatted(startIndex, endIndex, epochDay, nanoOfDay)
+        );
+    }
+
+    private static List<String> sorted(List<String> components) {
+        components.sort(null);
+
+        return components;
+    }
+
+    private static String randomInput(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+
+        while (sb.length() < length) {
+            if (random.nextBoolean()) {
+                sb.append(FRAGMENTS.get(random.nextInt(FRAGMENTS.size())));
+            } else {
+                sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+        }
+
+        return sb.toString();
+    }
+
+    @Test
+    void scanInto_KnownInputs_PushesSameComponentsAsParsers() {
+        List<String> inputs = List.of(
+            "2025-08-02", "2025.08", "20250802", "202508", "2025", "2025-08.02", "2025-02-30", "12345",
+            "31.12.2025", "6/20/2020", "07/04", "10.12.25", "29.02", "1/2/202", "13.13", "0.5",
+            "22:20:48", "9:05", "24:00", "12:60", "1:2:3",
+            "5 pm", "12 am", "12:30 P.M.", "11:59:59 a.m. ", "5 pmx", "5 p.x", "13 pm",
+            "meet at 10:30 or 5 pm on 2025-08-02\n", "on 12.10\r\n", "at 10:30 ", "at 10:30 x",
+            "text 2025\u0085", "2025\r", "2025\n\n", "x2025", " 2025"
+        );
+
+        for (String input : inputs) {
+            for (LocalDateTime reference : references) {
+                assertEquals(
+                    parse(parsers, input, 0, input.length(), reference),
+                    scan(parsers, input, 0, input.length(), reference),
+                    input
+                );
+            }
+        }
+    }
+
+    @Test
+    void scanInto_RandomInputs_PushesSameComponentsAsParsers() {
+        Random random = new Random(19);
+
+        for (int n = 0; n < 20_000; n++) {
+            String input = randomInput(random, 1 + random.nextInt(24));
+            int start = random.nextInt(input.length() + 1);
+            int end = start + random.nextInt(input.length() - start + 1);
+            LocalDateTime reference = references.get(n % references.size());
+
+            // Every parser alone, and all parsers at once
+            for (Parser parser : parsers) {
+                assertEquals(
+                    parse(List.of(parser), input, start, end, reference),
+                    scan(List.of(parser), input, start, end, reference),
+                    () -> parser.getClass().getSimpleName() + " " + input
+                );
+            }
+
+            assertEquals(
+                parse(parsers, input, start, end, reference),
+                scan(parsers, input, start, end, reference),
+                input
+            );
+        }
+    }
+
+    @Test
+    void canScan_Parsers_ReturnsTrueForNumericParsersOnly() {
+        Parser subclass = new ISODateParser() {};
+
+        assertAll(
+            () -> assertTrue(parsers.stream().allMatch(NumericScanner::canScan)),
+            () -> assertFalse(NumericScanner.canScan(new ENRelativeWordParser())),
+            () -> assertFalse(NumericScanner.canScan(subclass)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new NumericScanner(List.of(subclass))),
+            () -> assertThrows(NullPointerException.class, () -> new NumericScanner(null))
+        );
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class ParseDigitsTest {
+    private static int parseDigits(String input) {
+        return Parser.parseDigits(input, 0, input.length());
+    }
+
+    @Test
+    void parseDigits_Numbers_ReturnsSameNumberAsParseInt() {
+        for (String input : new String[] {"0", "7", "007", "12", "2025", "999999999", "2147483647"}) {
+            assertEquals(Integer.parseInt(input), parseDigits(input), input);
+        }
+    }
+
+    @Test
+    void parseDigits_Range_ParsesOnlyRange() {
+        assertAll(
+            () -> assertEquals(25, Parser.parseDigits("in 25 days", 3, 5)),
+            () -> assertEquals(2, Parser.parseDigits(new StringBuilder("in 25 days"), 3, 4))
+        );
+    }
+
+    @Test
+    void parseDigits_NotNumbers_ReturnsMinusOne() {
+        assertAll(
+            () -> assertEquals(-1, parseDigits("")),
+            () -> assertEquals(-1, parseDigits("2147483648")),
+            () -> assertEquals(-1, parseDigits("99999999999")),
+            () -> assertEquals(-1, parseDigits("-1")),
+            () -> assertEquals(-1, parseDigits("+1")),
+            () -> assertEquals(-1, parseDigits("1a")),
+            () -> assertEquals(-1, parseDigits("١٢")),
+            () -> assertEquals(-1, Parser.parseDigits("12", -1, -1))
+        );
+    }
+}
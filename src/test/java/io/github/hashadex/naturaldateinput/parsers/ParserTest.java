@@ -8,6 +8,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 
@@ -20,22 +22,115 @@ public abstract class ParserTest {
     @BeforeEach
     public abstract void setup();
 
+    /**
+     * Parses the input and checks that all ways of parsing it return the
+     * same components, and that the parser only matches inputs that pass its
+     * keyword and character profile checks.
+     */
+    private List<ParsedComponent> parse(String input) {
+        List<ParsedComponent> results = parser.parse(input, reference).toList();
+
+        assertEquals(
+            results,
+            parser.parse(TokenStream.tokenize(input), reference).toList(),
+            "Parsing a TokenStream returned different results for input '%s'".formatted(input)
+        );
+
+        ComponentBuffer buffer = new ComponentBuffer();
+        parser.parseInto(input, reference, buffer);
+
+        assertEquals(
+            results,
+            IntStream.range(0, buffer.size()).mapToObj(i -> buffer.component(i, reference, input)).toList(),
+            "Parsing into a ComponentSink returned different results for input '%s'".formatted(input)
+        );
+
+        // Use the matcher twice, so that the second run starts from a used
+        // matcher
+        Matcher matcher = parser.newMatcher();
+        parser.parseInto(input, reference, buffer, matcher);
+        buffer.clear();
+        parser.parseInto(input, reference, buffer, matcher);
+
+        assertEquals(
+            results,
+            IntStream.range(0, buffer.size()).mapToObj(i -> buffer.component(i, reference, input)).toList(),
+            "Parsing with a reused Matcher returned different results for input '%s'".formatted(input)
+        );
+
+        // Surround the input with letters, which must not be seen when only
+        // the range of the input is parsed
+        StringBuilder surrounded = new StringBuilder("ab").append(input).append("cd");
+
+        assertEquals(
+            results.stream().map(c -> describe(c, 0)).toList(),
+            parser.parse(surrounded, 2, 2 + input.length(), reference).map(c -> describe(c, 2)).toList(),
+            "Parsing a range returned different results for input '%s'".formatted(input)
+        );
+
+        // Folded input is parsed case-sensitively, components refer to the
+        // original input
+        if (parser.canParseFolded()) {
+            String folded = CaseFolding.fold(input);
+
+            buffer.clear();
+            parser.parseFoldedInto(folded, 0, folded.length(), reference, buffer);
+
+            assertEquals(
+                results,
+                IntStream.range(0, buffer.size()).mapToObj(i -> buffer.component(i, reference, input)).toList(),
+                "Parsing the folded input returned different results for input '%s'".formatted(input)
+            );
+
+            buffer.clear();
+            parser.parseFoldedInto(TokenStream.tokenize(folded), reference, buffer);
+
+            assertEquals(
+                results,
+                IntStream.range(0, buffer.size()).mapToObj(i -> buffer.component(i, reference, input)).toList(),
+                "Parsing the folded TokenStream returned different results for input '%s'".formatted(input)
+            );
+        }
+
+        assertTrue(
+            results.isEmpty() || new KeywordIndex(List.of(parser)).matchingParsers(input).get(0),
+            "Parser matched input '%s' that contains none of its keywords".formatted(input)
+        );
+
+        assertTrue(
+            results.isEmpty() || parser.canMatch(CharacterProfile.of(input)),
+            "Parser matched input '%s' that it rules out by its character profile".formatted(input)
+        );
+
+        return results;
+    }
+
+    private static String describe(ParsedComponent component, int offset) {
+        return "%d-%d %s %s %s".formatted(
+            component.startIndex() - offset,
+            component.endIndex() - offset,
+            component.text(),
+            component.date(),
+            component.time()
+        );
+    }
+
     protected void assertParses(String input) {
         assertTrue(
-            parser.parse(input, reference).findAny().isPresent(),
+            !parse(input).isEmpty(),
             "Parser returned empty stream for input '%s'".formatted(input)
         );
     }
 
     protected void assertDoesNotParse(String input) {
         assertTrue(
-            parser.parse(input, reference).findAny().isEmpty(),
+            parse(input).isEmpty(),
             "Parser returned non-empty stream for input '%s'".formatted(input)
         );
     }
 
     protected void assertParsesAs(String input, LocalDate expectedDate, LocalTime expectedTime) {
-        List<ParsedComponent> results = parser.parse(input, reference).toList();
+        List<ParsedComponent> results = parse(input);
 
         assertEquals(1, results.size(), "Expected exactly one result, but found: " + results.size());
 
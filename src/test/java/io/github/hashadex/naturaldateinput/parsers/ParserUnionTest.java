@@ -0,0 +1,256 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.MatchResult;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.Test;
+
+import io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent;
+import io.github.hashadex.naturaldateinput.parsers.common.ISODateParser;
+import io.github.hashadex.naturaldateinput.parsers.common.SlashDateFormatParser;
+import io.github.hashadex.naturaldateinput.parsers.common.SlashDateFormatParser.DayMonthOrder;
+import io.github.hashadex.naturaldateinput.parsers.common.TwentyFourHourTimeParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENChronoUnitLaterParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENDayMonthYearParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENMonthDayYearParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENRelativeWordParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENTimeOfDayWordParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENTwelveHourTimeParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENWeekdayParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENYearMonthDayParser;
+import io.github.hashadex.naturaldateinput.parsers.ru.RUChronoUnitLaterParser;
+import io.github.hashadex.naturaldateinput.parsers.ru.RUDayMonthYearParser;
+import io.github.hashadex.naturaldateinput.parsers.ru.RUMonthDayYearParser;
+import io.github.hashadex.naturaldateinput.parsers.ru.RURelativeWordParser;
+import io.github.hashadex.naturaldateinput.parsers.ru.RUTimeOfDayWordParser;
+import io.github.hashadex.naturaldateinput.parsers.ru.RUWeekdayParser;
+import io.github.hashadex.naturaldateinput.parsers.ru.RUYearMonthDayParser;
+
+public class ParserUnionTest {
+    private static final LocalDateTime reference = LocalDateTime.of(2025, 7, 2, 12, 0, 0);
+
+    private static final List<Parser> parsers = List.of(
+        new ISODateParser(),
+        new SlashDateFormatParser(DayMonthOrder.DAY_MONTH),
+        new TwentyFourHourTimeParser(),
+        new ENChronoUnitLaterParser(),
+        new ENDayMonthYearParser(),
+        new ENMonthDayYearParser(),
+        new ENRelativeWordParser(),
+        new ENTimeOfDayWordParser(),
+        new ENTwelveHourTimeParser(),
+        new ENWeekdayParser(),
+        new ENYearMonthDayParser(),
+        new RUChronoUnitLaterParser(),
+        new RUDayMonthYearParser(),
+        new RUMonthDayYearParser(),
+        new RURelativeWordParser(),
+        new RUTimeOfDayWordParser(),
+        new RUWeekdayParser(),
+        new RUYearMonthDayParser()
+    );
+
+    private static final Comparator<ParsedComponent> componentOrder = Comparator
+        .comparingInt(ParsedComponent::startIndex)
+        .thenComparingInt(ParsedComponent::endIndex)
+        .thenComparing(ParsedComponent::toString);
+
+    private static List<ParsedComponent> parseSeparately(String input) {
+        return parsers.stream()
+            .flatMap(parser -> parser.parse(input, reference))
+            .sorted(componentOrder)
+            .toList();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "Meeting tomorrow at 5 pm",
+        "on the next friday at 17:30",
+        "4th of August, 2025 12:00:00 a.m.",
+        "32 April 2025 and April 32, 2025",
+        "in ten days or 3 weeks later at noon",
+        "2025-08-04",
+        "due 10.12.2025",
+        "due 10/12/25",
+        "2025.07-10",
+        "Встреча завтра в 17:00",
+        "через 10 дней вечером",
+        "3-е августа 2025 года в пятницу",
+        "in 99999999999 days",
+        "",
+        "no dates here"
+    })
+    void parse_ReturnsSameComponentsAsSeparateParsers(String input) {
+        ParserUnion union = new ParserUnion(parsers);
+
+        List<ParsedComponent> expected = parseSeparately(input);
+        List<ParsedComponent> actual = union.parse(input, reference).sorted(componentOrder).toList();
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void parse_OverlappingMatchesOfSameParser_UsesOnlyNonOverlappingMatches() {
+        ParserUnion union = new ParserUnion(List.of(new ENWeekdayParser()));
+
+        List<ParsedComponent> results = union.parse("on the next friday", reference).toList();
+
+        assertEquals(1, results.size());
+        assertEquals("on the next friday", results.get(0).text());
+    }
+
+    @Test
+    void constructor_ParserOverridingParse_ThrowsIllegalArgumentException() {
+        class MockParser extends Parser {
+            MockParser() {
+                super("", Map.of());
+            }
+
+            @Override
+            protected Optional<ParsedComponent> parseMatch(MatchResult match, LocalDateTime reference, String source) {
+                return Optional.empty();
+            }
+
+            @Override
+            public Stream<ParsedComponent> parse(String input, LocalDateTime reference) {
+                return Stream.empty();
+            }
+        }
+
+        Parser parser = new MockParser();
+
+        assertFalse(ParserUnion.canCombine(parser));
+        assertThrows(IllegalArgumentException.class, () -> new ParserUnion(List.of(parser)));
+    }
+
+    @Test
+    void canCombine_LiteralFlag_ReturnsFalse() {
+        class MockParser extends SinkParser {
+            MockParser() {
+                super("today", Map.of(), Pattern.LITERAL);
+            }
+
+            @Override
+            protected void parseMatchInto(
+                MatchResult match,
+                LocalDateTime reference,
+                CharSequence source,
+                ComponentSink sink
+            ) {}
+        }
+
+        assertFalse(ParserUnion.canCombine(new MockParser()));
+    }
+
+    /**
+     * Parser that pushes every match of the regex as a component with a
+     * time, with the named groups of the regex.
+     */
+    private static Parser matchParser(String regex, Map<String, Integer> namedGroupMap) {
+        return new SinkParser(regex, namedGroupMap) {
+            @Override
+            protected void parseMatchInto(
+                MatchResult match,
+                LocalDateTime reference,
+                CharSequence source,
+                ComponentSink sink
+            ) {
+                sink.accept(match.start(), match.end(), ComponentSink.NO_DATE, 0);
+            }
+        };
+    }
+
+    @Test
+    void parse_NumberedBackreferenceAfterOtherParser_ReturnsSameComponentsAsParser() {
+        Parser twoGroups = matchParser("(?<=^|\\s)(x)(y)", Map.of());
+        Parser backreference = matchParser("(?<=^|\\s)(\\d)-\\1", Map.of());
+        Parser twoDigitBackreference = matchParser("(?<=^|\\s)(a)(b)(c)(d)(e)(f)(g)(h)(i)(j)-\\10", Map.of());
+        String input = "xy 3-3 4-5 abcdefghij-j abcdefghij-a0";
+
+        List<String> expected = Stream.of(twoGroups, backreference, twoDigitBackreference)
+            .flatMap(parser -> parser.parse(input, reference))
+            .map(ParsedComponent::text)
+            .sorted()
+            .toList();
+
+        ParserUnion union = new ParserUnion(List.of(twoGroups, backreference, twoDigitBackreference));
+
+        assertEquals(List.of("3-3", "abcdefghij-j", "xy"), expected);
+        assertEquals(expected, union.parse(input, reference).map(ParsedComponent::text).sorted().toList());
+    }
+
+    @Test
+    void canCombine_RegexWithoutBoundaryCheck_ReturnsFalse() {
+        assertAll(
+            () -> assertFalse(ParserUnion.canCombine(matchParser("(\\d)-\\1", Map.of()))),
+            () -> assertTrue(ParserUnion.canCombine(matchParser("(?<=^|\\s)(\\d)-\\1", Map.of())))
+        );
+    }
+
+    @Test
+    void parse_CharactersOutsideOfDispatchTableAndEndOfInput_ReturnsSameComponentsAsParsers() {
+        Parser cjk = matchParser("(?<=^|\\s)\u65e5\\d", Map.of());
+        Parser endOfInput = matchParser("(?<=^|\\s)(?:z|$)", Map.of());
+        String input = "\u65e51 z a\u65e52 \u65e53 ";
+
+        List<String> expected = Stream.of(cjk, endOfInput)
+            .flatMap(parser -> parser.parse(input, reference))
+            .map(component -> component.startIndex() + "-" + component.endIndex())
+            .sorted()
+            .toList();
+
+        ParserUnion union = new ParserUnion(List.of(cjk, endOfInput));
+
+        assertEquals(List.of("0-2", "12-12", "3-4", "9-11"), expected);
+        assertEquals(
+            expected,
+            union.parse(input, reference)
+                .map(component -> component.startIndex() + "-" + component.endIndex())
+                .sorted()
+                .toList()
+        );
+    }
+
+    @Test
+    void parseInto_SelectedParsers_RunsOnlySelectedParsers() {
+        ParserUnion union = new ParserUnion(List.of(new ENRelativeWordParser(), new TwentyFourHourTimeParser()));
+        BitSet selected = new BitSet();
+        selected.set(1);
+
+        String input = "tomorrow at 17:30";
+        ComponentBuffer whole = new ComponentBuffer();
+        ComponentBuffer range = new ComponentBuffer();
+
+        union.parseInto(input, 0, input.length(), selected, reference, whole);
+        union.parseInto(input, 1, input.length(), selected, reference, range);
+
+        assertAll(
+            () -> assertEquals(1, whole.size()),
+            () -> assertEquals("17:30", whole.component(0, reference, input).text()),
+            () -> assertEquals(1, range.size()),
+            () -> assertEquals("17:30", range.component(0, reference, input).text())
+        );
+    }
+
+    @Test
+    void canCombine_BuiltInParsers_ReturnsTrue() {
+        for (Parser parser : parsers) {
+            assertTrue(ParserUnion.canCombine(parser), parser.getClass().getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+
+import org.junit.jupiter.api.Test;
+
+public class ReferenceContextTest {
+    /**
+     * Returns the first occurrence of the month and day on or after the date
+     * the way the parsers used to find it with <code>LocalDate</code>.
+     */
+    private static long nextMonthDayOfLocalDate(LocalDate date, int month, int day) {
+        if (!YearMonth.of(date.getYear(), month).isValidDay(day)) {
+            return EpochDays.NO_SUCH_DAY;
+        }
+
+        LocalDate result = LocalDate.of(date.getYear(), month, day);
+
+        if (result.isBefore(date)) {
+            result = result.plusYears(1);
+        }
+
+        return result.toEpochDay();
+    }
+
+    @Test
+    void of_EveryDayOfSeveralYears_ReturnsSameFactsAsLocalDate() {
+        for (LocalDate date = LocalDate.of(1999, 12, 1); date.getYear() < 2005; date = date.plusDays(1)) {
+            ReferenceContext context = ReferenceContext.of(date.atTime(13, 30));
+            LocalDate reference = date;
+
+            assertAll(
+                () -> assertEquals(reference.toEpochDay(), context.epochDay()),
+                () -> assertEquals(LocalTime.of(13, 30).toNanoOfDay(), context.nanoOfDay()),
+                () -> assertEquals(reference.getYear(), context.year()),
+                () -> assertEquals(reference.getMonthValue(), context.month()),
+                () -> assertEquals(reference.getDayOfMonth(), context.dayOfMonth()),
+                () -> assertEquals(reference.getDayOfWeek(), context.dayOfWeek())
+            );
+
+            for (DayOfWeek weekday : DayOfWeek.values()) {
+                assertAll(
+                    () -> assertEquals(
+                        reference.with(TemporalAdjusters.nextOrSame(weekday)).toEpochDay(),
+                        context.epochDay() + context.daysUntil(weekday, true)
+                    ),
+                    () -> assertEquals(
+                        reference.with(TemporalAdjusters.next(weekday)).toEpochDay(),
+                        context.epochDay() + context.daysUntil(weekday, false)
+                    )
+                );
+            }
+
+            for (int month = 1; month <= 12; month++) {
+                for (int day = 0; day <= 32; day++) {
+                    assertEquals(
+                        nextMonthDayOfLocalDate(reference, month, day),
+                        context.nextMonthDay(month, day),
+                        "%s %d-%d".formatted(reference, month, day)
+                    );
+                }
+            }
+        }
+    }
+
+    @Test
+    void of_SameReference_ReturnsNewContextWithSameFacts() {
+        LocalDateTime reference = LocalDateTime.of(2025, 7, 2, 12, 0);
+
+        ReferenceContext context = ReferenceContext.of(reference);
+        ReferenceContext again = ReferenceContext.of(reference);
+        ReferenceContext sameDate = ReferenceContext.of(reference.toLocalDate().toEpochDay(), 0);
+
+        // Contexts are not cached, so creating one does not change others
+        assertAll(
+            () -> assertNotSame(context, again),
+            () -> assertEquals(context.toString(), again.toString()),
+            () -> assertEquals(context.dayOfWeek(), sameDate.dayOfWeek()),
+            () -> assertEquals(context.dayOfMonth(), sameDate.dayOfMonth()),
+            () -> assertEquals(0, sameDate.nanoOfDay()),
+            () -> assertEquals(reference.toLocalTime().toNanoOfDay(), context.nanoOfDay()),
+            () -> assertEquals(DayOfWeek.WEDNESDAY, context.dayOfWeek())
+        );
+    }
+
+    @Test
+    void of_ExtremeReferences_ReturnsSameFactsAsLocalDate() {
+        for (LocalDateTime reference : new LocalDateTime[] { LocalDateTime.MIN, LocalDateTime.MAX }) {
+            ReferenceContext context = ReferenceContext.of(reference);
+
+            assertAll(
+                () -> assertEquals(reference.getYear(), context.year()),
+                () -> assertEquals(reference.getMonthValue(), context.month()),
+                () -> assertEquals(reference.getDayOfMonth(), context.dayOfMonth()),
+                () -> assertEquals(reference.getDayOfWeek(), context.dayOfWeek()),
+                () -> assertEquals(reference.toLocalTime().toNanoOfDay(), context.nanoOfDay())
+            );
+        }
+
+        assertThrows(DateTimeException.class, () -> ReferenceContext.of(LocalDateTime.MAX).nextMonthDay(1, 1));
+    }
+
+    @Test
+    void of_InvalidReferences_ThrowsExceptions() {
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> ReferenceContext.of(null)),
+            () -> assertThrows(DateTimeException.class, () -> ReferenceContext.of(LocalDate.MAX.toEpochDay() + 1, 0)),
+            () -> assertThrows(DateTimeException.class, () -> ReferenceContext.of(0, -1)),
+            () -> assertThrows(DateTimeException.class, () -> ReferenceContext.of(0, 86_400_000_000_000L))
+        );
+    }
+
+    @Test
+    void isSupported_EpochDaysAroundRange_ReturnsSameAsLocalDate() {
+        assertAll(
+            () -> assertTrue(ReferenceContext.isSupported(LocalDate.MIN.toEpochDay())),
+            () -> assertTrue(ReferenceContext.isSupported(LocalDate.MAX.toEpochDay())),
+            () -> assertTrue(ReferenceContext.isSupported(0)),
+            () -> assertFalse(ReferenceContext.isSupported(LocalDate.MIN.toEpochDay() - 1)),
+            () -> assertFalse(ReferenceContext.isSupported(LocalDate.MAX.toEpochDay() + 1))
+        );
+    }
+}
@@ -0,0 +1,180 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.MatchResult;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.hashadex.naturaldateinput.parsers.Parser.ParsedComponent;
+import io.github.hashadex.naturaldateinput.parsers.common.ISODateParser;
+import io.github.hashadex.naturaldateinput.parsers.common.SlashDateFormatParser;
+import io.github.hashadex.naturaldateinput.parsers.common.SlashDateFormatParser.DayMonthOrder;
+import io.github.hashadex.naturaldateinput.parsers.common.TwentyFourHourTimeParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENChronoUnitLaterParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENDayMonthYearParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENMonthDayYearParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENRelativeWordParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENTwelveHourTimeParser;
+import io.github.hashadex.naturaldateinput.parsers.en.ENWeekdayParser;
+
+public class StreamingScannerTest {
+    private static final LocalDateTime reference = LocalDateTime.of(2025, 7, 2, 12, 0, 0);
+
+    private static final List<Parser> parsers = List.of(
+        new ISODateParser(),
+        new SlashDateFormatParser(DayMonthOrder.DAY_MONTH),
+        new TwentyFourHourTimeParser(),
+        new ENChronoUnitLaterParser(),
+        new ENDayMonthYearParser(),
+        new ENMonthDayYearParser(),
+        new ENRelativeWordParser(),
+        new ENTwelveHourTimeParser(),
+        new ENWeekdayParser()
+    );
+
+    private static final String text = String.join(
+        " ",
+        "Standup tomorrow at 9 am, retro on August\n4th at 17:30.",
+        "Deadline 2025-08-04 or 10.12.2025, in ten days, next friday at 5 pm.",
+        "Nothing here. Another one: August 5th 2026 at 12:00:00 and today."
+    ).repeat(20);
+
+    /**
+     * Mentions found by running every parser over the whole text, sorted by
+     * offset.
+     */
+    private static List<String> expectedMentions(String input) {
+        List<String> mentions = new ArrayList<>();
+
+        for (Parser parser : parsers) {
+            parser.parseInto(
+                input, reference,
+                (start, end, epochDay, nanoOfDay) -> mentions.add(describe(start, end, epochDay, nanoOfDay))
+            );
+        }
+
+        mentions.sort(null);
+        return mentions;
+    }
+
+    private static List<String> streamedMentions(String input, int chunkSize) throws IOException {
+        List<String> mentions = new ArrayList<>();
+
+        new StreamingScanner(parsers, chunkSize, 64).scan(
+            new StringReader(input), reference,
+            (start, end, epochDay, nanoOfDay) -> mentions.add(describe(start, end, epochDay, nanoOfDay))
+        );
+
+        mentions.sort(null);
+        return mentions;
+    }
+
+    private static String describe(long start, long end, long epochDay, long nanoOfDay) {
+        return "%08d-%08d %d %d".formatted(start, end, epochDay, nanoOfDay);
+    }
+
+    @Test
+    void scan_VariousChunkSizes_FindsSameMentionsAsWholeText() throws IOException {
+        List<String> expected = expectedMentions(text);
+
+        for (int chunkSize : new int[] { 1, 7, 100, 8192 }) {
+            assertEquals(expected, streamedMentions(text, chunkSize), "chunkSize " + chunkSize);
+        }
+    }
+
+    @Test
+    void scan_MentionAcrossChunks_FindsMention() throws IOException {
+        String input = "x".repeat(95) + " August\n4th";
+
+        // The mention starts in the first chunk and ends in the second one
+        List<String> mentions = streamedMentions(input, 100);
+
+        assertAll(
+            () -> assertTrue(
+                mentions.contains(describe(96, 106, LocalDate.of(2025, 8, 4).toEpochDay(), ComponentSink.NO_TIME))
+            ),
+            () -> assertEquals(expectedMentions(input), mentions)
+        );
+    }
+
+    @Test
+    void scan_EmptyReader_FindsNothing() throws IOException {
+        assertTrue(streamedMentions("", 16).isEmpty());
+    }
+
+    @Test
+    void scan_UnionAndParsers_FindsSameMentionsAsWholeText() throws IOException {
+        List<String> expected = expectedMentions(text);
+
+        ParserUnion union = new ParserUnion(parsers.subList(0, 5));
+        List<Parser> others = parsers.subList(5, parsers.size());
+
+        for (int chunkSize : new int[] { 1, 7, 100, 8192 }) {
+            List<String> mentions = new ArrayList<>();
+
+            new StreamingScanner(union, others, chunkSize, 64).scan(
+                new StringReader(text), reference,
+                (start, end, epochDay, nanoOfDay) -> mentions.add(describe(start, end, epochDay, nanoOfDay))
+            );
+
+            mentions.sort(null);
+
+            assertEquals(expected, mentions, "chunkSize " + chunkSize);
+        }
+    }
+
+    @Test
+    void scan_ParserOverridingParse_ParsesBufferedChunks() throws IOException {
+        class MockParser extends Parser {
+            private final Parser delegate = new ENRelativeWordParser();
+
+            MockParser() {
+                super("", Map.of());
+            }
+
+            @Override
+            protected Optional<ParsedComponent> parseMatch(MatchResult match, LocalDateTime reference, String source) {
+                return Optional.empty();
+            }
+
+            @Override
+            public Stream<ParsedComponent> parse(String input, LocalDateTime reference) {
+                return delegate.parse(input, reference);
+            }
+        }
+
+        List<String> expected = new ArrayList<>();
+        new ENRelativeWordParser().parseInto(
+            text, reference,
+            (start, end, epochDay, nanoOfDay) -> expected.add(describe(start, end, epochDay, nanoOfDay))
+        );
+
+        for (int chunkSize : new int[] { 1, 7, 100, 8192 }) {
+            List<String> mentions = new ArrayList<>();
+
+            new StreamingScanner(List.of(new MockParser()), chunkSize, 64).scan(
+                new StringReader(text), reference,
+                (start, end, epochDay, nanoOfDay) -> mentions.add(describe(start, end, epochDay, nanoOfDay))
+            );
+
+            assertAll(
+                () -> assertFalse(StreamingScanner.canStream(new MockParser())),
+                () -> assertTrue(StreamingScanner.canStream(new ENRelativeWordParser())),
+                () -> assertEquals(expected, mentions, "chunkSize " + chunkSize)
+            );
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.hashadex.naturaldateinput.parsers.TokenStream.TokenType;
+
+public class TokenStreamTest {
+    @Test
+    void tokenize_Sentence_SplitsIntoTypedTokens() {
+        TokenStream tokens = TokenStream.tokenize("Due 4th of Aug.");
+
+        assertAll(
+            () -> assertEquals(6, tokens.tokenCount()),
+            () -> assertToken(tokens, 0, 0, 3, TokenType.WORD),
+            () -> assertToken(tokens, 1, 4, 5, TokenType.NUMBER),
+            () -> assertToken(tokens, 2, 5, 7, TokenType.WORD),
+            () -> assertToken(tokens, 3, 8, 10, TokenType.WORD),
+            () -> assertToken(tokens, 4, 11, 14, TokenType.WORD),
+            () -> assertToken(tokens, 5, 14, 15, TokenType.PUNCTUATION)
+        );
+    }
+
+    @Test
+    void tokenize_Sentence_FindsBoundaries() {
+        TokenStream tokens = TokenStream.tokenize("Due 4th of Aug.");
+
+        assertAll(
+            () -> assertEquals(4, tokens.boundaryCount()),
+            () -> assertEquals(0, tokens.boundary(0)),
+            () -> assertEquals(4, tokens.boundary(1)),
+            () -> assertEquals(8, tokens.boundary(2)),
+            () -> assertEquals(11, tokens.boundary(3))
+        );
+    }
+
+    @Test
+    void tokenize_Cyrillic_SplitsIntoWords() {
+        TokenStream tokens = TokenStream.tokenize("через 5 дней");
+
+        assertAll(
+            () -> assertEquals(3, tokens.tokenCount()),
+            () -> assertToken(tokens, 0, 0, 5, TokenType.WORD),
+            () -> assertToken(tokens, 1, 6, 7, TokenType.NUMBER),
+            () -> assertToken(tokens, 2, 8, 12, TokenType.WORD)
+        );
+    }
+
+    @Test
+    void tokenize_ConsecutiveWhitespace_AddsBoundaryAfterEveryCharacter() {
+        TokenStream tokens = TokenStream.tokenize("a \t\nb ");
+
+        assertAll(
+            () -> assertEquals(2, tokens.tokenCount()),
+            () -> assertEquals(5, tokens.boundaryCount()),
+            () -> assertEquals(0, tokens.boundary(0)),
+            () -> assertEquals(2, tokens.boundary(1)),
+            () -> assertEquals(3, tokens.boundary(2)),
+            () -> assertEquals(4, tokens.boundary(3)),
+            () -> assertEquals(6, tokens.boundary(4))
+        );
+    }
+
+    @Test
+    void tokenize_EmptyString_HasOnlyStartBoundary() {
+        TokenStream tokens = TokenStream.tokenize("");
+
+        assertAll(
+            () -> assertEquals(0, tokens.tokenCount()),
+            () -> assertEquals(1, tokens.boundaryCount()),
+            () -> assertEquals(0, tokens.boundary(0))
+        );
+    }
+
+    @Test
+    void tokenize_ManyTokens_GrowsStorage() {
+        String input = "12:30 ".repeat(100);
+        TokenStream tokens = TokenStream.tokenize(input);
+
+        assertAll(
+            () -> assertEquals(300, tokens.tokenCount()),
+            () -> assertEquals(101, tokens.boundaryCount()),
+            () -> assertToken(tokens, 299, 597, 599, TokenType.NUMBER)
+        );
+    }
+
+    @Test
+    void tokenize_Null_ThrowsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TokenStream.tokenize(null));
+    }
+
+    @Test
+    void tokenStart_OutOfRange_ThrowsIndexOutOfBoundsException() {
+        TokenStream tokens = TokenStream.tokenize("noon");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> tokens.tokenStart(1));
+    }
+
+    private static void assertToken(TokenStream tokens, int token, int start, int end, TokenType type) {
+        assertAll(
+            () -> assertEquals(start, tokens.tokenStart(token)),
+            () -> assertEquals(end, tokens.tokenEnd(token)),
+            () -> assertEquals(type, tokens.tokenType(token))
+        );
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.hashadex.naturaldateinput.parsers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Month;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class WordTrieTest {
+    private static final Map<String, Month> months = Map.ofEntries(
+        Map.entry("январь", Month.JANUARY),
+        Map.entry("января", Month.JANUARY),
+        Map.entry("янв.", Month.JANUARY),
+        Map.entry("янв", Month.JANUARY),
+        Map.entry("февраль", Month.FEBRUARY),
+        Map.entry("февраля", Month.FEBRUARY),
+        Map.entry("фев.", Month.FEBRUARY),
+        Map.entry("фев", Month.FEBRUARY),
+        Map.entry("март", Month.MARCH),
+        Map.entry("марта", Month.MARCH),
+        Map.entry("мар.", Month.MARCH),
+        Map.entry("мар", Month.MARCH),
+        Map.entry("august", Month.AUGUST),
+        Map.entry("aug", Month.AUGUST)
+    );
+
+    private static final List<Map<String, ?>> dictionaries = List.of(
+        months,
+        Map.of("today", 0, "tomorrow", 1, "yesterday", -1, "tmrw", 1),
+        Map.of("a", 1, "one", 1, "two", 2, "ten", 10, "twenty", 20),
+        Map.of("x", "x", "xy", "xy", "xyz", "xyz")
+    );
+
+    @Test
+    void get_DictionaryWords_ReturnsSameValuesAsMap() {
+        for (Map<String, ?> dictionary : dictionaries) {
+            WordTrie<?> trie = WordTrie.of(dictionary);
+
+            assertEquals(dictionary.size(), trie.size());
+
+            for (Map.Entry<String, ?> entry : dictionary.entrySet()) {
+                String word = entry.getKey();
+
+                assertAll(
+                    () -> assertEquals(entry.getValue(), trie.get(word), word),
+                    () -> assertEquals(entry.getValue(), trie.get(word.toUpperCase()), word),
+                    () -> assertEquals(entry.getValue(), trie.get("(" + word + ")", 1, word.length() + 1), word),
+                    () -> assertNull(trie.get(word + "x"), word),
+                    () -> assertEquals(
+                        dictionary.get(word.substring(0, word.length() - 1)),
+                        trie.get(word, 0, word.length() - 1),
+                        word
+                    )
+                );
+            }
+        }
+    }
+
+    @Test
+    void get_MixedCaseInput_IgnoresCase() {
+        WordTrie<Month> trie = WordTrie.of(months);
+
+        assertAll(
+            () -> assertEquals(Month.JANUARY, trie.get("ЯНВАРЯ")),
+            () -> assertEquals(Month.JANUARY, trie.get("Январь")),
+            () -> assertEquals(Month.JANUARY, trie.get(new StringBuilder("в яНв. 2025"), 2, 6)),
+            () -> assertEquals(Month.AUGUST, trie.get("AuGuSt")),
+            () -> assertNull(trie.get("")),
+            () -> assertNull(trie.get("январ"))
+        );
+    }
+
+    @Test
+    void get_CaseSensitiveTrie_MatchesCase() {
+        WordTrie<Month> trie = WordTrie.ofCaseSensitive(Map.of("August", Month.AUGUST, "august", Month.SEPTEMBER));
+
+        assertAll(
+            () -> assertEquals(Month.AUGUST, trie.get("August")),
+            () -> assertEquals(Month.SEPTEMBER, trie.get("august")),
+            () -> assertNull(trie.get("AUGUST")),
+            () -> assertEquals(2, trie.size())
+        );
+    }
+
+    @Test
+    void of_WordsThatOnlyDifferInCase_PrefersFoldedWord() {
+        assertAll(
+            () -> assertEquals(1, WordTrie.of(Map.of("may", 1, "May", 2)).get("MAY")),
+            () -> assertEquals(1, WordTrie.of(Map.of("May", 2, "may", 1)).get("May")),
+            () -> assertEquals(1, WordTrie.of(Map.of("May", 2, "MAY", 1)).get("may")),
+            () -> assertEquals(1, WordTrie.of(Map.of("a", 1, "A", 1)).size())
+        );
+    }
+
+    @Test
+    void words_Trie_ReturnsFoldedWords() {
+        assertAll(
+            () -> assertEquals(Set.of("may", "march", "mar"), WordTrie.of(Map.of("May", 5, "MARCH", 3, "mar", 3)).words()),
+            () -> assertEquals(Set.of("May", "may"), WordTrie.ofCaseSensitive(Map.of("May", 5, "may", 5)).words()),
+            () -> assertEquals(Set.of(), WordTrie.of(Map.of()).words())
+        );
+    }
+
+    @Test
+    void nodeCount_InflectedWords_SharesNodes() {
+        WordTrie<Month> trie = WordTrie.of(months);
+
+        int characters = months.keySet().stream().mapToInt(String::length).sum();
+
+        // Words that share endings share nodes, so there are fewer nodes
+        // than in a trie that only shares beginnings
+        assertTrue(trie.nodeCount() < characters / 2, () -> "nodeCount " + trie.nodeCount());
+        assertEquals(3, WordTrie.of(Map.of("ab", 1, "b", 1)).nodeCount());
+        assertEquals(4, WordTrie.of(Map.of("ab", 1, "b", 2)).nodeCount());
+    }
+
+    @Test
+    void of_InvalidMaps_ThrowsExceptions() {
+        Map<String, Integer> nullValue = new HashMap<>();
+        nullValue.put("a", null);
+
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> WordTrie.of(null)),
+            () -> assertThrows(NullPointerException.class, () -> WordTrie.of(nullValue)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> WordTrie.of(Map.of("a", 1)).get("a", 0, 2))
+        );
+    }
+}
@@ -140,6 +140,11 @@ public class ENChronoUnitLaterParserTest extends ParserTest {
         assertParses("10 DAYS");
     }
 
+    @Test
+    void parse_UppercaseCardinalNumber_ReturnsNoResults() {
+        assertDoesNotParse("TEN days");
+    }
+
     @Test
     void parse_OutOfIntRangeAmount_DoesNotThrowAnything() {
         assertDoesNotThrow(() -> parser.parse("2147483648 days", reference).toList());